@@ -0,0 +1,170 @@
+package habit_mode.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+import habit_mode.model.sudoku.SudokuPuzzle;
+
+/**
+ * A single account's view of the server, backed by the shared connection pool of a SessionManager.
+ * The session keeps the account's authentication token, its CoinLedger and its last known habits;
+ * every request borrows a pooled connection, runs with this session's token and ledger and returns it,
+ * so coin changes seen by a connection are recorded for the account that made the request.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class AccountSession extends ServerCommunicator {
+    private SessionManager manager;
+    private String authenticationToken;
+    private CoinLedger coinLedger;
+    private List<Habit> cachedHabits;
+
+    /**
+     * Creates a new unauthenticated session.
+     *
+     * @precondition manager != null
+     * @postcondition this.getToken().isEmpty() && this.getCachedCoins() == 0 && this.getCachedHabits() == null
+     *
+     * @param manager The manager that owns the connection pool.
+     */
+    AccountSession(SessionManager manager) {
+        this.manager = manager;
+        this.authenticationToken = "";
+        this.coinLedger = new CoinLedger();
+    }
+
+    /**
+     * Gets the session's authentication token.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The authentication token, or an empty string if the session has not logged in.
+     */
+    public String getToken() {
+        return this.authenticationToken;
+    }
+
+    /**
+     * Gets the coin count from the last request that returned one, without contacting the server.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The cached coin count.
+     */
+    public int getCachedCoins() {
+        return this.coinLedger.getBalance();
+    }
+
+    /**
+     * Gets the ledger recording every change to the account's coins seen by this session.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The coin ledger of the account.
+     */
+    public CoinLedger getCoinLedger() {
+        return this.coinLedger;
+    }
+
+    /**
+     * Gets the habits from the last call to getHabits(), without contacting the server.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The cached habits, or null if they have not been retrieved.
+     */
+    public List<Habit> getCachedHabits() {
+        return this.cachedHabits;
+    }
+
+    @Override
+    public SuccessCode registerCredentials(String username, String password, String email) {
+        return this.execute(connection -> connection.registerCredentials(username, password, email));
+    }
+
+    @Override
+    public SuccessCode validateLogin(String username, String password) {
+        return this.execute(connection -> {
+            SuccessCode code = connection.validateLogin(username, password);
+            String token = connection.getToken();
+            this.authenticationToken = token == null ? "" : token;
+            return code;
+        });
+    }
+
+    @Override
+    public int getCoins() {
+        return this.execute(connection -> connection.getCoins());
+    }
+
+    @Override
+    public List<Habit> getHabits() {
+        this.cachedHabits = this.execute(connection -> connection.getHabits());
+        return this.cachedHabits;
+    }
+
+    @Override
+    public SudokuPuzzle getSudokuPuzzle() {
+        return this.execute(connection -> connection.getSudokuPuzzle());
+    }
+
+    @Override
+    public SudokuPuzzle generateSudokuPuzzle() {
+        return this.execute(connection -> connection.generateSudokuPuzzle());
+    }
+
+    @Override
+    public boolean setCoins(int amount) {
+        this.coinLedger.setBalance(amount, CoinTransactionType.ADJUSTMENT);
+        return true;
+    }
+
+    @Override
+    public SuccessCode addHabit(Habit habit) {
+        return this.execute(connection -> connection.addHabit(habit));
+    }
+
+    @Override
+    public SuccessCode removeHabit(Habit habit) {
+        return this.execute(connection -> connection.removeHabit(habit));
+    }
+
+    @Override
+    public SuccessCode modifyHabit(Habit habit) {
+        return this.execute(connection -> connection.modifyHabit(habit));
+    }
+
+    @Override
+    public SuccessCode completeHabit(Habit habit) {
+        return this.execute(connection -> connection.completeHabit(habit));
+    }
+
+    @Override
+    public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
+        return this.execute(connection -> connection.updateSudokuPuzzle(puzzle));
+    }
+
+    @Override
+    public int[] buyHint() {
+        return this.execute(connection -> connection.buyHint());
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        return this.execute(connection -> connection.getLeaderboard(type, offset, count));
+    }
+
+    private <T> T execute(Function<ServerServerCommunicator, T> request) {
+        ServerServerCommunicator connection = this.manager.borrowConnection(this.authenticationToken, this.coinLedger);
+        try {
+            return request.apply(connection);
+        } finally {
+            this.manager.releaseConnection(connection);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package habit_mode.model;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Records every change to a coin balance, so rewards, bonuses and purchases can be audited and the
+ * balance at any past time can be found. Transactions are only ever appended.
+ * The time, amount and type of each transaction are kept in parallel primitive arrays, a few bytes per
+ * transaction. The current balance is kept as a running total, and the balance before every
+ * CHECKPOINT_INTERVAL-th transaction is kept as a checkpoint, so the balance at a time is a binary search
+ * for the last transaction at that time, then the checkpoint before it plus fewer than
+ * CHECKPOINT_INTERVAL amounts. Transactions are timed by a clock and never go back in time, so the times
+ * stay sorted even if the clock is set back.
+ * The ledger is safe to use from many threads.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class CoinLedger {
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String INVALID_INDEX_ERROR = "index must be between 0 and size - 1";
+
+    private Clock clock;
+    private long[] times;
+    private int[] amounts;
+    private byte[] types;
+    private int[] checkpoints;
+    private long[] totals;
+    private int size;
+    private int balance;
+
+    /**
+     * Creates a new, empty ledger timed by the system clock.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0 && this.getBalance() == 0
+     */
+    public CoinLedger() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new, empty ledger.
+     *
+     * @precondition clock != null
+     * @postcondition this.size() == 0 && this.getBalance() == 0
+     *
+     * @param clock The clock giving the time of each transaction.
+     */
+    public CoinLedger(Clock clock) {
+        this.checkObject(clock);
+        this.clock = clock;
+        this.times = new long[INITIAL_CAPACITY];
+        this.amounts = new int[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+        this.checkpoints = new int[1];
+        this.totals = new long[CoinTransactionType.values().length];
+    }
+
+    /**
+     * Adds coins to the balance, or takes them away if the amount is negative.
+     *
+     * @precondition type != null && the new balance fits in an int
+     * @postcondition this.getBalance() == this.getBalance()@prev + amount && this.size() == this.size()@prev + 1
+     *
+     * @param amount The number of coins to add.
+     * @param type The reason for the change.
+     * @return The new balance.
+     */
+    public synchronized int record(int amount, CoinTransactionType type) {
+        this.checkObject(type);
+        int newBalance = Math.addExact(this.balance, amount);
+        if (this.size == this.times.length) {
+            this.grow();
+        }
+        if (this.size % CHECKPOINT_INTERVAL == 0) {
+            this.checkpoints[this.size / CHECKPOINT_INTERVAL] = this.balance;
+        }
+        long now = this.clock.millis();
+        this.times[this.size] = this.size == 0 ? now : Math.max(now, this.times[this.size - 1]);
+        this.amounts[this.size] = amount;
+        this.types[this.size] = (byte) type.ordinal();
+        this.totals[type.ordinal()] += amount;
+        this.size++;
+        this.balance = newBalance;
+        return newBalance;
+    }
+
+    /**
+     * Sets the balance by recording the difference from the current balance. Nothing is recorded if the
+     * balance is already the amount.
+     *
+     * @precondition type != null
+     * @postcondition this.getBalance() == amount
+     *
+     * @param amount The new balance.
+     * @param type The reason for the change.
+     * @return The new balance.
+     */
+    public synchronized int setBalance(int amount, CoinTransactionType type) {
+        this.checkObject(type);
+        if (amount != this.balance) {
+            this.record(Math.subtractExact(amount, this.balance), type);
+        }
+        return this.balance;
+    }
+
+    /**
+     * Gets the current balance.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The balance after every transaction.
+     */
+    public synchronized int getBalance() {
+        return this.balance;
+    }
+
+    /**
+     * Gets the balance as it was at a point in time.
+     *
+     * @precondition time != null
+     * @postcondition None
+     *
+     * @param time The point in time.
+     * @return The balance after every transaction at or before the time.
+     */
+    public synchronized int getBalanceAt(Instant time) {
+        this.checkObject(time);
+        if (this.size == 0 || !time.isBefore(Instant.ofEpochMilli(this.times[this.size - 1]))) {
+            return this.balance;
+        }
+        if (time.isBefore(Instant.ofEpochMilli(this.times[0]))) {
+            return 0;
+        }
+        int count = this.countUntil(time.toEpochMilli());
+        int checkpoint = count / CHECKPOINT_INTERVAL;
+        int total = this.checkpoints[checkpoint];
+        for (int index = checkpoint * CHECKPOINT_INTERVAL; index < count; index++) {
+            total += this.amounts[index];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the sum of the amounts of the transactions of a type.
+     *
+     * @precondition type != null
+     * @postcondition None
+     *
+     * @param type The type of transaction.
+     * @return The total of the amounts, negative for coins taken away.
+     */
+    public synchronized long getTotal(CoinTransactionType type) {
+        this.checkObject(type);
+        return this.totals[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of transactions.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of transactions.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the amount of a transaction.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The position of the transaction, the oldest at 0.
+     * @return The number of coins added, negative for coins taken away.
+     */
+    public synchronized int getAmount(int index) {
+        this.checkIndex(index);
+        return this.amounts[index];
+    }
+
+    /**
+     * Gets the type of a transaction.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The position of the transaction, the oldest at 0.
+     * @return The reason for the transaction.
+     */
+    public synchronized CoinTransactionType getType(int index) {
+        this.checkIndex(index);
+        return CoinTransactionType.values()[this.types[index]];
+    }
+
+    /**
+     * Gets the time of a transaction.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The position of the transaction, the oldest at 0.
+     * @return The time the transaction was recorded.
+     */
+    public synchronized Instant getTime(int index) {
+        this.checkIndex(index);
+        return Instant.ofEpochMilli(this.times[index]);
+    }
+
+    /**
+     * Removes every transaction, such as when a local test server is reset.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0 && this.getBalance() == 0
+     */
+    public synchronized void clear() {
+        this.times = new long[INITIAL_CAPACITY];
+        this.amounts = new int[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+        this.checkpoints = new int[1];
+        this.totals = new long[CoinTransactionType.values().length];
+        this.size = 0;
+        this.balance = 0;
+    }
+
+    private int countUntil(long millis) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.times[middle] <= millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void grow() {
+        int capacity = this.times.length * 2;
+        this.times = Arrays.copyOf(this.times, capacity);
+        this.amounts = Arrays.copyOf(this.amounts, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.checkpoints = Arrays.copyOf(this.checkpoints, capacity / CHECKPOINT_INTERVAL + 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IllegalArgumentException(INVALID_INDEX_ERROR);
+        }
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+}
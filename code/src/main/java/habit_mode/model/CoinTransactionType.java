@@ -0,0 +1,19 @@
+package habit_mode.model;
+
+/**
+ * The reasons coins are added to or taken from a CoinLedger.
+ * REWARD is for completing a habit, BONUS for completing every habit, MILESTONE for reaching a
+ * Milestone and PURCHASE for buying a hint. ADJUSTMENT records the balance being set directly, and
+ * SYNC records a difference found when the balance was read from the server.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum CoinTransactionType {
+    REWARD,
+    BONUS,
+    MILESTONE,
+    PURCHASE,
+    ADJUSTMENT,
+    SYNC
+}
@@ -0,0 +1,148 @@
+package habit_mode.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Counts how many habits were completed on each day, one month at a time, for a calendar heatmap.
+ * The count of a month is made from the completion histories of the daily habits; weekly and monthly
+ * histories do not record the day and are left out. Instead of testing every habit on every day, the
+ * histories are added 64 days at a time into bit-sliced counters: counter word i holds bit i of the count
+ * of every day, so adding a habit costs a few word operations. Each month is kept as a HeatmapTile until
+ * it is invalidated.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class CompletionHeatmap {
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+
+    private Supplier<? extends Collection<Habit>> habits;
+    private Map<YearMonth, HeatmapTile> tiles;
+
+    /**
+     * Creates a new heatmap of the habits given by a supplier.
+     *
+     * @precondition habits != null
+     * @postcondition this.getCachedTileCount() == 0
+     *
+     * @param habits Supplies the habits to count each time a tile is made.
+     */
+    public CompletionHeatmap(Supplier<? extends Collection<Habit>> habits) {
+        if (habits == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.habits = habits;
+        this.tiles = new HashMap<YearMonth, HeatmapTile>();
+    }
+
+    /**
+     * Gets the tile of a month, counting it if it is not cached.
+     *
+     * @precondition month != null && month is not before 1970-01
+     * @postcondition None
+     *
+     * @param month The month.
+     * @return The tile of the month.
+     */
+    public HeatmapTile getTile(YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        return this.tiles.computeIfAbsent(month, this::countMonth);
+    }
+
+    /**
+     * Drops the tile of the month a date falls in, after completions on that date changed.
+     *
+     * @precondition date != null
+     * @postcondition the tile of the month is counted again when next requested
+     *
+     * @param date The date whose completions changed.
+     */
+    public void invalidate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.tiles.remove(YearMonth.from(date));
+    }
+
+    /**
+     * Drops every tile, after habits were added or removed.
+     *
+     * @precondition None
+     * @postcondition this.getCachedTileCount() == 0
+     */
+    public void invalidateAll() {
+        this.tiles.clear();
+    }
+
+    /**
+     * Gets the number of cached tiles.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of cached tiles.
+     */
+    public int getCachedTileCount() {
+        return this.tiles.size();
+    }
+
+    private HeatmapTile countMonth(YearMonth month) {
+        int firstDay = CompletionHistory.periodOf(Frequency.DAILY, month.atDay(1));
+        int endDay = firstDay + month.lengthOfMonth();
+        int[] counts = new int[month.lengthOfMonth()];
+        Collection<Habit> habits = this.habits.get();
+        for (int word = firstDay >>> WORD_SHIFT; word <= (endDay - 1) >>> WORD_SHIFT; word++) {
+            long mask = wordMask(word, firstDay, endDay);
+            long[] slices = new long[Integer.SIZE];
+            int sliceCount = 0;
+            for (Habit habit : habits) {
+                if (habit.hasHistory() && habit.getHistory().getFrequency() == Frequency.DAILY) {
+                    sliceCount = Math.max(sliceCount, addToSlices(slices, habit.getHistory().getWord(word) & mask));
+                }
+            }
+            for (long days = mask; days != 0; days &= days - 1) {
+                int bit = Long.numberOfTrailingZeros(days);
+                counts[(word << WORD_SHIFT) + bit - firstDay] = countAt(slices, sliceCount, bit);
+            }
+        }
+        return new HeatmapTile(month, counts);
+    }
+
+    private static long wordMask(int word, int firstDay, int endDay) {
+        int wordStart = word << WORD_SHIFT;
+        long mask = firstDay > wordStart ? -1L << (firstDay & WORD_MASK) : -1L;
+        if (endDay < wordStart + Long.SIZE) {
+            mask &= (1L << (endDay & WORD_MASK)) - 1;
+        }
+        return mask;
+    }
+
+    private static int addToSlices(long[] slices, long bits) {
+        int slice = 0;
+        long carry = bits;
+        while (carry != 0) {
+            long nextCarry = slices[slice] & carry;
+            slices[slice] ^= carry;
+            carry = nextCarry;
+            slice++;
+        }
+        return slice;
+    }
+
+    private static int countAt(long[] slices, int sliceCount, int bit) {
+        int count = 0;
+        for (int slice = 0; slice < sliceCount; slice++) {
+            count |= (int) ((slices[slice] >>> bit) & 1) << slice;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,414 @@
+package habit_mode.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The completion history of a habit: one bit for every day, week or month, depending on the frequency of
+ * the history, telling whether the habit was completed in that period.
+ * Periods are counted from 1970-01-01; weeks start on Sunday, like the weekly reset. The bits are kept in
+ * chunks of CHUNK_PERIODS periods that are only allocated once a period in them is completed, so five
+ * years of a daily habit take a few hundred bytes. Counting over a range of periods looks at 64 periods
+ * at a time.
+ * A history lives in memory with its habit; neither the client nor the server stores it yet. toBytes and
+ * fromBytes give the compact form to store it in once one of them does.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class CompletionHistory {
+    public static final int CHUNK_PERIODS = 512;
+    public static final int NO_PERIOD = -1;
+
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_PERIODS);
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+    private static final int WORDS_PER_CHUNK = CHUNK_PERIODS / Long.SIZE;
+    private static final int MAX_WORDS = (Integer.MAX_VALUE >>> WORD_SHIFT) + 1;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int EPOCH_DAYS_AFTER_SUNDAY = 4;
+    private static final int EPOCH_YEAR = 1970;
+    private static final int MAGIC = 0x48495354;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 14;
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String NEGATIVE_PERIOD_ERROR = "period cannot be before 1970-01-01";
+    private static final String INVALID_RANGE_ERROR = "fromPeriod cannot be greater than toPeriod";
+    private static final String INVALID_BYTES_ERROR = "the bytes are not a completion history";
+
+    private Frequency frequency;
+    private long[][] chunks;
+    private int firstChunk;
+    private int completedCount;
+
+    /**
+     * Creates a new, empty history.
+     *
+     * @precondition frequency != null
+     * @postcondition this.getFrequency() == frequency && this.getCompletedCount() == 0
+     *
+     * @param frequency The frequency deciding the length of a period.
+     */
+    public CompletionHistory(Frequency frequency) {
+        if (frequency == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.frequency = frequency;
+        this.chunks = new long[0][];
+    }
+
+    /**
+     * Gets the period of a frequency a date falls in.
+     *
+     * @precondition frequency != null && date != null && !date.isBefore(1970-01-01)
+     * @postcondition return >= 0
+     *
+     * @param frequency The frequency deciding the length of a period.
+     * @param date The date.
+     * @return The number of the period, counted from 1970-01-01.
+     */
+    public static int periodOf(Frequency frequency, LocalDate date) {
+        if (frequency == null || date == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        long period;
+        switch (frequency) {
+            case DAILY:
+                period = date.toEpochDay();
+                break;
+            case WEEKLY:
+                period = Math.floorDiv(date.toEpochDay() + EPOCH_DAYS_AFTER_SUNDAY, DAYS_PER_WEEK);
+                break;
+            default:
+                period = (date.getYear() - EPOCH_YEAR) * (long) MONTHS_PER_YEAR + date.getMonthValue() - 1;
+                break;
+        }
+        if (period < 0 || period > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(NEGATIVE_PERIOD_ERROR);
+        }
+        return (int) period;
+    }
+
+    /**
+     * Gets the first day of a period of a frequency.
+     *
+     * @precondition frequency != null && period >= 0
+     * @postcondition periodOf(frequency, return) == period
+     *
+     * @param frequency The frequency deciding the length of a period.
+     * @param period The number of the period.
+     * @return The first day of the period.
+     */
+    public static LocalDate startOf(Frequency frequency, int period) {
+        if (frequency == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        checkPeriod(period);
+        switch (frequency) {
+            case DAILY:
+                return LocalDate.ofEpochDay(period);
+            case WEEKLY:
+                return LocalDate.ofEpochDay((long) period * DAYS_PER_WEEK - EPOCH_DAYS_AFTER_SUNDAY);
+            default:
+                return LocalDate.of(EPOCH_YEAR + period / MONTHS_PER_YEAR, period % MONTHS_PER_YEAR + 1, 1);
+        }
+    }
+
+    /**
+     * Reads a history written by toBytes.
+     *
+     * @precondition bytes != null
+     * @postcondition return holds the completed periods written to bytes
+     *
+     * @param bytes The bytes written by toBytes.
+     * @return The history.
+     */
+    public static CompletionHistory fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IllegalArgumentException(INVALID_BYTES_ERROR);
+            }
+            CompletionHistory history = new CompletionHistory(Frequency.values()[buffer.get()]);
+            int firstWord = buffer.getInt();
+            int wordCount = buffer.getInt();
+            if (firstWord < 0 || wordCount < 0 || (long) firstWord + wordCount > MAX_WORDS
+                || buffer.remaining() != (long) wordCount * Long.BYTES) {
+                throw new IllegalArgumentException(INVALID_BYTES_ERROR);
+            }
+            for (int word = 0; word < wordCount; word++) {
+                history.setWord(firstWord + word, buffer.getLong());
+            }
+            return history;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException error) {
+            throw new IllegalArgumentException(INVALID_BYTES_ERROR, error);
+        }
+    }
+
+    /**
+     * Writes the history in a compact form that fromBytes reads: a 14 byte header followed by the
+     * 64-period words from the first to the last one holding a completed period.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The bytes of the history.
+     */
+    public byte[] toBytes() {
+        int firstCompleted = this.nextCompleted(0);
+        int firstWord = firstCompleted == NO_PERIOD ? 0 : firstCompleted >>> WORD_SHIFT;
+        int lastWord = firstCompleted == NO_PERIOD ? -1 : this.getLastCompleted() >>> WORD_SHIFT;
+        int wordCount = lastWord - firstWord + 1;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + wordCount * Long.BYTES);
+        buffer.putInt(MAGIC).put(VERSION).put((byte) this.frequency.ordinal());
+        buffer.putInt(firstWord).putInt(wordCount);
+        for (int word = firstWord; word <= lastWord; word++) {
+            buffer.putLong(this.getWord(word));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Gets the frequency deciding the length of a period.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The frequency.
+     */
+    public Frequency getFrequency() {
+        return this.frequency;
+    }
+
+    /**
+     * Marks whether the habit was completed in a period.
+     *
+     * @precondition period >= 0
+     * @postcondition this.isCompleted(period) == completed
+     *
+     * @param period The number of the period.
+     * @param completed Whether the habit was completed in the period.
+     */
+    public void setCompleted(int period, boolean completed) {
+        checkPeriod(period);
+        if (completed == this.isCompleted(period)) {
+            return;
+        }
+        long[] chunk = this.chunkForWrite(period >>> CHUNK_SHIFT);
+        chunk[(period & (CHUNK_PERIODS - 1)) >>> WORD_SHIFT] ^= 1L << period;
+        this.completedCount += completed ? 1 : -1;
+    }
+
+    /**
+     * Marks whether the habit was completed in the period a date falls in.
+     *
+     * @precondition date != null && !date.isBefore(1970-01-01)
+     * @postcondition this.isCompleted(date) == completed
+     *
+     * @param date A date in the period.
+     * @param completed Whether the habit was completed in the period.
+     */
+    public void setCompleted(LocalDate date, boolean completed) {
+        this.setCompleted(periodOf(this.frequency, date), completed);
+    }
+
+    /**
+     * Checks whether the habit was completed in a period.
+     *
+     * @precondition period >= 0
+     * @postcondition None
+     *
+     * @param period The number of the period.
+     * @return [true] iff the habit was completed in the period, otherwise [false].
+     */
+    public boolean isCompleted(int period) {
+        checkPeriod(period);
+        return (this.getWord(period >>> WORD_SHIFT) & (1L << period)) != 0;
+    }
+
+    /**
+     * Checks whether the habit was completed in the period a date falls in.
+     *
+     * @precondition date != null && !date.isBefore(1970-01-01)
+     * @postcondition None
+     *
+     * @param date A date in the period.
+     * @return [true] iff the habit was completed in the period, otherwise [false].
+     */
+    public boolean isCompleted(LocalDate date) {
+        return this.isCompleted(periodOf(this.frequency, date));
+    }
+
+    /**
+     * Gets the number of periods the habit was completed in.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of completed periods.
+     */
+    public int getCompletedCount() {
+        return this.completedCount;
+    }
+
+    /**
+     * Counts the periods in [fromPeriod, toPeriod) the habit was completed in.
+     *
+     * @precondition 0 <= fromPeriod <= toPeriod
+     * @postcondition None
+     *
+     * @param fromPeriod The first period counted.
+     * @param toPeriod The period after the last one counted.
+     * @return The number of completed periods in the range.
+     */
+    public int countCompleted(int fromPeriod, int toPeriod) {
+        checkPeriod(fromPeriod);
+        if (fromPeriod > toPeriod) {
+            throw new IllegalArgumentException(INVALID_RANGE_ERROR);
+        }
+        int count = 0;
+        int period = Math.max(fromPeriod, this.firstChunk << CHUNK_SHIFT);
+        int end = (int) Math.min(toPeriod, (long) (this.firstChunk + this.chunks.length) << CHUNK_SHIFT);
+        while (period < end) {
+            int wordEnd = (int) Math.min(end, (period | WORD_MASK) + 1L);
+            count += Long.bitCount(this.getWord(period >>> WORD_SHIFT) & rangeMask(period, wordEnd));
+            period = wordEnd;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the first completed period at or after a period.
+     *
+     * @precondition fromPeriod >= 0
+     * @postcondition None
+     *
+     * @param fromPeriod The period to start at.
+     * @return The first completed period, or NO_PERIOD if there is none.
+     */
+    public int nextCompleted(int fromPeriod) {
+        checkPeriod(fromPeriod);
+        int word = Math.max(fromPeriod >>> WORD_SHIFT, this.firstChunk * WORDS_PER_CHUNK);
+        long bits = this.getWord(word) & (word == fromPeriod >>> WORD_SHIFT ? -1L << fromPeriod : -1L);
+        while (bits == 0 && word < this.lastAllocatedWord()) {
+            word++;
+            bits = this.getWord(word);
+        }
+        return bits == 0 ? NO_PERIOD : (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Finds the last completed period at or before a period.
+     *
+     * @precondition fromPeriod >= 0
+     * @postcondition None
+     *
+     * @param fromPeriod The period to start at.
+     * @return The last completed period, or NO_PERIOD if there is none.
+     */
+    public int previousCompleted(int fromPeriod) {
+        checkPeriod(fromPeriod);
+        int word = Math.min(fromPeriod >>> WORD_SHIFT, this.lastAllocatedWord());
+        long mask = -1L >>> (WORD_MASK - (fromPeriod & WORD_MASK));
+        long bits = this.getWord(word) & (word == fromPeriod >>> WORD_SHIFT ? mask : -1L);
+        while (bits == 0 && word > this.firstChunk * WORDS_PER_CHUNK) {
+            word--;
+            bits = this.getWord(word);
+        }
+        return bits == 0 ? NO_PERIOD : (word << WORD_SHIFT) + WORD_MASK - Long.numberOfLeadingZeros(bits);
+    }
+
+    /**
+     * Gets the last completed period.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The last completed period, or NO_PERIOD if the habit was never completed.
+     */
+    public int getLastCompleted() {
+        return this.previousCompleted(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of 64-bit words allocated for the history.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of allocated words.
+     */
+    public int getAllocatedWords() {
+        int words = 0;
+        for (long[] chunk : this.chunks) {
+            words += chunk == null ? 0 : WORDS_PER_CHUNK;
+        }
+        return words;
+    }
+
+    /**
+     * Gets the bits of 64 periods in a row, such as for counting many histories at once.
+     *
+     * @precondition word >= 0
+     * @postcondition None
+     *
+     * @param word The index of the word; the word holds the periods [64 * word, 64 * word + 64).
+     * @return The bits of the periods, the lowest bit being the first period.
+     */
+    public long getWord(int word) {
+        int chunk = (word >>> (CHUNK_SHIFT - WORD_SHIFT)) - this.firstChunk;
+        if (chunk < 0 || chunk >= this.chunks.length || this.chunks[chunk] == null) {
+            return 0;
+        }
+        return this.chunks[chunk][word & (WORDS_PER_CHUNK - 1)];
+    }
+
+    private int lastAllocatedWord() {
+        return (this.firstChunk + this.chunks.length) * WORDS_PER_CHUNK - 1;
+    }
+
+    private void setWord(int word, long bits) {
+        if (bits == 0) {
+            return;
+        }
+        long[] chunk = this.chunkForWrite(word >>> (CHUNK_SHIFT - WORD_SHIFT));
+        this.completedCount += Long.bitCount(bits) - Long.bitCount(chunk[word & (WORDS_PER_CHUNK - 1)]);
+        chunk[word & (WORDS_PER_CHUNK - 1)] = bits;
+    }
+
+    private long[] chunkForWrite(int chunkNumber) {
+        if (this.chunks.length == 0) {
+            this.firstChunk = chunkNumber;
+            this.chunks = new long[1][];
+        } else if (chunkNumber < this.firstChunk) {
+            long[][] grown = new long[this.chunks.length + this.firstChunk - chunkNumber][];
+            System.arraycopy(this.chunks, 0, grown, this.firstChunk - chunkNumber, this.chunks.length);
+            this.chunks = grown;
+            this.firstChunk = chunkNumber;
+        } else if (chunkNumber >= this.firstChunk + this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, chunkNumber - this.firstChunk + 1);
+        }
+        int index = chunkNumber - this.firstChunk;
+        if (this.chunks[index] == null) {
+            this.chunks[index] = new long[WORDS_PER_CHUNK];
+        }
+        return this.chunks[index];
+    }
+
+    private static long rangeMask(int fromPeriod, int toPeriod) {
+        long upper = toPeriod - (fromPeriod & ~WORD_MASK) == Long.SIZE ? -1L : (1L << toPeriod) - 1;
+        return upper & (-1L << fromPeriod);
+    }
+
+    private static void checkPeriod(int period) {
+        if (period < 0) {
+            throw new IllegalArgumentException(NEGATIVE_PERIOD_ERROR);
+        }
+    }
+}
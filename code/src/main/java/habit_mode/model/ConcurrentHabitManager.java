@@ -0,0 +1,198 @@
+package habit_mode.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A habit list that can be shared between threads, such as the FX thread and a background sync.
+ * Every change publishes a new immutable HabitSnapshot. Readers never lock: iterators and sub lists
+ * work on the snapshot that was current when they were created, and snapshot() gives a consistent
+ * version for several reads in a row. Writers take turns building the next snapshot, which shares
+ * the unchanged chunks of the previous one.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ConcurrentHabitManager extends AbstractList<Habit> implements RandomAccess {
+    private static final String NULL_OBJECT_ERROR = "Object cannot be null";
+    private static final String INVALID_INDEX_ERROR = "index is outside of the list";
+
+    private volatile HabitSnapshot current;
+    private final Object writeLock;
+
+    /**
+     * Creates a new, empty manager.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public ConcurrentHabitManager() {
+        this.current = HabitSnapshot.EMPTY;
+        this.writeLock = new Object();
+    }
+
+    /**
+     * Gets the current version of the habits. The snapshot never changes, even when the manager does.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The current snapshot.
+     */
+    public HabitSnapshot snapshot() {
+        return this.current;
+    }
+
+    @Override
+    public Habit get(int index) {
+        return this.current.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.current.size();
+    }
+
+    @Override
+    public Iterator<Habit> iterator() {
+        return this.current.iterator();
+    }
+
+    @Override
+    public ListIterator<Habit> listIterator() {
+        return this.current.listIterator();
+    }
+
+    @Override
+    public ListIterator<Habit> listIterator(int index) {
+        return this.current.listIterator(index);
+    }
+
+    @Override
+    public List<Habit> subList(int fromIndex, int toIndex) {
+        return this.current.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean add(Habit habit) {
+        this.checkObject(habit);
+        synchronized (this.writeLock) {
+            this.current = this.current.withAppended(List.of(habit));
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, Habit habit) {
+        this.checkObject(habit);
+        synchronized (this.writeLock) {
+            this.checkIndex(index, this.current.size());
+            this.current = this.current.withInserted(index, List.of(habit));
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Habit> collection) {
+        List<Habit> habits = this.copyOf(collection);
+        synchronized (this.writeLock) {
+            this.current = this.current.withAppended(habits);
+        }
+        return !habits.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Habit> collection) {
+        List<Habit> habits = this.copyOf(collection);
+        synchronized (this.writeLock) {
+            this.checkIndex(index, this.current.size());
+            this.current = this.current.withInserted(index, habits);
+        }
+        return !habits.isEmpty();
+    }
+
+    @Override
+    public Habit set(int index, Habit habit) {
+        this.checkObject(habit);
+        synchronized (this.writeLock) {
+            Habit replaced = this.current.get(index);
+            this.current = this.current.withSet(index, habit);
+            return replaced;
+        }
+    }
+
+    @Override
+    public Habit remove(int index) {
+        synchronized (this.writeLock) {
+            Habit removed = this.current.get(index);
+            this.current = this.current.withRemoved(index, index + 1);
+            return removed;
+        }
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        this.checkObject(object);
+        synchronized (this.writeLock) {
+            int index = this.current.indexOf(object);
+            if (index == -1) {
+                return false;
+            }
+            this.current = this.current.withRemoved(index, index + 1);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Habit> filter) {
+        this.checkObject(filter);
+        synchronized (this.writeLock) {
+            HabitSnapshot previous = this.current;
+            this.current = previous.withRemovedIf(filter);
+            return this.current != previous;
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        this.checkObject(collection);
+        return this.removeIf(HabitManager.matcherFor(collection));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        this.checkObject(collection);
+        return this.removeIf(HabitManager.matcherFor(collection).negate());
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this.writeLock) {
+            this.current = HabitSnapshot.EMPTY;
+        }
+    }
+
+    private List<Habit> copyOf(Collection<? extends Habit> collection) {
+        this.checkObject(collection);
+        for (Habit habit : collection) {
+            this.checkObject(habit);
+        }
+        return List.copyOf(collection);
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_OBJECT_ERROR);
+        }
+    }
+
+    private void checkIndex(int index, int upperBound) {
+        if (index < 0 || index > upperBound) {
+            throw new IllegalArgumentException(INVALID_INDEX_ERROR);
+        }
+    }
+}
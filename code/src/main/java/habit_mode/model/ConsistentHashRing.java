@@ -0,0 +1,209 @@
+package habit_mode.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A consistent hash ring that maps keys onto a set of named nodes.
+ * Each node is placed on the ring several times (virtual nodes) so keys are spread evenly,
+ * and adding or removing a node only moves the keys owned by that node.
+ *
+ * @param <T> The type of node stored in the ring.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ConsistentHashRing<T> {
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private static final String INVALID_VIRTUAL_NODES_ERROR = "virtualNodes must be greater than 0";
+    private static final String NULL_NAME_ERROR = "name cannot be null";
+    private static final String NULL_NODE_ERROR = "node cannot be null";
+    private static final String NULL_KEY_ERROR = "key cannot be null";
+    private static final String DUPLICATE_NODE_ERROR = "a node with that name is already on the ring";
+    private static final String EMPTY_RING_ERROR = "the ring does not contain any nodes";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private int virtualNodes;
+    private TreeMap<Long, String> ring;
+    private Map<String, T> nodes;
+
+    /**
+     * Creates a new ring using the default number of virtual nodes.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0 && this.getVirtualNodes() == DEFAULT_VIRTUAL_NODES
+     */
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Creates a new ring that places each node at the specified number of points.
+     *
+     * @precondition virtualNodes > 0
+     * @postcondition this.size() == 0 && this.getVirtualNodes() == virtualNodes
+     *
+     * @param virtualNodes The number of points each node occupies on the ring.
+     */
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException(INVALID_VIRTUAL_NODES_ERROR);
+        }
+        this.virtualNodes = virtualNodes;
+        this.ring = new TreeMap<Long, String>();
+        this.nodes = new LinkedHashMap<String, T>();
+    }
+
+    /**
+     * Adds a node to the ring.
+     *
+     * @precondition name != null && node != null && !this.containsNode(name)
+     * @postcondition this.containsNode(name) && this.size() == this.size()@prev + 1
+     *
+     * @param name The unique name of the node, used to place it on the ring.
+     * @param node The node.
+     */
+    public void addNode(String name, T node) {
+        if (name == null) {
+            throw new IllegalArgumentException(NULL_NAME_ERROR);
+        }
+        if (node == null) {
+            throw new IllegalArgumentException(NULL_NODE_ERROR);
+        }
+        if (this.nodes.containsKey(name)) {
+            throw new IllegalArgumentException(DUPLICATE_NODE_ERROR);
+        }
+
+        this.nodes.put(name, node);
+        for (int replica = 0; replica < this.virtualNodes; replica++) {
+            this.ring.putIfAbsent(hash(name + "#" + replica), name);
+        }
+    }
+
+    /**
+     * Removes a node from the ring.
+     *
+     * @precondition name != null
+     * @postcondition !this.containsNode(name)
+     *
+     * @param name The name of the node to remove.
+     * @return The removed node, or null if no node had that name.
+     */
+    public T removeNode(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException(NULL_NAME_ERROR);
+        }
+        T removed = this.nodes.remove(name);
+        if (removed != null) {
+            this.ring.values().removeIf(name::equals);
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the node that owns the specified key.
+     *
+     * @precondition key != null && this.size() > 0
+     * @postcondition None
+     *
+     * @param key The key to look up.
+     * @return The node owning the key.
+     */
+    public T getNode(String key) {
+        return this.nodes.get(this.getNodeName(key));
+    }
+
+    /**
+     * Gets the name of the node that owns the specified key.
+     *
+     * @precondition key != null && this.size() > 0
+     * @postcondition None
+     *
+     * @param key The key to look up.
+     * @return The name of the node owning the key.
+     */
+    public String getNodeName(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException(NULL_KEY_ERROR);
+        }
+        if (this.ring.isEmpty()) {
+            throw new IllegalStateException(EMPTY_RING_ERROR);
+        }
+
+        Map.Entry<Long, String> owner = this.ring.ceilingEntry(hash(key));
+        if (owner == null) {
+            owner = this.ring.firstEntry();
+        }
+        return owner.getValue();
+    }
+
+    /**
+     * Checks whether a node with the specified name is on the ring.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param name The name of the node.
+     * @return [true] iff a node with that name is on the ring, otherwise [false].
+     */
+    public boolean containsNode(String name) {
+        return this.nodes.containsKey(name);
+    }
+
+    /**
+     * Gets the nodes on the ring in the order they were added.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return An unmodifiable view of the nodes.
+     */
+    public Collection<T> getNodes() {
+        return Collections.unmodifiableCollection(this.nodes.values());
+    }
+
+    /**
+     * Gets the number of nodes on the ring.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of nodes.
+     */
+    public int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Gets the number of points each node occupies on the ring.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of virtual nodes per node.
+     */
+    public int getVirtualNodes() {
+        return this.virtualNodes;
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte value : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,128 @@
+package habit_mode.model;
+
+import java.util.Arrays;
+
+/**
+ * Counts indexed by a non-negative int, answering the sum over any range of indices in logarithmic time.
+ * Adding to an index past the end doubles the tree; because the capacity is always a power of two, the
+ * existing nodes keep the ranges they cover and only the new root has to be filled in.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class FenwickTree {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final String INVALID_CAPACITY_ERROR = "capacity must be greater than 0";
+    private static final String INVALID_INDEX_ERROR = "index must be between 0 and 2^30 - 1";
+    private static final String INVALID_RANGE_ERROR = "from cannot be greater than to";
+
+    private long[] tree;
+
+    /**
+     * Creates a new tree with all counts 0 and the default capacity.
+     *
+     * @precondition None
+     * @postcondition this.getCapacity() == DEFAULT_CAPACITY
+     */
+    public FenwickTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new tree with all counts 0.
+     *
+     * @precondition capacity > 0
+     * @postcondition this.getCapacity() >= capacity
+     *
+     * @param capacity The number of indices to make room for.
+     */
+    public FenwickTree(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_ERROR);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.tree = new long[size + 1];
+    }
+
+    /**
+     * Adds to the count at an index, growing the tree if needed.
+     *
+     * @precondition 0 <= index < 2^30
+     * @postcondition this.sum(index, index + 1) == this.sum(index, index + 1)@prev + delta
+     *
+     * @param index The index.
+     * @param delta The amount to add.
+     */
+    public void add(int index, long delta) {
+        if (index < 0 || index >= MAX_CAPACITY) {
+            throw new IllegalArgumentException(INVALID_INDEX_ERROR);
+        }
+        while (index >= this.getCapacity()) {
+            this.grow();
+        }
+        for (int node = index + 1; node < this.tree.length; node += node & -node) {
+            this.tree[node] += delta;
+        }
+    }
+
+    /**
+     * Sums the counts at the indices in [0, end).
+     *
+     * @precondition end >= 0
+     * @postcondition None
+     *
+     * @param end The index after the last one summed.
+     * @return The sum.
+     */
+    public long prefixSum(int end) {
+        if (end < 0) {
+            throw new IllegalArgumentException(INVALID_INDEX_ERROR);
+        }
+        long sum = 0;
+        for (int node = Math.min(end, this.getCapacity()); node > 0; node -= node & -node) {
+            sum += this.tree[node];
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the counts at the indices in [from, to).
+     *
+     * @precondition 0 <= from <= to
+     * @postcondition None
+     *
+     * @param from The first index summed.
+     * @param to The index after the last one summed.
+     * @return The sum.
+     */
+    public long sum(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException(INVALID_RANGE_ERROR);
+        }
+        return this.prefixSum(to) - this.prefixSum(from);
+    }
+
+    /**
+     * Gets the number of indices the tree has room for before it grows.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The capacity, a power of two.
+     */
+    public int getCapacity() {
+        return this.tree.length - 1;
+    }
+
+    private void grow() {
+        int capacity = this.getCapacity();
+        long total = this.prefixSum(capacity);
+        this.tree = Arrays.copyOf(this.tree, capacity * 2 + 1);
+        this.tree[capacity * 2] = total;
+    }
+}
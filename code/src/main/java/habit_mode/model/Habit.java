@@ -1,7 +1,18 @@
 package habit_mode.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
@@ -15,13 +26,28 @@ public class Habit {
     public static final String NULL_TEXT_ERROR = "text for the habit cannot be null";
     public static final String EMPTY_TEXT_ERROR = "text for the habit cannot be empty";
 
+    private static final String NULL_HISTORY_ERROR = "history for the habit cannot be null";
+    private static final String NULL_TAG_ERROR = "tag cannot be null";
+    private static final String EMPTY_TAG_ERROR = "tag cannot be empty";
+    private static final String TEXT_PROPERTY_NAME = "text";
+    private static final String COMPLETION_PROPERTY_NAME = "completion";
+    private static final String FREQUENCY_PROPERTY_NAME = "frequency";
+
+    private String text;
+    private boolean complete;
+    private Frequency frequency;
+    private int id = 0;
     private StringProperty textProperty;
     private BooleanProperty completionProperty;
-    private Frequency completionFrequency;
-    private int id = 0;
+    private ObjectProperty<Frequency> frequencyProperty;
+    private List<HabitObserver> observers;
+    private CompletionHistory history;
+    private Recurrence recurrence;
+    private Set<String> tags;
 
     /** 
      * Creates a new habit.
+     * The JavaFX properties of the habit are only created once they are first requested.
      * 
      * @precondition text != null && text != string.isEmpty();
      * @postcondition this.getText() == text && this.isComplete() == false && this.getFrequency() == frequency;
@@ -31,9 +57,8 @@ public class Habit {
      */
     public Habit(String text, Frequency frequency) {
         this.checkString(text);
-        this.textProperty = new SimpleStringProperty(text);
-        this.completionProperty = new SimpleBooleanProperty(false);
-        this.completionFrequency = frequency;
+        this.text = text;
+        this.frequency = frequency;
     }
 
     /** 
@@ -45,7 +70,7 @@ public class Habit {
      * @return the completion status of the habit.
      */
     public boolean isComplete() {
-        return this.completionProperty.get();
+        return this.complete;
     }
 
     /** 
@@ -61,7 +86,7 @@ public class Habit {
     }
 
     /**
-     * Gets the property for the habit text.
+     * Gets the property for the habit text, creating it on the first call.
      * 
      * @precondition None
      * @postcondition None
@@ -69,11 +94,15 @@ public class Habit {
      * @return The text property.
      */
     public StringProperty textProperty() {
+        if (this.textProperty == null) {
+            this.textProperty = new SimpleStringProperty(this, TEXT_PROPERTY_NAME, this.text);
+            this.textProperty.addListener((property, oldText, newText) -> this.text = newText);
+        }
         return this.textProperty;
     }
 
     /**
-     * Gets the property for the habit's completion status.
+     * Gets the property for the habit's completion status, creating it on the first call.
      * 
      * @precondition None
      * @postcondition None
@@ -81,9 +110,29 @@ public class Habit {
      * @return The completion property.
      */
     public BooleanProperty completionProperty() {
+        if (this.completionProperty == null) {
+            this.completionProperty = new SimpleBooleanProperty(this, COMPLETION_PROPERTY_NAME, this.complete);
+            this.completionProperty.addListener((property, wasComplete, isComplete) -> this.updateCompletion(isComplete));
+        }
         return this.completionProperty;
     }
 
+    /**
+     * Gets the property for the habit's completion frequency, creating it on the first call.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The frequency property.
+     */
+    public ObjectProperty<Frequency> frequencyProperty() {
+        if (this.frequencyProperty == null) {
+            this.frequencyProperty = new SimpleObjectProperty<Frequency>(this, FREQUENCY_PROPERTY_NAME, this.frequency);
+            this.frequencyProperty.addListener((property, oldFrequency, newFrequency) -> this.updateFrequency(newFrequency));
+        }
+        return this.frequencyProperty;
+    }
+
     /** 
      * Gets the text of the habit.
      *
@@ -93,7 +142,7 @@ public class Habit {
      * @return The text of the habit.
      */
     public String getText() {
-        return this.textProperty.get();
+        return this.text;
     }
 
     /** 
@@ -105,7 +154,94 @@ public class Habit {
      * @return The completion frequency of the habit.
      */
     public Frequency getFrequency() {
-        return this.completionFrequency;
+        return this.frequency;
+    }
+
+    /** 
+     * Gets the days the habit comes around on: the rule it was given, or else the rule of its frequency.
+     * 
+     * @precondition None
+     * @postcondition return == null || return.getFrequency() == this.getFrequency()
+     * 
+     * @return The recurrence of the habit, or null if it has no frequency.
+     */
+    public Recurrence getRecurrence() {
+        if (this.recurrence != null) {
+            return this.recurrence;
+        }
+        return this.frequency == null ? null : Recurrence.of(this.frequency);
+    }
+
+    /** 
+     * Gets the tags of the habit, in alphabetical order.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return A read-only view of the tags.
+     */
+    public Set<String> getTags() {
+        if (this.tags == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(this.tags);
+    }
+
+    /** 
+     * Checks whether the habit has a tag.
+     * 
+     * @precondition tag != null
+     * @postcondition None
+     * 
+     * @param tag The tag, in any case and with any surrounding whitespace.
+     * @return [true] iff the habit has the tag, otherwise [false].
+     */
+    public boolean hasTag(String tag) {
+        String normalizedTag = normalizeTag(tag);
+        return this.tags != null && this.tags.contains(normalizedTag);
+    }
+
+    /** 
+     * Gets the completion history of the habit, creating an empty one the first time.
+     * The history counts periods of the frequency the habit had when the history was created.
+     * 
+     * @precondition this.getFrequency() != null || a history was set
+     * @postcondition None
+     * 
+     * @return The completion history of the habit.
+     */
+    public CompletionHistory getHistory() {
+        if (this.history == null) {
+            this.history = new CompletionHistory(this.frequency);
+        }
+        return this.history;
+    }
+
+    /** 
+     * Checks whether the habit has a completion history yet, without creating one.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return [true] iff the habit has a completion history, otherwise [false].
+     */
+    public boolean hasHistory() {
+        return this.history != null;
+    }
+
+    /** 
+     * Sets the completion history of the habit, such as one read back with CompletionHistory.fromBytes.
+     * 
+     * @precondition history != null
+     * @postcondition this.getHistory() == history;
+     * 
+     * @param history The completion history of the habit.
+     */
+    public void setHistory(CompletionHistory history) {
+        if (history == null) {
+            throw new IllegalArgumentException(NULL_HISTORY_ERROR);
+        }
+        this.history = history;
     }
 
     
@@ -130,7 +266,171 @@ public class Habit {
      * @param frequency How frequently the habit should be completed.
      */
     public void setFrequency(Frequency frequency) {
-        this.completionFrequency = frequency;
+        if (this.frequencyProperty != null) {
+            this.frequencyProperty.set(frequency);
+            return;
+        }
+        this.updateFrequency(frequency);
+    }
+
+    /** 
+     * Sets the days the habit comes around on, which also sets its frequency to the frequency of the rule.
+     * Setting a frequency the rule does not belong to later drops the rule.
+     * The rule is sent to the server, but the bundled server neither stores nor returns it, so habits
+     * read back from that server follow their frequency again.
+     * 
+     * @precondition None
+     * @postcondition recurrence == null || this.getRecurrence().equals(recurrence)
+     * 
+     * @param recurrence The rule, or null to follow the frequency of the habit again.
+     */
+    public void setRecurrence(Recurrence recurrence) {
+        Recurrence oldRecurrence = this.getRecurrence();
+        this.recurrence = recurrence;
+        if (recurrence != null && recurrence.getFrequency() != this.frequency) {
+            this.setFrequency(recurrence.getFrequency());
+        } else if (!Objects.equals(oldRecurrence, this.getRecurrence())) {
+            this.notifyFrequencyChanged(this.frequency, this.frequency);
+        }
+    }
+
+    /** 
+     * Tags the habit. Tags are stored trimmed and in lower case.
+     * 
+     * @precondition tag != null && !tag.trim().isEmpty()
+     * @postcondition this.hasTag(tag)
+     * 
+     * @param tag The tag, such as "health".
+     * @return [true] iff the habit did not have the tag yet, otherwise [false].
+     */
+    public boolean addTag(String tag) {
+        String normalizedTag = normalizeTag(tag);
+        if (this.tags == null) {
+            this.tags = new TreeSet<String>();
+        }
+        return this.tags.add(normalizedTag);
+    }
+
+    /** 
+     * Removes a tag from the habit.
+     * 
+     * @precondition tag != null
+     * @postcondition !this.hasTag(tag)
+     * 
+     * @param tag The tag.
+     * @return [true] iff the habit had the tag, otherwise [false].
+     */
+    public boolean removeTag(String tag) {
+        String normalizedTag = normalizeTag(tag);
+        return this.tags != null && this.tags.remove(normalizedTag);
+    }
+
+    /** 
+     * Replaces the tags of the habit.
+     * 
+     * @precondition tags != null && every tag is valid for addTag
+     * @postcondition this.getTags() holds exactly the tags
+     * 
+     * @param tags The new tags.
+     */
+    public void setTags(Collection<String> tags) {
+        if (tags == null) {
+            throw new IllegalArgumentException(NULL_TAG_ERROR);
+        }
+        Set<String> newTags = new TreeSet<String>();
+        for (String tag : tags) {
+            newTags.add(normalizeTag(tag));
+        }
+        this.tags = newTags.isEmpty() ? null : newTags;
+    }
+
+    /** 
+     * Sets the text of the habit.
+     * 
+     * @precondition text != null && !text.isEmpty()
+     * @postcondition this.getText() == text;
+     * 
+     * @param text The text to display for the habit.
+     */
+    public void setText(String text) {
+        this.checkString(text);
+        if (this.textProperty != null) {
+            this.textProperty.set(text);
+            return;
+        }
+        this.text = text;
+    }
+
+    /** 
+     * Sets the completion status of the habit.
+     * 
+     * @precondition none
+     * @postcondition this.isComplete() == complete;
+     * 
+     * @param complete The completion status of the habit.
+     */
+    public void setComplete(boolean complete) {
+        if (this.completionProperty != null) {
+            this.completionProperty.set(complete);
+            return;
+        }
+        this.updateCompletion(complete);
+    }
+
+    void addObserver(HabitObserver observer) {
+        if (this.observers == null) {
+            this.observers = new ArrayList<HabitObserver>(1);
+        }
+        this.observers.add(observer);
+    }
+
+    void removeObserver(HabitObserver observer) {
+        if (this.observers != null) {
+            this.observers.remove(observer);
+        }
+    }
+
+    private void updateCompletion(boolean complete) {
+        if (this.complete == complete) {
+            return;
+        }
+        this.complete = complete;
+        if (this.observers != null) {
+            for (HabitObserver observer : this.observers) {
+                observer.completionChanged(this, complete);
+            }
+        }
+    }
+
+    private void updateFrequency(Frequency frequency) {
+        Frequency oldFrequency = this.frequency;
+        if (oldFrequency == frequency) {
+            return;
+        }
+        this.frequency = frequency;
+        if (this.recurrence != null && this.recurrence.getFrequency() != frequency) {
+            this.recurrence = null;
+        }
+        this.notifyFrequencyChanged(oldFrequency, frequency);
+    }
+
+    private void notifyFrequencyChanged(Frequency oldFrequency, Frequency newFrequency) {
+        if (this.observers != null) {
+            for (HabitObserver observer : this.observers) {
+                observer.frequencyChanged(this, oldFrequency, newFrequency);
+            }
+        }
+    }
+
+    private static String normalizeTag(String tag) {
+        if (tag == null) {
+            throw new IllegalArgumentException(NULL_TAG_ERROR);
+        }
+        String normalizedTag = tag.trim().toLowerCase(Locale.ROOT);
+        if (normalizedTag.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_TAG_ERROR);
+        }
+        return normalizedTag;
     }
 
     private void checkString(String string) {
@@ -144,7 +444,7 @@ public class Habit {
 
     @Override
     public String toString() {
-        return this.textProperty.get();
+        return this.text;
     }
 
     @Override
@@ -154,7 +454,7 @@ public class Habit {
         }
 
         Habit otherHabit = (Habit) other;
-        return this.getText().equals(otherHabit.getText()) && this.completionFrequency == otherHabit.completionFrequency;
+        return this.getText().equals(otherHabit.getText()) && this.getFrequency() == otherHabit.getFrequency();
     }
 
     @Override
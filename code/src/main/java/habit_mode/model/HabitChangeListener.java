@@ -0,0 +1,23 @@
+package habit_mode.model;
+
+import java.util.List;
+
+/**
+ * Receives the changes made to a HabitManager.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public interface HabitChangeListener {
+    /**
+     * Called after a HabitManager changed. All changes made between the outermost beginChange and
+     * endChange of the manager arrive in one call, in the order they were made; outside of a batch
+     * every change arrives on its own.
+     *
+     * @precondition changes != null && !changes.isEmpty()
+     * @postcondition None
+     *
+     * @param changes The changes, each describing the list as it was right after the previous one.
+     */
+    void changed(List<HabitListChange> changes);
+}
@@ -0,0 +1,14 @@
+package habit_mode.model;
+
+/**
+ * The kinds of change a HabitManager reports to its change listeners.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum HabitChangeType {
+    ADDED,
+    REMOVED,
+    REPLACED,
+    UPDATED
+}
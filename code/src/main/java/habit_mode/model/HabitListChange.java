@@ -0,0 +1,179 @@
+package habit_mode.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes one change to a HabitManager: a range of habits that was added, removed, replaced,
+ * or whose completion or frequency was updated.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class HabitListChange {
+    private HabitChangeType type;
+    private int from;
+    private int to;
+    private List<Habit> removed;
+
+    private HabitListChange(HabitChangeType type, int from, int to, List<Habit> removed) {
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Creates a change for habits added at [from, to).
+     *
+     * @precondition 0 <= from <= to
+     * @postcondition return.getType() == HabitChangeType.ADDED
+     *
+     * @param from The index of the first added habit.
+     * @param to The index after the last added habit.
+     * @return The change.
+     */
+    public static HabitListChange added(int from, int to) {
+        return new HabitListChange(HabitChangeType.ADDED, from, to, List.of());
+    }
+
+    /**
+     * Creates a change for habits removed from index from.
+     *
+     * @precondition from >= 0 && removed != null
+     * @postcondition return.getType() == HabitChangeType.REMOVED && return.getFrom() == return.getTo()
+     *
+     * @param from The index the removed habits started at.
+     * @param removed The removed habits.
+     * @return The change.
+     */
+    public static HabitListChange removed(int from, List<Habit> removed) {
+        return new HabitListChange(HabitChangeType.REMOVED, from, from, removed);
+    }
+
+    /**
+     * Creates a change for habits at [from, to) that replaced other habits.
+     *
+     * @precondition 0 <= from <= to && removed != null
+     * @postcondition return.getType() == HabitChangeType.REPLACED
+     *
+     * @param from The index of the first new habit.
+     * @param to The index after the last new habit.
+     * @param removed The replaced habits.
+     * @return The change.
+     */
+    public static HabitListChange replaced(int from, int to, List<Habit> removed) {
+        return new HabitListChange(HabitChangeType.REPLACED, from, to, removed);
+    }
+
+    /**
+     * Creates a change for a habit whose completion or frequency changed.
+     *
+     * @precondition index >= 0
+     * @postcondition return.getType() == HabitChangeType.UPDATED
+     *
+     * @param index The index of the habit.
+     * @return The change.
+     */
+    public static HabitListChange updated(int index) {
+        return new HabitListChange(HabitChangeType.UPDATED, index, index + 1, List.of());
+    }
+
+    /**
+     * Gets the kind of change.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The type of the change.
+     */
+    public HabitChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the index the change starts at.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The first index of the change.
+     */
+    public int getFrom() {
+        return this.from;
+    }
+
+    /**
+     * Gets the index after the added, replacing or updated habits; equal to getFrom for removals.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The index after the change.
+     */
+    public int getTo() {
+        return this.to;
+    }
+
+    /**
+     * Gets the removed or replaced habits.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return An unmodifiable list of the removed habits, empty for additions and updates.
+     */
+    public List<Habit> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Gets the habits a batch of changes added, replaced or updated, as they are in the list once the
+     * whole batch is applied. Each changed index is shifted past the additions and removals made after
+     * it in the batch, and a habit a later change removed again is left out.
+     *
+     * @precondition changes != null && habits != null && habits holds the list after the batch
+     * @postcondition None
+     *
+     * @param changes The batch, in the order the changes were made.
+     * @param habits The list the batch was made to.
+     * @return The changed habits, from the last change to the first.
+     */
+    public static List<Habit> changedHabits(List<HabitListChange> changes, List<Habit> habits) {
+        List<HabitListChange> laterShifts = new ArrayList<HabitListChange>();
+        List<Habit> changed = new ArrayList<Habit>();
+        for (int index = changes.size() - 1; index >= 0; index--) {
+            HabitListChange change = changes.get(index);
+            for (int position = change.getFrom(); position < change.getTo(); position++) {
+                int current = currentIndex(laterShifts, position);
+                if (current >= 0) {
+                    changed.add(habits.get(current));
+                }
+            }
+            if (change.getType() != HabitChangeType.UPDATED) {
+                laterShifts.add(change);
+            }
+        }
+        return changed;
+    }
+
+    private static int currentIndex(List<HabitListChange> laterShifts, int index) {
+        int current = index;
+        for (int position = laterShifts.size() - 1; position >= 0 && current >= 0; position--) {
+            HabitListChange change = laterShifts.get(position);
+            int removedEnd = change.getFrom() + change.getRemoved().size();
+            if (current >= removedEnd) {
+                current += change.getTo() - removedEnd;
+            } else if (current >= change.getFrom()) {
+                current = -1;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + " [" + this.from + ", " + this.to + ") removed " + this.removed;
+    }
+}
@@ -1,33 +1,306 @@
 package habit_mode.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Predicate;
 
-/** 
+/**
  * Habit Manager Class.
- * 
+ * Besides the list itself, the manager keeps an index from habit id to habit so that habits can be
+ * found by id in constant time. The index is kept up to date by every mutation, including those
+ * made through iterators and sub lists, so a habit's id must not be changed while it is in a manager.
+ * The manager also observes the completion and frequency of its habits to keep completion counts,
+ * overall and per frequency, that can be read in constant time.
+ * Change listeners are told about every change as a HabitListChange; changes made between
+ * beginChange and endChange are delivered together.
+ * The position of each habit is cached after it is first needed, for removeById and for the updates
+ * sent when a habit is completed, and dropped on every structural change, so those lookups are O(n)
+ * after a structural change and O(1) until the next one.
+ * Like the habits it holds, a manager is only equal to itself.
+ *
  * @author	Team 1
  * @version Spring 2022
  */
-public class HabitManager implements List<Habit> {
+public class HabitManager extends AbstractList<Habit> implements RandomAccess {
     private static final String INDEX_IS_EXCLUSIVELY_GREATER_THAN_COLLECTION_SIZE_ERROR = "Cannot get a Habit from index greater or equal to the size of the collection.";
     private static final String INDEX_IS_INCLUSIVELY_GREATER_THAN_COLLECTION_SIZE_ERROR = "Cannot get a Habit from index greater than the size of the collection.";
     private static final String INDEX_LESS_THAN_ZERO_ERROR = "The index cannot be less than 0";
     private static final String FIRST_INDEX_IS_LARGER_ERROR = "the first index cannot be greater than the second index it is trying to reach.";
     private static final String NULL_OBJECT_ERROR = "Object cannot be null";
+    private static final String NO_CHANGE_STARTED_ERROR = "endChange called without a matching beginChange";
     private List<Habit> habits;
+    private Map<Integer, Habit> idIndex;
+    private Map<Integer, Integer> duplicateIds;
+    private Map<Habit, Integer> positions;
+    private int completedCount;
+    private int[] frequencyCounts;
+    private int[] completedFrequencyCounts;
+    private HabitObserver countingObserver;
+    private List<HabitChangeListener> changeListeners;
+    private List<HabitListChange> pendingChanges;
+    private int changeDepth;
+    private boolean updatesSuppressed;
 
     /**
      * Creates a new Habit Manager.
-     * 
+     *
      * @precondition None.
      * @postcondition this.size() == 0;
      */
     public HabitManager() {
         this.habits = new ArrayList<Habit>();
+        this.idIndex = new HashMap<Integer, Habit>();
+        this.duplicateIds = new HashMap<Integer, Integer>();
+        this.frequencyCounts = new int[Frequency.values().length];
+        this.completedFrequencyCounts = new int[Frequency.values().length];
+        this.countingObserver = new CountingObserver();
+        this.changeListeners = new ArrayList<HabitChangeListener>();
+        this.pendingChanges = new ArrayList<HabitListChange>();
+    }
+
+    /**
+     * Adds a listener that is told about every change to the manager.
+     *
+     * @precondition listener != null
+     * @postcondition the listener receives the changes made from now on
+     *
+     * @param listener The listener to add.
+     */
+    public void addChangeListener(HabitChangeListener listener) {
+        this.checkObject(listener);
+        this.changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a change listener.
+     *
+     * @precondition None
+     * @postcondition the listener no longer receives changes
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeChangeListener(HabitChangeListener listener) {
+        this.changeListeners.remove(listener);
+    }
+
+    /**
+     * Starts a batch of changes. Changes are held back until the matching endChange and then delivered
+     * to the change listeners in one call. Batches can be nested; only the outermost one delivers.
+     *
+     * @precondition None
+     * @postcondition changes are held back until the matching endChange
+     */
+    public void beginChange() {
+        this.changeDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by beginChange, delivering the held back changes if it was the
+     * outermost batch.
+     *
+     * @precondition beginChange was called more times than endChange
+     * @postcondition the changes of the batch were delivered if it was the outermost batch
+     */
+    public void endChange() {
+        if (this.changeDepth == 0) {
+            throw new IllegalStateException(NO_CHANGE_STARTED_ERROR);
+        }
+        this.changeDepth--;
+        if (this.changeDepth == 0 && !this.pendingChanges.isEmpty()) {
+            this.deliverChanges();
+        }
+    }
+
+    /**
+     * Sets the completion status of many habits at once, such as when their reset time has passed.
+     * Only habits held by this manager are changed. The manager is scanned once and the changes are
+     * delivered as a single batch, instead of searching the list for every habit that changed.
+     *
+     * @precondition habits != null && !habits.contains(null)
+     * @postcondition every habit in both habits and this manager has isComplete() == complete
+     *
+     * @param habits The habits to change.
+     * @param complete The new completion status.
+     * @return The number of habits whose completion status changed.
+     */
+    public int setComplete(Collection<? extends Habit> habits, boolean complete) {
+        this.checkObject(habits);
+        Set<Habit> targets = Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+        for (Habit habit : habits) {
+            this.checkObject(habit);
+            targets.add(habit);
+        }
+
+        int changed = 0;
+        this.beginChange();
+        this.updatesSuppressed = true;
+        try {
+            for (int index = 0; index < this.habits.size(); index++) {
+                Habit habit = this.habits.get(index);
+                if (habit.isComplete() != complete && targets.contains(habit)) {
+                    habit.setComplete(complete);
+                    this.fireChange(HabitListChange.updated(index));
+                    changed++;
+                }
+            }
+        } finally {
+            this.updatesSuppressed = false;
+            this.endChange();
+        }
+        return changed;
+    }
+
+    /**
+     * Gets the number of complete habits in constant time.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of complete habits.
+     */
+    public int getCompletedCount() {
+        return this.completedCount;
+    }
+
+    /**
+     * Gets the number of incomplete habits in constant time.
+     *
+     * @precondition None
+     * @postcondition return == this.size() - this.getCompletedCount()
+     *
+     * @return The number of incomplete habits.
+     */
+    public int getIncompleteCount() {
+        return this.size() - this.completedCount;
+    }
+
+    /**
+     * Checks whether every habit is complete in constant time.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return [true] iff every habit in the manager is complete (including when it is empty), otherwise [false].
+     */
+    public boolean isAllComplete() {
+        return this.completedCount == this.size();
+    }
+
+    /**
+     * Gets the number of habits with a frequency in constant time.
+     *
+     * @precondition frequency != null
+     * @postcondition None
+     *
+     * @param frequency The frequency of the habits.
+     * @return The number of habits with the frequency.
+     */
+    public int getCount(Frequency frequency) {
+        this.checkObject(frequency);
+        return this.frequencyCounts[frequency.ordinal()];
+    }
+
+    /**
+     * Gets the number of complete habits with a frequency in constant time.
+     *
+     * @precondition frequency != null
+     * @postcondition None
+     *
+     * @param frequency The frequency of the habits.
+     * @return The number of complete habits with the frequency.
+     */
+    public int getCompletedCount(Frequency frequency) {
+        this.checkObject(frequency);
+        return this.completedFrequencyCounts[frequency.ordinal()];
+    }
+
+    /**
+     * Gets the number of incomplete habits with a frequency in constant time.
+     *
+     * @precondition frequency != null
+     * @postcondition return == this.getCount(frequency) - this.getCompletedCount(frequency)
+     *
+     * @param frequency The frequency of the habits.
+     * @return The number of incomplete habits with the frequency.
+     */
+    public int getIncompleteCount(Frequency frequency) {
+        return this.getCount(frequency) - this.getCompletedCount(frequency);
+    }
+
+    /**
+     * Presents a memory-mapped store as a read-mostly list.
+     * Habits are created from their records the first time they are read and then kept, so changes
+     * made to them last for the life of the view, although they are not written back to the file.
+     * Elements can be replaced with set, but the size of the view cannot change.
+     *
+     * @precondition store != null
+     * @postcondition return.size() == store.size()
+     *
+     * @param store The mapped store.
+     * @return The list view of the store.
+     */
+    public static List<Habit> mappedView(MappedHabitStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException(NULL_OBJECT_ERROR);
+        }
+        return new MappedView(store);
+    }
+
+    /**
+     * Gets a habit by its id in constant time.
+     * If several habits share the id, one of them is returned.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param id The id of the habit.
+     * @return The habit with the id, or null if there is none.
+     */
+    public Habit getById(int id) {
+        return this.idIndex.get(id);
+    }
+
+    /**
+     * Checks whether the manager holds a habit with an id in constant time.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param id The id of the habit.
+     * @return [true] iff a habit with the id is in the manager, otherwise [false].
+     */
+    public boolean containsId(int id) {
+        return this.idIndex.containsKey(id);
+    }
+
+    /**
+     * Removes the habit returned by getById(id).
+     *
+     * @precondition None
+     * @postcondition !this.containsId(id) iff no other habit shares the id
+     *
+     * @param id The id of the habit.
+     * @return The removed habit, or null if there was no habit with the id.
+     */
+    public Habit removeById(int id) {
+        Habit habit = this.idIndex.get(id);
+        if (habit == null) {
+            return null;
+        }
+        return this.remove(this.positionOf(habit));
     }
 
     @Override
@@ -48,7 +321,7 @@ public class HabitManager implements List<Habit> {
 
     @Override
     public Iterator<Habit> iterator() {
-        return this.habits.iterator();
+        return new IndexedListIterator(0);
     }
 
     @Override
@@ -64,49 +337,98 @@ public class HabitManager implements List<Habit> {
     @Override
     public boolean add(Habit habit) {
         this.checkObject(habit);
-        return this.habits.add(habit);
+        this.habits.add(habit);
+        this.track(habit);
+        this.modCount++;
+        this.fireChange(HabitListChange.added(this.habits.size() - 1, this.habits.size()));
+        return true;
     }
 
     @Override
     public boolean remove(Object object) {
         this.checkObject(object);
-        return this.habits.remove(object);
+        int index = this.habits.indexOf(object);
+        if (index == -1) {
+            return false;
+        }
+        this.remove(index);
+        return true;
     }
 
     @Override
     public boolean containsAll(Collection<?> collection) {
         this.checkObject(collection);
-        return this.habits.containsAll(collection);
+        Set<HabitKey> keys = new HashSet<HabitKey>();
+        for (Habit habit : this.habits) {
+            keys.add(new HabitKey(habit));
+        }
+        for (Object element : collection) {
+            boolean found = element instanceof Habit
+                ? keys.contains(new HabitKey((Habit) element))
+                : element != null && this.habits.contains(element);
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends Habit> collection) {
         this.checkObject(collection);
-        return this.habits.addAll(collection);
+        return this.addAll(this.size(), collection);
     }
 
     @Override
     public boolean addAll(int index, Collection<? extends Habit> collection) {
         this.checkIndexInclusively(index);
         this.checkObject(collection);
-        return this.habits.addAll(index, collection);
+        List<Habit> added = new ArrayList<Habit>(collection);
+        for (Habit habit : added) {
+            this.checkObject(habit);
+        }
+        this.habits.addAll(index, added);
+        for (Habit habit : added) {
+            this.track(habit);
+        }
+        this.modCount++;
+        if (added.isEmpty()) {
+            return false;
+        }
+        this.fireChange(HabitListChange.added(index, index + added.size()));
+        return true;
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
         this.checkObject(collection);
-        return this.habits.removeAll(collection);
+        return this.removeMatching(collection, true);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
         this.checkObject(collection);
-        return this.habits.retainAll(collection);
+        return this.removeMatching(collection, false);
     }
 
     @Override
     public void clear() {
+        if (this.habits.isEmpty()) {
+            return;
+        }
+        List<Habit> removed = this.changeListeners.isEmpty() ? List.of() : new ArrayList<Habit>(this.habits);
+        for (Habit habit : this.habits) {
+            habit.removeObserver(this.countingObserver);
+        }
+        this.completedCount = 0;
+        Arrays.fill(this.frequencyCounts, 0);
+        Arrays.fill(this.completedFrequencyCounts, 0);
         this.habits.clear();
+        this.idIndex.clear();
+        this.duplicateIds.clear();
+        this.positions = null;
+        this.modCount++;
+        this.fireChange(HabitListChange.removed(0, removed));
     }
 
     @Override
@@ -119,7 +441,11 @@ public class HabitManager implements List<Habit> {
     public Habit set(int index, Habit habit) {
         this.checkIndexExclusively(index);
         this.checkObject(habit);
-        return this.habits.set(index, habit);
+        Habit replaced = this.habits.set(index, habit);
+        this.untrack(replaced);
+        this.track(habit);
+        this.fireChange(HabitListChange.replaced(index, index + 1, List.of(replaced)));
+        return replaced;
     }
 
     @Override
@@ -127,12 +453,19 @@ public class HabitManager implements List<Habit> {
         this.checkIndexInclusively(index);
         this.checkObject(habit);
         this.habits.add(index, habit);
+        this.track(habit);
+        this.modCount++;
+        this.fireChange(HabitListChange.added(index, index + 1));
     }
 
     @Override
     public Habit remove(int index) {
         this.checkIndexExclusively(index);
-        return this.habits.remove(index);
+        Habit removed = this.habits.remove(index);
+        this.untrack(removed);
+        this.modCount++;
+        this.fireChange(HabitListChange.removed(index, List.of(removed)));
+        return removed;
     }
 
     @Override
@@ -149,13 +482,13 @@ public class HabitManager implements List<Habit> {
 
     @Override
     public ListIterator<Habit> listIterator() {
-        return this.habits.listIterator();
+        return new IndexedListIterator(0);
     }
 
     @Override
     public ListIterator<Habit> listIterator(int index) {
         this.checkIndexInclusively(index);
-        return this.habits.listIterator(index);
+        return new IndexedListIterator(index);
     }
 
     @Override
@@ -165,7 +498,175 @@ public class HabitManager implements List<Habit> {
         if (fromIndex > toIndex) {
             throw new IllegalArgumentException(FIRST_INDEX_IS_LARGER_ERROR);
         }
-        return this.habits.subList(fromIndex, toIndex);
+        return super.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<Habit> range = this.habits.subList(fromIndex, toIndex);
+        List<Habit> removed = new ArrayList<Habit>(range);
+        range.clear();
+        for (Habit habit : removed) {
+            this.untrack(habit);
+        }
+        this.modCount++;
+        this.fireChange(HabitListChange.removed(fromIndex, removed));
+    }
+
+    private boolean removeMatching(Collection<?> collection, boolean remove) {
+        Predicate<Habit> matcher = matcherFor(collection);
+        return this.removeIf(habit -> matcher.test(habit) == remove);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Habit> filter) {
+        this.checkObject(filter);
+        List<Habit> removed = new ArrayList<Habit>();
+        List<Integer> removedIndices = new ArrayList<Integer>();
+        int[] position = new int[1];
+        this.habits.removeIf(habit -> {
+            int index = position[0]++;
+            if (filter.test(habit)) {
+                removed.add(habit);
+                removedIndices.add(index);
+                return true;
+            }
+            return false;
+        });
+        if (removed.isEmpty()) {
+            return false;
+        }
+
+        this.modCount++;
+        this.beginChange();
+        for (int index = 0; index < removed.size(); index++) {
+            this.untrack(removed.get(index));
+            this.fireChange(HabitListChange.removed(removedIndices.get(index) - index, List.of(removed.get(index))));
+        }
+        this.endChange();
+        return true;
+    }
+
+    /**
+     * Matches habits against a collection with one hash lookup per habit, using the equality of Habit.
+     * A collection holding other elements falls back to its own contains.
+     */
+    static Predicate<Habit> matcherFor(Collection<?> collection) {
+        Set<HabitKey> keys = new HashSet<HabitKey>();
+        for (Object element : collection) {
+            if (!(element instanceof Habit)) {
+                return collection::contains;
+            }
+            keys.add(new HabitKey((Habit) element));
+        }
+        return habit -> keys.contains(new HabitKey(habit));
+    }
+
+    private void fireChange(HabitListChange change) {
+        if (this.changeListeners.isEmpty()) {
+            return;
+        }
+        this.pendingChanges.add(change);
+        if (this.changeDepth == 0) {
+            this.deliverChanges();
+        }
+    }
+
+    private void deliverChanges() {
+        List<HabitListChange> changes = List.copyOf(this.pendingChanges);
+        this.pendingChanges.clear();
+        for (HabitChangeListener listener : List.copyOf(this.changeListeners)) {
+            listener.changed(changes);
+        }
+    }
+
+    private void fireUpdate(Habit habit) {
+        if (this.changeListeners.isEmpty()) {
+            return;
+        }
+        int index = this.positionOf(habit);
+        if (index != -1) {
+            this.fireChange(HabitListChange.updated(index));
+        }
+    }
+
+    private int positionOf(Habit habit) {
+        if (this.positions == null) {
+            this.positions = new IdentityHashMap<Habit, Integer>();
+            for (int index = 0; index < this.habits.size(); index++) {
+                this.positions.putIfAbsent(this.habits.get(index), index);
+            }
+        }
+        return this.positions.getOrDefault(habit, -1);
+    }
+
+    private void track(Habit habit) {
+        this.positions = null;
+        habit.addObserver(this.countingObserver);
+        this.count(habit, 1);
+
+        Habit holder = this.idIndex.putIfAbsent(habit.getId(), habit);
+        if (holder != null) {
+            this.duplicateIds.merge(habit.getId(), 1, Integer::sum);
+        }
+    }
+
+    private void untrack(Habit habit) {
+        this.positions = null;
+        habit.removeObserver(this.countingObserver);
+        this.count(habit, -1);
+
+        int id = habit.getId();
+        Integer duplicates = this.duplicateIds.get(id);
+        if (duplicates == null) {
+            this.idIndex.remove(id);
+            return;
+        }
+
+        if (duplicates == 1) {
+            this.duplicateIds.remove(id);
+        } else {
+            this.duplicateIds.put(id, duplicates - 1);
+        }
+        if (this.idIndex.get(id) == habit) {
+            this.idIndex.put(id, this.findFirstWithId(id));
+        }
+    }
+
+    private void count(Habit habit, int delta) {
+        if (habit.isComplete()) {
+            this.completedCount += delta;
+        }
+        this.countFrequency(habit.getFrequency(), habit.isComplete(), delta);
+    }
+
+    private void countFrequency(Frequency frequency, boolean complete, int delta) {
+        if (frequency == null) {
+            return;
+        }
+        this.frequencyCounts[frequency.ordinal()] += delta;
+        if (complete) {
+            this.completedFrequencyCounts[frequency.ordinal()] += delta;
+        }
+    }
+
+    private Habit findFirstWithId(int id) {
+        for (Habit habit : this.habits) {
+            if (habit.getId() == id) {
+                return habit;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return this == object;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
     }
 
     private void checkObject(Object object) {
@@ -191,4 +692,179 @@ public class HabitManager implements List<Habit> {
             throw new IllegalArgumentException(INDEX_IS_EXCLUSIVELY_GREATER_THAN_COLLECTION_SIZE_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A fixed-size list over a mapped store that creates each habit when it is first read.
+     */
+    private static final class MappedView extends AbstractList<Habit> implements RandomAccess {
+        private MappedHabitStore store;
+        private Habit[] habits;
+
+        MappedView(MappedHabitStore store) {
+            this.store = store;
+            this.habits = new Habit[store.size()];
+        }
+
+        @Override
+        public Habit get(int index) {
+            this.checkIndex(index);
+            if (this.habits[index] == null) {
+                this.habits[index] = this.store.toHabit(index);
+            }
+            return this.habits[index];
+        }
+
+        @Override
+        public Habit set(int index, Habit habit) {
+            if (habit == null) {
+                throw new IllegalArgumentException(NULL_OBJECT_ERROR);
+            }
+            Habit replaced = this.get(index);
+            this.habits[index] = habit;
+            return replaced;
+        }
+
+        @Override
+        public int size() {
+            return this.habits.length;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException(INDEX_LESS_THAN_ZERO_ERROR);
+            }
+            if (index >= this.habits.length) {
+                throw new IllegalArgumentException(INDEX_IS_EXCLUSIVELY_GREATER_THAN_COLLECTION_SIZE_ERROR);
+            }
+        }
+    }
+
+    /**
+     * Keeps the completion counts up to date as the habits in the manager change.
+     */
+    private final class CountingObserver implements HabitObserver {
+        @Override
+        public void completionChanged(Habit habit, boolean complete) {
+            int delta = complete ? 1 : -1;
+            HabitManager.this.completedCount += delta;
+            if (habit.getFrequency() != null) {
+                HabitManager.this.completedFrequencyCounts[habit.getFrequency().ordinal()] += delta;
+            }
+            if (!HabitManager.this.updatesSuppressed) {
+                HabitManager.this.fireUpdate(habit);
+            }
+        }
+
+        @Override
+        public void frequencyChanged(Habit habit, Frequency oldFrequency, Frequency newFrequency) {
+            HabitManager.this.countFrequency(oldFrequency, habit.isComplete(), -1);
+            HabitManager.this.countFrequency(newFrequency, habit.isComplete(), 1);
+            HabitManager.this.fireUpdate(habit);
+        }
+    }
+
+    /**
+     * The fields Habit.equals compares, with a matching hash code, so that habits can be
+     * compared in hashed collections even though Habit.hashCode is based on identity.
+     */
+    private static final class HabitKey {
+        private String text;
+        private Frequency frequency;
+
+        HabitKey(Habit habit) {
+            this.text = habit.getText();
+            this.frequency = habit.getFrequency();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof HabitKey)) {
+                return false;
+            }
+            HabitKey otherKey = (HabitKey) other;
+            return this.text.equals(otherKey.text) && this.frequency == otherKey.frequency;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.text, this.frequency);
+        }
+    }
+
+    /**
+     * Iterates over the backing list and keeps the id index up to date and reports changes when
+     * habits are removed, replaced or added through the iterator.
+     */
+    private class IndexedListIterator implements ListIterator<Habit> {
+        private ListIterator<Habit> delegate;
+        private Habit lastReturned;
+        private int lastIndex;
+
+        IndexedListIterator(int index) {
+            this.delegate = HabitManager.this.habits.listIterator(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.delegate.hasNext();
+        }
+
+        @Override
+        public Habit next() {
+            this.lastReturned = this.delegate.next();
+            this.lastIndex = this.delegate.previousIndex();
+            return this.lastReturned;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.delegate.hasPrevious();
+        }
+
+        @Override
+        public Habit previous() {
+            this.lastReturned = this.delegate.previous();
+            this.lastIndex = this.delegate.nextIndex();
+            return this.lastReturned;
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.delegate.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.delegate.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            this.delegate.remove();
+            HabitManager.this.untrack(this.lastReturned);
+            HabitManager.this.modCount++;
+            HabitManager.this.fireChange(HabitListChange.removed(this.lastIndex, List.of(this.lastReturned)));
+            this.lastReturned = null;
+        }
+
+        @Override
+        public void set(Habit habit) {
+            HabitManager.this.checkObject(habit);
+            this.delegate.set(habit);
+            HabitManager.this.untrack(this.lastReturned);
+            HabitManager.this.track(habit);
+            HabitManager.this.fireChange(HabitListChange.replaced(this.lastIndex, this.lastIndex + 1, List.of(this.lastReturned)));
+            this.lastReturned = habit;
+        }
+
+        @Override
+        public void add(Habit habit) {
+            HabitManager.this.checkObject(habit);
+            this.delegate.add(habit);
+            HabitManager.this.track(habit);
+            HabitManager.this.modCount++;
+            HabitManager.this.fireChange(HabitListChange.added(this.delegate.previousIndex(), this.delegate.nextIndex()));
+            this.lastReturned = null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package habit_mode.model;
+
+/**
+ * Receives changes to the state of a habit without going through its JavaFX properties,
+ * so model code can follow a habit without forcing the properties to be created.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+interface HabitObserver {
+    /**
+     * Called after the completion status of a habit changed.
+     *
+     * @precondition habit != null
+     * @postcondition None
+     *
+     * @param habit The habit that changed.
+     * @param complete The new completion status.
+     */
+    void completionChanged(Habit habit, boolean complete);
+
+    /**
+     * Called after the frequency of a habit changed, or after its recurrence changed within the same frequency.
+     *
+     * @precondition habit != null
+     * @postcondition None
+     *
+     * @param habit The habit that changed.
+     * @param oldFrequency The previous frequency.
+     * @param newFrequency The new frequency.
+     */
+    void frequencyChanged(Habit habit, Frequency oldFrequency, Frequency newFrequency);
+}
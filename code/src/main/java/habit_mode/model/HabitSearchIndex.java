@@ -0,0 +1,264 @@
+package habit_mode.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Finds habits by their text without looking at the text of every habit. Searches ignore case.
+ * Every piece of up to GRAM_LENGTH characters of a habit's text maps to the habits containing it, so a
+ * short query is a single lookup, and a longer query only checks the habits that contain its rarest
+ * piece. The texts are also kept sorted, so the habits starting with a prefix are one range of the map.
+ * The index is updated one habit at a time as habits are added, removed or renamed.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HabitSearchIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+
+    private Map<Habit, String> indexedTexts;
+    private Map<String, Set<Habit>> habitsByGram;
+    private NavigableMap<String, Set<Habit>> habitsByText;
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public HabitSearchIndex() {
+        this.indexedTexts = new IdentityHashMap<Habit, String>();
+        this.habitsByGram = new HashMap<String, Set<Habit>>();
+        this.habitsByText = new TreeMap<String, Set<Habit>>();
+    }
+
+    /**
+     * Adds a habit to the index under its current text.
+     *
+     * @precondition habit != null
+     * @postcondition this.contains(habit)
+     *
+     * @param habit The habit to add.
+     * @return [true] iff the habit was not in the index yet, otherwise [false].
+     */
+    public boolean add(Habit habit) {
+        this.checkObject(habit);
+        if (this.indexedTexts.containsKey(habit)) {
+            return false;
+        }
+        this.index(habit, normalize(habit.getText()));
+        return true;
+    }
+
+    /**
+     * Removes a habit from the index.
+     *
+     * @precondition None
+     * @postcondition !this.contains(habit)
+     *
+     * @param habit The habit to remove.
+     * @return [true] iff the habit was in the index, otherwise [false].
+     */
+    public boolean remove(Habit habit) {
+        String text = this.indexedTexts.remove(habit);
+        if (text == null) {
+            return false;
+        }
+        this.unindex(habit, text);
+        return true;
+    }
+
+    /**
+     * Indexes a habit in the index again under its current text, after its text changed.
+     *
+     * @precondition habit != null
+     * @postcondition the habit is found by its current text if it is in the index
+     *
+     * @param habit The renamed habit.
+     * @return [true] iff the habit is in the index and its text changed, otherwise [false].
+     */
+    public boolean update(Habit habit) {
+        this.checkObject(habit);
+        String oldText = this.indexedTexts.get(habit);
+        String newText = normalize(habit.getText());
+        if (oldText == null || oldText.equals(newText)) {
+            return false;
+        }
+        this.unindex(habit, oldText);
+        this.indexedTexts.remove(habit);
+        this.index(habit, newText);
+        return true;
+    }
+
+    /**
+     * Finds the habits whose text contains a query, ignoring case.
+     *
+     * @precondition query != null
+     * @postcondition None
+     *
+     * @param query The text to look for.
+     * @return The matching habits, or every habit if the query is empty.
+     */
+    public Set<Habit> search(String query) {
+        this.checkObject(query);
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return this.copyOf(this.indexedTexts.keySet());
+        }
+        if (normalizedQuery.length() <= GRAM_LENGTH) {
+            return this.copyOf(this.habitsByGram.getOrDefault(normalizedQuery, Collections.emptySet()));
+        }
+        Set<Habit> candidates = null;
+        for (int start = 0; start + GRAM_LENGTH <= normalizedQuery.length(); start++) {
+            Set<Habit> habits = this.habitsByGram.getOrDefault(normalizedQuery.substring(start, start + GRAM_LENGTH), Collections.emptySet());
+            if (candidates == null || habits.size() < candidates.size()) {
+                candidates = habits;
+            }
+        }
+        Set<Habit> matches = this.newHabitSet();
+        for (Habit habit : candidates) {
+            if (this.indexedTexts.get(habit).contains(normalizedQuery)) {
+                matches.add(habit);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the habits whose text starts with a prefix, ignoring case.
+     *
+     * @precondition prefix != null
+     * @postcondition None
+     *
+     * @param prefix The start of the text.
+     * @return The matching habits, or every habit if the prefix is empty.
+     */
+    public Set<Habit> searchPrefix(String prefix) {
+        this.checkObject(prefix);
+        String normalizedPrefix = normalize(prefix);
+        Set<Habit> matches = this.newHabitSet();
+        for (Set<Habit> habits : this.habitsByText.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false).values()) {
+            matches.addAll(habits);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the habits whose text is exactly a text.
+     *
+     * @precondition text != null
+     * @postcondition None
+     *
+     * @param text The text of the habits.
+     * @return The habits with the text.
+     */
+    public Set<Habit> findByText(String text) {
+        this.checkObject(text);
+        Set<Habit> matches = this.newHabitSet();
+        for (Habit habit : this.habitsByText.getOrDefault(normalize(text), Collections.emptySet())) {
+            if (habit.getText().equals(text)) {
+                matches.add(habit);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Checks whether a habit is in the index.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @return [true] iff the habit is in the index, otherwise [false].
+     */
+    public boolean contains(Habit habit) {
+        return this.indexedTexts.containsKey(habit);
+    }
+
+    /**
+     * Gets the number of habits in the index.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of habits.
+     */
+    public int size() {
+        return this.indexedTexts.size();
+    }
+
+    /**
+     * Removes every habit from the index.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public void clear() {
+        this.indexedTexts.clear();
+        this.habitsByGram.clear();
+        this.habitsByText.clear();
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<String>();
+        for (int start = 0; start < text.length(); start++) {
+            for (int end = start + 1; end <= Math.min(text.length(), start + GRAM_LENGTH); end++) {
+                grams.add(text.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private void index(Habit habit, String text) {
+        this.indexedTexts.put(habit, text);
+        this.habitsByText.computeIfAbsent(text, key -> this.newHabitSet()).add(habit);
+        for (String gram : gramsOf(text)) {
+            this.habitsByGram.computeIfAbsent(gram, key -> this.newHabitSet()).add(habit);
+        }
+    }
+
+    private void unindex(Habit habit, String text) {
+        this.removeFrom(this.habitsByText, text, habit);
+        for (String gram : gramsOf(text)) {
+            this.removeFrom(this.habitsByGram, gram, habit);
+        }
+    }
+
+    private void removeFrom(Map<String, Set<Habit>> map, String key, Habit habit) {
+        Set<Habit> habits = map.get(key);
+        habits.remove(habit);
+        if (habits.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private Set<Habit> newHabitSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+    }
+
+    private Set<Habit> copyOf(Set<Habit> habits) {
+        Set<Habit> copy = this.newHabitSet();
+        copy.addAll(habits);
+        return copy;
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+}
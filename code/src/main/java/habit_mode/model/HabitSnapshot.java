@@ -0,0 +1,156 @@
+package habit_mode.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * An immutable version of the habits of a ConcurrentHabitManager.
+ * The habits are kept in fixed-size chunks; a new version copies only the chunk index and the chunks it
+ * changes and shares every other chunk with the version it was made from.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class HabitSnapshot extends AbstractList<Habit> implements RandomAccess {
+    public static final HabitSnapshot EMPTY = new HabitSnapshot(new Habit[0][], 0);
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final String INDEX_OUT_OF_RANGE_ERROR = "index must be between 0 and size - 1";
+
+    private final Habit[][] chunks;
+    private final int size;
+
+    private HabitSnapshot(Habit[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    @Override
+    public Habit get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IllegalArgumentException(INDEX_OUT_OF_RANGE_ERROR);
+        }
+        return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Counts the chunks this snapshot shares with another, for checking structural sharing.
+     *
+     * @precondition other != null
+     * @postcondition None
+     *
+     * @param other The other snapshot.
+     * @return The number of chunk positions holding the same chunk in both snapshots.
+     */
+    public int countSharedChunks(HabitSnapshot other) {
+        int shared = 0;
+        for (int chunk = 0; chunk < Math.min(this.chunks.length, other.chunks.length); chunk++) {
+            if (this.chunks[chunk] == other.chunks[chunk]) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    HabitSnapshot withAppended(Collection<? extends Habit> habits) {
+        Habit[][] newChunks = Arrays.copyOf(this.chunks, chunkCount(this.size + habits.size()));
+        int index = this.size;
+        for (Habit habit : habits) {
+            int chunk = index >>> CHUNK_SHIFT;
+            if (newChunks[chunk] == null) {
+                newChunks[chunk] = new Habit[CHUNK_SIZE];
+            } else if (newChunks[chunk] == this.chunkAt(chunk)) {
+                newChunks[chunk] = newChunks[chunk].clone();
+            }
+            newChunks[chunk][index & CHUNK_MASK] = habit;
+            index++;
+        }
+        return new HabitSnapshot(newChunks, index);
+    }
+
+    HabitSnapshot withSet(int index, Habit habit) {
+        this.get(index);
+        Habit[][] newChunks = this.chunks.clone();
+        int chunk = index >>> CHUNK_SHIFT;
+        newChunks[chunk] = newChunks[chunk].clone();
+        newChunks[chunk][index & CHUNK_MASK] = habit;
+        return new HabitSnapshot(newChunks, this.size);
+    }
+
+    HabitSnapshot withInserted(int index, Collection<? extends Habit> habits) {
+        Habit[] tail = new Habit[this.size - index + habits.size()];
+        int position = 0;
+        for (Habit habit : habits) {
+            tail[position++] = habit;
+        }
+        for (int source = index; source < this.size; source++) {
+            tail[position++] = this.get(source);
+        }
+        return this.rebuiltFrom(index, tail);
+    }
+
+    HabitSnapshot withRemoved(int from, int to) {
+        Habit[] tail = new Habit[this.size - to];
+        for (int source = to; source < this.size; source++) {
+            tail[source - to] = this.get(source);
+        }
+        return this.rebuiltFrom(from, tail);
+    }
+
+    HabitSnapshot withRemovedIf(Predicate<? super Habit> filter) {
+        Habit[] kept = new Habit[this.size];
+        int keptCount = 0;
+        int firstRemoved = -1;
+        for (int index = 0; index < this.size; index++) {
+            Habit habit = this.get(index);
+            if (!filter.test(habit)) {
+                kept[keptCount++] = habit;
+            } else if (firstRemoved == -1) {
+                firstRemoved = index;
+            }
+        }
+        if (firstRemoved == -1) {
+            return this;
+        }
+        return this.rebuiltFrom(firstRemoved, Arrays.copyOfRange(kept, firstRemoved, keptCount));
+    }
+
+    private HabitSnapshot rebuiltFrom(int index, Habit[] tail) {
+        int newSize = index + tail.length;
+        if (newSize == 0) {
+            return EMPTY;
+        }
+        Habit[][] newChunks = Arrays.copyOf(this.chunks, chunkCount(newSize));
+        int firstChunk = index >>> CHUNK_SHIFT;
+        for (int chunk = firstChunk; chunk < newChunks.length; chunk++) {
+            Habit[] copy = new Habit[CHUNK_SIZE];
+            if (chunk == firstChunk && (index & CHUNK_MASK) != 0) {
+                System.arraycopy(this.chunks[chunk], 0, copy, 0, index & CHUNK_MASK);
+            }
+            newChunks[chunk] = copy;
+        }
+        for (int position = 0; position < tail.length; position++) {
+            int target = index + position;
+            newChunks[target >>> CHUNK_SHIFT][target & CHUNK_MASK] = tail[position];
+        }
+        return new HabitSnapshot(newChunks, newSize);
+    }
+
+    private Habit[] chunkAt(int chunk) {
+        return chunk < this.chunks.length ? this.chunks[chunk] : null;
+    }
+
+    private static int chunkCount(int size) {
+        return (size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+    }
+}
@@ -0,0 +1,276 @@
+package habit_mode.model;
+
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the streaks and completion rates of habits up to date as completions are recorded, so they can
+ * be shown for every habit without scanning its history.
+ * Completions are written to the CompletionHistory of the habit. Completing the period after the last
+ * completed one extends the current streak in constant time; a streak is still current while its last
+ * period is the present or the previous one, so resets need no update at all. Only completions recorded
+ * out of order and removed completions rescan the history. A FenwickTree per frequency counts the
+ * completions of all habits by period, giving the completions of any range of dates in logarithmic time.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HabitStatistics {
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String INVALID_RANGE_ERROR = "from cannot be after to";
+
+    private Map<Habit, Streaks> streaks;
+    private FenwickTree[] completionsByPeriod;
+    private int[] habitCounts;
+
+    /**
+     * Creates a new statistics engine without any habits.
+     *
+     * @precondition None
+     * @postcondition this.getHabitCount(frequency) == 0 for every frequency
+     */
+    public HabitStatistics() {
+        this.streaks = new IdentityHashMap<Habit, Streaks>();
+        this.completionsByPeriod = new FenwickTree[Frequency.values().length];
+        for (int index = 0; index < this.completionsByPeriod.length; index++) {
+            this.completionsByPeriod[index] = new FenwickTree();
+        }
+        this.habitCounts = new int[Frequency.values().length];
+    }
+
+    /**
+     * Records that a habit was completed in the period a date falls in. A habit seen for the first time
+     * has the completions already in its history counted as well.
+     *
+     * @precondition habit != null && date != null && the habit has a history or a frequency
+     * @postcondition habit.getHistory().isCompleted(date)
+     *
+     * @param habit The completed habit.
+     * @param date The date the habit was completed on.
+     * @return [true] iff the period was not completed yet, otherwise [false].
+     */
+    public boolean recordCompletion(Habit habit, LocalDate date) {
+        this.checkObject(date);
+        Streaks habitStreaks = this.streaksOf(habit);
+        CompletionHistory history = habit.getHistory();
+        int period = CompletionHistory.periodOf(history.getFrequency(), date);
+        if (history.isCompleted(period)) {
+            return false;
+        }
+        history.setCompleted(period, true);
+        this.completionsOf(history).add(period, 1);
+        if (period > habitStreaks.last) {
+            habitStreaks.current = period == habitStreaks.last + 1 ? habitStreaks.current + 1 : 1;
+            habitStreaks.last = period;
+            habitStreaks.longest = Math.max(habitStreaks.longest, habitStreaks.current);
+        } else {
+            habitStreaks.recount(history);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the completion of a habit in the period a date falls in, such as when it was recorded by mistake.
+     *
+     * @precondition habit != null && date != null && the habit has a history or a frequency
+     * @postcondition !habit.getHistory().isCompleted(date)
+     *
+     * @param habit The habit.
+     * @param date A date in the period.
+     * @return [true] iff the period was completed, otherwise [false].
+     */
+    public boolean removeCompletion(Habit habit, LocalDate date) {
+        this.checkObject(date);
+        Streaks habitStreaks = this.streaksOf(habit);
+        CompletionHistory history = habit.getHistory();
+        int period = CompletionHistory.periodOf(history.getFrequency(), date);
+        if (!history.isCompleted(period)) {
+            return false;
+        }
+        history.setCompleted(period, false);
+        this.completionsOf(history).add(period, -1);
+        habitStreaks.recount(history);
+        return true;
+    }
+
+    /**
+     * Stops keeping statistics for a habit, removing its completions from the totals of its frequency.
+     *
+     * @precondition None
+     * @postcondition the habit is no longer counted
+     *
+     * @param habit The habit to forget.
+     * @return [true] iff statistics were kept for the habit, otherwise [false].
+     */
+    public boolean remove(Habit habit) {
+        if (this.streaks.remove(habit) == null) {
+            return false;
+        }
+        this.count(habit.getHistory(), -1);
+        return true;
+    }
+
+    /**
+     * Gets the number of periods in a row the habit was completed in, up to the present period. A streak
+     * whose last period is the previous one is still current, since the present period can still be completed.
+     *
+     * @precondition habit != null && today != null
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @param today The present date.
+     * @return The current streak, in periods of the frequency of the habit's history.
+     */
+    public int getCurrentStreak(Habit habit, LocalDate today) {
+        this.checkObject(today);
+        Streaks habitStreaks = this.streaksOf(habit);
+        int present = CompletionHistory.periodOf(habit.getHistory().getFrequency(), today);
+        return habitStreaks.last >= present - 1 ? habitStreaks.current : 0;
+    }
+
+    /**
+     * Gets the longest number of periods in a row the habit was ever completed in.
+     *
+     * @precondition habit != null
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @return The longest streak, in periods of the frequency of the habit's history.
+     */
+    public int getLongestStreak(Habit habit) {
+        return this.streaksOf(habit).longest;
+    }
+
+    /**
+     * Gets the share of the periods from one date to another, both included, that a habit was completed in.
+     *
+     * @precondition habit != null && from != null && to != null && !from.isAfter(to)
+     * @postcondition 0 <= return <= 1
+     *
+     * @param habit The habit.
+     * @param from The first date.
+     * @param to The last date.
+     * @return The completion rate.
+     */
+    public double getCompletionRate(Habit habit, LocalDate from, LocalDate to) {
+        this.streaksOf(habit);
+        CompletionHistory history = habit.getHistory();
+        int first = this.firstPeriod(history.getFrequency(), from, to);
+        int end = CompletionHistory.periodOf(history.getFrequency(), to) + 1;
+        return (double) history.countCompleted(first, end) / (end - first);
+    }
+
+    /**
+     * Counts the completions of all habits of a frequency in the periods from one date to another, both included.
+     *
+     * @precondition frequency != null && from != null && to != null && !from.isAfter(to)
+     * @postcondition None
+     *
+     * @param frequency The frequency of the habits.
+     * @param from The first date.
+     * @param to The last date.
+     * @return The number of completions.
+     */
+    public long getCompletionCount(Frequency frequency, LocalDate from, LocalDate to) {
+        int first = this.firstPeriod(frequency, from, to);
+        int end = CompletionHistory.periodOf(frequency, to) + 1;
+        return this.completionsByPeriod[frequency.ordinal()].sum(first, end);
+    }
+
+    /**
+     * Gets the share of the periods from one date to another, both included, that the habits of a
+     * frequency were completed in, over all habits of that frequency.
+     *
+     * @precondition frequency != null && from != null && to != null && !from.isAfter(to)
+     * @postcondition 0 <= return <= 1
+     *
+     * @param frequency The frequency of the habits.
+     * @param from The first date.
+     * @param to The last date.
+     * @return The completion rate, or 0 if there are no habits of the frequency.
+     */
+    public double getCompletionRate(Frequency frequency, LocalDate from, LocalDate to) {
+        long completions = this.getCompletionCount(frequency, from, to);
+        int habits = this.habitCounts[frequency.ordinal()];
+        if (habits == 0) {
+            return 0;
+        }
+        long periods = CompletionHistory.periodOf(frequency, to) - CompletionHistory.periodOf(frequency, from) + 1;
+        return (double) completions / (periods * habits);
+    }
+
+    /**
+     * Gets the number of habits of a frequency statistics are kept for.
+     *
+     * @precondition frequency != null
+     * @postcondition None
+     *
+     * @param frequency The frequency of the habits.
+     * @return The number of habits.
+     */
+    public int getHabitCount(Frequency frequency) {
+        this.checkObject(frequency);
+        return this.habitCounts[frequency.ordinal()];
+    }
+
+    private Streaks streaksOf(Habit habit) {
+        this.checkObject(habit);
+        Streaks habitStreaks = this.streaks.get(habit);
+        if (habitStreaks == null) {
+            habitStreaks = new Streaks();
+            habitStreaks.recount(habit.getHistory());
+            this.count(habit.getHistory(), 1);
+            this.streaks.put(habit, habitStreaks);
+        }
+        return habitStreaks;
+    }
+
+    private void count(CompletionHistory history, int delta) {
+        this.habitCounts[history.getFrequency().ordinal()] += delta;
+        FenwickTree completions = this.completionsOf(history);
+        for (int period = history.nextCompleted(0); period != CompletionHistory.NO_PERIOD; period = history.nextCompleted(period + 1)) {
+            completions.add(period, delta);
+        }
+    }
+
+    private FenwickTree completionsOf(CompletionHistory history) {
+        return this.completionsByPeriod[history.getFrequency().ordinal()];
+    }
+
+    private int firstPeriod(Frequency frequency, LocalDate from, LocalDate to) {
+        this.checkObject(from);
+        this.checkObject(to);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(INVALID_RANGE_ERROR);
+        }
+        return CompletionHistory.periodOf(frequency, from);
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+
+    /**
+     * The streaks of one habit: the length of the run of completed periods ending at the last completed
+     * period, and the longest run.
+     */
+    private static final class Streaks {
+        private int current;
+        private int longest;
+        private int last = CompletionHistory.NO_PERIOD;
+
+        private void recount(CompletionHistory history) {
+            this.current = 0;
+            this.longest = 0;
+            this.last = CompletionHistory.NO_PERIOD;
+            for (int period = history.nextCompleted(0); period != CompletionHistory.NO_PERIOD; period = history.nextCompleted(period + 1)) {
+                this.current = period == this.last + 1 ? this.current + 1 : 1;
+                this.last = period;
+                this.longest = Math.max(this.longest, this.current);
+            }
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package habit_mode.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+
+/**
+ * Stores habits column by column for scans over very large numbers of habits.
+ * Each habit is a row: ids are kept in an int array, frequencies as byte ordinals, completion as a
+ * bitset and texts as indices into an interned text area, so scanning a column touches one
+ * contiguous array instead of one object per habit.
+ * Texts are interned through an open-addressing table of text indices, compared against the text area
+ * itself, so each distinct text is held once, as chars in the text area, rather than again as a String key.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HabitStore {
+    private static final String INVALID_ROW_ERROR = "row must be between 0 and size - 1";
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte NO_FREQUENCY = -1;
+    private static final int WORD_BITS = 64;
+    private static final int WORD_SHIFT = 6;
+
+    private int size;
+    private int[] ids;
+    private byte[] frequencies;
+    private long[] completion;
+    private int[] textIndices;
+    private char[] textArea;
+    private int textAreaLength;
+    private int[] textStarts;
+    private int textCount;
+    private int[] textHashes;
+    private int[] textSlots;
+
+    /**
+     * Creates a new, empty store.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public HabitStore() {
+        this.ids = new int[INITIAL_CAPACITY];
+        this.frequencies = new byte[INITIAL_CAPACITY];
+        this.completion = new long[1];
+        this.textIndices = new int[INITIAL_CAPACITY];
+        this.textArea = new char[INITIAL_CAPACITY * INITIAL_CAPACITY];
+        this.textStarts = new int[INITIAL_CAPACITY + 1];
+        this.textHashes = new int[INITIAL_CAPACITY + 1];
+        this.textSlots = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Creates a store holding the habits of a collection, in iteration order.
+     *
+     * @precondition habits != null
+     * @postcondition return.size() == habits.size()
+     *
+     * @param habits The habits to store.
+     * @return The new store.
+     */
+    public static HabitStore of(Collection<? extends Habit> habits) {
+        if (habits == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        HabitStore store = new HabitStore();
+        for (Habit habit : habits) {
+            store.add(habit);
+        }
+        return store;
+    }
+
+    /**
+     * Adds a row holding the state of a habit.
+     *
+     * @precondition habit != null
+     * @postcondition this.size() == this.size()@prev + 1
+     *
+     * @param habit The habit to store.
+     * @return The row of the habit.
+     */
+    public int add(Habit habit) {
+        if (habit == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        return this.add(habit.getId(), habit.getText(), habit.getFrequency(), habit.isComplete());
+    }
+
+    /**
+     * Adds a row.
+     *
+     * @precondition text != null
+     * @postcondition this.size() == this.size()@prev + 1
+     *
+     * @param id The id of the habit.
+     * @param text The text of the habit.
+     * @param frequency The frequency of the habit, or null if it has none.
+     * @param complete The completion status of the habit.
+     * @return The row of the habit.
+     */
+    public int add(int id, String text, Frequency frequency, boolean complete) {
+        if (text == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.ensureRowCapacity(this.size + 1);
+        int row = this.size;
+        this.ids[row] = id;
+        this.frequencies[row] = frequency == null ? NO_FREQUENCY : (byte) frequency.ordinal();
+        this.textIndices[row] = this.intern(text);
+        this.size++;
+        this.setComplete(row, complete);
+        return row;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of rows.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of distinct texts in the text area.
+     *
+     * @precondition None
+     * @postcondition return <= this.size()
+     *
+     * @return The number of distinct texts.
+     */
+    public int getDistinctTextCount() {
+        return this.textCount;
+    }
+
+    /**
+     * Gets the id of a row.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition None
+     *
+     * @param row The row.
+     * @return The id.
+     */
+    public int getId(int row) {
+        this.checkRow(row);
+        return this.ids[row];
+    }
+
+    /**
+     * Gets the text of a row.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition None
+     *
+     * @param row The row.
+     * @return The text.
+     */
+    public String getText(int row) {
+        this.checkRow(row);
+        int text = this.textIndices[row];
+        int start = this.textStarts[text];
+        return new String(this.textArea, start, this.textStarts[text + 1] - start);
+    }
+
+    /**
+     * Gets the frequency of a row.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition None
+     *
+     * @param row The row.
+     * @return The frequency, or null if the row has none.
+     */
+    public Frequency getFrequency(int row) {
+        this.checkRow(row);
+        byte ordinal = this.frequencies[row];
+        return ordinal == NO_FREQUENCY ? null : Frequency.values()[ordinal];
+    }
+
+    /**
+     * Checks whether a row is complete.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition None
+     *
+     * @param row The row.
+     * @return [true] iff the row is complete, otherwise [false].
+     */
+    public boolean isComplete(int row) {
+        this.checkRow(row);
+        return (this.completion[row >>> WORD_SHIFT] & (1L << row)) != 0;
+    }
+
+    /**
+     * Sets the completion status of a row.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition this.isComplete(row) == complete
+     *
+     * @param row The row.
+     * @param complete The completion status.
+     */
+    public void setComplete(int row, boolean complete) {
+        this.checkRow(row);
+        if (complete) {
+            this.completion[row >>> WORD_SHIFT] |= 1L << row;
+        } else {
+            this.completion[row >>> WORD_SHIFT] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * Counts the rows of each frequency in one pass over the frequency column.
+     *
+     * @precondition None
+     * @postcondition return.length == Frequency.values().length
+     *
+     * @return The number of rows of each frequency, indexed by ordinal.
+     */
+    public int[] countByFrequency() {
+        int[] counts = new int[Frequency.values().length];
+        for (int row = 0; row < this.size; row++) {
+            byte ordinal = this.frequencies[row];
+            if (ordinal != NO_FREQUENCY) {
+                counts[ordinal]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the complete rows.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of complete rows.
+     */
+    public int countCompleted() {
+        int count = 0;
+        int words = (this.size + WORD_BITS - 1) >>> WORD_SHIFT;
+        for (int word = 0; word < words; word++) {
+            count += Long.bitCount(this.completion[word]);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the share of rows that are complete.
+     *
+     * @precondition None
+     * @postcondition 0 <= return <= 1
+     *
+     * @return The completed ratio, or 0 if the store is empty.
+     */
+    public double getCompletedRatio() {
+        if (this.size == 0) {
+            return 0;
+        }
+        return (double) this.countCompleted() / this.size;
+    }
+
+    /**
+     * Finds the rows with a frequency and completion status.
+     *
+     * @precondition frequency != null
+     * @postcondition None
+     *
+     * @param frequency The frequency of the rows.
+     * @param complete The completion status of the rows.
+     * @return The matching rows in ascending order.
+     */
+    public int[] filter(Frequency frequency, boolean complete) {
+        if (frequency == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        byte ordinal = (byte) frequency.ordinal();
+        return this.filter(row -> this.frequencies[row] == ordinal
+            && ((this.completion[row >>> WORD_SHIFT] & (1L << row)) != 0) == complete);
+    }
+
+    /**
+     * Finds the rows accepted by a predicate.
+     *
+     * @precondition predicate != null
+     * @postcondition None
+     *
+     * @param predicate Tests a row index.
+     * @return The matching rows in ascending order.
+     */
+    public int[] filter(IntPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        int[] rows = new int[INITIAL_CAPACITY];
+        int count = 0;
+        for (int row = 0; row < this.size; row++) {
+            if (!predicate.test(row)) {
+                continue;
+            }
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+            }
+            rows[count++] = row;
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Creates a habit for a row.
+     *
+     * @precondition 0 <= row < this.size()
+     * @postcondition return.getId() == this.getId(row)
+     *
+     * @param row The row.
+     * @return A new habit holding the state of the row.
+     */
+    public Habit toHabit(int row) {
+        Habit habit = new Habit(this.getText(row), this.getFrequency(row));
+        habit.setId(this.ids[row]);
+        habit.setComplete(this.isComplete(row));
+        return habit;
+    }
+
+    /**
+     * Creates a habit manager holding a habit for every row, in row order.
+     *
+     * @precondition None
+     * @postcondition return.size() == this.size()
+     *
+     * @return The new habit manager.
+     */
+    public HabitManager toHabitManager() {
+        HabitManager manager = new HabitManager();
+        for (int row = 0; row < this.size; row++) {
+            manager.add(this.toHabit(row));
+        }
+        return manager;
+    }
+
+    private int intern(String text) {
+        int hash = text.hashCode();
+        int mask = this.textSlots.length - 1;
+        int slot = spread(hash) & mask;
+        while (this.textSlots[slot] != 0) {
+            int existing = this.textSlots[slot] - 1;
+            if (this.textHashes[existing] == hash && this.textEquals(existing, text)) {
+                return existing;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int index = this.appendText(text, hash);
+        this.textSlots[slot] = index + 1;
+        if (this.textCount * 2 > this.textSlots.length) {
+            this.growTextSlots();
+        }
+        return index;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean textEquals(int index, String text) {
+        int start = this.textStarts[index];
+        if (this.textStarts[index + 1] - start != text.length()) {
+            return false;
+        }
+        for (int offset = 0; offset < text.length(); offset++) {
+            if (this.textArea[start + offset] != text.charAt(offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void growTextSlots() {
+        int[] slots = new int[this.textSlots.length * 2];
+        int mask = slots.length - 1;
+        for (int index = 0; index < this.textCount; index++) {
+            int slot = spread(this.textHashes[index]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+        this.textSlots = slots;
+    }
+
+    private int appendText(String text, int hash) {
+        int index = this.textCount;
+        if (this.textStarts.length < index + 2) {
+            this.textStarts = Arrays.copyOf(this.textStarts, this.textStarts.length * 2);
+            this.textHashes = Arrays.copyOf(this.textHashes, this.textStarts.length);
+        }
+        if (this.textArea.length < this.textAreaLength + text.length()) {
+            this.textArea = Arrays.copyOf(this.textArea, Math.max(this.textArea.length * 2, this.textAreaLength + text.length()));
+        }
+        text.getChars(0, text.length(), this.textArea, this.textAreaLength);
+        this.textAreaLength += text.length();
+        this.textStarts[index + 1] = this.textAreaLength;
+        this.textHashes[index] = hash;
+        this.textCount++;
+        return index;
+    }
+
+    private void ensureRowCapacity(int capacity) {
+        if (capacity > this.ids.length) {
+            int newCapacity = Math.max(capacity, this.ids.length * 2);
+            this.ids = Arrays.copyOf(this.ids, newCapacity);
+            this.frequencies = Arrays.copyOf(this.frequencies, newCapacity);
+            this.textIndices = Arrays.copyOf(this.textIndices, newCapacity);
+        }
+        int words = (capacity + WORD_BITS - 1) >>> WORD_SHIFT;
+        if (words > this.completion.length) {
+            this.completion = Arrays.copyOf(this.completion, Math.max(words, this.completion.length * 2));
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IllegalArgumentException(INVALID_ROW_ERROR);
+        }
+    }
+}
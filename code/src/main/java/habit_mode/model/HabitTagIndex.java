@@ -0,0 +1,269 @@
+package habit_mode.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Finds habits by combinations of tags, ignoring case like the tags of a Habit. Every habit in the index
+ * gets a slot number, reused after the habit is removed, and every tag maps to a bitset of the slots of
+ * the habits with that tag. A filter that needs all of some tags, any of others and none of a third group
+ * is worked out with and, or and and-not over the bitsets, 64 habits per operation, without looking at
+ * the habits themselves.
+ * Habit ids are not used as slots because habits only get an id once the server stores them.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HabitTagIndex {
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+
+    private Map<Habit, Integer> slots;
+    private List<Habit> habitsBySlot;
+    private Deque<Integer> freeSlots;
+    private BitSet usedSlots;
+    private Map<Habit, Set<String>> indexedTags;
+    private Map<String, BitSet> slotsByTag;
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public HabitTagIndex() {
+        this.slots = new IdentityHashMap<Habit, Integer>();
+        this.habitsBySlot = new ArrayList<Habit>();
+        this.freeSlots = new ArrayDeque<Integer>();
+        this.usedSlots = new BitSet();
+        this.indexedTags = new IdentityHashMap<Habit, Set<String>>();
+        this.slotsByTag = new HashMap<String, BitSet>();
+    }
+
+    /**
+     * Adds a habit to the index under its current tags.
+     *
+     * @precondition habit != null
+     * @postcondition this.contains(habit)
+     *
+     * @param habit The habit to add.
+     * @return [true] iff the habit was not in the index yet, otherwise [false].
+     */
+    public boolean add(Habit habit) {
+        this.checkObject(habit);
+        if (this.slots.containsKey(habit)) {
+            return false;
+        }
+        int slot;
+        if (this.freeSlots.isEmpty()) {
+            slot = this.habitsBySlot.size();
+            this.habitsBySlot.add(habit);
+        } else {
+            slot = this.freeSlots.pop();
+            this.habitsBySlot.set(slot, habit);
+        }
+        this.slots.put(habit, slot);
+        this.usedSlots.set(slot);
+        this.index(habit, slot);
+        return true;
+    }
+
+    /**
+     * Removes a habit from the index.
+     *
+     * @precondition None
+     * @postcondition !this.contains(habit)
+     *
+     * @param habit The habit to remove.
+     * @return [true] iff the habit was in the index, otherwise [false].
+     */
+    public boolean remove(Habit habit) {
+        Integer slot = this.slots.remove(habit);
+        if (slot == null) {
+            return false;
+        }
+        this.unindex(habit, slot);
+        this.usedSlots.clear(slot);
+        this.habitsBySlot.set(slot, null);
+        this.freeSlots.push(slot);
+        return true;
+    }
+
+    /**
+     * Indexes a habit again under its current tags, after its tags changed.
+     *
+     * @precondition habit != null
+     * @postcondition the habit is found by its current tags if it is in the index
+     *
+     * @param habit The habit whose tags changed.
+     * @return [true] iff the habit is in the index and its tags changed, otherwise [false].
+     */
+    public boolean update(Habit habit) {
+        this.checkObject(habit);
+        Integer slot = this.slots.get(habit);
+        if (slot == null || this.indexedTags.getOrDefault(habit, Collections.emptySet()).equals(habit.getTags())) {
+            return false;
+        }
+        this.unindex(habit, slot);
+        this.index(habit, slot);
+        return true;
+    }
+
+    /**
+     * Finds the habits that have all of some tags, at least one of other tags and none of a third group.
+     *
+     * @precondition allOf != null && anyOf != null && noneOf != null
+     * @postcondition None
+     *
+     * @param allOf The tags every matching habit has.
+     * @param anyOf Tags of which every matching habit has at least one, or no tags to leave this out.
+     * @param noneOf The tags no matching habit has.
+     * @return The matching habits.
+     */
+    public Set<Habit> filter(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+        BitSet matches = this.select(allOf, anyOf, noneOf);
+        Set<Habit> habits = Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            habits.add(this.habitsBySlot.get(slot));
+        }
+        return habits;
+    }
+
+    /**
+     * Gets a test for whether a habit matches a filter, for filtering a list of habits in its own order.
+     * The filter is worked out once; testing a habit afterwards is a lookup of its slot.
+     *
+     * @precondition allOf != null && anyOf != null && noneOf != null
+     * @postcondition None
+     *
+     * @param allOf The tags every matching habit has.
+     * @param anyOf Tags of which every matching habit has at least one, or no tags to leave this out.
+     * @param noneOf The tags no matching habit has.
+     * @return A test that is true for the habits in the index that matched when it was created.
+     */
+    public Predicate<Habit> matcher(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+        BitSet matches = this.select(allOf, anyOf, noneOf);
+        Map<Habit, Integer> habitSlots = this.slots;
+        return habit -> {
+            Integer slot = habitSlots.get(habit);
+            return slot != null && matches.get(slot);
+        };
+    }
+
+    /**
+     * Counts the habits that match a filter without listing them.
+     *
+     * @precondition allOf != null && anyOf != null && noneOf != null
+     * @postcondition return == this.filter(allOf, anyOf, noneOf).size()
+     *
+     * @param allOf The tags every matching habit has.
+     * @param anyOf Tags of which every matching habit has at least one, or no tags to leave this out.
+     * @param noneOf The tags no matching habit has.
+     * @return The number of matching habits.
+     */
+    public int count(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+        return this.select(allOf, anyOf, noneOf).cardinality();
+    }
+
+    /**
+     * Gets the number of habits with a tag.
+     *
+     * @precondition tag != null
+     * @postcondition None
+     *
+     * @param tag The tag.
+     * @return The number of habits with the tag.
+     */
+    public int getTagCount(String tag) {
+        return this.slotsOf(tag).cardinality();
+    }
+
+    /**
+     * Checks whether a habit is in the index.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @return [true] iff the habit is in the index, otherwise [false].
+     */
+    public boolean contains(Habit habit) {
+        return this.slots.containsKey(habit);
+    }
+
+    /**
+     * Gets the number of habits in the index.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of habits.
+     */
+    public int size() {
+        return this.slots.size();
+    }
+
+    private BitSet select(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+        this.checkObject(allOf);
+        this.checkObject(anyOf);
+        this.checkObject(noneOf);
+        BitSet matches = (BitSet) this.usedSlots.clone();
+        for (String tag : allOf) {
+            matches.and(this.slotsOf(tag));
+        }
+        if (!anyOf.isEmpty()) {
+            BitSet anyMatches = new BitSet();
+            for (String tag : anyOf) {
+                anyMatches.or(this.slotsOf(tag));
+            }
+            matches.and(anyMatches);
+        }
+        for (String tag : noneOf) {
+            matches.andNot(this.slotsOf(tag));
+        }
+        return matches;
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private BitSet slotsOf(String tag) {
+        this.checkObject(tag);
+        return this.slotsByTag.getOrDefault(normalize(tag), new BitSet());
+    }
+
+    private void index(Habit habit, int slot) {
+        Set<String> tags = Set.copyOf(habit.getTags());
+        this.indexedTags.put(habit, tags);
+        for (String tag : tags) {
+            this.slotsByTag.computeIfAbsent(tag, key -> new BitSet()).set(slot);
+        }
+    }
+
+    private void unindex(Habit habit, int slot) {
+        for (String tag : this.indexedTags.remove(habit)) {
+            BitSet tagSlots = this.slotsByTag.get(tag);
+            tagSlots.clear(slot);
+            if (tagSlots.isEmpty()) {
+                this.slotsByTag.remove(tag);
+            }
+        }
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+}
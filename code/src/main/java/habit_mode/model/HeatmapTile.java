@@ -0,0 +1,82 @@
+package habit_mode.model;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/**
+ * The number of habits completed on each day of one month. A tile never changes once made; a
+ * CompletionHeatmap replaces the tile of a month when completions in that month change.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class HeatmapTile {
+    private static final String NULL_MONTH_ERROR = "month cannot be null";
+    private static final String INVALID_COUNTS_ERROR = "there must be one count for every day of the month";
+    private static final String INVALID_DAY_ERROR = "day must be a day of the month";
+
+    private final YearMonth month;
+    private final int[] counts;
+    private final int maxCount;
+
+    /**
+     * Creates a new tile.
+     *
+     * @precondition month != null && counts != null && counts.length == month.lengthOfMonth()
+     * @postcondition this.getMonth() == month && this.getCount(day) == counts[day - 1]
+     *
+     * @param month The month of the tile.
+     * @param counts The number of habits completed on each day, the first day at index 0.
+     */
+    public HeatmapTile(YearMonth month, int[] counts) {
+        if (month == null) {
+            throw new IllegalArgumentException(NULL_MONTH_ERROR);
+        }
+        if (counts == null || counts.length != month.lengthOfMonth()) {
+            throw new IllegalArgumentException(INVALID_COUNTS_ERROR);
+        }
+        this.month = month;
+        this.counts = counts.clone();
+        this.maxCount = Arrays.stream(counts).max().orElse(0);
+    }
+
+    /**
+     * Gets the month of the tile.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The month.
+     */
+    public YearMonth getMonth() {
+        return this.month;
+    }
+
+    /**
+     * Gets the number of habits completed on a day.
+     *
+     * @precondition 1 <= dayOfMonth <= this.getMonth().lengthOfMonth()
+     * @postcondition None
+     *
+     * @param dayOfMonth The day of the month.
+     * @return The number of completions on the day.
+     */
+    public int getCount(int dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > this.counts.length) {
+            throw new IllegalArgumentException(INVALID_DAY_ERROR);
+        }
+        return this.counts[dayOfMonth - 1];
+    }
+
+    /**
+     * Gets the highest number of completions on any day of the month, for scaling colors.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The highest daily count.
+     */
+    public int getMaxCount() {
+        return this.maxCount;
+    }
+}
@@ -0,0 +1,220 @@
+package habit_mode.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds timers that expire at a point in time, grouped into slots instead of sorted.
+ * The wheel has LEVEL_COUNT levels of SLOT_COUNT slots. A level 0 slot covers one tick, and each
+ * slot of the next level covers a whole turn of the level below. A timer is placed in the lowest
+ * level that reaches its deadline. When the wheel turns into a slot of a higher level, the timers
+ * in that slot move down a level. Scheduling a timer is constant time. Advancing skips over empty
+ * levels, so the time between two expirations costs a few steps however many timers are pending.
+ *
+ * @param <T> The type of the values held by the timers.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HierarchicalTimingWheel<T> {
+    public static final int LEVEL_COUNT = 4;
+    public static final int SLOT_COUNT = 64;
+    public static final long HORIZON_TICKS = 1L << (Long.numberOfTrailingZeros(SLOT_COUNT) * LEVEL_COUNT);
+
+    private static final int SLOT_BITS = Long.numberOfTrailingZeros(SLOT_COUNT);
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final String INVALID_TICK_ERROR = "tickMillis must be greater than 0";
+    private static final String NULL_VALUE_ERROR = "value cannot be null";
+    private static final String BEYOND_HORIZON_ERROR = "deadline is too far in the future for the wheel";
+
+    private long tickMillis;
+    private long currentTick;
+    private Timer[][] slots;
+    private long[] occupiedSlots;
+    private Timer dueTimers;
+    private int size;
+
+    /**
+     * Creates a new, empty timing wheel.
+     *
+     * @precondition tickMillis > 0
+     * @postcondition this.size() == 0 && this.getTickMillis() == tickMillis
+     *
+     * @param tickMillis The length of a tick in milliseconds; timers expire on a tick boundary.
+     * @param startMillis The time the wheel starts at, in milliseconds.
+     */
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException(INVALID_TICK_ERROR);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        this.slots = new Timer[LEVEL_COUNT][SLOT_COUNT];
+        this.occupiedSlots = new long[LEVEL_COUNT];
+    }
+
+    /**
+     * Schedules a value to expire at a deadline. A deadline that is not after the current time of the
+     * wheel expires on the next call to advanceTo.
+     *
+     * @precondition value != null && deadlineMillis is less than HORIZON_TICKS ticks after this.getCurrentMillis()
+     * @postcondition this.size() == this.size()@prev + 1
+     *
+     * @param deadlineMillis The time the value expires at, in milliseconds.
+     * @param value The value to return once the deadline has passed.
+     */
+    public void schedule(long deadlineMillis, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException(NULL_VALUE_ERROR);
+        }
+        long deadlineTick = -Math.floorDiv(-deadlineMillis, this.tickMillis);
+        if (deadlineTick - this.currentTick >= HORIZON_TICKS) {
+            throw new IllegalArgumentException(BEYOND_HORIZON_ERROR);
+        }
+        this.insert(new Timer(deadlineTick, value));
+        this.size++;
+    }
+
+    /**
+     * Moves the wheel forward in time and removes every value whose deadline has passed.
+     *
+     * @precondition None
+     * @postcondition no value with a deadline at or before nowMillis is left in the wheel
+     *
+     * @param nowMillis The current time, in milliseconds. Times before the current time of the wheel only
+     *                  return the values that are already due.
+     * @return The expired values, in no particular order.
+     */
+    public List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<T>();
+        this.drainDue(expired);
+        long targetTick = Math.floorDiv(nowMillis, this.tickMillis);
+        while (this.currentTick < targetTick) {
+            this.currentTick = Math.min(targetTick, this.nextEventTick());
+            this.cascade();
+            this.expireCurrentSlot();
+            this.drainDue(expired);
+        }
+        this.size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * Gets the number of values waiting to expire.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of pending values.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the length of a tick.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The tick length in milliseconds.
+     */
+    public long getTickMillis() {
+        return this.tickMillis;
+    }
+
+    /**
+     * Gets the time the wheel has advanced to, rounded down to a tick.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The current time of the wheel in milliseconds.
+     */
+    public long getCurrentMillis() {
+        return this.currentTick * this.tickMillis;
+    }
+
+    private long nextEventTick() {
+        int level = 0;
+        while (level < LEVEL_COUNT && this.occupiedSlots[level] == 0) {
+            level++;
+        }
+        if (level == LEVEL_COUNT) {
+            return Long.MAX_VALUE;
+        }
+        int shift = SLOT_BITS * level;
+        return ((this.currentTick >>> shift) + 1) << shift;
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.deadlineTick - this.currentTick;
+        if (delta <= 0) {
+            timer.next = this.dueTimers;
+            this.dueTimers = timer;
+            return;
+        }
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (timer.deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+        timer.next = this.slots[level][slot];
+        this.slots[level][slot] = timer;
+        this.occupiedSlots[level] |= 1L << slot;
+    }
+
+    private void cascade() {
+        for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+            int shift = SLOT_BITS * level;
+            if ((this.currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            Timer timer = this.takeSlot(level, (int) (this.currentTick >>> shift) & SLOT_MASK);
+            while (timer != null) {
+                Timer next = timer.next;
+                this.insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void expireCurrentSlot() {
+        Timer timer = this.takeSlot(0, (int) this.currentTick & SLOT_MASK);
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.next = this.dueTimers;
+            this.dueTimers = timer;
+            timer = next;
+        }
+    }
+
+    private Timer takeSlot(int level, int slot) {
+        Timer timers = this.slots[level][slot];
+        this.slots[level][slot] = null;
+        this.occupiedSlots[level] &= ~(1L << slot);
+        return timers;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainDue(List<T> expired) {
+        for (Timer timer = this.dueTimers; timer != null; timer = timer.next) {
+            expired.add((T) timer.value);
+        }
+        this.dueTimers = null;
+    }
+
+    /**
+     * A pending value, linked to the next timer in the same slot.
+     */
+    private static final class Timer {
+        private final long deadlineTick;
+        private final Object value;
+        private Timer next;
+
+        private Timer(long deadlineTick, Object value) {
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+    }
+}
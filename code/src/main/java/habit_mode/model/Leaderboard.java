@@ -0,0 +1,317 @@
+package habit_mode.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Ranks users by a score, highest first, with users of the same score in order of username.
+ * The users are kept in a skip list: every user is on the bottom level, and on each level above with a
+ * chance of 1 in 4, so a search skips most users by starting on the top level and only going down when
+ * the next user would be past the target. Each link also counts the users it skips, so the rank of a user
+ * and the user at a rank are found in the same O(log n) search, and a page of the leaderboard is one
+ * search for its first entry and a walk along the bottom level.
+ * Changing the score of a user moves only that user, so the leaderboard can be updated on every change of
+ * a score instead of being sorted when it is read.
+ * The leaderboard is safe to use from many threads.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class Leaderboard {
+    public static final int MAX_LEVEL = 32;
+
+    private static final int PROMOTION_ODDS = 4;
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String NEGATIVE_ARGUMENT_ERROR = "offset and count must not be negative";
+
+    private Node head;
+    private int level;
+    private Map<String, Node> nodes;
+    private Random random;
+
+    /**
+     * Creates a new, empty leaderboard.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public Leaderboard() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a new, empty leaderboard.
+     *
+     * @precondition random != null
+     * @postcondition this.size() == 0
+     *
+     * @param random The source of the levels of the users in the skip list.
+     */
+    public Leaderboard(Random random) {
+        this.checkObject(random);
+        this.random = random;
+        this.nodes = new HashMap<String, Node>();
+        this.clear();
+    }
+
+    /**
+     * Sets the score of a user, adding the user if they are not on the leaderboard yet.
+     *
+     * @precondition username != null
+     * @postcondition this.getScore(username) == score
+     *
+     * @param username The name of the user.
+     * @param score The new score of the user.
+     * @return The rank of the user after the change.
+     */
+    public synchronized int update(String username, long score) {
+        this.checkObject(username);
+        Node node = this.nodes.get(username);
+        if (node != null && node.score == score) {
+            return this.rankOf(node);
+        }
+        if (node != null) {
+            this.unlink(node);
+        }
+        return this.insert(username, score);
+    }
+
+    /**
+     * Adds to the score of a user, adding the user with a score of 0 first if they are not on the
+     * leaderboard yet.
+     *
+     * @precondition username != null && the new score fits in a long
+     * @postcondition this.getScore(username) == this.getScore(username)@prev + amount
+     *
+     * @param username The name of the user.
+     * @param amount The amount to add, negative to take away.
+     * @return The rank of the user after the change.
+     */
+    public synchronized int add(String username, long amount) {
+        return this.update(username, Math.addExact(this.getScore(username), amount));
+    }
+
+    /**
+     * Removes a user from the leaderboard.
+     *
+     * @precondition None
+     * @postcondition this.getRank(username) == 0
+     *
+     * @param username The name of the user.
+     * @return [true] iff the user was on the leaderboard, otherwise [false].
+     */
+    public synchronized boolean remove(String username) {
+        Node node = this.nodes.get(username);
+        if (node == null) {
+            return false;
+        }
+        this.unlink(node);
+        return true;
+    }
+
+    /**
+     * Gets the score of a user.
+     *
+     * @precondition username != null
+     * @postcondition None
+     *
+     * @param username The name of the user.
+     * @return The score of the user, or 0 if they are not on the leaderboard.
+     */
+    public synchronized long getScore(String username) {
+        this.checkObject(username);
+        Node node = this.nodes.get(username);
+        return node == null ? 0 : node.score;
+    }
+
+    /**
+     * Gets the rank of a user.
+     *
+     * @precondition username != null
+     * @postcondition None
+     *
+     * @param username The name of the user.
+     * @return The rank of the user, 1 for the highest score, or 0 if they are not on the leaderboard.
+     */
+    public synchronized int getRank(String username) {
+        this.checkObject(username);
+        Node node = this.nodes.get(username);
+        return node == null ? 0 : this.rankOf(node);
+    }
+
+    /**
+     * Gets the users with the highest scores.
+     *
+     * @precondition count >= 0
+     * @postcondition return.size() == Math.min(count, this.size())
+     *
+     * @param count The number of users.
+     * @return The entries of the users, highest score first.
+     */
+    public List<LeaderboardEntry> getTop(int count) {
+        return this.getPage(0, count);
+    }
+
+    /**
+     * Gets a page of the leaderboard.
+     *
+     * @precondition offset >= 0 && count >= 0
+     * @postcondition return.size() == Math.max(0, Math.min(count, this.size() - offset))
+     *
+     * @param offset The number of users before the page.
+     * @param count The most users on the page.
+     * @return The entries of the users on the page, highest score first.
+     */
+    public synchronized List<LeaderboardEntry> getPage(int offset, int count) {
+        if (offset < 0 || count < 0) {
+            throw new IllegalArgumentException(NEGATIVE_ARGUMENT_ERROR);
+        }
+        List<LeaderboardEntry> entries = new ArrayList<LeaderboardEntry>();
+        if (count == 0 || offset >= this.nodes.size()) {
+            return entries;
+        }
+        Node node = this.nodeAt(offset + 1);
+        for (int rank = offset + 1; node != null && entries.size() < count; rank++) {
+            entries.add(new LeaderboardEntry(rank, node.username, node.score));
+            node = node.next[0];
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the number of users on the leaderboard.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of users.
+     */
+    public synchronized int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Removes every user, such as when a local test server is reset.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0
+     */
+    public synchronized void clear() {
+        this.head = new Node(null, 0, MAX_LEVEL);
+        this.level = 1;
+        this.nodes.clear();
+    }
+
+    private static boolean precedes(Node node, long score, String username) {
+        return node.score > score || node.score == score && node.username.compareTo(username) < 0;
+    }
+
+    private int insert(String username, long score) {
+        Node[] previous = new Node[MAX_LEVEL];
+        int[] ranks = new int[MAX_LEVEL];
+        this.findPrevious(score, username, previous, ranks);
+        int nodeLevel = this.randomLevel();
+        for (int index = this.level; index < nodeLevel; index++) {
+            ranks[index] = 0;
+            previous[index] = this.head;
+            this.head.span[index] = this.nodes.size();
+        }
+        this.level = Math.max(this.level, nodeLevel);
+        Node node = new Node(username, score, nodeLevel);
+        for (int index = 0; index < nodeLevel; index++) {
+            node.next[index] = previous[index].next[index];
+            previous[index].next[index] = node;
+            node.span[index] = previous[index].span[index] - (ranks[0] - ranks[index]);
+            previous[index].span[index] = ranks[0] - ranks[index] + 1;
+        }
+        for (int index = nodeLevel; index < this.level; index++) {
+            previous[index].span[index]++;
+        }
+        this.nodes.put(username, node);
+        return ranks[0] + 1;
+    }
+
+    private void unlink(Node node) {
+        Node[] previous = new Node[MAX_LEVEL];
+        this.findPrevious(node.score, node.username, previous, new int[MAX_LEVEL]);
+        for (int index = 0; index < this.level; index++) {
+            if (previous[index].next[index] == node) {
+                previous[index].span[index] += node.span[index] - 1;
+                previous[index].next[index] = node.next[index];
+            } else {
+                previous[index].span[index]--;
+            }
+        }
+        while (this.level > 1 && this.head.next[this.level - 1] == null) {
+            this.level--;
+        }
+        this.nodes.remove(node.username);
+    }
+
+    private void findPrevious(long score, String username, Node[] previous, int[] ranks) {
+        Node node = this.head;
+        for (int index = this.level - 1; index >= 0; index--) {
+            ranks[index] = index == this.level - 1 ? 0 : ranks[index + 1];
+            while (node.next[index] != null && precedes(node.next[index], score, username)) {
+                ranks[index] += node.span[index];
+                node = node.next[index];
+            }
+            previous[index] = node;
+        }
+    }
+
+    private int rankOf(Node target) {
+        Node node = this.head;
+        int rank = 0;
+        for (int index = this.level - 1; index >= 0; index--) {
+            while (node.next[index] != null && (node.next[index] == target || precedes(node.next[index], target.score, target.username))) {
+                rank += node.span[index];
+                node = node.next[index];
+            }
+        }
+        return rank;
+    }
+
+    private Node nodeAt(int rank) {
+        Node node = this.head;
+        int traversed = 0;
+        for (int index = this.level - 1; index >= 0; index--) {
+            while (node.next[index] != null && traversed + node.span[index] <= rank) {
+                traversed += node.span[index];
+                node = node.next[index];
+            }
+        }
+        return node;
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && this.random.nextInt(PROMOTION_ODDS) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+
+    private static final class Node {
+        private final String username;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(String username, long score, int level) {
+            this.username = username;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package habit_mode.model;
+
+import java.util.Objects;
+
+/**
+ * The place of a user on a leaderboard. An entry never changes once made.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class LeaderboardEntry {
+    private static final String NULL_USERNAME_ERROR = "username cannot be null";
+    private static final String INVALID_RANK_ERROR = "rank must be greater than 0";
+
+    private final int rank;
+    private final String username;
+    private final long score;
+
+    /**
+     * Creates a new entry.
+     *
+     * @precondition rank > 0 && username != null
+     * @postcondition this.getRank() == rank && this.getUsername() == username && this.getScore() == score
+     *
+     * @param rank The place of the user, 1 for the highest score.
+     * @param username The name of the user.
+     * @param score The coins or streak of the user.
+     */
+    public LeaderboardEntry(int rank, String username, long score) {
+        if (rank <= 0) {
+            throw new IllegalArgumentException(INVALID_RANK_ERROR);
+        }
+        if (username == null) {
+            throw new IllegalArgumentException(NULL_USERNAME_ERROR);
+        }
+        this.rank = rank;
+        this.username = username;
+        this.score = score;
+    }
+
+    /**
+     * Gets the place of the user.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The rank, 1 for the highest score.
+     */
+    public int getRank() {
+        return this.rank;
+    }
+
+    /**
+     * Gets the name of the user.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The username.
+     */
+    public String getUsername() {
+        return this.username;
+    }
+
+    /**
+     * Gets the score of the user.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The coins or streak of the user.
+     */
+    public long getScore() {
+        return this.score;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof LeaderboardEntry)) {
+            return false;
+        }
+        LeaderboardEntry other = (LeaderboardEntry) object;
+        return this.rank == other.rank && this.username.equals(other.username) && this.score == other.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.rank, this.username, this.score);
+    }
+
+    @Override
+    public String toString() {
+        return this.rank + ". " + this.username + " (" + this.score + ")";
+    }
+}
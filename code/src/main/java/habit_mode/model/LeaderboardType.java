@@ -0,0 +1,13 @@
+package habit_mode.model;
+
+/**
+ * What users are ranked by on a leaderboard: their coins, or the longest streak any of their habits has
+ * reached, which stays on the leaderboard after the streak ends.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum LeaderboardType {
+    COINS,
+    LONGEST_STREAKS
+}
@@ -0,0 +1,50 @@
+package habit_mode.model;
+
+import java.time.Instant;
+import java.util.logging.Logger;
+
+/**
+ * Writes reminders to a log instead of showing them, for running without a screen.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class LogNotifier implements Notifier {
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String REMINDER_FORMAT = "Reminder: \"%s\" is not complete yet and resets at %s";
+
+    private Logger logger;
+
+    /**
+     * Creates a new notifier writing to the logger of this class.
+     *
+     * @precondition None
+     * @postcondition reminders are logged to Logger.getLogger(LogNotifier.class.getName())
+     */
+    public LogNotifier() {
+        this(Logger.getLogger(LogNotifier.class.getName()));
+    }
+
+    /**
+     * Creates a new notifier writing to a logger.
+     *
+     * @precondition logger != null
+     * @postcondition reminders are logged to logger
+     *
+     * @param logger The logger to write the reminders to.
+     */
+    public LogNotifier(Logger logger) {
+        if (logger == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.logger = logger;
+    }
+
+    @Override
+    public void remind(Habit habit, Instant deadline) {
+        if (habit == null || deadline == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.logger.info(String.format(REMINDER_FORMAT, habit.getText(), deadline));
+    }
+}
@@ -0,0 +1,336 @@
+package habit_mode.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads habits from a memory-mapped file so the last-known habits can be opened without parsing them.
+ * The file holds a 16 byte header, one fixed-width 32 byte record per habit and a heap the records point
+ * into, holding the UTF-8 text, recurrence rule and length-prefixed tags of each habit. Opening only maps the file; a record is paged in when it is first read.
+ * The file is written to a temporary file next to it and moved into place, so a reader sees either the
+ * old file or the new one, never a partly written one.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class MappedHabitStore implements AutoCloseable {
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 32;
+
+    private static final int MAGIC = 0x48424954;
+    private static final int VERSION = 2;
+    private static final byte NO_FREQUENCY = -1;
+    private static final int ID_OFFSET = 0;
+    private static final int FREQUENCY_OFFSET = 4;
+    private static final int COMPLETE_OFFSET = 5;
+    private static final int TEXT_OFFSET = 8;
+    private static final int RECURRENCE_OFFSET = 16;
+    private static final int TAGS_OFFSET = 24;
+    private static final int LENGTH_SIZE = 4;
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String INVALID_INDEX_ERROR = "index must be between 0 and size - 1";
+    private static final String INVALID_FILE_ERROR = "the file is not a habit store";
+    private static final String CORRUPT_RECORD_ERROR = "the record points outside the habit store";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int size;
+    private int heapOffset;
+
+    private MappedHabitStore(FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException(INVALID_FILE_ERROR);
+        }
+        this.size = buffer.getInt(8);
+        this.heapOffset = buffer.getInt(12);
+        if (this.size < 0 || this.heapOffset != HEADER_SIZE + (long) this.size * RECORD_SIZE || this.heapOffset > buffer.capacity()) {
+            throw new IOException(INVALID_FILE_ERROR);
+        }
+    }
+
+    /**
+     * Writes habits to a file in the format read by open, replacing the file if it exists.
+     * The habits are written to a temporary file in the same directory, which is then atomically moved
+     * over the file.
+     *
+     * @precondition file != null && habits != null
+     * @postcondition MappedHabitStore.open(file).size() == habits.size()
+     *
+     * @param file The file to write.
+     * @param habits The habits to store.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path file, Collection<? extends Habit> habits) throws IOException {
+        if (file == null || habits == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        List<byte[][]> fields = new ArrayList<byte[][]>(habits.size());
+        int heapSize = 0;
+        for (Habit habit : habits) {
+            byte[][] encoded = encode(habit);
+            fields.add(encoded);
+            for (byte[] field : encoded) {
+                heapSize += field.length;
+            }
+        }
+
+        int heapOffset = HEADER_SIZE + habits.size() * RECORD_SIZE;
+        ByteBuffer records = ByteBuffer.allocate(heapOffset);
+        records.putInt(MAGIC).putInt(VERSION).putInt(habits.size()).putInt(heapOffset);
+        ByteBuffer heap = ByteBuffer.allocate(heapSize);
+        int index = 0;
+        for (Habit habit : habits) {
+            Frequency frequency = habit.getFrequency();
+            records.putInt(habit.getId());
+            records.put(frequency == null ? NO_FREQUENCY : (byte) frequency.ordinal());
+            records.put((byte) (habit.isComplete() ? 1 : 0));
+            records.putShort((short) 0);
+            for (byte[] field : fields.get(index++)) {
+                records.putInt(heapOffset + heap.position()).putInt(field.length);
+                heap.put(field);
+            }
+        }
+
+        replace(file, records.flip(), heap.flip());
+    }
+
+    private static byte[][] encode(Habit habit) {
+        Recurrence recurrence = habit.getRecurrence();
+        String rule = recurrence == null ? "" : recurrence.toRule();
+        List<byte[]> tags = new ArrayList<byte[]>();
+        int tagsSize = 0;
+        for (String tag : habit.getTags()) {
+            byte[] bytes = tag.getBytes(StandardCharsets.UTF_8);
+            tags.add(bytes);
+            tagsSize += LENGTH_SIZE + bytes.length;
+        }
+        ByteBuffer encodedTags = ByteBuffer.allocate(tagsSize);
+        for (byte[] tag : tags) {
+            encodedTags.putInt(tag.length).put(tag);
+        }
+        return new byte[][] {
+            habit.getText().getBytes(StandardCharsets.UTF_8), rule.getBytes(StandardCharsets.UTF_8), encodedTags.array()
+        };
+    }
+
+    private static void replace(Path file, ByteBuffer records, ByteBuffer heap) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+        ByteBuffer[] buffers = {records, heap};
+        try {
+            try (FileChannel output = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (records.hasRemaining() || heap.hasRemaining()) {
+                    output.write(buffers);
+                }
+                output.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a file written by write. Only the header is read; records are paged in on demand.
+     *
+     * @precondition file != null
+     * @postcondition None
+     *
+     * @param file The file to map.
+     * @return The mapped store.
+     * @throws IOException If the file cannot be read or is not a habit store.
+     */
+    public static MappedHabitStore open(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedHabitStore(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException error) {
+            channel.close();
+            throw error;
+        }
+    }
+
+    /**
+     * Gets the number of stored habits.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of habits.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the id of a stored habit.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return The id.
+     */
+    public int getId(int index) {
+        return this.buffer.getInt(this.recordOffset(index) + ID_OFFSET);
+    }
+
+    /**
+     * Gets the text of a stored habit.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return The text.
+     * @throws IllegalArgumentException If the record points outside the text heap.
+     */
+    public String getText(int index) {
+        return new String(this.readField(index, TEXT_OFFSET), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the recurrence rule of a stored habit.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return The recurrence, or null if the habit has none.
+     * @throws IllegalArgumentException If the record points outside the heap or holds no valid rule.
+     */
+    public Recurrence getRecurrence(int index) {
+        byte[] rule = this.readField(index, RECURRENCE_OFFSET);
+        if (rule.length == 0) {
+            return null;
+        }
+        return Recurrence.parse(new String(rule, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the tags of a stored habit.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return The tags, in alphabetical order.
+     * @throws IllegalArgumentException If the record points outside the heap.
+     */
+    public List<String> getTags(int index) {
+        ByteBuffer encodedTags = ByteBuffer.wrap(this.readField(index, TAGS_OFFSET));
+        List<String> tags = new ArrayList<String>();
+        while (encodedTags.hasRemaining()) {
+            int length = encodedTags.remaining() < LENGTH_SIZE ? -1 : encodedTags.getInt();
+            if (length < 0 || length > encodedTags.remaining()) {
+                throw new IllegalArgumentException(CORRUPT_RECORD_ERROR);
+            }
+            byte[] tag = new byte[length];
+            encodedTags.get(tag);
+            tags.add(new String(tag, StandardCharsets.UTF_8));
+        }
+        return tags;
+    }
+
+    /**
+     * Gets the frequency of a stored habit.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return The frequency, or null if the habit has none.
+     * @throws IllegalArgumentException If the record holds no known frequency.
+     */
+    public Frequency getFrequency(int index) {
+        byte ordinal = this.buffer.get(this.recordOffset(index) + FREQUENCY_OFFSET);
+        if (ordinal == NO_FREQUENCY) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= Frequency.values().length) {
+            throw new IllegalArgumentException(CORRUPT_RECORD_ERROR);
+        }
+        return Frequency.values()[ordinal];
+    }
+
+    /**
+     * Checks whether a stored habit is complete.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition None
+     *
+     * @param index The index of the habit.
+     * @return [true] iff the habit is complete, otherwise [false].
+     */
+    public boolean isComplete(int index) {
+        return this.buffer.get(this.recordOffset(index) + COMPLETE_OFFSET) != 0;
+    }
+
+    /**
+     * Creates a habit from a stored record.
+     *
+     * @precondition 0 <= index < this.size()
+     * @postcondition return.getId() == this.getId(index)
+     *
+     * @param index The index of the habit.
+     * @return A new habit holding the stored state.
+     */
+    public Habit toHabit(int index) {
+        Habit habit = new Habit(this.getText(index), this.getFrequency(index));
+        habit.setId(this.getId(index));
+        habit.setRecurrence(this.getRecurrence(index));
+        habit.setTags(this.getTags(index));
+        habit.setComplete(this.isComplete(index));
+        return habit;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once the store is garbage collected.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private byte[] readField(int index, int fieldOffset) {
+        int record = this.recordOffset(index);
+        int offset = this.buffer.getInt(record + fieldOffset);
+        int length = this.buffer.getInt(record + fieldOffset + LENGTH_SIZE);
+        if (offset < this.heapOffset || length < 0 || length > this.buffer.capacity() - offset) {
+            throw new IllegalArgumentException(CORRUPT_RECORD_ERROR);
+        }
+        byte[] field = new byte[length];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        view.get(field);
+        return field;
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IllegalArgumentException(INVALID_INDEX_ERROR);
+        }
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,121 @@
+package habit_mode.model;
+
+import java.util.Objects;
+
+/**
+ * A goal that earns coins once the progress of its kind reaches a threshold, such as completing habits
+ * 50 times or keeping a habit up 7 periods in a row. A milestone never changes once made.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class Milestone {
+    private static final String NULL_ARGUMENT_ERROR = "name and kind cannot be null";
+    private static final String EMPTY_NAME_ERROR = "name cannot be empty";
+    private static final String INVALID_THRESHOLD_ERROR = "threshold must be greater than 0";
+    private static final String NEGATIVE_REWARD_ERROR = "reward must not be negative";
+
+    private final String name;
+    private final MilestoneKind kind;
+    private final int threshold;
+    private final int reward;
+
+    /**
+     * Creates a new milestone.
+     *
+     * @precondition name != null && !name.isBlank() && kind != null && threshold > 0 && reward >= 0
+     * @postcondition this.getName() == name && this.getKind() == kind && this.getThreshold() == threshold
+     *                && this.getReward() == reward
+     *
+     * @param name The name shown to the user.
+     * @param kind The progress the milestone measures.
+     * @param threshold The progress needed to reach the milestone.
+     * @param reward The coins awarded for reaching the milestone.
+     */
+    public Milestone(String name, MilestoneKind kind, int threshold, int reward) {
+        if (name == null || kind == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        if (name.isBlank()) {
+            throw new IllegalArgumentException(EMPTY_NAME_ERROR);
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException(INVALID_THRESHOLD_ERROR);
+        }
+        if (reward < 0) {
+            throw new IllegalArgumentException(NEGATIVE_REWARD_ERROR);
+        }
+        this.name = name;
+        this.kind = kind;
+        this.threshold = threshold;
+        this.reward = reward;
+    }
+
+    /**
+     * Gets the name of the milestone.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the progress the milestone measures.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The kind.
+     */
+    public MilestoneKind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Gets the progress needed to reach the milestone.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The threshold.
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Gets the coins awarded for reaching the milestone.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The reward.
+     */
+    public int getReward() {
+        return this.reward;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Milestone)) {
+            return false;
+        }
+        Milestone other = (Milestone) object;
+        return this.name.equals(other.name) && this.kind == other.kind && this.threshold == other.threshold
+            && this.reward == other.reward;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.kind, this.threshold, this.reward);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
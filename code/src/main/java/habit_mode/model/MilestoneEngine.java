@@ -0,0 +1,212 @@
+package habit_mode.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Detects the milestones a user reaches as habits are completed. Every milestone is reached once.
+ * The progress of each MilestoneKind is kept as a running value that completion events only ever raise:
+ * the number of completed periods, the longest streak of a habit as kept by a HabitStatistics, and the
+ * longest run of days on which every daily habit was done. The milestones of each kind are sorted by
+ * threshold with a cursor at the first one not reached yet, so an event only looks at the milestones of
+ * the kinds whose progress it changed, and only at those it actually reaches, instead of checking every
+ * milestone against the whole history.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class MilestoneEngine {
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final List<Milestone> DEFAULT_MILESTONES = List.of(
+        new Milestone("10 habits completed", MilestoneKind.TOTAL_COMPLETIONS, 10, 30),
+        new Milestone("50 habits completed", MilestoneKind.TOTAL_COMPLETIONS, 50, 100),
+        new Milestone("100 habits completed", MilestoneKind.TOTAL_COMPLETIONS, 100, 200),
+        new Milestone("7 in a row", MilestoneKind.STREAK, 7, 50),
+        new Milestone("30 in a row", MilestoneKind.STREAK, 30, 200),
+        new Milestone("Every daily habit 3 days running", MilestoneKind.DAILY_HABITS_DAYS, 3, 40),
+        new Milestone("Every daily habit 7 days running", MilestoneKind.DAILY_HABITS_DAYS, 7, 100)
+    );
+
+    private Milestone[][] milestonesByKind;
+    private int[] nextMilestones;
+    private int[] progress;
+    private HabitStatistics statistics;
+    private LocalDate lastDailyHabitsDay;
+    private int dailyHabitsRun;
+    private List<Milestone> reached;
+
+    /**
+     * Creates a new engine with the default milestones.
+     *
+     * @precondition None
+     * @postcondition this.getReached().isEmpty()
+     */
+    public MilestoneEngine() {
+        this(DEFAULT_MILESTONES);
+    }
+
+    /**
+     * Creates a new engine with some milestones.
+     *
+     * @precondition milestones != null && !milestones.contains(null)
+     * @postcondition this.getReached().isEmpty()
+     *
+     * @param milestones The milestones that can be reached.
+     */
+    public MilestoneEngine(Collection<Milestone> milestones) {
+        this.checkObject(milestones);
+        MilestoneKind[] kinds = MilestoneKind.values();
+        List<List<Milestone>> sorted = new ArrayList<List<Milestone>>();
+        for (int index = 0; index < kinds.length; index++) {
+            sorted.add(new ArrayList<Milestone>());
+        }
+        for (Milestone milestone : milestones) {
+            this.checkObject(milestone);
+            sorted.get(milestone.getKind().ordinal()).add(milestone);
+        }
+        this.milestonesByKind = new Milestone[kinds.length][];
+        for (int index = 0; index < kinds.length; index++) {
+            sorted.get(index).sort(Comparator.comparingInt(Milestone::getThreshold));
+            this.milestonesByKind[index] = sorted.get(index).toArray(new Milestone[0]);
+        }
+        this.nextMilestones = new int[kinds.length];
+        this.progress = new int[kinds.length];
+        this.statistics = new HabitStatistics();
+        this.reached = new ArrayList<Milestone>();
+    }
+
+    /**
+     * Gets the milestones an engine created without milestones uses.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The default milestones.
+     */
+    public static List<Milestone> getDefaultMilestones() {
+        return DEFAULT_MILESTONES;
+    }
+
+    /**
+     * Records that a habit was completed in the period a date falls in, in the CompletionHistory of the
+     * habit, and finds the milestones this reaches. Completing a period that was already completed
+     * reaches nothing.
+     *
+     * @precondition habit != null && habit.getFrequency() != null && date != null
+     * @postcondition habit.getHistory().isCompleted(date)
+     *
+     * @param habit The completed habit.
+     * @param date The date the habit was completed on.
+     * @return The milestones reached by the completion, in order of threshold within each kind.
+     */
+    public List<Milestone> recordCompletion(Habit habit, LocalDate date) {
+        List<Milestone> newlyReached = new ArrayList<Milestone>();
+        if (!this.statistics.recordCompletion(habit, date)) {
+            return newlyReached;
+        }
+        this.raise(MilestoneKind.TOTAL_COMPLETIONS, this.progress[MilestoneKind.TOTAL_COMPLETIONS.ordinal()] + 1, newlyReached);
+        this.raise(MilestoneKind.STREAK, this.statistics.getLongestStreak(habit), newlyReached);
+        return newlyReached;
+    }
+
+    /**
+     * Records that every daily habit was done on a day, and finds the milestones this reaches. Days are
+     * expected as they happen: a day already recorded, or one before it, reaches nothing.
+     *
+     * @precondition date != null
+     * @postcondition None
+     *
+     * @param date The day every daily habit was done on.
+     * @return The milestones reached, in order of threshold.
+     */
+    public List<Milestone> recordDailyHabitsDone(LocalDate date) {
+        this.checkObject(date);
+        List<Milestone> newlyReached = new ArrayList<Milestone>();
+        if (this.lastDailyHabitsDay != null && !date.isAfter(this.lastDailyHabitsDay)) {
+            return newlyReached;
+        }
+        boolean continuesRun = this.lastDailyHabitsDay != null && date.equals(this.lastDailyHabitsDay.plusDays(1));
+        this.dailyHabitsRun = continuesRun ? this.dailyHabitsRun + 1 : 1;
+        this.lastDailyHabitsDay = date;
+        this.raise(MilestoneKind.DAILY_HABITS_DAYS, this.dailyHabitsRun, newlyReached);
+        return newlyReached;
+    }
+
+    /**
+     * Stops keeping the streaks of a removed habit. Progress already made and milestones already reached
+     * are kept.
+     *
+     * @precondition None
+     * @postcondition the statistics of the engine no longer hold the habit
+     *
+     * @param habit The removed habit.
+     * @return [true] iff the engine kept streaks for the habit, otherwise [false].
+     */
+    public boolean removeHabit(Habit habit) {
+        return this.statistics.remove(habit);
+    }
+
+    /**
+     * Gets the progress towards the milestones of a kind.
+     *
+     * @precondition kind != null
+     * @postcondition None
+     *
+     * @param kind The kind of milestone.
+     * @return The completions so far, the longest streak or the longest run of days, depending on kind.
+     */
+    public int getProgress(MilestoneKind kind) {
+        this.checkObject(kind);
+        return this.progress[kind.ordinal()];
+    }
+
+    /**
+     * Gets the milestone of a kind with the lowest threshold that is not reached yet.
+     *
+     * @precondition kind != null
+     * @postcondition None
+     *
+     * @param kind The kind of milestone.
+     * @return The next milestone, or null if every milestone of the kind was reached.
+     */
+    public Milestone getNext(MilestoneKind kind) {
+        this.checkObject(kind);
+        Milestone[] milestones = this.milestonesByKind[kind.ordinal()];
+        int next = this.nextMilestones[kind.ordinal()];
+        return next < milestones.length ? milestones[next] : null;
+    }
+
+    /**
+     * Gets the milestones reached so far.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The reached milestones, in the order they were reached.
+     */
+    public List<Milestone> getReached() {
+        return Collections.unmodifiableList(this.reached);
+    }
+
+    private void raise(MilestoneKind kind, int value, List<Milestone> newlyReached) {
+        int index = kind.ordinal();
+        this.progress[index] = Math.max(this.progress[index], value);
+        Milestone[] milestones = this.milestonesByKind[index];
+        while (this.nextMilestones[index] < milestones.length && milestones[this.nextMilestones[index]].getThreshold() <= this.progress[index]) {
+            Milestone milestone = milestones[this.nextMilestones[index]];
+            this.nextMilestones[index]++;
+            newlyReached.add(milestone);
+            this.reached.add(milestone);
+        }
+    }
+
+    private void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+}
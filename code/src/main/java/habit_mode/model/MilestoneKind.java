@@ -0,0 +1,16 @@
+package habit_mode.model;
+
+/**
+ * The progress a Milestone measures.
+ * TOTAL_COMPLETIONS counts every period any habit was completed in, STREAK is the longest run of periods
+ * in a row a single habit was completed in, and DAILY_HABITS_DAYS is the longest run of days in a row on
+ * which every daily habit was completed.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum MilestoneKind {
+    TOTAL_COMPLETIONS,
+    STREAK,
+    DAILY_HABITS_DAYS
+}
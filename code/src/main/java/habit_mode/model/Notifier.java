@@ -0,0 +1,24 @@
+package habit_mode.model;
+
+import java.time.Instant;
+
+/**
+ * Shows the user a reminder that a habit still needs to be completed, such as a toast on the screen or
+ * a line in a log.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public interface Notifier {
+    /**
+     * Reminds the user of a habit. Called from the thread of the ReminderScheduler, so a notifier that
+     * changes the user interface has to move to the UI thread itself.
+     *
+     * @precondition habit != null && deadline != null
+     * @postcondition None
+     *
+     * @param habit The habit that is not complete yet.
+     * @param deadline The time the habit resets at, after which the period can no longer be completed.
+     */
+    void remind(Habit habit, Instant deadline);
+}
@@ -0,0 +1,169 @@
+package habit_mode.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Presents a HabitManager as an ObservableList.
+ * Each batch of changes reported by the manager is delivered to list listeners as a single change,
+ * so bulk operations such as addAll, removeAll and setAll cause one notification instead of one per habit.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ObservableHabitList extends ObservableListBase<Habit> {
+    private static final String NULL_MANAGER_ERROR = "manager cannot be null";
+
+    private HabitManager manager;
+
+    /**
+     * Creates a new observable view of a habit manager.
+     *
+     * @precondition manager != null
+     * @postcondition this.getManager() == manager && this.size() == manager.size()
+     *
+     * @param manager The manager holding the habits.
+     */
+    public ObservableHabitList(HabitManager manager) {
+        if (manager == null) {
+            throw new IllegalArgumentException(NULL_MANAGER_ERROR);
+        }
+        this.manager = manager;
+        this.manager.addChangeListener(this::forwardChanges);
+    }
+
+    /**
+     * Gets the manager holding the habits.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The habit manager.
+     */
+    public HabitManager getManager() {
+        return this.manager;
+    }
+
+    @Override
+    public Habit get(int index) {
+        return this.manager.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.manager.size();
+    }
+
+    @Override
+    public Habit set(int index, Habit habit) {
+        return this.manager.set(index, habit);
+    }
+
+    @Override
+    public void add(int index, Habit habit) {
+        this.manager.add(index, habit);
+    }
+
+    @Override
+    public Habit remove(int index) {
+        return this.manager.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Habit> collection) {
+        return this.manager.addAll(collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Habit> collection) {
+        return this.manager.addAll(index, collection);
+    }
+
+    @Override
+    public boolean addAll(Habit... habits) {
+        return this.addAll(Arrays.asList(habits));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        return this.manager.removeAll(collection);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        return this.manager.retainAll(collection);
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        this.manager.subList(from, to).clear();
+    }
+
+    @Override
+    public void clear() {
+        this.manager.clear();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Habit> collection) {
+        this.manager.beginChange();
+        try {
+            this.manager.clear();
+            this.manager.addAll(collection);
+        } finally {
+            this.manager.endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean setAll(Habit... habits) {
+        return this.setAll(Arrays.asList(habits));
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object != null && this.manager.contains(object);
+    }
+
+    @Override
+    public int indexOf(Object object) {
+        return object == null ? -1 : this.manager.indexOf(object);
+    }
+
+    @Override
+    public int lastIndexOf(Object object) {
+        return object == null ? -1 : this.manager.lastIndexOf(object);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        this.manager.subList(fromIndex, toIndex).clear();
+    }
+
+    private void forwardChanges(List<HabitListChange> changes) {
+        this.beginChange();
+        for (HabitListChange change : changes) {
+            switch (change.getType()) {
+                case ADDED:
+                    this.nextAdd(change.getFrom(), change.getTo());
+                    break;
+                case REMOVED:
+                    this.nextRemove(change.getFrom(), change.getRemoved());
+                    break;
+                case REPLACED:
+                    this.nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+                    break;
+                case UPDATED:
+                    this.nextUpdate(change.getFrom());
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.endChange();
+    }
+}
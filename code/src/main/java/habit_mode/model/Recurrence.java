@@ -0,0 +1,452 @@
+package habit_mode.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The days a habit comes around on, for schedules a Frequency cannot express: every N days, on some days
+ * of the week, on the Nth or last weekday of the month or on a day of the month.
+ * A rule is compiled when it is created, so the next and previous occurrence of any date are found with
+ * arithmetic on the date rather than by stepping through days: days since a start date modulo the interval,
+ * a lookup table of the days to the next and previous weekday in the rule, or the occurrence in the month
+ * of the date and the month after or before it.
+ * Every rule belongs to the Frequency its completions are counted under, and Recurrence.of gives the rule
+ * the server uses for each Frequency. Rules are written as text like "FREQ=WEEKLY;BYDAY=MO,WE,FR".
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public final class Recurrence {
+    public static final int LAST = -1;
+    public static final int MAX_INTERVAL = 3660;
+    public static final int MAX_ORDINAL = 4;
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_DAY_OF_MONTH = 31;
+    private static final String[] DAY_CODES = {"SU", "MO", "TU", "WE", "TH", "FR", "SA"};
+    private static final String FREQ = "FREQ";
+    private static final String INTERVAL = "INTERVAL";
+    private static final String START = "DTSTART";
+    private static final String BY_DAY = "BYDAY";
+    private static final String BY_MONTH_DAY = "BYMONTHDAY";
+    private static final String PART_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = "=";
+    private static final String DAY_SEPARATOR = ",";
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String INVALID_INTERVAL_ERROR = "interval must be between 1 and " + MAX_INTERVAL;
+    private static final String NO_DAYS_ERROR = "at least one day of the week is needed";
+    private static final String INVALID_ORDINAL_ERROR = "ordinal must be between 1 and " + MAX_ORDINAL + " or LAST";
+    private static final String INVALID_DAY_OF_MONTH_ERROR = "day of the month must be between 1 and " + MAX_DAY_OF_MONTH;
+    private static final String INVALID_RULE_ERROR = "not a recurrence rule: ";
+
+    private static final Recurrence DAILY = new Recurrence(Kind.INTERVAL, 1, 0);
+    private static final Recurrence WEEKLY = onWeekdays(DayOfWeek.SUNDAY);
+    private static final Recurrence MONTHLY = onDayOfMonth(1);
+
+    private Kind kind;
+    private int interval;
+    private long anchor;
+    private int weekdays;
+    private byte[] daysToNext;
+    private byte[] daysToPrevious;
+    private int ordinal;
+    private DayOfWeek dayOfWeek;
+
+    private Recurrence(Kind kind, int interval, long anchor) {
+        this.kind = kind;
+        this.interval = interval;
+        this.anchor = anchor;
+    }
+
+    /**
+     * Gets the rule the server uses for a frequency: every day, every Sunday or the first of every month.
+     *
+     * @precondition frequency != null
+     * @postcondition return.getFrequency() == frequency
+     *
+     * @param frequency The frequency.
+     * @return The rule for the frequency.
+     */
+    public static Recurrence of(Frequency frequency) {
+        checkObject(frequency);
+        switch (frequency) {
+            case DAILY:
+                return DAILY;
+            case WEEKLY:
+                return WEEKLY;
+            default:
+                return MONTHLY;
+        }
+    }
+
+    /**
+     * Creates a rule that occurs every interval days, counting from a start date.
+     *
+     * @precondition 1 <= interval <= MAX_INTERVAL && start != null
+     * @postcondition return.occursOn(start) && return.getFrequency() == Frequency.DAILY
+     *
+     * @param interval The number of days between occurrences.
+     * @param start A day the rule occurs on.
+     * @return The rule.
+     */
+    public static Recurrence everyDays(int interval, LocalDate start) {
+        checkObject(start);
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException(INVALID_INTERVAL_ERROR);
+        }
+        return new Recurrence(Kind.INTERVAL, interval, Math.floorMod(start.toEpochDay(), interval));
+    }
+
+    /**
+     * Creates a rule that occurs on some days of every week.
+     *
+     * @precondition days != null && days.length > 0 && no day is null
+     * @postcondition return.getFrequency() == Frequency.WEEKLY if there is one day, otherwise Frequency.DAILY
+     *
+     * @param days The days of the week the rule occurs on.
+     * @return The rule.
+     */
+    public static Recurrence onWeekdays(DayOfWeek... days) {
+        checkObject(days);
+        if (days.length == 0) {
+            throw new IllegalArgumentException(NO_DAYS_ERROR);
+        }
+        int weekdays = 0;
+        for (DayOfWeek day : days) {
+            checkObject(day);
+            weekdays |= 1 << indexOf(day);
+        }
+        Recurrence recurrence = new Recurrence(Kind.WEEKDAYS, 1, 0);
+        recurrence.weekdays = weekdays;
+        recurrence.daysToNext = new byte[DAYS_PER_WEEK];
+        recurrence.daysToPrevious = new byte[DAYS_PER_WEEK];
+        for (int index = 0; index < DAYS_PER_WEEK; index++) {
+            recurrence.daysToNext[index] = recurrence.distanceToWeekday(index, 1);
+            recurrence.daysToPrevious[index] = recurrence.distanceToWeekday(index, DAYS_PER_WEEK - 1);
+        }
+        return recurrence;
+    }
+
+    /**
+     * Creates a rule that occurs on the Nth or the last given weekday of every month.
+     *
+     * @precondition (1 <= ordinal <= MAX_ORDINAL || ordinal == LAST) && day != null
+     * @postcondition return.getFrequency() == Frequency.MONTHLY
+     *
+     * @param ordinal Which of the weekdays in the month, starting at 1, or LAST.
+     * @param day The day of the week.
+     * @return The rule.
+     */
+    public static Recurrence onWeekdayOfMonth(int ordinal, DayOfWeek day) {
+        checkObject(day);
+        if (ordinal != LAST && (ordinal < 1 || ordinal > MAX_ORDINAL)) {
+            throw new IllegalArgumentException(INVALID_ORDINAL_ERROR);
+        }
+        Recurrence recurrence = new Recurrence(Kind.WEEKDAY_OF_MONTH, 1, 0);
+        recurrence.ordinal = ordinal;
+        recurrence.dayOfWeek = day;
+        return recurrence;
+    }
+
+    /**
+     * Creates a rule that occurs on a day of every month, or on the last day of the months that are shorter.
+     *
+     * @precondition 1 <= dayOfMonth <= 31
+     * @postcondition return.getFrequency() == Frequency.MONTHLY
+     *
+     * @param dayOfMonth The day of the month.
+     * @return The rule.
+     */
+    public static Recurrence onDayOfMonth(int dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > MAX_DAY_OF_MONTH) {
+            throw new IllegalArgumentException(INVALID_DAY_OF_MONTH_ERROR);
+        }
+        Recurrence recurrence = new Recurrence(Kind.DAY_OF_MONTH, 1, 0);
+        recurrence.ordinal = dayOfMonth;
+        return recurrence;
+    }
+
+    /**
+     * Reads a rule written by toRule.
+     *
+     * @precondition rule != null
+     * @postcondition Recurrence.parse(return.toRule()).equals(return)
+     *
+     * @param rule The text of the rule.
+     * @return The rule.
+     */
+    public static Recurrence parse(String rule) {
+        checkObject(rule);
+        Map<String, String> parts = new HashMap<String, String>();
+        for (String part : rule.split(PART_SEPARATOR)) {
+            String[] pair = part.split(VALUE_SEPARATOR, 2);
+            if (pair.length != 2 || parts.put(pair[0], pair[1]) != null) {
+                throw new IllegalArgumentException(INVALID_RULE_ERROR + rule);
+            }
+        }
+        try {
+            return parseParts(parts);
+        } catch (NumberFormatException | DateTimeParseException exception) {
+            throw new IllegalArgumentException(INVALID_RULE_ERROR + rule);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(INVALID_RULE_ERROR + rule + " (" + exception.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Finds the next occurrence of every rule after a date, working out each distinct rule once. Habits
+     * mostly share a few rules, so resetting many habits costs little more than resetting one.
+     *
+     * @precondition rules != null && date != null
+     * @postcondition return.length == rules.size()
+     *
+     * @param rules The rules, which may contain null.
+     * @param date The date.
+     * @return The next occurrence of the rule at each index, or null where the rule is null.
+     */
+    public static LocalDate[] nextOccurrences(List<Recurrence> rules, LocalDate date) {
+        checkObject(rules);
+        checkObject(date);
+        Map<Recurrence, LocalDate> occurrences = new HashMap<Recurrence, LocalDate>();
+        LocalDate[] next = new LocalDate[rules.size()];
+        int index = 0;
+        for (Recurrence rule : rules) {
+            if (rule != null) {
+                next[index] = occurrences.computeIfAbsent(rule, distinctRule -> distinctRule.next(date));
+            }
+            index++;
+        }
+        return next;
+    }
+
+    /**
+     * Gets the frequency completions of the rule are counted under.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return DAILY for rules every N days or on several weekdays, WEEKLY for one weekday, otherwise MONTHLY.
+     */
+    public Frequency getFrequency() {
+        switch (this.kind) {
+            case INTERVAL:
+                return Frequency.DAILY;
+            case WEEKDAYS:
+                return Integer.bitCount(this.weekdays) == 1 ? Frequency.WEEKLY : Frequency.DAILY;
+            default:
+                return Frequency.MONTHLY;
+        }
+    }
+
+    /**
+     * Gets the first day after a date that the rule occurs on.
+     *
+     * @precondition date != null
+     * @postcondition return.isAfter(date) && this.occursOn(return)
+     *
+     * @param date The date.
+     * @return The next occurrence.
+     */
+    public LocalDate next(LocalDate date) {
+        checkObject(date);
+        switch (this.kind) {
+            case INTERVAL:
+                return date.plusDays(this.interval - Math.floorMod(date.toEpochDay() - this.anchor, this.interval));
+            case WEEKDAYS:
+                return date.plusDays(this.daysToNext[indexOf(date.getDayOfWeek())]);
+            default:
+                YearMonth month = YearMonth.from(date);
+                LocalDate occurrence = this.occurrenceIn(month);
+                return occurrence.isAfter(date) ? occurrence : this.occurrenceIn(month.plusMonths(1));
+        }
+    }
+
+    /**
+     * Gets the last day before a date that the rule occurs on.
+     *
+     * @precondition date != null
+     * @postcondition return.isBefore(date) && this.occursOn(return)
+     *
+     * @param date The date.
+     * @return The previous occurrence.
+     */
+    public LocalDate previous(LocalDate date) {
+        checkObject(date);
+        switch (this.kind) {
+            case INTERVAL:
+                return date.minusDays(1 + Math.floorMod(date.toEpochDay() - 1 - this.anchor, this.interval));
+            case WEEKDAYS:
+                return date.minusDays(this.daysToPrevious[indexOf(date.getDayOfWeek())]);
+            default:
+                YearMonth month = YearMonth.from(date);
+                LocalDate occurrence = this.occurrenceIn(month);
+                return occurrence.isBefore(date) ? occurrence : this.occurrenceIn(month.minusMonths(1));
+        }
+    }
+
+    /**
+     * Checks whether the rule occurs on a date.
+     *
+     * @precondition date != null
+     * @postcondition None
+     *
+     * @param date The date.
+     * @return [true] iff the rule occurs on the date, otherwise [false].
+     */
+    public boolean occursOn(LocalDate date) {
+        checkObject(date);
+        return this.next(date.minusDays(1)).equals(date);
+    }
+
+    /**
+     * Writes the rule as text that parse reads back.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The text of the rule.
+     */
+    public String toRule() {
+        StringBuilder rule = new StringBuilder(FREQ).append(VALUE_SEPARATOR);
+        switch (this.kind) {
+            case INTERVAL:
+                rule.append(Frequency.DAILY);
+                if (this.interval > 1) {
+                    this.appendPart(rule, INTERVAL, this.interval);
+                    this.appendPart(rule, START, LocalDate.ofEpochDay(this.anchor));
+                }
+                return rule.toString();
+            case WEEKDAYS:
+                rule.append(Frequency.WEEKLY).append(PART_SEPARATOR).append(BY_DAY).append(VALUE_SEPARATOR);
+                for (int index = 0; index < DAYS_PER_WEEK; index++) {
+                    this.appendWeekday(rule, index);
+                }
+                rule.setLength(rule.length() - 1);
+                return rule.toString();
+            case WEEKDAY_OF_MONTH:
+                rule.append(Frequency.MONTHLY);
+                this.appendPart(rule, BY_DAY, this.ordinal + DAY_CODES[indexOf(this.dayOfWeek)]);
+                return rule.toString();
+            default:
+                rule.append(Frequency.MONTHLY);
+                this.appendPart(rule, BY_MONTH_DAY, this.ordinal);
+                return rule.toString();
+        }
+    }
+
+    private static Recurrence parseParts(Map<String, String> parts) {
+        String frequency = String.valueOf(parts.remove(FREQ));
+        Recurrence recurrence;
+        if (frequency.equals(Frequency.DAILY.name()) && parts.containsKey(INTERVAL)) {
+            recurrence = everyDays(Integer.parseInt(parts.remove(INTERVAL)), LocalDate.parse(String.valueOf(parts.remove(START))));
+        } else if (frequency.equals(Frequency.DAILY.name())) {
+            recurrence = DAILY;
+        } else if (frequency.equals(Frequency.WEEKLY.name())) {
+            String[] codes = String.valueOf(parts.remove(BY_DAY)).split(DAY_SEPARATOR);
+            DayOfWeek[] days = new DayOfWeek[codes.length];
+            for (int index = 0; index < codes.length; index++) {
+                days[index] = dayOf(codes[index]);
+            }
+            recurrence = onWeekdays(days);
+        } else if (frequency.equals(Frequency.MONTHLY.name()) && parts.containsKey(BY_DAY)) {
+            String byDay = parts.remove(BY_DAY);
+            int codeStart = Math.max(0, byDay.length() - 2);
+            recurrence = onWeekdayOfMonth(Integer.parseInt(byDay.substring(0, codeStart)), dayOf(byDay.substring(codeStart)));
+        } else if (frequency.equals(Frequency.MONTHLY.name())) {
+            recurrence = onDayOfMonth(Integer.parseInt(String.valueOf(parts.remove(BY_MONTH_DAY))));
+        } else {
+            throw new IllegalArgumentException(FREQ);
+        }
+        if (!parts.isEmpty()) {
+            throw new IllegalArgumentException(parts.keySet().toString());
+        }
+        return recurrence;
+    }
+
+    private static DayOfWeek dayOf(String code) {
+        for (int index = 0; index < DAYS_PER_WEEK; index++) {
+            if (DAY_CODES[index].equals(code)) {
+                return DayOfWeek.SUNDAY.plus(index);
+            }
+        }
+        throw new IllegalArgumentException(code);
+    }
+
+    private static int indexOf(DayOfWeek day) {
+        return day.getValue() % DAYS_PER_WEEK;
+    }
+
+    private static void checkObject(Object object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+    }
+
+    private byte distanceToWeekday(int index, int step) {
+        byte distance = 1;
+        while ((this.weekdays & 1 << ((index + distance * step) % DAYS_PER_WEEK)) == 0) {
+            distance++;
+        }
+        return distance;
+    }
+
+    private LocalDate occurrenceIn(YearMonth month) {
+        if (this.kind == Kind.DAY_OF_MONTH) {
+            return month.atDay(Math.min(this.ordinal, month.lengthOfMonth()));
+        }
+        if (this.ordinal == LAST) {
+            LocalDate last = month.atEndOfMonth();
+            return last.minusDays(Math.floorMod(indexOf(last.getDayOfWeek()) - indexOf(this.dayOfWeek), DAYS_PER_WEEK));
+        }
+        LocalDate first = month.atDay(1);
+        int daysToWeekday = Math.floorMod(indexOf(this.dayOfWeek) - indexOf(first.getDayOfWeek()), DAYS_PER_WEEK);
+        return first.plusDays(daysToWeekday + (this.ordinal - 1) * DAYS_PER_WEEK);
+    }
+
+    private void appendPart(StringBuilder rule, String name, Object value) {
+        rule.append(PART_SEPARATOR).append(name).append(VALUE_SEPARATOR).append(value);
+    }
+
+    private void appendWeekday(StringBuilder rule, int index) {
+        if ((this.weekdays & 1 << index) != 0) {
+            rule.append(DAY_CODES[index]).append(DAY_SEPARATOR);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+        Recurrence otherRecurrence = (Recurrence) other;
+        return this.kind == otherRecurrence.kind && this.interval == otherRecurrence.interval
+            && this.anchor == otherRecurrence.anchor && this.weekdays == otherRecurrence.weekdays
+            && this.ordinal == otherRecurrence.ordinal && this.dayOfWeek == otherRecurrence.dayOfWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.kind, this.interval, this.anchor, this.weekdays, this.ordinal, this.dayOfWeek);
+    }
+
+    @Override
+    public String toString() {
+        return this.toRule();
+    }
+
+    /**
+     * The shapes a rule can take.
+     */
+    private enum Kind {
+        INTERVAL,
+        WEEKDAYS,
+        WEEKDAY_OF_MONTH,
+        DAY_OF_MONTH
+    }
+}
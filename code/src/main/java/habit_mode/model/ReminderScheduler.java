@@ -0,0 +1,303 @@
+package habit_mode.model;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reminds the user of the habits of a HabitManager that are not complete yet, a lead time before their
+ * recurrence resets them. A reminder never comes before the start of the period it is for, so a lead
+ * time longer than a period reminds at the start of the period instead.
+ * Reminders wait in a HierarchicalTimingWheel, habits reminded at the same time sharing one timer, and
+ * a single thread started by start wakes once a tick to fire the reminders that are due, so the cost of
+ * waiting stays the same however many reminders are pending. The scheduler watches the manager: habits
+ * that are added or become incomplete are scheduled, and habits that are removed or completed are not
+ * reminded. After a reminder fires, the habit is scheduled for the next period.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ReminderScheduler implements AutoCloseable {
+    public static final long DEFAULT_TICK_MILLIS = 60_000;
+    public static final Duration DEFAULT_LEAD_TIME = Duration.ofHours(2);
+
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String NULL_FREQUENCY_ERROR = "habit must have a frequency or recurrence to be reminded";
+    private static final String INVALID_LEAD_TIME_ERROR = "leadTime must be positive";
+    private static final String THREAD_NAME = "habit-mode-reminders";
+
+    private HabitManager habits;
+    private Notifier notifier;
+    private long leadMillis;
+    private Clock clock;
+    private HierarchicalTimingWheel<Long> wheel;
+    private Map<Long, List<Habit>> batches;
+    private Map<Habit, Long> pendingReminders;
+    private Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Creates a new scheduler for the habits of a manager, reminding DEFAULT_LEAD_TIME before they reset
+     * in the system time zone.
+     *
+     * @precondition habits != null && notifier != null
+     * @postcondition every incomplete habit in habits is scheduled to be reminded && !this.isRunning()
+     *
+     * @param habits The habits to remind the user of.
+     * @param notifier The notifier showing the reminders.
+     */
+    public ReminderScheduler(HabitManager habits, Notifier notifier) {
+        this(habits, notifier, DEFAULT_LEAD_TIME, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new scheduler for the habits of a manager.
+     *
+     * @precondition habits != null && notifier != null && leadTime != null && leadTime is positive && clock != null
+     * @postcondition every incomplete habit in habits is scheduled to be reminded && !this.isRunning()
+     *
+     * @param habits The habits to remind the user of.
+     * @param notifier The notifier showing the reminders.
+     * @param leadTime How long before a habit resets the user is reminded of it.
+     * @param clock The clock giving the current time and the time zone habits reset in.
+     */
+    public ReminderScheduler(HabitManager habits, Notifier notifier, Duration leadTime, Clock clock) {
+        if (habits == null || notifier == null || leadTime == null || clock == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        if (leadTime.isNegative() || leadTime.isZero()) {
+            throw new IllegalArgumentException(INVALID_LEAD_TIME_ERROR);
+        }
+        this.habits = habits;
+        this.notifier = notifier;
+        this.leadMillis = leadTime.toMillis();
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<Long>(DEFAULT_TICK_MILLIS, clock.millis());
+        this.batches = new HashMap<Long, List<Habit>>();
+        this.pendingReminders = new IdentityHashMap<Habit, Long>();
+        this.scheduleAll();
+        habits.addChangeListener(this::habitsChanged);
+    }
+
+    /**
+     * Schedules a habit to be reminded of before the next reset of its recurrence whose reminder time has
+     * not passed yet. A habit scheduled for another time, because its recurrence changed, is moved.
+     *
+     * @precondition habit != null && habit.getRecurrence() != null
+     * @postcondition this.getReminderTime(habit) != null
+     *
+     * @param habit The habit to schedule.
+     * @return The time the user is reminded of the habit.
+     */
+    public synchronized Instant schedule(Habit habit) {
+        if (habit == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        if (habit.getRecurrence() == null) {
+            throw new IllegalArgumentException(NULL_FREQUENCY_ERROR);
+        }
+        long reminderMillis = this.nextReminder(habit.getRecurrence(), this.clock.millis());
+        this.schedule(habit, reminderMillis);
+        return Instant.ofEpochMilli(reminderMillis);
+    }
+
+    /**
+     * Cancels the pending reminder of a habit.
+     *
+     * @precondition None
+     * @postcondition this.getReminderTime(habit) == null
+     *
+     * @param habit The habit to cancel the reminder of.
+     * @return [true] iff the habit had a pending reminder, otherwise [false].
+     */
+    public synchronized boolean cancel(Habit habit) {
+        return this.pendingReminders.remove(habit) != null;
+    }
+
+    /**
+     * Gets the time the user is reminded of a habit.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @return The reminder time, or null if the habit has no pending reminder.
+     */
+    public synchronized Instant getReminderTime(Habit habit) {
+        Long reminderMillis = this.pendingReminders.get(habit);
+        return reminderMillis == null ? null : Instant.ofEpochMilli(reminderMillis);
+    }
+
+    /**
+     * Gets the number of habits waiting to be reminded of.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of pending reminders.
+     */
+    public synchronized int getPendingCount() {
+        return this.pendingReminders.size();
+    }
+
+    /**
+     * Reminds the user of every habit whose reminder time has passed and schedules those habits for their
+     * next period. A reminder that was missed for a whole period, such as while the computer was asleep,
+     * fires once rather than once per missed period. The notifier is called without holding the lock of
+     * the scheduler.
+     *
+     * @precondition None
+     * @postcondition no pending reminder is at or before the current time of the clock
+     *
+     * @return The habits the user was reminded of.
+     */
+    public List<Habit> advance() {
+        List<Habit> due = new ArrayList<Habit>();
+        List<Instant> deadlines = new ArrayList<Instant>();
+        synchronized (this) {
+            long nowMillis = this.clock.millis();
+            for (Long reminderMillis : this.wheel.advanceTo(nowMillis)) {
+                for (Habit habit : this.batches.remove(reminderMillis)) {
+                    if (reminderMillis.equals(this.pendingReminders.get(habit))) {
+                        this.pendingReminders.remove(habit);
+                        due.add(habit);
+                        deadlines.add(this.deadlineOf(habit.getRecurrence(), reminderMillis));
+                        this.schedule(habit, this.nextReminder(habit.getRecurrence(), Math.max(reminderMillis, nowMillis) + 1));
+                    }
+                }
+            }
+        }
+        for (int index = 0; index < due.size(); index++) {
+            this.notifier.remind(due.get(index), deadlines.get(index));
+        }
+        return due;
+    }
+
+    /**
+     * Starts the thread that fires the reminders, waking at the start of every tick of DEFAULT_TICK_MILLIS.
+     * Does nothing if the thread is already running.
+     *
+     * @precondition None
+     * @postcondition this.isRunning()
+     */
+    public synchronized void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        this.thread = new Thread(this::fireReminders, THREAD_NAME);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Checks whether the thread firing the reminders is running.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return [true] iff start was called and the scheduler has not been closed since, otherwise [false].
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Stops the thread firing the reminders. Pending reminders are kept and fire once the scheduler is
+     * started or advanced again.
+     *
+     * @precondition None
+     * @postcondition !this.isRunning()
+     */
+    @Override
+    public void close() {
+        Thread reminderThread;
+        synchronized (this) {
+            if (!this.running) {
+                return;
+            }
+            this.running = false;
+            reminderThread = this.thread;
+        }
+        reminderThread.interrupt();
+        try {
+            reminderThread.join();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fireReminders() {
+        while (this.running) {
+            this.advance();
+            try {
+                Thread.sleep(DEFAULT_TICK_MILLIS - Math.floorMod(this.clock.millis(), DEFAULT_TICK_MILLIS));
+            } catch (InterruptedException error) {
+                return;
+            }
+        }
+    }
+
+    private long nextReminder(Recurrence recurrence, long fromMillis) {
+        ZoneId zone = this.clock.getZone();
+        LocalDate day = Instant.ofEpochMilli(fromMillis).atZone(zone).toLocalDate();
+        while (true) {
+            LocalDate resetDay = recurrence.next(day);
+            long periodStartMillis = recurrence.previous(resetDay).atStartOfDay(zone).toInstant().toEpochMilli();
+            long reminderMillis = Math.max(resetDay.atStartOfDay(zone).toInstant().toEpochMilli() - this.leadMillis, periodStartMillis);
+            if (reminderMillis >= fromMillis) {
+                return reminderMillis;
+            }
+            day = resetDay;
+        }
+    }
+
+    private Instant deadlineOf(Recurrence recurrence, long reminderMillis) {
+        ZoneId zone = this.clock.getZone();
+        LocalDate reminderDay = Instant.ofEpochMilli(reminderMillis).atZone(zone).toLocalDate();
+        return recurrence.next(reminderDay).atStartOfDay(zone).toInstant();
+    }
+
+    private List<Habit> startBatch(Long reminderMillis) {
+        this.wheel.schedule(reminderMillis, reminderMillis);
+        return new ArrayList<Habit>();
+    }
+
+    private void schedule(Habit habit, Long reminderMillis) {
+        if (!reminderMillis.equals(this.pendingReminders.put(habit, reminderMillis))) {
+            this.batches.computeIfAbsent(reminderMillis, this::startBatch).add(habit);
+        }
+    }
+
+    private synchronized void scheduleAll() {
+        for (Habit habit : this.habits) {
+            this.scheduleIfIncomplete(habit);
+        }
+    }
+
+    private void scheduleIfIncomplete(Habit habit) {
+        if (!habit.isComplete() && habit.getRecurrence() != null) {
+            this.schedule(habit);
+        } else {
+            this.cancel(habit);
+        }
+    }
+
+    private synchronized void habitsChanged(List<HabitListChange> changes) {
+        for (HabitListChange change : changes) {
+            for (Habit habit : change.getRemoved()) {
+                this.cancel(habit);
+            }
+        }
+        for (Habit habit : HabitListChange.changedHabits(changes, this.habits)) {
+            this.scheduleIfIncomplete(habit);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package habit_mode.model;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes the complete habits of a HabitManager incomplete again once their recurrence comes around. Habits
+ * that only have a frequency reset the way the server does: daily habits at the start of the next day,
+ * weekly habits on the next Sunday and monthly habits on the first of the next month.
+ * The scheduler watches the manager and schedules every habit that becomes complete. The indices in a
+ * batch of changes are out of date by the time the batch arrives, so each changed index is moved past the
+ * additions and removals that came after it, and only the changed habits are checked, working out the
+ * next occurrence of each distinct recurrence once. Habits that reset at the same time share one timer in
+ * a HierarchicalTimingWheel, so a pending reset costs a map entry, and a reset of many habits is one bulk
+ * change of the manager.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ResetScheduler {
+    public static final long DEFAULT_TICK_MILLIS = 60_000;
+
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String NULL_FREQUENCY_ERROR = "habit must have a frequency or recurrence to be reset";
+
+    private HabitManager habits;
+    private Clock clock;
+    private HierarchicalTimingWheel<Long> wheel;
+    private Map<Long, List<Habit>> batches;
+    private Map<Habit, Long> pendingResets;
+
+    /**
+     * Creates a new scheduler for the habits of a manager, using the system clock and time zone.
+     *
+     * @precondition habits != null
+     * @postcondition every complete habit in habits is scheduled to reset
+     *
+     * @param habits The habits to reset.
+     */
+    public ResetScheduler(HabitManager habits) {
+        this(habits, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new scheduler for the habits of a manager.
+     *
+     * @precondition habits != null && clock != null
+     * @postcondition every complete habit in habits is scheduled to reset
+     *
+     * @param habits The habits to reset.
+     * @param clock The clock giving the current time and the time zone resets happen in.
+     */
+    public ResetScheduler(HabitManager habits, Clock clock) {
+        if (habits == null || clock == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.habits = habits;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<Long>(DEFAULT_TICK_MILLIS, clock.millis());
+        this.batches = new HashMap<Long, List<Habit>>();
+        this.pendingResets = new IdentityHashMap<Habit, Long>();
+        this.scheduleEach(habits);
+        habits.addChangeListener(this::habitsChanged);
+    }
+
+    /**
+     * Gets the next time habits of a frequency reset after a point in time.
+     *
+     * @precondition frequency != null && now != null
+     * @postcondition return.isAfter(now.toInstant())
+     *
+     * @param frequency The frequency of the habits.
+     * @param now The point in time, in the time zone resets happen in.
+     * @return The start of the next day, of the next Sunday or of the first day of the next month.
+     */
+    public static Instant nextReset(Frequency frequency, ZonedDateTime now) {
+        if (frequency == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        return nextRecurrenceReset(Recurrence.of(frequency), now);
+    }
+
+    /**
+     * Gets the next time habits with a recurrence reset after a point in time.
+     *
+     * @precondition recurrence != null && now != null
+     * @postcondition return.isAfter(now.toInstant())
+     *
+     * @param recurrence The recurrence of the habits.
+     * @param now The point in time, in the time zone resets happen in.
+     * @return The start of the next day the recurrence occurs on.
+     */
+    public static Instant nextRecurrenceReset(Recurrence recurrence, ZonedDateTime now) {
+        if (recurrence == null || now == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        return recurrence.next(now.toLocalDate()).atStartOfDay(now.getZone()).toInstant();
+    }
+
+    /**
+     * Schedules a habit to reset at the next reset of its recurrence. A habit already scheduled for that
+     * time is left alone; a habit scheduled for another time, because its recurrence changed, is moved.
+     *
+     * @precondition habit != null && habit.getRecurrence() != null
+     * @postcondition this.getResetTime(habit) != null
+     *
+     * @param habit The habit to schedule.
+     * @return The time the habit resets at.
+     */
+    public Instant schedule(Habit habit) {
+        if (habit == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        if (habit.getRecurrence() == null) {
+            throw new IllegalArgumentException(NULL_FREQUENCY_ERROR);
+        }
+        Long resetMillis = nextRecurrenceReset(habit.getRecurrence(), ZonedDateTime.now(this.clock)).toEpochMilli();
+        this.schedule(habit, resetMillis);
+        return Instant.ofEpochMilli(resetMillis);
+    }
+
+    /**
+     * Cancels the pending reset of a habit.
+     *
+     * @precondition None
+     * @postcondition this.getResetTime(habit) == null
+     *
+     * @param habit The habit to cancel the reset of.
+     * @return [true] iff the habit had a pending reset, otherwise [false].
+     */
+    public boolean cancel(Habit habit) {
+        return this.pendingResets.remove(habit) != null;
+    }
+
+    /**
+     * Gets the time a habit is scheduled to reset at.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @param habit The habit.
+     * @return The reset time, or null if the habit has no pending reset.
+     */
+    public Instant getResetTime(Habit habit) {
+        Long resetMillis = this.pendingResets.get(habit);
+        return resetMillis == null ? null : Instant.ofEpochMilli(resetMillis);
+    }
+
+    /**
+     * Gets the number of habits waiting to be reset.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of pending resets.
+     */
+    public int getPendingCount() {
+        return this.pendingResets.size();
+    }
+
+    /**
+     * Resets every habit whose reset time has passed, changing the manager in one batch.
+     *
+     * @precondition None
+     * @postcondition no pending reset is at or before the current time of the clock
+     *
+     * @return The habits that were made incomplete.
+     */
+    public List<Habit> advance() {
+        List<Habit> due = new ArrayList<Habit>();
+        for (Long resetMillis : this.wheel.advanceTo(this.clock.millis())) {
+            for (Habit habit : this.batches.remove(resetMillis)) {
+                if (resetMillis.equals(this.pendingResets.get(habit))) {
+                    this.pendingResets.remove(habit);
+                    due.add(habit);
+                }
+            }
+        }
+        this.habits.setComplete(due, false);
+        return due;
+    }
+
+    private List<Habit> startBatch(Long resetMillis) {
+        this.wheel.schedule(resetMillis, resetMillis);
+        return new ArrayList<Habit>();
+    }
+
+    private void schedule(Habit habit, Long resetMillis) {
+        if (!resetMillis.equals(this.pendingResets.put(habit, resetMillis))) {
+            this.batches.computeIfAbsent(resetMillis, this::startBatch).add(habit);
+        }
+    }
+
+    private void scheduleEach(Iterable<Habit> changed) {
+        List<Habit> complete = new ArrayList<Habit>();
+        List<Recurrence> recurrences = new ArrayList<Recurrence>();
+        for (Habit habit : changed) {
+            if (habit.isComplete() && habit.getRecurrence() != null) {
+                complete.add(habit);
+                recurrences.add(habit.getRecurrence());
+            } else {
+                this.cancel(habit);
+            }
+        }
+        ZonedDateTime now = ZonedDateTime.now(this.clock);
+        LocalDate[] resetDays = Recurrence.nextOccurrences(recurrences, now.toLocalDate());
+        for (int index = 0; index < resetDays.length; index++) {
+            this.schedule(complete.get(index), resetDays[index].atStartOfDay(now.getZone()).toInstant().toEpochMilli());
+        }
+    }
+
+    private void habitsChanged(List<HabitListChange> changes) {
+        for (HabitListChange change : changes) {
+            for (Habit habit : change.getRemoved()) {
+                this.cancel(habit);
+            }
+        }
+        this.scheduleEach(HabitListChange.changedHabits(changes, this.habits));
+    }
+}
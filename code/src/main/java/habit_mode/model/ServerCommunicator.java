@@ -163,5 +163,17 @@ public abstract class ServerCommunicator {
      * @return values An array of 4 integers where each index corresponds to number, row, column, coins respectively.
      */
     public abstract int[] buyHint();
-    
+
+    /**
+     * Gets a page of a leaderboard ranking every user, highest score first.
+     *
+     * @precondition type != null && offset >= 0 && count >= 0
+     * @postcondition return.size() <= count
+     *
+     * @param type What the users are ranked by.
+     * @param offset The number of users before the page.
+     * @param count The most users on the page.
+     * @return The entries on the page, or an empty list if the server sent no leaderboard.
+     */
+    public abstract List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count);
 }
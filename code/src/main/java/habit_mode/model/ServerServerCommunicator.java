@@ -4,6 +4,9 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 
 import com.google.gson.Gson;
 import com.google.gson.internal.LinkedTreeMap;
@@ -12,6 +15,8 @@ import com.google.gson.reflect.TypeToken;
 import org.zeromq.SocketType;
 import org.zeromq.ZMQ;
 
+import habit_mode.model.connection.ConnectionMonitor;
+import habit_mode.model.connection.ConnectionStateModel;
 import habit_mode.model.sudoku.SudokuPuzzle;
 
 import org.zeromq.ZContext;
@@ -20,11 +25,24 @@ import org.zeromq.ZContext;
  * A proper implementation of the server communication protocol indicated by the 
  * ServerCommunicator abstract class. 
  * Uses ZeroMQ and Gson to facilitate proper communication. 
+ * The socket connects on the first request and stays connected for the lifetime of the communicator,
+ * so a ConnectionStateModel attached with monitorConnection sees real connects and disconnects rather
+ * than one of each per request.
+ * A request that gets no reply within the reply timeout fails: requests returning a SuccessCode return
+ * UNKNOWN_ERROR and the others return their last known or empty value. Resending is off by default because
+ * the bundled server does not deduplicate by idempotency key, so a resent mutating request would be
+ * applied twice. Raise setMaxAttempts only against a server that does; the resent request is the same
+ * message and carries the same idempotency key every time.
+ * Habits are sent with their recurrence rule and tags, and both are read back when a reply holds them.
+ * The bundled server stores neither, so against it habits come back following their frequency, untagged.
  *  
  * @author Team 1
  * @version Spring 2022
  */
 public class ServerServerCommunicator extends ServerCommunicator {
+    public static final int DEFAULT_REPLY_TIMEOUT_MILLIS = 5000;
+    public static final int DEFAULT_MAX_ATTEMPTS = 1;
+
     private static final String REQUEST_TYPE = "request_type";
     private static final String REQUEST_TYPE_REGISTER_USER = "register_user";
     private static final String REQUEST_TYPE_LOGIN = "login";
@@ -36,6 +54,7 @@ public class ServerServerCommunicator extends ServerCommunicator {
     private static final String REQUEST_TYPE_GENERATE_PUZZLE = "generate_sudoku_puzzle";
     private static final String REQUEST_TYPE_UPDATE_PUZZLE = "update_sudoku_puzzle";
     private static final String REQUEST_TYPE_BUY_HINT = "buy_hint";
+    private static final String REQUEST_TYPE_GET_LEADERBOARD = "get_leaderboard";
     private static final String USERNAME = "username";
     private static final String PASSWORD = "password";
     private static final String EMAIL = "email";
@@ -47,6 +66,10 @@ public class ServerServerCommunicator extends ServerCommunicator {
     private static final String PUZZLE = "sudoku_puzzle";
     private static final String HABIT_NAME = "habit_name";
     private static final String HABIT_FREQ = "habit_frequency";
+    private static final String HABIT_RECURRENCE = "habit_recurrence";
+    private static final String RECURRENCE = "recurrence";
+    private static final String HABIT_TAGS = "habit_tags";
+    private static final String TAGS = "tags";
     private static final String HABIT_ID = "habit_id";
     private static final String HABIT_IDS = "habit_ids";
     private static final String NUMBERS = "numbers";
@@ -54,6 +77,16 @@ public class ServerServerCommunicator extends ServerCommunicator {
     private static final String ROW = "row";
     private static final String COL = "col";
     private static final String LOCKS = "number_locks";
+    private static final String IDEMPOTENCY_KEY = "idempotency_key";
+    private static final String LEADERBOARD = "leaderboard";
+    private static final String LEADERBOARD_TYPE = "leaderboard_type";
+    private static final String OFFSET = "offset";
+    private static final String COUNT = "count";
+    private static final String RANK = "rank";
+    private static final String SCORE = "score";
+    private static final String INVALID_REPLY_TIMEOUT = "replyTimeoutMillis must be greater than 0";
+    private static final String INVALID_MAX_ATTEMPTS = "maxAttempts must be greater than 0";
+    private static final String INVALID_LEADERBOARD_PAGE = "type cannot be null and offset and count must not be negative";
     
     
     private static final ZContext CONTEXT = new ZContext();
@@ -69,7 +102,12 @@ public class ServerServerCommunicator extends ServerCommunicator {
     private String jsonResponse;
     private String[] fields;
     private String tcpAddress;
-    private int coins;
+    private CoinLedger coinLedger;
+    private boolean connected;
+    private int replyTimeoutMillis;
+    private int maxAttempts;
+    private List<Habit> lastHabits;
+    private ConnectionMonitor connectionMonitor;
 
     /**
      * The default constructor for ServerServerCommunicator. 
@@ -83,13 +121,16 @@ public class ServerServerCommunicator extends ServerCommunicator {
      * 
      */
     public ServerServerCommunicator() {
-        this.socket = CONTEXT.createSocket(SocketType.REQ);
+        this.replyTimeoutMillis = DEFAULT_REPLY_TIMEOUT_MILLIS;
+        this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        this.lastHabits = new ArrayList<Habit>();
+        this.socket = this.createSocket();
         this.gson = new Gson();
         this.message = new HashMap<String, Object>();
         this.tcpAddress = "tcp://127.0.0.1:5555";
         this.authenticationToken = "";
         this.fields = new String[1];
-        this.coins = 0;
+        this.coinLedger = new CoinLedger();
     }
 
     /**
@@ -109,6 +150,65 @@ public class ServerServerCommunicator extends ServerCommunicator {
         this.tcpAddress = tcpAddress;        
     }
 
+    /**
+     * Creates a communicator that waits a given time for each reply before giving up on the request.
+     * 
+     * @precondition tcpAddress != null && replyTimeoutMillis > 0
+     * @postcondition this.getReplyTimeoutMillis() == replyTimeoutMillis
+     * 
+     * @param tcpAddress The address for the client to connect to.
+     * @param replyTimeoutMillis How long to wait for a reply before giving up on the request.
+     */
+    public ServerServerCommunicator(String tcpAddress, int replyTimeoutMillis) {
+        this(tcpAddress);
+        if (replyTimeoutMillis <= 0) {
+            throw new IllegalArgumentException(INVALID_REPLY_TIMEOUT);
+        }
+        this.replyTimeoutMillis = replyTimeoutMillis;
+        this.socket.setReceiveTimeOut(replyTimeoutMillis);
+    }
+
+    /**
+     * Gets how long the communicator waits for a reply before giving up on a request.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The reply timeout in milliseconds.
+     */
+    public int getReplyTimeoutMillis() {
+        return this.replyTimeoutMillis;
+    }
+
+    /**
+     * Gets how many times a request is sent before the communicator gives up on it.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The number of attempts per request.
+     */
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * Sets how many times a request that gets no reply is sent, each time on a new socket with the same
+     * idempotency key. Only raise it above 1 for a server that applies a key once; the bundled server
+     * does not, and would apply a resent mutating request twice.
+     * 
+     * @precondition maxAttempts > 0
+     * @postcondition this.getMaxAttempts() == maxAttempts
+     * 
+     * @param maxAttempts The number of attempts per request.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException(INVALID_MAX_ATTEMPTS);
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
     /**
      * Simple getter for the message hashmap.
      * 
@@ -154,6 +254,47 @@ public class ServerServerCommunicator extends ServerCommunicator {
         return CONTEXT;
     }
 
+    /**
+     * Reports the state of the connection of this communicator to a model, replacing the model
+     * reported to before. Connects the socket if no request was sent yet, so the model shows whether
+     * the server can be reached before the first request.
+     *
+     * @precondition model != null
+     * @postcondition this.getConnectionMonitor().getModel() == model
+     *
+     * @param model The model receiving the connection events.
+     */
+    public void monitorConnection(ConnectionStateModel model) {
+        this.stopMonitoringConnection();
+        this.connectionMonitor = new ConnectionMonitor(this, model);
+        this.connect();
+    }
+
+    /**
+     * Stops reporting the state of the connection. Does nothing if the connection is not monitored.
+     *
+     * @precondition None
+     * @postcondition this.getConnectionMonitor() == null
+     */
+    public void stopMonitoringConnection() {
+        if (this.connectionMonitor != null) {
+            this.connectionMonitor.close();
+            this.connectionMonitor = null;
+        }
+    }
+
+    /**
+     * Gets the monitor reporting the state of the connection.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The connection monitor, or null if the connection is not monitored.
+     */
+    public ConnectionMonitor getConnectionMonitor() {
+        return this.connectionMonitor;
+    }
+
     /**
      * Simple getter for the authentication token.
      * 
@@ -177,12 +318,42 @@ public class ServerServerCommunicator extends ServerCommunicator {
         this.authenticationToken = token;
     }
 
+    /**
+     * Simple getter for the coin count returned by the last request, without contacting the server.
+     *
+     * @return The last known coin count.
+     */
+    public int getCachedCoins() {
+        return this.coinLedger.getBalance();
+    }
+
+    /**
+     * Gets the ledger recording every change to the coin count seen by this communicator. Changes made
+     * by the server are recorded as the difference from the last known count when a reply reports the
+     * new count, typed by the request that returned it.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The coin ledger.
+     */
+    public CoinLedger getCoinLedger() {
+        return this.coinLedger;
+    }
+
+    void setCoinLedger(CoinLedger coinLedger) {
+        this.coinLedger = coinLedger;
+    }
+
     @Override
     public int[] buyHint() {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_BUY_HINT);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
 
-        this.sendMessage();
+        if (!this.sendMessage()) {
+            return null;
+        }
 
         int[] hint = new int[4];
 
@@ -190,13 +361,44 @@ public class ServerServerCommunicator extends ServerCommunicator {
         hint[1] = ((Double) this.response.get(ROW)).intValue();
         hint[2] = ((Double) this.response.get(COL)).intValue();
         hint[3] = ((Double) this.response.get(COINS)).intValue();
+        this.coinLedger.setBalance(hint[3], CoinTransactionType.PURCHASE);
 
         return hint;
     }
 
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        if (type == null || offset < 0 || count < 0) {
+            throw new IllegalArgumentException(INVALID_LEADERBOARD_PAGE);
+        }
+        this.message.put(REQUEST_TYPE, REQUEST_TYPE_GET_LEADERBOARD);
+        this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
+        this.message.put(LEADERBOARD_TYPE, type.name().toLowerCase(Locale.ROOT));
+        this.message.put(OFFSET, offset);
+        this.message.put(COUNT, count);
+
+        this.sendMessage();
+
+        List<LeaderboardEntry> entries = new ArrayList<LeaderboardEntry>();
+        Object leaderboard = this.response.get(LEADERBOARD);
+        if (!(leaderboard instanceof List)) {
+            return entries;
+        }
+        for (Object element : (List<?>) leaderboard) {
+            if (element instanceof Map) {
+                Map<?, ?> entry = (Map<?, ?>) element;
+                int rank = ((Double) entry.get(RANK)).intValue();
+                long score = ((Double) entry.get(SCORE)).longValue();
+                entries.add(new LeaderboardEntry(rank, (String) entry.get(USERNAME), score));
+            }
+        }
+        return entries;
+    }
+
     @Override
     public SuccessCode registerCredentials(String username, String password, String email) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_REGISTER_USER);
+        this.putIdempotencyKey();
         this.message.put(USERNAME, username);
         this.message.put(PASSWORD, password);
         this.message.put(EMAIL, email);
@@ -229,13 +431,13 @@ public class ServerServerCommunicator extends ServerCommunicator {
 
         this.message.put(FIELDS, this.fields);
 
-        this.sendMessage();
+        if (!this.sendMessage()) {
+            return this.coinLedger.getBalance();
+        }
 
         Double coins = (Double) this.response.get(COINS);
-        this.setCoins(coins.intValue());
-        
 
-        return this.coins;
+        return this.coinLedger.setBalance(coins.intValue(), CoinTransactionType.SYNC);
     }
     
     @Override
@@ -247,9 +449,11 @@ public class ServerServerCommunicator extends ServerCommunicator {
 
         this.message.put(FIELDS, this.fields);
 
-        this.sendMessage();
-       
-        return this.parseRetrieveHabitsResponse();
+        if (this.sendMessage()) {
+            this.lastHabits = this.parseRetrieveHabitsResponse();
+        }
+
+        return new ArrayList<Habit>(this.lastHabits);
     }
 
     @Override
@@ -269,19 +473,18 @@ public class ServerServerCommunicator extends ServerCommunicator {
 
     @Override
     public boolean setCoins(int amount) {
-        this.coins = amount;
-        if (this.coins == amount) {
-            return true;
-        }
-        return false;
+        return this.coinLedger.setBalance(amount, CoinTransactionType.ADJUSTMENT) == amount;
     }
 
     @Override
     public SuccessCode addHabit(Habit habit) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_ADD_HABIT);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
         this.message.put(HABIT_NAME, habit.getText());
         this.message.put(HABIT_FREQ, habit.getFrequency().ordinal());
+        this.message.put(HABIT_RECURRENCE, habit.getRecurrence().toRule());
+        this.message.put(HABIT_TAGS, new ArrayList<String>(habit.getTags()));
 
         this.sendMessage();
 
@@ -291,6 +494,7 @@ public class ServerServerCommunicator extends ServerCommunicator {
     @Override
     public SuccessCode removeHabit(Habit habit) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_REMOVE_HABIT);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
         this.message.put(HABIT_ID, habit.getId());
         
@@ -302,9 +506,12 @@ public class ServerServerCommunicator extends ServerCommunicator {
     @Override
     public SuccessCode modifyHabit(Habit habit) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_MODIFY_HABIT);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
         this.message.put(HABIT_NAME, habit.getText());
         this.message.put(HABIT_FREQ, habit.getFrequency().ordinal());
+        this.message.put(HABIT_RECURRENCE, habit.getRecurrence().toRule());
+        this.message.put(HABIT_TAGS, new ArrayList<String>(habit.getTags()));
         this.message.put(HABIT_ID, habit.getId());
         
         this.sendMessage();
@@ -315,14 +522,17 @@ public class ServerServerCommunicator extends ServerCommunicator {
     @Override
     public SuccessCode completeHabit(Habit habit) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_COMPLETE_HABIT);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
         int[] ids = {habit.getId()};
 
         this.message.put(HABIT_IDS, this.gson.toJsonTree(ids));
 
         this.sendMessage();
-        Double coins = (Double) this.response.get(COINS);
-        this.setCoins(coins.intValue());
+        if (this.response.get(COINS) instanceof Double) {
+            Double coins = (Double) this.response.get(COINS);
+            this.coinLedger.setBalance(coins.intValue(), CoinTransactionType.REWARD);
+        }
 
         return SuccessCode.checkValues(this.response.get(SUCCESS_CODE));
     }
@@ -330,6 +540,7 @@ public class ServerServerCommunicator extends ServerCommunicator {
     @Override
     public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_UPDATE_PUZZLE);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
         this.message.put(NUMBERS, puzzle.getNumbers());
 
@@ -343,25 +554,69 @@ public class ServerServerCommunicator extends ServerCommunicator {
     @Override 
     public SudokuPuzzle generateSudokuPuzzle() {
         this.message.put(REQUEST_TYPE, REQUEST_TYPE_GENERATE_PUZZLE);
+        this.putIdempotencyKey();
         this.message.put(AUTHENTICATION_TOKEN, this.authenticationToken);
 
-        this.sendMessage();
+        if (!this.sendMessage()) {
+            return null;
+        }
 
         return this.parseSudokuPuzzleResponse();
     }
 
-    private void sendMessage() {
-        this.socket.connect(this.tcpAddress);
+    private void putIdempotencyKey() {
+        this.message.put(IDEMPOTENCY_KEY, UUID.randomUUID().toString());
+    }
 
-        this.jsonMessage = this.gson.toJson(this.message);
+    private void connect() {
+        if (!this.connected) {
+            this.socket.connect(this.tcpAddress);
+            this.connected = true;
+        }
+    }
 
-        this.socket.send(this.jsonMessage);
+    private ZMQ.Socket createSocket() {
+        ZMQ.Socket created = CONTEXT.createSocket(SocketType.REQ);
+        created.setReceiveTimeOut(this.replyTimeoutMillis);
+        created.setLinger(0);
+        return created;
+    }
 
-        this.jsonResponse = this.socket.recvStr();
-        this.response = this.gson.fromJson(this.jsonResponse, TYPE);
+    private void resetSocket() {
+        ConnectionStateModel model = this.connectionMonitor == null ? null : this.connectionMonitor.getModel();
+        this.stopMonitoringConnection();
+        CONTEXT.destroySocket(this.socket);
+        this.socket = this.createSocket();
+        this.connected = false;
+        if (model != null) {
+            this.connectionMonitor = new ConnectionMonitor(this, model);
+        }
+        this.connect();
+    }
+
+    private boolean sendMessage() {
+        this.connect();
 
-        this.socket.disconnect(this.tcpAddress);
+        this.jsonMessage = this.gson.toJson(this.message);
         this.message.clear();
+        this.jsonResponse = null;
+
+        for (int attempt = 0; attempt < this.maxAttempts && this.jsonResponse == null; attempt++) {
+            if (attempt > 0) {
+                this.resetSocket();
+            }
+            this.socket.send(this.jsonMessage);
+            this.jsonResponse = this.socket.recvStr();
+        }
+        if (this.jsonResponse == null) {
+            this.resetSocket();
+            this.response = new HashMap<String, Object>();
+            this.response.put(SUCCESS_CODE, SuccessCode.UNKNOWN_ERROR.getCode());
+            return false;
+        }
+
+        this.response = this.gson.fromJson(this.jsonResponse, TYPE);
+        return true;
     }
 
     private List<Habit> parseRetrieveHabitsResponse() {
@@ -383,12 +638,28 @@ public class ServerServerCommunicator extends ServerCommunicator {
             }
             Habit habit = new Habit((String) habMap.get("name"), frequency);
             habit.setId(idd.intValue());
-            habit.completionProperty().set((boolean) habMap.get("is_complete"));
+            this.parseHabitDetails(habit, habMap);
+            habit.setComplete((boolean) habMap.get("is_complete"));
             habits.add(habit);
         }
         return habits;
     }
 
+    private void parseHabitDetails(Habit habit, LinkedTreeMap<String, Object> habMap) {
+        if (habMap.get(RECURRENCE) instanceof String) {
+            habit.setRecurrence(Recurrence.parse((String) habMap.get(RECURRENCE)));
+        }
+        if (habMap.get(TAGS) instanceof List) {
+            List<String> tags = new ArrayList<String>();
+            for (Object tag : (List<?>) habMap.get(TAGS)) {
+                if (tag instanceof String) {
+                    tags.add((String) tag);
+                }
+            }
+            habit.setTags(tags);
+        }
+    }
+
     private SudokuPuzzle parseSudokuPuzzleResponse() {
         LinkedTreeMap<String, Object> puzzleMap = (LinkedTreeMap<String, Object>) this.response.get(PUZZLE);
         ArrayList<ArrayList<Double>> numberLists = (ArrayList<ArrayList<Double>>) puzzleMap.get(NUMBERS);
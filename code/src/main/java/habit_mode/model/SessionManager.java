@@ -0,0 +1,156 @@
+package habit_mode.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Keeps many authenticated account sessions on top of a small, shared pool of server connections.
+ * Each session only stores its authentication token and cached state; a connection is borrowed from
+ * the pool for the duration of a single request, so sockets scale with the number of concurrent
+ * requests rather than with the number of accounts.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class SessionManager {
+    private static final String INVALID_CONNECTION_COUNT_ERROR = "connections must be greater than 0";
+    private static final String NULL_ADDRESS_ERROR = "tcpAddress cannot be null";
+    private static final String NULL_CONNECTIONS_ERROR = "connections cannot be null or empty";
+    private static final String INTERRUPTED_ERROR = "interrupted while waiting for a connection";
+
+    private BlockingQueue<ServerServerCommunicator> idleConnections;
+    private List<ServerServerCommunicator> connections;
+    private List<AccountSession> sessions;
+
+    /**
+     * Creates a new session manager with the specified number of connections to a server.
+     *
+     * @precondition tcpAddress != null && connections > 0
+     * @postcondition this.getConnectionCount() == connections && this.getSessions().isEmpty()
+     *
+     * @param tcpAddress The address of the server.
+     * @param connections The number of connections in the pool.
+     */
+    public SessionManager(String tcpAddress, int connections) {
+        this(createConnections(tcpAddress, connections));
+    }
+
+    /**
+     * Creates a new session manager that pools the specified connections.
+     *
+     * @precondition connections != null && !connections.isEmpty()
+     * @postcondition this.getConnectionCount() == connections.size() && this.getSessions().isEmpty()
+     *
+     * @param connections The connections to pool.
+     */
+    public SessionManager(List<ServerServerCommunicator> connections) {
+        if (connections == null || connections.isEmpty()) {
+            throw new IllegalArgumentException(NULL_CONNECTIONS_ERROR);
+        }
+        this.connections = new ArrayList<ServerServerCommunicator>(connections);
+        this.idleConnections = new ArrayBlockingQueue<ServerServerCommunicator>(connections.size(), false, connections);
+        this.sessions = Collections.synchronizedList(new ArrayList<AccountSession>());
+    }
+
+    /**
+     * Opens a new, unauthenticated session. Log in through the returned session to authenticate it.
+     *
+     * @precondition None
+     * @postcondition this.getSessions().size() == this.getSessions().size()@prev + 1
+     *
+     * @return The new session.
+     */
+    public AccountSession openSession() {
+        AccountSession session = new AccountSession(this);
+        this.sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Closes a session, discarding its token and cached state.
+     *
+     * @precondition None
+     * @postcondition !this.getSessions().contains(session)
+     *
+     * @param session The session to close.
+     * @return [true] iff the session was open, otherwise [false].
+     */
+    public boolean closeSession(AccountSession session) {
+        return this.sessions.remove(session);
+    }
+
+    /**
+     * Gets the open sessions.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return An unmodifiable snapshot of the open sessions.
+     */
+    public List<AccountSession> getSessions() {
+        synchronized (this.sessions) {
+            return List.copyOf(this.sessions);
+        }
+    }
+
+    /**
+     * Gets the number of connections in the pool.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of pooled connections.
+     */
+    public int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * Gets the number of connections not currently serving a request.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of idle connections.
+     */
+    public int getIdleConnectionCount() {
+        return this.idleConnections.size();
+    }
+
+    ServerServerCommunicator borrowConnection(String token, CoinLedger coinLedger) {
+        ServerServerCommunicator connection;
+        try {
+            connection = this.idleConnections.take();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED_ERROR, error);
+        }
+        connection.setToken(token);
+        connection.setCoinLedger(coinLedger);
+        return connection;
+    }
+
+    void releaseConnection(ServerServerCommunicator connection) {
+        connection.setToken("");
+        connection.setCoinLedger(new CoinLedger());
+        this.idleConnections.add(connection);
+    }
+
+    private static List<ServerServerCommunicator> createConnections(String tcpAddress, int connections) {
+        if (tcpAddress == null) {
+            throw new IllegalArgumentException(NULL_ADDRESS_ERROR);
+        }
+        if (connections <= 0) {
+            throw new IllegalArgumentException(INVALID_CONNECTION_COUNT_ERROR);
+        }
+
+        List<ServerServerCommunicator> created = new ArrayList<ServerServerCommunicator>();
+        for (int connection = 0; connection < connections; connection++) {
+            created.add(new ServerServerCommunicator(tcpAddress));
+        }
+        return created;
+    }
+}
@@ -0,0 +1,240 @@
+package habit_mode.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import habit_mode.model.sudoku.SudokuPuzzle;
+
+/**
+ * Routes requests to one of several backend shards. Users are assigned to shards with
+ * a consistent hash of their username, so adding a shard only moves a small share of users.
+ * Registration and login go to the shard owning the username, and every request made after a
+ * successful login goes to the shard that issued the session's authentication token, except for
+ * leaderboards, which are merged from every shard.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ShardedServerCommunicator extends ServerCommunicator {
+    private static final String NULL_SHARD_ERROR = "shard cannot be null";
+    private static final String NO_ACTIVE_SESSION_ERROR = "a user must log in before making this request";
+    private static final String INVALID_PAGE_ERROR = "offset and count must not be negative";
+    private static final Comparator<LeaderboardEntry> LEADERBOARD_ORDER =
+        Comparator.comparingLong(LeaderboardEntry::getScore).reversed().thenComparing(LeaderboardEntry::getUsername);
+
+    private ConsistentHashRing<ServerCommunicator> shards;
+    private ServerCommunicator activeShard;
+    private String activeUsername;
+
+    /**
+     * Creates a new router without any shards.
+     *
+     * @precondition None
+     * @postcondition this.getShardCount() == 0 && this.getActiveUsername() == null
+     */
+    public ShardedServerCommunicator() {
+        this(ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Creates a new router without any shards, placing each shard at the specified number of points.
+     *
+     * @precondition virtualNodes > 0
+     * @postcondition this.getShardCount() == 0 && this.getActiveUsername() == null
+     *
+     * @param virtualNodes The number of points each shard occupies on the hash ring.
+     */
+    public ShardedServerCommunicator(int virtualNodes) {
+        this.shards = new ConsistentHashRing<ServerCommunicator>(virtualNodes);
+    }
+
+    /**
+     * Adds a shard that users can be routed to.
+     * An active session stays on the shard that authenticated it until the next login.
+     *
+     * @precondition name != null && shard != null && no shard with the same name exists
+     * @postcondition this.getShardCount() == this.getShardCount()@prev + 1
+     *
+     * @param name The unique name of the shard.
+     * @param shard The communicator for the shard.
+     */
+    public void addShard(String name, ServerCommunicator shard) {
+        if (shard == null) {
+            throw new IllegalArgumentException(NULL_SHARD_ERROR);
+        }
+        this.shards.addNode(name, shard);
+    }
+
+    /**
+     * Removes a shard. Ends the active session if it was on that shard.
+     *
+     * @precondition name != null
+     * @postcondition this.getShardCount() == this.getShardCount()@prev - 1 if the shard existed
+     *
+     * @param name The name of the shard.
+     * @return The communicator of the removed shard, or null if no shard had that name.
+     */
+    public ServerCommunicator removeShard(String name) {
+        ServerCommunicator removed = this.shards.removeNode(name);
+        if (removed != null && removed == this.activeShard) {
+            this.activeShard = null;
+            this.activeUsername = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the shard that owns the specified username.
+     *
+     * @precondition username != null && this.getShardCount() > 0
+     * @postcondition None
+     *
+     * @param username The username.
+     * @return The communicator of the owning shard.
+     */
+    public ServerCommunicator getShardFor(String username) {
+        return this.shards.getNode(username);
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of shards.
+     */
+    public int getShardCount() {
+        return this.shards.size();
+    }
+
+    /**
+     * Gets the username of the active session.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The username of the last successful login, or null if there is no active session.
+     */
+    public String getActiveUsername() {
+        return this.activeUsername;
+    }
+
+    @Override
+    public SuccessCode registerCredentials(String username, String password, String email) {
+        if (username == null) {
+            return SuccessCode.INVALID_USERNAME;
+        }
+        return this.getShardFor(username).registerCredentials(username, password, email);
+    }
+
+    @Override
+    public SuccessCode validateLogin(String username, String password) {
+        if (username == null) {
+            return SuccessCode.INVALID_LOGIN_CREDENTIALS;
+        }
+
+        ServerCommunicator shard = this.getShardFor(username);
+        SuccessCode code = shard.validateLogin(username, password);
+        if (code == SuccessCode.OKAY) {
+            this.activeShard = shard;
+            this.activeUsername = username;
+        }
+        return code;
+    }
+
+    @Override
+    public int getCoins() {
+        return this.getActiveShard().getCoins();
+    }
+
+    @Override
+    public List<Habit> getHabits() {
+        return this.getActiveShard().getHabits();
+    }
+
+    @Override
+    public SudokuPuzzle getSudokuPuzzle() {
+        return this.getActiveShard().getSudokuPuzzle();
+    }
+
+    @Override
+    public SudokuPuzzle generateSudokuPuzzle() {
+        return this.getActiveShard().generateSudokuPuzzle();
+    }
+
+    @Override
+    public boolean setCoins(int amount) {
+        return this.getActiveShard().setCoins(amount);
+    }
+
+    @Override
+    public SuccessCode addHabit(Habit habit) {
+        return this.getActiveShard().addHabit(habit);
+    }
+
+    @Override
+    public SuccessCode removeHabit(Habit habit) {
+        return this.getActiveShard().removeHabit(habit);
+    }
+
+    @Override
+    public SuccessCode modifyHabit(Habit habit) {
+        return this.getActiveShard().modifyHabit(habit);
+    }
+
+    @Override
+    public SuccessCode completeHabit(Habit habit) {
+        return this.getActiveShard().completeHabit(habit);
+    }
+
+    @Override
+    public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
+        return this.getActiveShard().updateSudokuPuzzle(puzzle);
+    }
+
+    @Override
+    public int[] buyHint() {
+        return this.getActiveShard().buyHint();
+    }
+
+    /**
+     * Gets a page of the leaderboard of the users of every shard. A shard only ranks its own users, so each
+     * shard is asked for its entries up to the end of the page, and the entries are merged by score, highest
+     * first, with users of the same score in order of username, and ranked again.
+     *
+     * @precondition type != null && offset >= 0 && count >= 0
+     * @postcondition return.size() <= count
+     *
+     * @param type What the users are ranked by.
+     * @param offset The number of users before the page.
+     * @param count The most users on the page.
+     * @return The entries of the users on the page, highest score first.
+     */
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        if (offset < 0 || count < 0) {
+            throw new IllegalArgumentException(INVALID_PAGE_ERROR);
+        }
+        int end = (int) Math.min(Integer.MAX_VALUE, (long) offset + count);
+        List<LeaderboardEntry> merged = new ArrayList<LeaderboardEntry>();
+        for (ServerCommunicator shard : this.shards.getNodes()) {
+            merged.addAll(shard.getLeaderboard(type, 0, end));
+        }
+        merged.sort(LEADERBOARD_ORDER);
+        List<LeaderboardEntry> page = new ArrayList<LeaderboardEntry>();
+        for (int index = offset; index < Math.min(merged.size(), end); index++) {
+            LeaderboardEntry entry = merged.get(index);
+            page.add(new LeaderboardEntry(index + 1, entry.getUsername(), entry.getScore()));
+        }
+        return page;
+    }
+
+    private ServerCommunicator getActiveShard() {
+        if (this.activeShard == null) {
+            throw new IllegalStateException(NO_ACTIVE_SESSION_ERROR);
+        }
+        return this.activeShard;
+    }
+}
@@ -0,0 +1,241 @@
+package habit_mode.model.connection;
+
+import habit_mode.model.SuccessCode;
+
+/**
+ * Limits how many requests the client has in flight, adapting the limit with
+ * additive-increase / multiplicative-decrease (AIMD).
+ * Each request that finishes quickly and without an UNKNOWN_ERROR raises the limit by one
+ * over a full window of requests; a slow or failed request halves it. Background requests may
+ * only use part of the limit and are shed instead of waiting, so interactive requests keep priority.
+ * A request is slow when it takes more than a tolerance times the fastest of the last BASELINE_WINDOW
+ * successful requests, so a single fast outlier stops counting once newer requests push it out of the
+ * window, and the limit can grow again.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class AdaptiveConcurrencyLimiter {
+    public static final int DEFAULT_INITIAL_LIMIT = 8;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 64;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+    public static final double DEFAULT_BACKGROUND_SHARE = 0.5;
+    public static final int BASELINE_WINDOW = 32;
+
+    private static final String INVALID_LIMITS_ERROR = "limits must satisfy 0 < minLimit <= initialLimit <= maxLimit";
+    private static final String INVALID_TOLERANCE_ERROR = "latencyTolerance must be greater than 1";
+    private static final String NULL_PRIORITY_ERROR = "priority cannot be null";
+    private static final String NOTHING_IN_FLIGHT_ERROR = "release called without a matching acquire";
+    private static final String INTERRUPTED_ERROR = "interrupted while waiting for capacity";
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private double limit;
+    private int minLimit;
+    private int maxLimit;
+    private double latencyTolerance;
+    private int inFlight;
+    private long[] recentLatencies;
+    private int recentCount;
+    private int nextRecent;
+    private long shedCount;
+
+    /**
+     * Creates a new limiter with the default limits.
+     *
+     * @precondition None
+     * @postcondition this.getLimit() == DEFAULT_INITIAL_LIMIT && this.getInFlight() == 0
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_LATENCY_TOLERANCE);
+    }
+
+    /**
+     * Creates a new limiter.
+     *
+     * @precondition 0 < minLimit <= initialLimit <= maxLimit && latencyTolerance > 1
+     * @postcondition this.getLimit() == initialLimit && this.getInFlight() == 0
+     *
+     * @param initialLimit The starting number of requests allowed in flight.
+     * @param minLimit The lowest the limit can drop to.
+     * @param maxLimit The highest the limit can grow to.
+     * @param latencyTolerance How many times slower than the fastest recent request a request can be
+     *                         before it counts as a sign of overload.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(INVALID_LIMITS_ERROR);
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException(INVALID_TOLERANCE_ERROR);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.recentLatencies = new long[BASELINE_WINDOW];
+    }
+
+    /**
+     * Reserves capacity for a request. Interactive requests wait until capacity is available;
+     * background requests are shed immediately if the background share of the limit is in use.
+     *
+     * @precondition priority != null
+     * @postcondition this.getInFlight() == this.getInFlight()@prev + 1 iff the request was admitted
+     *
+     * @param priority The priority of the request.
+     * @return [true] iff the request was admitted and release must be called when it finishes,
+     *         [false] if it was shed.
+     */
+    public synchronized boolean acquire(RequestPriority priority) {
+        if (priority == null) {
+            throw new IllegalArgumentException(NULL_PRIORITY_ERROR);
+        }
+        if (priority == RequestPriority.BACKGROUND) {
+            return this.tryAcquireBackground();
+        }
+
+        while (this.inFlight >= this.getLimit()) {
+            try {
+                this.wait();
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(INTERRUPTED_ERROR, error);
+            }
+        }
+        this.inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases the capacity of a finished request and adapts the limit to how it went.
+     *
+     * @precondition this.getInFlight() > 0 && latencyNanos >= 0
+     * @postcondition this.getInFlight() == this.getInFlight()@prev - 1
+     *
+     * @param latencyNanos How long the request took, in nanoseconds.
+     * @param code The result of the request, or null if it did not produce one.
+     */
+    public synchronized void release(long latencyNanos, SuccessCode code) {
+        if (this.inFlight == 0) {
+            throw new IllegalStateException(NOTHING_IN_FLIGHT_ERROR);
+        }
+        this.inFlight--;
+
+        boolean overloaded = code == SuccessCode.UNKNOWN_ERROR
+            || this.recentCount > 0 && latencyNanos > this.getBaselineLatency() * this.latencyTolerance;
+        if (code != SuccessCode.UNKNOWN_ERROR) {
+            this.recordLatency(Math.max(1, latencyNanos));
+        }
+        if (overloaded) {
+            this.limit = Math.max(this.minLimit, this.limit * DECREASE_FACTOR);
+        } else {
+            this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+        }
+        this.notifyAll();
+    }
+
+    /**
+     * Gets the current number of requests allowed in flight.
+     *
+     * @precondition None
+     * @postcondition this.getMinLimit() <= return <= this.getMaxLimit()
+     *
+     * @return The current limit.
+     */
+    public synchronized int getLimit() {
+        return (int) this.limit;
+    }
+
+    /**
+     * Gets the latency requests are compared against: the fastest of the last BASELINE_WINDOW successful
+     * requests.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The baseline latency in nanoseconds, or 0 if no request has succeeded yet.
+     */
+    public synchronized long getBaselineLatency() {
+        long baseline = Long.MAX_VALUE;
+        for (int index = 0; index < this.recentCount; index++) {
+            baseline = Math.min(baseline, this.recentLatencies[index]);
+        }
+        return this.recentCount == 0 ? 0 : baseline;
+    }
+
+    /**
+     * Gets the number of requests that may be in flight before background requests are shed.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The background limit.
+     */
+    public synchronized int getBackgroundLimit() {
+        return Math.max(1, (int) (this.limit * DEFAULT_BACKGROUND_SHARE));
+    }
+
+    /**
+     * Gets the number of admitted requests that have not been released.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of requests in flight.
+     */
+    public synchronized int getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Gets the number of background requests that were shed.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of shed requests.
+     */
+    public synchronized long getShedCount() {
+        return this.shedCount;
+    }
+
+    /**
+     * Gets the lowest the limit can drop to.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The minimum limit.
+     */
+    public int getMinLimit() {
+        return this.minLimit;
+    }
+
+    /**
+     * Gets the highest the limit can grow to.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The maximum limit.
+     */
+    public int getMaxLimit() {
+        return this.maxLimit;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        this.recentLatencies[this.nextRecent] = latencyNanos;
+        this.nextRecent = (this.nextRecent + 1) % BASELINE_WINDOW;
+        this.recentCount = Math.min(this.recentCount + 1, BASELINE_WINDOW);
+    }
+
+    private boolean tryAcquireBackground() {
+        if (this.inFlight >= this.getBackgroundLimit()) {
+            this.shedCount++;
+            return false;
+        }
+        this.inFlight++;
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+package habit_mode.model.connection;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the health of the client's connection to the server.
+ * Written by the socket monitor thread and safe to read from any thread.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ConnectionMetrics {
+    private AtomicLong connects;
+    private AtomicLong reconnectAttempts;
+    private AtomicLong disconnects;
+    private AtomicLong handshakeFailures;
+    private AtomicLong handshakes;
+    private AtomicLong totalHandshakeMillis;
+    private AtomicLong lastHandshakeMillis;
+    private AtomicLong totalDisconnectedMillis;
+
+    /**
+     * Creates a new set of metrics with every counter at 0.
+     *
+     * @precondition None
+     * @postcondition this.getConnects() == 0 && this.getReconnectAttempts() == 0 &&
+     *                this.getDisconnects() == 0 && this.getHandshakeFailures() == 0 &&
+     *                this.getTotalDisconnectedMillis() == 0
+     */
+    public ConnectionMetrics() {
+        this.connects = new AtomicLong();
+        this.reconnectAttempts = new AtomicLong();
+        this.disconnects = new AtomicLong();
+        this.handshakeFailures = new AtomicLong();
+        this.handshakes = new AtomicLong();
+        this.totalHandshakeMillis = new AtomicLong();
+        this.lastHandshakeMillis = new AtomicLong();
+        this.totalDisconnectedMillis = new AtomicLong();
+    }
+
+    /**
+     * Gets the number of times a connection was established.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of connects.
+     */
+    public long getConnects() {
+        return this.connects.get();
+    }
+
+    /**
+     * Gets the number of times a connection attempt was retried.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of reconnect attempts.
+     */
+    public long getReconnectAttempts() {
+        return this.reconnectAttempts.get();
+    }
+
+    /**
+     * Gets the number of times an established connection was lost.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of disconnects.
+     */
+    public long getDisconnects() {
+        return this.disconnects.get();
+    }
+
+    /**
+     * Gets the number of connections that were lost before the handshake finished.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of failed handshakes.
+     */
+    public long getHandshakeFailures() {
+        return this.handshakeFailures.get();
+    }
+
+    /**
+     * Gets the duration of the most recent successful handshake.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The latency of the last handshake in milliseconds, or 0 if none has finished.
+     */
+    public long getLastHandshakeMillis() {
+        return this.lastHandshakeMillis.get();
+    }
+
+    /**
+     * Gets the average duration of the successful handshakes.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The average handshake latency in milliseconds, or 0 if none has finished.
+     */
+    public double getAverageHandshakeMillis() {
+        long count = this.handshakes.get();
+        if (count == 0) {
+            return 0;
+        }
+        return (double) this.totalHandshakeMillis.get() / count;
+    }
+
+    /**
+     * Gets the total time spent without an established connection, not counting the current outage.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The total disconnected time in milliseconds.
+     */
+    public long getTotalDisconnectedMillis() {
+        return this.totalDisconnectedMillis.get();
+    }
+
+    void recordConnect() {
+        this.connects.incrementAndGet();
+    }
+
+    void recordReconnectAttempt() {
+        this.reconnectAttempts.incrementAndGet();
+    }
+
+    void recordDisconnect() {
+        this.disconnects.incrementAndGet();
+    }
+
+    void recordHandshakeFailure() {
+        this.handshakeFailures.incrementAndGet();
+    }
+
+    void recordHandshake(long millis) {
+        this.handshakes.incrementAndGet();
+        this.totalHandshakeMillis.addAndGet(millis);
+        this.lastHandshakeMillis.set(millis);
+    }
+
+    void recordDisconnectedTime(long millis) {
+        this.totalDisconnectedMillis.addAndGet(millis);
+    }
+}
@@ -0,0 +1,129 @@
+package habit_mode.model.connection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+
+import habit_mode.model.ServerServerCommunicator;
+
+/**
+ * Attaches a ZeroMQ socket monitor to a socket and feeds its events into a ConnectionStateModel
+ * from a background thread.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ConnectionMonitor implements AutoCloseable {
+    private static final String MONITOR_ADDRESS = "inproc://habit-mode-monitor-";
+    private static final String NULL_ARGUMENT_ERROR = "socket, context and model cannot be null";
+    private static final String MONITOR_FAILED_ERROR = "the socket monitor could not be attached";
+    private static final int POLL_TIMEOUT_MILLIS = 100;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private ZMQ.Socket socket;
+    private ZContext context;
+    private ZMQ.Socket eventSocket;
+    private ConnectionStateModel model;
+    private Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Starts monitoring the socket of a server communicator.
+     *
+     * @precondition communicator != null && model != null
+     * @postcondition this.isRunning()
+     *
+     * @param communicator The communicator whose socket is monitored.
+     * @param model The model receiving the events.
+     */
+    public ConnectionMonitor(ServerServerCommunicator communicator, ConnectionStateModel model) {
+        this(communicator.getSocket(), communicator.getContext(), model);
+    }
+
+    /**
+     * Starts monitoring a socket.
+     *
+     * @precondition socket != null && context != null && model != null
+     * @postcondition this.isRunning()
+     *
+     * @param socket The monitored socket.
+     * @param context The context the socket was created in.
+     * @param model The model receiving the events.
+     */
+    public ConnectionMonitor(ZMQ.Socket socket, ZContext context, ConnectionStateModel model) {
+        if (socket == null || context == null || model == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        String address = MONITOR_ADDRESS + NEXT_ID.incrementAndGet();
+        if (!socket.monitor(address, ZMQ.EVENT_ALL)) {
+            throw new IllegalStateException(MONITOR_FAILED_ERROR);
+        }
+
+        this.socket = socket;
+        this.context = context;
+        this.model = model;
+        this.eventSocket = context.createSocket(SocketType.PAIR);
+        this.eventSocket.setReceiveTimeOut(POLL_TIMEOUT_MILLIS);
+        this.eventSocket.connect(address);
+        this.running = true;
+        this.thread = new Thread(this::receiveEvents, address);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Gets the model receiving the events.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The connection state model.
+     */
+    public ConnectionStateModel getModel() {
+        return this.model;
+    }
+
+    /**
+     * Checks whether the monitor is still receiving events.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return [true] iff the monitor has not been closed, otherwise [false].
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Detaches the monitor from the socket and stops the background thread.
+     *
+     * @precondition None
+     * @postcondition !this.isRunning()
+     */
+    @Override
+    public void close() {
+        if (!this.running) {
+            return;
+        }
+        this.running = false;
+        this.socket.monitor(null, 0);
+        try {
+            this.thread.join();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        this.context.destroySocket(this.eventSocket);
+    }
+
+    private void receiveEvents() {
+        while (this.running) {
+            ZMQ.Event event = ZMQ.Event.recv(this.eventSocket);
+            if (event != null) {
+                this.model.onEvent(event.getEvent(), System.currentTimeMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package habit_mode.model.connection;
+
+/**
+ * The state of the client's connection to the server.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum ConnectionState {
+    DISCONNECTED,
+    CONNECTING,
+    HANDSHAKING,
+    CONNECTED,
+    CLOSED
+}
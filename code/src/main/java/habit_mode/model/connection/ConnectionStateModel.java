@@ -0,0 +1,142 @@
+package habit_mode.model.connection;
+
+import java.util.concurrent.Executor;
+
+import org.zeromq.ZMQ;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * Turns ZeroMQ socket monitor events into a connection state and connection metrics.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ConnectionStateModel {
+    private static final String NULL_EXECUTOR_ERROR = "notificationExecutor cannot be null";
+
+    private volatile ConnectionState state;
+    private ReadOnlyObjectWrapper<ConnectionState> stateProperty;
+    private Executor notificationExecutor;
+    private ConnectionMetrics metrics;
+    private long connectedAt;
+    private long disconnectedSince;
+
+    /**
+     * Creates a new model that updates its state property on the thread reporting events.
+     *
+     * @precondition None
+     * @postcondition this.getState() == ConnectionState.DISCONNECTED
+     */
+    public ConnectionStateModel() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a new model that updates its state property through the specified executor,
+     * such as Platform::runLater for a property bound to the UI.
+     *
+     * @precondition notificationExecutor != null
+     * @postcondition this.getState() == ConnectionState.DISCONNECTED
+     *
+     * @param notificationExecutor The executor used to update the state property.
+     */
+    public ConnectionStateModel(Executor notificationExecutor) {
+        if (notificationExecutor == null) {
+            throw new IllegalArgumentException(NULL_EXECUTOR_ERROR);
+        }
+        this.notificationExecutor = notificationExecutor;
+        this.state = ConnectionState.DISCONNECTED;
+        this.stateProperty = new ReadOnlyObjectWrapper<ConnectionState>(ConnectionState.DISCONNECTED);
+        this.metrics = new ConnectionMetrics();
+        this.disconnectedSince = -1;
+    }
+
+    /**
+     * Updates the state and metrics for a socket monitor event.
+     *
+     * @precondition None
+     * @postcondition this.getState() reflects the event
+     *
+     * @param event The ZMQ.EVENT_* value of the event.
+     * @param timestampMillis When the event was observed, in milliseconds.
+     */
+    public synchronized void onEvent(int event, long timestampMillis) {
+        if (event == ZMQ.EVENT_CONNECT_DELAYED) {
+            this.changeState(ConnectionState.CONNECTING);
+        } else if (event == ZMQ.EVENT_CONNECT_RETRIED) {
+            this.metrics.recordReconnectAttempt();
+            this.changeState(ConnectionState.CONNECTING);
+        } else if (event == ZMQ.EVENT_CONNECTED) {
+            this.onConnected(timestampMillis);
+        } else if (event == ZMQ.EVENT_HANDSHAKE_PROTOCOL) {
+            this.metrics.recordHandshake(Math.max(0, timestampMillis - this.connectedAt));
+            this.changeState(ConnectionState.CONNECTED);
+        } else if (event == ZMQ.EVENT_DISCONNECTED) {
+            this.onDisconnected(timestampMillis);
+        } else if (event == ZMQ.EVENT_CLOSED || event == ZMQ.EVENT_MONITOR_STOPPED) {
+            this.changeState(ConnectionState.CLOSED);
+        }
+    }
+
+    /**
+     * Gets the current connection state.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The current connection state.
+     */
+    public ConnectionState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the observable connection state, updated through the notification executor.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The connection state property.
+     */
+    public ReadOnlyObjectProperty<ConnectionState> stateProperty() {
+        return this.stateProperty.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the connection metrics.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The connection metrics.
+     */
+    public ConnectionMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private void onConnected(long timestampMillis) {
+        this.metrics.recordConnect();
+        if (this.disconnectedSince >= 0) {
+            this.metrics.recordDisconnectedTime(Math.max(0, timestampMillis - this.disconnectedSince));
+            this.disconnectedSince = -1;
+        }
+        this.connectedAt = timestampMillis;
+        this.changeState(ConnectionState.HANDSHAKING);
+    }
+
+    private void onDisconnected(long timestampMillis) {
+        if (this.state == ConnectionState.HANDSHAKING) {
+            this.metrics.recordHandshakeFailure();
+        }
+        this.metrics.recordDisconnect();
+        this.disconnectedSince = timestampMillis;
+        this.changeState(ConnectionState.DISCONNECTED);
+    }
+
+    private void changeState(ConnectionState newState) {
+        this.state = newState;
+        this.notificationExecutor.execute(() -> this.stateProperty.set(newState));
+    }
+}
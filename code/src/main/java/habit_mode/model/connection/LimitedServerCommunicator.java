@@ -0,0 +1,176 @@
+package habit_mode.model.connection;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import habit_mode.model.Habit;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.ServerCommunicator;
+import habit_mode.model.SuccessCode;
+import habit_mode.model.sudoku.SudokuPuzzle;
+
+/**
+ * Passes requests to another communicator through an AdaptiveConcurrencyLimiter.
+ * Every request made through one instance uses the same priority; use forPriority to get a view
+ * with a different priority that shares the same limiter.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class LimitedServerCommunicator extends ServerCommunicator {
+    public static final String REQUEST_SHED_ERROR = "the request was shed because the server is overloaded";
+
+    private static final String NULL_ARGUMENT_ERROR = "delegate, limiter and priority cannot be null";
+
+    private ServerCommunicator delegate;
+    private AdaptiveConcurrencyLimiter limiter;
+    private RequestPriority priority;
+
+    /**
+     * Creates a new limited communicator.
+     *
+     * @precondition delegate != null && limiter != null && priority != null
+     * @postcondition this.getLimiter() == limiter && this.getPriority() == priority
+     *
+     * @param delegate The communicator that performs the requests.
+     * @param limiter The limiter shared by every request to the server.
+     * @param priority The priority of requests made through this communicator.
+     */
+    public LimitedServerCommunicator(ServerCommunicator delegate, AdaptiveConcurrencyLimiter limiter, RequestPriority priority) {
+        if (delegate == null || limiter == null || priority == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.delegate = delegate;
+        this.limiter = limiter;
+        this.priority = priority;
+    }
+
+    /**
+     * Gets a communicator for the same server and limiter that makes requests with another priority.
+     *
+     * @precondition priority != null
+     * @postcondition return.getLimiter() == this.getLimiter()
+     *
+     * @param priority The priority of the new view.
+     * @return The communicator using the specified priority.
+     */
+    public LimitedServerCommunicator forPriority(RequestPriority priority) {
+        return new LimitedServerCommunicator(this.delegate, this.limiter, priority);
+    }
+
+    /**
+     * Gets the limiter.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The limiter.
+     */
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return this.limiter;
+    }
+
+    /**
+     * Gets the priority of requests made through this communicator.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The priority.
+     */
+    public RequestPriority getPriority() {
+        return this.priority;
+    }
+
+    @Override
+    public SuccessCode registerCredentials(String username, String password, String email) {
+        return this.executeForCode(() -> this.delegate.registerCredentials(username, password, email));
+    }
+
+    @Override
+    public SuccessCode validateLogin(String username, String password) {
+        return this.executeForCode(() -> this.delegate.validateLogin(username, password));
+    }
+
+    @Override
+    public int getCoins() {
+        return this.execute(() -> this.delegate.getCoins(), result -> SuccessCode.OKAY);
+    }
+
+    @Override
+    public List<Habit> getHabits() {
+        return this.execute(() -> this.delegate.getHabits(), result -> SuccessCode.OKAY);
+    }
+
+    @Override
+    public SudokuPuzzle getSudokuPuzzle() {
+        return this.execute(() -> this.delegate.getSudokuPuzzle(), result -> SuccessCode.OKAY);
+    }
+
+    @Override
+    public SudokuPuzzle generateSudokuPuzzle() {
+        return this.execute(() -> this.delegate.generateSudokuPuzzle(), result -> SuccessCode.OKAY);
+    }
+
+    @Override
+    public boolean setCoins(int amount) {
+        return this.delegate.setCoins(amount);
+    }
+
+    @Override
+    public SuccessCode addHabit(Habit habit) {
+        return this.executeForCode(() -> this.delegate.addHabit(habit));
+    }
+
+    @Override
+    public SuccessCode removeHabit(Habit habit) {
+        return this.executeForCode(() -> this.delegate.removeHabit(habit));
+    }
+
+    @Override
+    public SuccessCode modifyHabit(Habit habit) {
+        return this.executeForCode(() -> this.delegate.modifyHabit(habit));
+    }
+
+    @Override
+    public SuccessCode completeHabit(Habit habit) {
+        return this.executeForCode(() -> this.delegate.completeHabit(habit));
+    }
+
+    @Override
+    public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
+        return this.executeForCode(() -> this.delegate.updateSudokuPuzzle(puzzle));
+    }
+
+    @Override
+    public int[] buyHint() {
+        return this.execute(() -> this.delegate.buyHint(), result -> SuccessCode.OKAY);
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        return this.execute(() -> this.delegate.getLeaderboard(type, offset, count), result -> SuccessCode.OKAY);
+    }
+
+    private SuccessCode executeForCode(Supplier<SuccessCode> request) {
+        return this.execute(request, Function.identity());
+    }
+
+    private <T> T execute(Supplier<T> request, Function<T, SuccessCode> toCode) {
+        if (!this.limiter.acquire(this.priority)) {
+            throw new IllegalStateException(REQUEST_SHED_ERROR);
+        }
+
+        long start = System.nanoTime();
+        SuccessCode code = SuccessCode.UNKNOWN_ERROR;
+        try {
+            T result = request.get();
+            code = toCode.apply(result);
+            return result;
+        } finally {
+            this.limiter.release(System.nanoTime() - start, code);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package habit_mode.model.connection;
+
+/**
+ * How important a request is when the client has to limit its load on the server.
+ * Interactive requests wait for capacity, background requests are shed when capacity is scarce.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BACKGROUND
+}
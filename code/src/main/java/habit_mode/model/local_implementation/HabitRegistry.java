@@ -0,0 +1,158 @@
+package habit_mode.model.local_implementation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import habit_mode.model.HabitManager;
+
+/**
+ * Holds a HabitManager for every user of the local server.
+ * A HabitManager is not thread safe, so every access goes through withHabits, which locks one of a
+ * fixed number of stripes chosen by the username. Users on different stripes never wait for each other,
+ * and there is no lock over the whole registry.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class HabitRegistry {
+    public static final int DEFAULT_STRIPE_COUNT = 64;
+
+    private static final String INVALID_STRIPE_COUNT_ERROR = "stripeCount must be a power of two greater than 0";
+    private static final String NULL_ARGUMENT_ERROR = "username and action cannot be null";
+
+    private ConcurrentHashMap<String, HabitManager> managers;
+    private ReentrantLock[] stripes;
+
+    /**
+     * Creates a new registry with the default number of stripes.
+     *
+     * @precondition None
+     * @postcondition this.getUserCount() == 0 && this.getStripeCount() == DEFAULT_STRIPE_COUNT
+     */
+    public HabitRegistry() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Creates a new registry.
+     *
+     * @precondition stripeCount > 0 && stripeCount is a power of two
+     * @postcondition this.getUserCount() == 0 && this.getStripeCount() == stripeCount
+     *
+     * @param stripeCount The number of locks users are spread over.
+     */
+    public HabitRegistry(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException(INVALID_STRIPE_COUNT_ERROR);
+        }
+        this.managers = new ConcurrentHashMap<String, HabitManager>();
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            this.stripes[stripe] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs an action on the habits of a user while holding the user's stripe lock, creating an empty
+     * HabitManager for the user if there is none. The manager must not be used after the action returns.
+     *
+     * @precondition username != null && action != null
+     * @postcondition None
+     *
+     * @param <T> The type of the result.
+     * @param username The user whose habits are used.
+     * @param action The action to run on the habits.
+     * @return The result of the action.
+     */
+    public <T> T withHabits(String username, Function<HabitManager, T> action) {
+        if (username == null || action == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        ReentrantLock lock = this.stripeFor(username);
+        lock.lock();
+        try {
+            return action.apply(this.managers.computeIfAbsent(username, user -> new HabitManager()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the habits of a user. The manager is returned outside of the lock, so this is only safe for
+     * callers that are the only ones using the user, such as a single-user client.
+     *
+     * @precondition username != null
+     * @postcondition None
+     *
+     * @param username The user whose habits are returned.
+     * @return The habits of the user.
+     */
+    public HabitManager getHabits(String username) {
+        return this.withHabits(username, Function.identity());
+    }
+
+    /**
+     * Removes a user and their habits.
+     *
+     * @precondition username != null
+     * @postcondition the user has no habits
+     *
+     * @param username The user to remove.
+     * @return [true] iff the user had habits, otherwise [false].
+     */
+    public boolean removeUser(String username) {
+        if (username == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        ReentrantLock lock = this.stripeFor(username);
+        lock.lock();
+        try {
+            return this.managers.remove(username) != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every user.
+     *
+     * @precondition None
+     * @postcondition this.getUserCount() == 0
+     */
+    public void clear() {
+        for (String username : this.managers.keySet()) {
+            this.removeUser(username);
+        }
+    }
+
+    /**
+     * Gets the number of users with habits.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of users.
+     */
+    public int getUserCount() {
+        return this.managers.size();
+    }
+
+    /**
+     * Gets the number of stripe locks.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of stripes.
+     */
+    public int getStripeCount() {
+        return this.stripes.length;
+    }
+
+    private ReentrantLock stripeFor(String username) {
+        int hash = username.hashCode();
+        hash ^= hash >>> 16;
+        return this.stripes[hash & (this.stripes.length - 1)];
+    }
+}
@@ -1,10 +1,27 @@
 package habit_mode.model.local_implementation;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import habit_mode.model.CoinLedger;
+import habit_mode.model.CoinTransactionType;
+import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
 import habit_mode.model.HabitManager;
+import habit_mode.model.Leaderboard;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.Milestone;
+import habit_mode.model.MilestoneEngine;
+import habit_mode.model.MilestoneKind;
 import habit_mode.model.ServerCommunicator;
 import habit_mode.model.SuccessCode;
 import habit_mode.model.sudoku.SudokuPuzzle;
@@ -12,8 +29,18 @@ import habit_mode.model.sudoku.SudokuPuzzle;
 /**
  * Stores server information locally, allowing for easy testing without the need
  * of a live server.
+ * Completing a habit awards COMPLETION_REWARD coins, plus the rewards of the
+ * milestones the completion reaches, as found by a MilestoneEngine per user.
+ * Like the coins of a user on the server, the coins of each user are kept in a
+ * CoinLedger shared by every instance acting for that user, recording every
+ * reward, bonus and purchase.
+ * Every change of coins also updates the balance of the user on a coin
+ * Leaderboard, and every completion the longest streak of the user on a
+ * longest streak Leaderboard, so pages of either are read without sorting the
+ * users.
  * All instances access the same static information, as though communicating
- * with the same server.
+ * with the same server. Each instance acts for one user, whose habits are kept
+ * in a shared HabitRegistry so that many simulated users can work concurrently.
  * To clear the information for unit testing, please use
  * LocalServerCommunicator::reset().
  * 
@@ -21,20 +48,73 @@ import habit_mode.model.sudoku.SudokuPuzzle;
  * @version Spring 2022
  */
 public class LocalServerCommunicator extends ServerCommunicator {
+    public static final String DEFAULT_USER = "local-user";
+
     private static final int COMPLETION_REWARD = 20;
     private static final int FULL_COMPLETION_BONUS = 50;
+    private static final int HINT_PRICE = 20;
 
     private static final String NEGATIVE_COIN_AMOUNT = "coins must not be negative";
     private static final String USERNAME = "username";
     private static final String PASSWORD = "password";
     private static final String EMAIL = "email";
+    private static final String NULL_USERNAME = "username must not be null";
+    private static final String NULL_CLOCK = "clock must not be null";
+    private static final String NULL_LEADERBOARD_TYPE = "type must not be null";
 
-    private static int coins = 0;
-    private static HabitManager habits = new HabitManager();
+    private static Map<String, CoinLedger> coinLedgers = new ConcurrentHashMap<String, CoinLedger>();
+    private static AtomicInteger nextHabitId = new AtomicInteger();
+    private static HabitRegistry habitRegistry = new HabitRegistry();
     private static SudokuPuzzle storedPuzzle = null;
-    private static boolean receivedBonus = false;
+    private static Set<String> usersWithBonus = ConcurrentHashMap.newKeySet();
+    private static Map<String, MilestoneEngine> milestoneEngines = new ConcurrentHashMap<String, MilestoneEngine>();
+    private static Map<LeaderboardType, Leaderboard> leaderboards = createLeaderboards();
     private static HashMap<String, String> registry = new HashMap<String, String>();
-    private static SuccessCode successCode;
+
+    private String username;
+    private Clock clock;
+
+    /**
+     * Creates a communicator acting for the default user.
+     * 
+     * @precondition None
+     * @postcondition this.getUsername() == DEFAULT_USER
+     */
+    public LocalServerCommunicator() {
+        this(DEFAULT_USER);
+    }
+
+    /**
+     * Creates a communicator acting for a user.
+     * 
+     * @precondition username != null
+     * @postcondition this.getUsername() == username
+     * 
+     * @param username The user whose habits this communicator works with.
+     */
+    public LocalServerCommunicator(String username) {
+        this(username, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a communicator acting for a user, with a clock deciding the day completions are recorded on.
+     * 
+     * @precondition username != null && clock != null
+     * @postcondition this.getUsername() == username
+     * 
+     * @param username The user whose habits this communicator works with.
+     * @param clock The clock giving the current date for milestones and streaks.
+     */
+    public LocalServerCommunicator(String username, Clock clock) {
+        if (username == null) {
+            throw new IllegalArgumentException(NULL_USERNAME);
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException(NULL_CLOCK);
+        }
+        this.username = username;
+        this.clock = clock;
+    }
 
     /**
      * Resets static fields stored values to their default state.
@@ -45,16 +125,57 @@ public class LocalServerCommunicator extends ServerCommunicator {
      *                LocalServerCommunicator.getHabits.isEmpty()
      */
     public static void reset() {
-        coins = 0;
+        coinLedgers.clear();
+        nextHabitId.set(0);
         storedPuzzle = null;
-        habits.clear();
+        habitRegistry.clear();
         registry.clear();
-        receivedBonus = false;
+        usersWithBonus.clear();
+        milestoneEngines.clear();
+        for (Leaderboard leaderboard : leaderboards.values()) {
+            leaderboard.clear();
+        }
+    }
+
+    /**
+     * Gets the registry holding the habits of every user.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The habit registry.
+     */
+    public static HabitRegistry getHabitRegistry() {
+        return habitRegistry;
+    }
+
+    /**
+     * Gets the ledger recording the coins of the user of this communicator.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The coin ledger of the user.
+     */
+    public CoinLedger getCoinLedger() {
+        return coinLedgers.computeIfAbsent(this.username, user -> new CoinLedger(this.clock));
+    }
+
+    /**
+     * Gets the user this communicator acts for.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The username.
+     */
+    public String getUsername() {
+        return this.username;
     }
 
     @Override
     public SuccessCode validateLogin(String username, String password) {
-        successCode = SuccessCode.OKAY;
+        SuccessCode successCode = SuccessCode.OKAY;
 
         if (username == null || username.isBlank() || !registry.containsValue(username) || password == null
             || password.isBlank() || !registry.containsValue(password)) {
@@ -66,12 +187,12 @@ public class LocalServerCommunicator extends ServerCommunicator {
 
     @Override
     public int getCoins() {
-        return coins;
+        return this.getCoinLedger().getBalance();
     }
 
     @Override
     public List<Habit> getHabits() {
-        return habits;
+        return habitRegistry.getHabits(this.username);
     }
 
     @Override
@@ -85,102 +206,83 @@ public class LocalServerCommunicator extends ServerCommunicator {
     @Override
     public SuccessCode addHabit(Habit habit) {
         if (habit == null) {
-            successCode = SuccessCode.INVALID_HABIT_NAME;
-            return successCode;
+            return SuccessCode.INVALID_HABIT_NAME;
         }
 
-
         Habit clonedHabit = new Habit(habit.getText(), habit.getFrequency());
-        clonedHabit.completionProperty().set(habit.isComplete());
-        habits.add(clonedHabit);
-        successCode = SuccessCode.OKAY;
-
-        return successCode;
+        clonedHabit.setRecurrence(habit.getRecurrence());
+        clonedHabit.setTags(habit.getTags());
+        clonedHabit.setId(nextHabitId.getAndIncrement());
+        clonedHabit.setComplete(habit.isComplete());
+        return habitRegistry.withHabits(this.username, habits -> {
+            habits.add(clonedHabit);
+            return SuccessCode.OKAY;
+        });
     }
 
     @Override
     public SuccessCode removeHabit(Habit habit) {
         if (habit == null) {
-            successCode = SuccessCode.INVALID_HABIT_NAME;
-            return successCode;
-        }
-        if (!habits.contains(habit)) {
-            successCode = SuccessCode.NO_HABIT_FOUND;
-            return successCode;
+            return SuccessCode.INVALID_HABIT_NAME;
         }
 
-        habits.remove(habit);
-        successCode = SuccessCode.OKAY;
-        return successCode;
+        return habitRegistry.withHabits(this.username, habits -> {
+            int index = habits.indexOf(habit);
+            if (index == -1) {
+                return SuccessCode.NO_HABIT_FOUND;
+            }
+            this.getMilestoneEngine().removeHabit(habits.remove(index));
+            return SuccessCode.OKAY;
+        });
     }
 
     @Override
     public SuccessCode modifyHabit(Habit habit) {
         if (habit == null) {
-            successCode = SuccessCode.INVALID_HABIT_NAME;
-            return successCode;
-        }
-        Habit matchedHabit = null;
-        for (Habit curHabit : habits) {
-            if (curHabit.getId() == habit.getId()) {
-                matchedHabit = curHabit;
-                break;
-            }
-        }
-
-        if (matchedHabit == null) {
-            successCode = SuccessCode.NO_HABIT_FOUND;
-            return successCode;
+            return SuccessCode.INVALID_HABIT_NAME;
         }
 
-        matchedHabit.textProperty().set(habit.getText());
-        matchedHabit.setFrequency(habit.getFrequency());
-
-        successCode = SuccessCode.OKAY;
-        return successCode;
+        return habitRegistry.withHabits(this.username, habits -> {
+            Habit matchedHabit = habits.getById(habit.getId());
+            if (matchedHabit == null) {
+                return SuccessCode.NO_HABIT_FOUND;
+            }
+            matchedHabit.setText(habit.getText());
+            matchedHabit.setFrequency(habit.getFrequency());
+            matchedHabit.setRecurrence(habit.getRecurrence());
+            matchedHabit.setTags(habit.getTags());
+            return SuccessCode.OKAY;
+        });
     }
 
     @Override
     public SuccessCode completeHabit(Habit habit) {
         if (habit == null) {
-            successCode = SuccessCode.INVALID_HABIT_NAME;
-            return successCode;
-        }
-        if (!habits.contains(habit)) {
-            successCode = SuccessCode.NO_HABIT_FOUND;
-            return successCode;
+            return SuccessCode.INVALID_HABIT_NAME;
         }
 
-        Habit storedHabit = this.getServerSideHabit(habit);
-
-        if (storedHabit.isComplete()) {
-            successCode = SuccessCode.OKAY;
-            return successCode;
-        }
-        storedHabit.completionProperty().set(true);
-        coins += COMPLETION_REWARD;
-
-        if (!receivedBonus) {
-            var completed = 0;
-            for (Habit currHabit : habits) {
-                if (currHabit.isComplete()) {
-                    completed++;
-                }
+        return habitRegistry.withHabits(this.username, habits -> {
+            Habit storedHabit = findServerSideHabit(habits, habit);
+            if (storedHabit == null) {
+                return SuccessCode.NO_HABIT_FOUND;
             }
-            if (completed == habits.size()) {
-                coins += FULL_COMPLETION_BONUS;
-                receivedBonus = true;
+            if (storedHabit.isComplete()) {
+                return SuccessCode.OKAY;
             }
-        }
-        successCode = SuccessCode.OKAY;
-        return successCode;
+            storedHabit.setComplete(true);
+            this.recordCoins(COMPLETION_REWARD, CoinTransactionType.REWARD);
+            this.awardMilestones(habits, storedHabit);
+            if (habits.isAllComplete() && usersWithBonus.add(this.username)) {
+                this.recordCoins(FULL_COMPLETION_BONUS, CoinTransactionType.BONUS);
+            }
+            return SuccessCode.OKAY;
+        });
     }
 
     @Override
     public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
         LocalServerCommunicator.storedPuzzle = puzzle;
-        successCode = SuccessCode.OKAY;
-        return successCode;
+        return SuccessCode.OKAY;
     }
 
     @Override
@@ -189,10 +291,35 @@ public class LocalServerCommunicator extends ServerCommunicator {
             throw new IllegalArgumentException(NEGATIVE_COIN_AMOUNT);
         }
 
-        coins = amount;
+        CoinLedger ledger = this.getCoinLedger();
+        synchronized (ledger) {
+            leaderboards.get(LeaderboardType.COINS).update(this.username, ledger.setBalance(amount, CoinTransactionType.ADJUSTMENT));
+        }
         return true;
     }
 
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        if (type == null) {
+            throw new IllegalArgumentException(NULL_LEADERBOARD_TYPE);
+        }
+
+        return leaderboards.get(type).getPage(offset, count);
+    }
+
+    /**
+     * Gets the milestones the user of this communicator has reached. Each milestone awarded its reward
+     * in coins when the habit completion reaching it was sent.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The reached milestones, in the order they were reached.
+     */
+    public List<Milestone> getReachedMilestones() {
+        return habitRegistry.withHabits(this.username, habits -> List.copyOf(this.getMilestoneEngine().getReached()));
+    }
+
     /**
      * Gets the server-side version of a given Habit.
      * 
@@ -200,6 +327,46 @@ public class LocalServerCommunicator extends ServerCommunicator {
      * @return The server-side version of a habit if it exists, otherwise null.
      */
     public Habit getServerSideHabit(Habit habit) {
+        return habitRegistry.withHabits(this.username, habits -> findServerSideHabit(habits, habit));
+    }
+
+    private MilestoneEngine getMilestoneEngine() {
+        return milestoneEngines.computeIfAbsent(this.username, user -> new MilestoneEngine());
+    }
+
+    private void awardMilestones(HabitManager habits, Habit completedHabit) {
+        MilestoneEngine engine = this.getMilestoneEngine();
+        LocalDate today = LocalDate.now(this.clock);
+        List<Milestone> reached = new ArrayList<Milestone>(engine.recordCompletion(completedHabit, today));
+        leaderboards.get(LeaderboardType.LONGEST_STREAKS).update(this.username, engine.getProgress(MilestoneKind.STREAK));
+        if (completedHabit.getFrequency() == Frequency.DAILY && habits.getIncompleteCount(Frequency.DAILY) == 0) {
+            reached.addAll(engine.recordDailyHabitsDone(today));
+        }
+        for (Milestone milestone : reached) {
+            this.recordCoins(milestone.getReward(), CoinTransactionType.MILESTONE);
+        }
+    }
+
+    private void recordCoins(int amount, CoinTransactionType type) {
+        CoinLedger ledger = this.getCoinLedger();
+        synchronized (ledger) {
+            leaderboards.get(LeaderboardType.COINS).update(this.username, ledger.record(amount, type));
+        }
+    }
+
+    private static Map<LeaderboardType, Leaderboard> createLeaderboards() {
+        Map<LeaderboardType, Leaderboard> byType = new EnumMap<LeaderboardType, Leaderboard>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            byType.put(type, new Leaderboard());
+        }
+        return byType;
+    }
+
+    private static Habit findServerSideHabit(HabitManager habits, Habit habit) {
+        Habit byId = habits.getById(habit.getId());
+        if (byId != null && byId.equals(habit)) {
+            return byId;
+        }
         int index = habits.indexOf(habit);
 
         return index == -1 ? null : habits.get(index);
@@ -207,6 +374,7 @@ public class LocalServerCommunicator extends ServerCommunicator {
 
     @Override
     public SuccessCode registerCredentials(String username, String password, String email) {
+        SuccessCode successCode;
         if (username == null || username.isBlank()) {
             successCode = SuccessCode.INVALID_USERNAME;
         } else if (password == null || password.isBlank()) {
@@ -283,7 +451,13 @@ public class LocalServerCommunicator extends ServerCommunicator {
         hint[0] = 7;
         hint[1] = 0;
         hint[2] = 0;
-        hint[3] = coins - 20;
+        CoinLedger ledger = this.getCoinLedger();
+        synchronized (ledger) {
+            if (ledger.getBalance() >= HINT_PRICE) {
+                this.recordCoins(-HINT_PRICE, CoinTransactionType.PURCHASE);
+            }
+            hint[3] = ledger.getBalance();
+        }
         return hint;
     }
 }
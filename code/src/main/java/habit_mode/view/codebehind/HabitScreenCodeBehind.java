@@ -2,15 +2,27 @@ package habit_mode.view.codebehind;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.ResourceBundle;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.beans.value.ObservableValue;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -20,10 +32,13 @@ import javafx.scene.control.Toggle;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.control.cell.CheckBoxListCell;
 import javafx.scene.layout.AnchorPane;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import javafx.util.Callback;
+import javafx.util.Duration;
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
+import habit_mode.model.HeatmapTile;
 import habit_mode.model.ServerServerCommunicator;
 import habit_mode.view_model.HabitViewModel;
 import javafx.scene.Node;
@@ -35,7 +50,17 @@ import javafx.scene.Node;
  * @version Spring 2022
  */
 public class HabitScreenCodeBehind {
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int HEATMAP_COLUMNS = 3;
+    private static final double HEATMAP_CELL_SIZE = 18;
+    private static final double HEATMAP_LABEL_HEIGHT = 16;
+    private static final double HEATMAP_TILE_WIDTH = 155;
+    private static final double HEATMAP_TILE_HEIGHT = 130;
+    private static final Path HABIT_CACHE_DIRECTORY = Paths.get(System.getProperty("user.home"));
+
     private HabitViewModel viewModel;
+    private Timeline resetTimer;
+    private Path habitCacheFile;
 
     @FXML
     private AnchorPane mainPane;
@@ -97,6 +122,9 @@ public class HabitScreenCodeBehind {
     @FXML
     private TextField habitNameTextField;
 
+    @FXML
+    private TextField habitSearchTextField;
+
     @FXML
     private Button removeHabitsButton;
 
@@ -154,6 +182,34 @@ public class HabitScreenCodeBehind {
     @FXML
     private Label noSelectedHabitLabel;
 
+    @FXML
+    private Button heatmapButton;
+
+    @FXML
+    private AnchorPane heatmapAnchorPane;
+
+    @FXML
+    private Label heatmapYearLabel;
+
+    @FXML
+    private Button closeHeatmapButton;
+
+    @FXML
+    private Canvas heatmapCanvas;
+
+    @FXML
+    void heatmapButtonClicked(ActionEvent event) {
+        int year = this.viewModel.getToday().getYear();
+        this.heatmapYearLabel.setText("Completions in " + year);
+        this.drawHeatmap(year);
+        this.heatmapAnchorPane.setVisible(true);
+    }
+
+    @FXML
+    void closeHeatmapButtonClicked(ActionEvent event) {
+        this.heatmapAnchorPane.setVisible(false);
+    }
+
     @FXML
     void removeButtonClicked(ActionEvent event) {
         try {
@@ -193,7 +249,7 @@ public class HabitScreenCodeBehind {
     void confirmUpdateHabitButtonClicked(ActionEvent event) {
         try {
             int index = this.habitListView.getSelectionModel().getSelectedIndex();
-            this.viewModel.updateHabit(index);
+            this.viewModel.updateHabit(this.viewModel.getHabitListIndex(index));
             this.habitListView.refresh();
             this.addHabitBackgroundAnchorPane.setVisible(false);
             this.removeHabitAnchorPane.setVisible(false);
@@ -210,7 +266,7 @@ public class HabitScreenCodeBehind {
     void confirmCompleteHabitButtonClicked(ActionEvent event) {
         ArrayList<Habit> habits = new ArrayList<Habit>();
         for (Habit item : this.viewModel.habitListProperty().get()) {
-            if (item.completionProperty().get()) {
+            if (item.isComplete()) {
                 habits.add(item);
             }
         }
@@ -218,7 +274,7 @@ public class HabitScreenCodeBehind {
         for (Habit habit : habits) {
             this.viewModel.sendCompletedHabit(habit);
             this.completedHabitListView.getItems().add(habit);
-            this.habitListView.getItems().remove(habit);
+            this.viewModel.habitListProperty().remove(habit);
         }
         this.completeHabitAnchorPane.setVisible(false);
         this.addHabitBackgroundAnchorPane.setVisible(false);
@@ -258,8 +314,12 @@ public class HabitScreenCodeBehind {
 
     @FXML
     void sudokuButtonSelected(ActionEvent event) throws IOException {
+        this.viewModel.stopReminders();
+        this.resetTimer.stop();
+        this.saveHabitCache();
         Parent loader = FXMLLoader.load(getClass().getResource("TransitionScreen.fxml"));
         loader.setUserData(this.viewModel.getAuthenticationToken());
+        loader.getProperties().put(LoginScreen.USERNAME_PROPERTY, ((Node) event.getSource()).getScene().getRoot().getProperties().get(LoginScreen.USERNAME_PROPERTY));
 
         Scene scene = new Scene(loader);
 
@@ -279,6 +339,43 @@ public class HabitScreenCodeBehind {
         this.setHabitListeners();
         this.setViewModelBindings();
         this.setPaneListener();
+        this.startResetTimer();
+        this.viewModel.startReminders(new ToastNotifier(this.mainPane));
+    }
+
+    private void drawHeatmap(int year) {
+        GraphicsContext graphics = this.heatmapCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, this.heatmapCanvas.getWidth(), this.heatmapCanvas.getHeight());
+        List<HeatmapTile> tiles = new ArrayList<HeatmapTile>();
+        int maxCount = 0;
+        for (Month month : Month.values()) {
+            HeatmapTile tile = this.viewModel.getHeatmap().getTile(YearMonth.of(year, month));
+            tiles.add(tile);
+            maxCount = Math.max(maxCount, tile.getMaxCount());
+        }
+        for (HeatmapTile tile : tiles) {
+            int index = tile.getMonth().getMonthValue() - 1;
+            this.drawTile(graphics, tile, maxCount, (index % HEATMAP_COLUMNS) * HEATMAP_TILE_WIDTH, (index / HEATMAP_COLUMNS) * HEATMAP_TILE_HEIGHT);
+        }
+    }
+
+    private void drawTile(GraphicsContext graphics, HeatmapTile tile, int maxCount, double x, double y) {
+        graphics.setFill(Color.BLACK);
+        graphics.fillText(tile.getMonth().getMonth().getDisplayName(TextStyle.FULL, Locale.getDefault()), x, y + HEATMAP_LABEL_HEIGHT - 4);
+        int firstColumn = tile.getMonth().atDay(1).getDayOfWeek().getValue() % DAYS_PER_WEEK;
+        for (int day = 1; day <= tile.getMonth().lengthOfMonth(); day++) {
+            int cell = firstColumn + day - 1;
+            double intensity = maxCount == 0 ? 0 : (double) tile.getCount(day) / maxCount;
+            graphics.setFill(tile.getCount(day) == 0 ? Color.gray(0.9) : Color.hsb(120, 0.3 + 0.7 * intensity, 0.85 - 0.45 * intensity));
+            graphics.fillRect(x + (cell % DAYS_PER_WEEK) * HEATMAP_CELL_SIZE, y + HEATMAP_LABEL_HEIGHT + (cell / DAYS_PER_WEEK) * HEATMAP_CELL_SIZE,
+                HEATMAP_CELL_SIZE - 2, HEATMAP_CELL_SIZE - 2);
+        }
+    }
+
+    private void startResetTimer() {
+        this.resetTimer = new Timeline(new KeyFrame(Duration.minutes(1), event -> this.viewModel.resetDueHabits()));
+        this.resetTimer.setCycleCount(Animation.INDEFINITE);
+        this.resetTimer.play();
     }
 
     private void assertFields() {
@@ -322,6 +419,8 @@ public class HabitScreenCodeBehind {
                 : "fx:id=\"habitNameErrorLabel\" was not injected: check your FXML file 'HabitScreen.fxml'.";
         assert this.habitNameTextField != null
                 : "fx:id=\"habitNameTextField\" was not injected: check your FXML file 'HabitScreen.fxml'.";
+        assert this.habitSearchTextField != null
+                : "fx:id=\"habitSearchTextField\" was not injected: check your FXML file 'HabitScreen.fxml'.";
         assert this.mainPane != null 
                 : "fx:id=\"mainPane\" was not injected: check your FXML file 'HabitScreen.fxml'.";
     }
@@ -329,13 +428,31 @@ public class HabitScreenCodeBehind {
     private void setPaneListener() {
         this.mainPane.sceneProperty().addListener((obs, wasNull, exists) -> {
             if (this.mainPane.sceneProperty().isNotNull().get()) {
-                ((ServerServerCommunicator) this.viewModel.getServerCommunicator()).setToken((String) this.mainPane.getScene().getRoot().getUserData());
+                Parent root = this.mainPane.getScene().getRoot();
+                ((ServerServerCommunicator) this.viewModel.getServerCommunicator()).setToken((String) root.getUserData());
+                this.loadHabitCache((String) root.getProperties().get(LoginScreen.USERNAME_PROPERTY));
                 this.viewModel.getHabitsFromServer();
+                this.saveHabitCache();
                 this.viewModel.updateCoins();
             }
         });
     }
 
+    private void loadHabitCache(String username) {
+        if (username == null) {
+            return;
+        }
+        this.habitCacheFile = HabitViewModel.habitCacheFile(HABIT_CACHE_DIRECTORY, username);
+        HabitViewModel.deleteHabitCaches(HABIT_CACHE_DIRECTORY, this.habitCacheFile);
+        this.viewModel.loadHabitCache(this.habitCacheFile);
+    }
+
+    private void saveHabitCache() {
+        if (this.habitCacheFile != null) {
+            this.viewModel.saveHabitCache(this.habitCacheFile);
+        }
+    }
+
     private void setViewModelBindings() {
         this.viewModel.dailySelectedProperty().bindBidirectional(this.dailyRadioButton.selectedProperty());
         this.viewModel.weeklySelectedProperty().bindBidirectional(this.weeklyRadioButton.selectedProperty());
@@ -346,8 +463,9 @@ public class HabitScreenCodeBehind {
         this.viewModel.errorVisibleProperty().bindBidirectional(this.habitNameErrorLabel.visibleProperty());
         this.viewModel.habitNameProperty().bindBidirectional(this.habitNameTextField.textProperty());
         this.viewModel.removeHabitNameProperty().bindBidirectional(this.updateHabitNameTextField.textProperty());
-        this.viewModel.habitListProperty().bindBidirectional(this.habitListView.itemsProperty());
-        this.viewModel.completedHabitListProperty().bindBidirectional(this.completedHabitListView.itemsProperty());
+        this.viewModel.searchTextProperty().bindBidirectional(this.habitSearchTextField.textProperty());
+        this.habitListView.itemsProperty().bind(this.viewModel.searchResultsProperty());
+        this.completedHabitListView.itemsProperty().bindBidirectional(this.viewModel.completedHabitListProperty());
         this.viewModel.coinsLabelProperty().bindBidirectional(this.coinsLabel.textProperty());
 
         
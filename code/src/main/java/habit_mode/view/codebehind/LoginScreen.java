@@ -3,6 +3,8 @@ package habit_mode.view.codebehind;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ResourceBundle;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -25,6 +27,11 @@ import habit_mode.view_model.LoginScreenViewModel;
  * @version Spring 2022
  */
 public class LoginScreen {
+    /**
+     * The key of the root property holding the username of the signed in account. Every screen copies
+     * it to the root of the next screen along with the authentication token.
+     */
+    public static final String USERNAME_PROPERTY = "username";
 
     private boolean isUserNew;
 
@@ -33,6 +40,9 @@ public class LoginScreen {
     @FXML
     private Label emailLabel;
 
+    @FXML
+    private Label connectionLabel;
+
     @FXML
     private ResourceBundle resources;
 
@@ -61,8 +71,10 @@ public class LoginScreen {
     void loginButtonPress(ActionEvent event) throws IOException {
         try {
             if (this.viewModel.validateLogin() == SuccessCode.OKAY) {
+                this.viewModel.stopConnectionMonitor();
                 Parent loader = FXMLLoader.load(getClass().getResource("HabitScreen.fxml"));
                 loader.setUserData(this.viewModel.getAuthenticationToken());
+                loader.getProperties().put(USERNAME_PROPERTY, this.viewModel.usernameProperty().getValue());
 
                 Scene scene = new Scene(loader);
 
@@ -106,6 +118,10 @@ public class LoginScreen {
         this.viewModel.usernameProperty().bindBidirectional(this.userNameTextField.textProperty());
         this.viewModel.passwordProperty().bindBidirectional(this.passwordTextField.textProperty());
         this.viewModel.emailProperty().bindBidirectional(this.emailTextField.textProperty());
+        this.viewModel.startConnectionMonitor(Platform::runLater);
+        if (this.viewModel.getConnectionStateModel() != null) {
+            this.connectionLabel.textProperty().bind(Bindings.concat("Server: ", this.viewModel.getConnectionStateModel().stateProperty()));
+        }
 
         assert this.loginButton != null : "fx:id=\"loginButton\" was not injected: check your FXML file 'LoginScreen.fxml'.";
         assert this.passwordTextField != null : "fx:id=\"passwordTextField\" was not injected: check your FXML file 'LoginScreen.fxml'.";
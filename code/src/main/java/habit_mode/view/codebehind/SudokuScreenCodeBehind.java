@@ -120,6 +120,9 @@ public class SudokuScreenCodeBehind {
     void hintButtonClicked(ActionEvent event) {
         if (this.viewModel.getServerCommunicator().getCoins() - 20 >= 0) {
             int[] hint = this.viewModel.getServerCommunicator().buyHint();
+            if (hint == null) {
+                return;
+            }
             int number = hint[0];
             int row = hint[1];
             int col = hint[2];
@@ -156,6 +159,7 @@ public class SudokuScreenCodeBehind {
         this.viewModel.getServerCommunicator().updateSudokuPuzzle(this.viewModel.getPuzzle());
         Parent loader = FXMLLoader.load(getClass().getResource("HabitScreen.fxml"));
         loader.setUserData(this.viewModel.getAuthenticationToken());
+        loader.getProperties().put(LoginScreen.USERNAME_PROPERTY, ((Node) event.getSource()).getScene().getRoot().getProperties().get(LoginScreen.USERNAME_PROPERTY));
 
         Scene scene = new Scene(loader);
 
@@ -0,0 +1,95 @@
+package habit_mode.view.codebehind;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+
+import habit_mode.model.Habit;
+import habit_mode.model.Notifier;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.stage.Popup;
+import javafx.stage.PopupWindow;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+/**
+ * Shows reminders as toasts in the bottom right corner of the window a node is shown in. Toasts that
+ * arrive together are stacked, and each one disappears after TOAST_SECONDS. Reminders that arrive while
+ * the node is not shown, such as while another screen is open, are dropped.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class ToastNotifier implements Notifier {
+    public static final double TOAST_SECONDS = 6;
+
+    private static final String NULL_ARGUMENT_ERROR = "argument cannot be null";
+    private static final String REMINDER_FORMAT = "\"%s\" is not complete yet. It resets at %s.";
+    private static final String TOAST_STYLE = "-fx-background-color: rgba(40, 40, 40, 0.9); -fx-text-fill: white;"
+            + " -fx-padding: 8 12 8 12; -fx-background-radius: 6;";
+    private static final double MARGIN = 16;
+    private static final double SPACING = 6;
+
+    private Node owner;
+    private Popup popup;
+    private VBox toasts;
+    private DateTimeFormatter formatter;
+
+    /**
+     * Creates a new notifier showing toasts over the window of a node.
+     *
+     * @precondition owner != null
+     * @postcondition None
+     *
+     * @param owner The node whose window shows the toasts.
+     */
+    public ToastNotifier(Node owner) {
+        if (owner == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        this.owner = owner;
+        this.toasts = new VBox(SPACING);
+        this.popup = new Popup();
+        this.popup.getContent().add(this.toasts);
+        this.popup.setAnchorLocation(PopupWindow.AnchorLocation.WINDOW_BOTTOM_RIGHT);
+        this.formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT).withZone(ZoneId.systemDefault());
+    }
+
+    @Override
+    public void remind(Habit habit, Instant deadline) {
+        if (habit == null || deadline == null) {
+            throw new IllegalArgumentException(NULL_ARGUMENT_ERROR);
+        }
+        String message = String.format(REMINDER_FORMAT, habit.getText(), this.formatter.format(deadline));
+        Platform.runLater(() -> this.showToast(message));
+    }
+
+    private void showToast(String message) {
+        Scene scene = this.owner.getScene();
+        if (scene == null || scene.getWindow() == null || !scene.getWindow().isShowing()) {
+            return;
+        }
+        Label toast = new Label(message);
+        toast.setStyle(TOAST_STYLE);
+        this.toasts.getChildren().add(toast);
+        Window window = scene.getWindow();
+        this.popup.show(window, window.getX() + window.getWidth() - MARGIN, window.getY() + window.getHeight() - MARGIN);
+
+        PauseTransition delay = new PauseTransition(Duration.seconds(TOAST_SECONDS));
+        delay.setOnFinished(event -> this.hideToast(toast));
+        delay.play();
+    }
+
+    private void hideToast(Label toast) {
+        this.toasts.getChildren().remove(toast);
+        if (this.toasts.getChildren().isEmpty()) {
+            this.popup.hide();
+        }
+    }
+}
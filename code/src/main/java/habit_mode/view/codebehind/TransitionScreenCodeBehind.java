@@ -40,6 +40,7 @@ public class TransitionScreenCodeBehind {
     void continueClicked(ActionEvent event) throws IOException {
         Parent loader = FXMLLoader.load(getClass().getResource("SudokuScreen.fxml"));
         loader.setUserData(this.viewModel.getAuthenticationToken());
+        loader.getProperties().put(LoginScreen.USERNAME_PROPERTY, ((Node) event.getSource()).getScene().getRoot().getProperties().get(LoginScreen.USERNAME_PROPERTY));
 
 
         Scene scene = new Scene(loader);
@@ -55,6 +56,7 @@ public class TransitionScreenCodeBehind {
     void habitButtonClicked(ActionEvent event) throws IOException {
         Parent loader = FXMLLoader.load(getClass().getResource("HabitScreen.fxml"));
         loader.setUserData(this.viewModel.getAuthenticationToken());
+        loader.getProperties().put(LoginScreen.USERNAME_PROPERTY, ((Node) event.getSource()).getScene().getRoot().getProperties().get(LoginScreen.USERNAME_PROPERTY));
 
 
         Scene scene = new Scene(loader);
@@ -90,6 +92,7 @@ public class TransitionScreenCodeBehind {
         if (this.viewModel.getServerCommunicator().generateSudokuPuzzle() != null) {
             Parent loader = FXMLLoader.load(getClass().getResource("SudokuScreen.fxml"));
             loader.setUserData(this.viewModel.getAuthenticationToken());
+            loader.getProperties().put(LoginScreen.USERNAME_PROPERTY, ((Node) event.getSource()).getScene().getRoot().getProperties().get(LoginScreen.USERNAME_PROPERTY));
 
             Scene scene = new Scene(loader);
 
@@ -1,9 +1,33 @@
 package habit_mode.view_model;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import habit_mode.model.CompletionHeatmap;
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.HabitSearchIndex;
+import habit_mode.model.HabitTagIndex;
+import habit_mode.model.MappedHabitStore;
+import habit_mode.model.Notifier;
+import habit_mode.model.HabitStatistics;
+import habit_mode.model.ObservableHabitList;
+import habit_mode.model.ReminderScheduler;
+import habit_mode.model.ResetScheduler;
 import habit_mode.model.ServerCommunicator;
 import habit_mode.model.ServerServerCommunicator;
 import habit_mode.model.SuccessCode;
@@ -15,7 +39,8 @@ import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
 
 /**
  * The habitViewModel class.
@@ -24,6 +49,19 @@ import javafx.collections.FXCollections;
  * @version Spring 2022
  */
 public class HabitViewModel {
+    private static final String NULL_FILE_ERROR = "file must not be null";
+    private static final String NULL_ACCOUNT_ERROR = "directory and username must not be null";
+    private static final String HABIT_CACHE_PREFIX = ".habit_mode_habits";
+    private static final String HABIT_CACHE_SUFFIX = ".bin";
+    private static final String HABIT_CACHE_GLOB = HABIT_CACHE_PREFIX + "*" + HABIT_CACHE_SUFFIX;
+    private static final String ACCOUNT_HASH_ALGORITHM = "SHA-256";
+    private static final int HEX_RADIX = 16;
+    private static final String TAG_PREFIX = "#";
+    private static final String EXCLUDED_TAG_PREFIX = "-#";
+    private static final String TAG_SEPARATOR = ",";
+    private static final String WORD_SEPARATOR = " ";
+    private static final String WHITESPACE = "\\s+";
+
     private ServerCommunicator serverCommunicator;
     private BooleanProperty dailySelectedProperty;
     private BooleanProperty weeklySelectedProperty;
@@ -38,6 +76,19 @@ public class HabitViewModel {
     private BooleanProperty removeDailySelectedProperty;
     private BooleanProperty removeWeeklySelectedProperty;
     private StringProperty removeHabitNameProperty;
+    private HabitManager pendingHabits;
+    private HabitManager completedHabits;
+    private ResetScheduler resetScheduler;
+    private ReminderScheduler reminderScheduler;
+    private Clock clock;
+    private HabitStatistics statistics;
+    private CompletionHeatmap heatmap;
+    private HabitSearchIndex searchIndex;
+    private HabitTagIndex tagIndex;
+    private StringProperty searchTextProperty;
+    private FilteredList<Habit> searchResults;
+    private String searchQuery;
+    private ListProperty<Habit> searchResultsProperty;
 
     /**
      * Creates a new habit view model.
@@ -47,7 +98,7 @@ public class HabitViewModel {
      *                 SimpleObjectProperty<Frequency>(), this.habitNameProperty()
      *                 == new SimpleStringProperty(""),
      *                 this.habitListProperty() ==
-     *                 FXCollections.observableArrayList(new HabitManager());
+     *                 new ObservableHabitList(new HabitManager());
      */
     public HabitViewModel() {
         this(new ServerServerCommunicator());
@@ -62,11 +113,25 @@ public class HabitViewModel {
      *                SimpleObjectProperty<Frequency>(), this.habitNameProperty()
      *                == new SimpleStringProperty(""),
      *                this.habitListProperty() ==
-     *                FXCollections.observableArrayList(new HabitManager());
+     *                new ObservableHabitList(new HabitManager());
      * 
      * @param serverCommunicator A server communicator to be used in the view model.
      */
     public HabitViewModel(ServerCommunicator serverCommunicator) {
+        this(serverCommunicator, Clock.systemDefaultZone());
+    }
+
+    /**
+     * A special constructor for use during tests, with a clock deciding when completed habits reset and
+     * which period a completion is recorded in.
+     * 
+     * @precondition clock != null
+     * @postcondition completed habits reset according to clock
+     * 
+     * @param serverCommunicator A server communicator to be used in the view model.
+     * @param clock The clock giving the current time and the time zone habits reset in.
+     */
+    public HabitViewModel(ServerCommunicator serverCommunicator, Clock clock) {
         this.serverCommunicator = serverCommunicator;
         this.dailySelectedProperty = new SimpleBooleanProperty();
         this.weeklySelectedProperty = new SimpleBooleanProperty();
@@ -79,12 +144,89 @@ public class HabitViewModel {
         this.habitNameProperty = new SimpleStringProperty("");
         this.removeHabitNameProperty = new SimpleStringProperty("");
         this.coinsLabelProperty = new SimpleStringProperty("");
-        this.habitListProperty = new SimpleListProperty<Habit>(FXCollections.observableArrayList());
-        this.completedHabitListProperty = new SimpleListProperty<Habit>(FXCollections.observableArrayList());
+        this.pendingHabits = new HabitManager();
+        this.habitListProperty = new SimpleListProperty<Habit>(new ObservableHabitList(this.pendingHabits));
+        this.completedHabits = new HabitManager();
+        this.completedHabitListProperty = new SimpleListProperty<Habit>(new ObservableHabitList(this.completedHabits));
+        this.resetScheduler = new ResetScheduler(this.completedHabits, clock);
+        this.clock = clock;
+        this.statistics = new HabitStatistics();
+        this.heatmap = new CompletionHeatmap(this::getAllHabits);
+        this.searchIndex = new HabitSearchIndex();
+        this.tagIndex = new HabitTagIndex();
+        this.searchTextProperty = new SimpleStringProperty("");
+        this.searchResults = new FilteredList<Habit>(this.habitListProperty);
+        this.searchResultsProperty = new SimpleListProperty<Habit>(this.searchResults);
+        this.habitListProperty.addListener(this::habitListChanged);
+        this.searchQuery = "";
+        this.searchTextProperty.addListener((property, oldText, newText) -> this.searchTextChanged(newText));
     }
 
     /**
-     * Adds a habit to the system.
+     * Resets the completed habits whose frequency has come around and moves them back to the habit list.
+     * Each list property receives the moved habits as a single change.
+     * 
+     * @precondition None
+     * @postcondition no habit in this.completedHabitListProperty() is past its reset time
+     * 
+     * @return The habits that were reset.
+     */
+    public List<Habit> resetDueHabits() {
+        List<Habit> reset = this.resetScheduler.advance();
+        if (!reset.isEmpty()) {
+            Set<Habit> resetHabits = Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+            resetHabits.addAll(reset);
+            this.completedHabits.removeIf(resetHabits::contains);
+            this.habitListProperty.addAll(reset);
+        }
+        return reset;
+    }
+
+    /**
+     * Starts reminding the user of the habits in the habit list that are not complete yet, from a
+     * background thread, ReminderScheduler.DEFAULT_LEAD_TIME before they reset. The reminders keep
+     * following the habit list as habits are added, completed and removed. Starting the reminders again
+     * after they were stopped keeps the notifier of the first call.
+     * 
+     * @precondition notifier != null
+     * @postcondition this.getReminderScheduler().isRunning()
+     * 
+     * @param notifier The notifier showing the reminders.
+     */
+    public void startReminders(Notifier notifier) {
+        if (this.reminderScheduler == null) {
+            this.reminderScheduler = new ReminderScheduler(this.pendingHabits, notifier, ReminderScheduler.DEFAULT_LEAD_TIME, this.clock);
+        }
+        this.reminderScheduler.start();
+    }
+
+    /**
+     * Stops the thread reminding the user of habits, if it was started.
+     * 
+     * @precondition None
+     * @postcondition this.getReminderScheduler() == null || !this.getReminderScheduler().isRunning()
+     */
+    public void stopReminders() {
+        if (this.reminderScheduler != null) {
+            this.reminderScheduler.close();
+        }
+    }
+
+    /**
+     * Gets the scheduler reminding the user of habits.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The reminder scheduler, or null if the reminders were never started.
+     */
+    public ReminderScheduler getReminderScheduler() {
+        return this.reminderScheduler;
+    }
+
+    /**
+     * Adds a habit to the system. Words of the habit name starting with # are taken off the name and
+     * become tags of the habit.
      * 
      * @precondition this.habitNameProperty.getValue() != null || "";
      * @postcondition this.habitListProperty().getValue().size() ==
@@ -100,7 +242,14 @@ public class HabitViewModel {
             throw new IllegalArgumentException(Habit.EMPTY_TEXT_ERROR);
         }
 
-        Habit habit = new Habit(this.habitNameProperty.getValue(), this.determineFrequency());
+        List<String> tags = new ArrayList<String>();
+        String text = this.takeTags(this.habitNameProperty.getValue(), tags);
+        if (text.isEmpty()) {
+            this.errorVisibleProperty.set(true);
+            throw new IllegalArgumentException(Habit.EMPTY_TEXT_ERROR);
+        }
+        Habit habit = new Habit(text, this.determineFrequency());
+        habit.setTags(tags);
         if (this.serverCommunicator.addHabit(habit) == SuccessCode.OKAY) {
             List<Habit> habits = this.serverCommunicator.getHabits();
             this.habitListProperty.add(habits.get(habits.size() - 1));
@@ -110,19 +259,116 @@ public class HabitViewModel {
     }
 
     /**
-     * Gets the list of habits currently stored in the server and updates the list property.
+     * Gets the list of habits currently stored in the server and replaces the habits in the list
+     * properties with them, such as the cached habits shown by loadHabitCache.
+     * Each list property receives the new habits as a single change.
      *
      * @postcondition this.habitListProperty().getValue().size() == 
      *                numberOfHabitsOnServer 
      */
     public void getHabitsFromServer() {
-        List<Habit> habits = this.serverCommunicator.getHabits();
-        for (Habit habit : habits) {
-            if (habit.isComplete()) {
-                this.completedHabitListProperty.add(habit);
-            } else {
-                this.habitListProperty.add(habit);
+        this.showHabits(this.serverCommunicator.getHabits());
+    }
+
+    /**
+     * Shows the habits last saved with saveHabitCache, so the habit screen has the last-known habits
+     * before the server is asked for them. The file is memory-mapped and each habit is read from its
+     * record as it is added to the lists. A missing or unreadable file leaves the lists as they are.
+     *
+     * @precondition file != null
+     * @postcondition the lists hold the cached habits if [true] is returned
+     *
+     * @param file The file written by saveHabitCache.
+     * @return [true] iff the cached habits are shown, otherwise [false].
+     */
+    public boolean loadHabitCache(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException(NULL_FILE_ERROR);
+        }
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            this.showHabits(HabitManager.mappedView(store));
+            return true;
+        } catch (IOException | IllegalArgumentException error) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the file the habits of an account are cached in. The file name holds a hash of the username,
+     * so each account on a machine has its own cache without the usernames showing in the directory.
+     *
+     * @precondition directory != null && username != null
+     * @postcondition None
+     *
+     * @param directory The directory holding the habit caches.
+     * @param username The username of the account.
+     * @return The cache file of the account.
+     */
+    public static Path habitCacheFile(Path directory, String username) {
+        if (directory == null || username == null) {
+            throw new IllegalArgumentException(NULL_ACCOUNT_ERROR);
+        }
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance(ACCOUNT_HASH_ALGORITHM).digest(username.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException error) {
+            throw new IllegalStateException(error);
+        }
+        StringBuilder name = new StringBuilder(HABIT_CACHE_PREFIX).append('_');
+        for (byte value : hash) {
+            name.append(Character.forDigit((value >> 4) & 0xF, HEX_RADIX)).append(Character.forDigit(value & 0xF, HEX_RADIX));
+        }
+        return directory.resolve(name.append(HABIT_CACHE_SUFFIX).toString());
+    }
+
+    /**
+     * Deletes the habit caches in a directory except the one of the account signed in, so the habits of
+     * an account that signed out or was switched away from are not left on the machine.
+     *
+     * @precondition directory != null
+     * @postcondition directory holds no habit cache other than keep
+     *
+     * @param directory The directory holding the habit caches.
+     * @param keep The cache file to keep, or null to delete every habit cache.
+     * @return [true] iff every other habit cache was deleted, otherwise [false].
+     */
+    public static boolean deleteHabitCaches(Path directory, Path keep) {
+        if (directory == null) {
+            throw new IllegalArgumentException(NULL_FILE_ERROR);
+        }
+        try (DirectoryStream<Path> caches = Files.newDirectoryStream(directory, HABIT_CACHE_GLOB)) {
+            for (Path cache : caches) {
+                if (!cache.equals(keep)) {
+                    Files.deleteIfExists(cache);
+                }
             }
+            return true;
+        } catch (IOException error) {
+            return false;
+        }
+    }
+
+    /**
+     * Saves the habits in both lists so the next loadHabitCache can show them.
+     *
+     * @precondition file != null
+     * @postcondition file holds the habits in both lists if [true] is returned
+     *
+     * @param file The file to write.
+     * @return [true] iff the habits were saved, otherwise [false].
+     */
+    public boolean saveHabitCache(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException(NULL_FILE_ERROR);
+        }
+        try {
+            MappedHabitStore.write(file, this.getAllHabits());
+            return true;
+        } catch (IOException error) {
+            return false;
         }
     }
 
@@ -151,14 +397,15 @@ public class HabitViewModel {
             throw new IllegalArgumentException(Habit.NULL_TEXT_ERROR);
         }
         Habit removedHabit = null;
-        for (Habit habit : this.habitListProperty) {
-
-            if (habit.getText() == this.removeHabitNameProperty.getValue() && habit.getFrequency() == this.determineRemoveFrequency()) {
+        for (Habit habit : this.searchIndex.findByText(this.removeHabitNameProperty.getValue())) {
+            if (habit.getFrequency() == this.determineRemoveFrequency()) {
                 removedHabit = habit;
             }
         }
         if (this.serverCommunicator.removeHabit(removedHabit) == SuccessCode.OKAY) {
             this.habitListProperty.remove(removedHabit);
+            this.statistics.remove(removedHabit);
+            this.heatmap.invalidateAll();
             this.closePopup();
         }
 
@@ -179,6 +426,8 @@ public class HabitViewModel {
         }
         if (this.serverCommunicator.removeHabit(habitToRemove) == SuccessCode.OKAY) {
             this.habitListProperty.remove(habitToRemove);
+            this.statistics.remove(habitToRemove);
+            this.heatmap.invalidateAll();
             this.closePopup();
         }
 
@@ -213,10 +462,29 @@ public class HabitViewModel {
         Habit curHabit = this.habitListProperty.getValue().get(index);
         curHabit.setFrequency(this.determineRemoveFrequency());
         curHabit.textProperty().set(this.removeHabitNameProperty.get());
+        if (this.searchIndex.update(curHabit)) {
+            this.refreshSearchResults();
+        }
 
         this.getServerCommunicator().modifyHabit(curHabit);
     }
 
+    /**
+     * Gets the index in the habit list of a habit shown in the search results.
+     * 
+     * @precondition 0 <= searchResultIndex < this.searchResultsProperty().size()
+     * @postcondition this.habitListProperty().get(return) == this.searchResultsProperty().get(searchResultIndex)
+     * 
+     * @param searchResultIndex The index of the habit in the search results.
+     * @return The index of the habit in the habit list.
+     */
+    public int getHabitListIndex(int searchResultIndex) {
+        if (searchResultIndex < 0 || searchResultIndex >= this.searchResults.size()) {
+            throw new IllegalArgumentException("the index must be within the search results");
+        }
+        return this.searchResults.getSourceIndex(searchResultIndex);
+    }
+
      /**
      * Gets the currently selected frequency.
      * 
@@ -291,7 +559,7 @@ public class HabitViewModel {
             throw new IllegalArgumentException("Cannot change the completion status of a null habit.");
         }
 
-        this.selectedHabitProperty.getValue().completionProperty().set(status);
+        this.selectedHabitProperty.getValue().setComplete(status);
     }
 
     /**
@@ -402,6 +670,35 @@ public class HabitViewModel {
         return this.habitListProperty;
     }
 
+    /**
+     * The search text property. The search results hold the habits in the habit list whose text contains
+     * the words of the search text. Words starting with # are tags the habits must have, words starting
+     * with -# are tags they must not have, and tags separated by commas, such as #health,work, need any one
+     * of the tags.
+     * 
+     * @precondition None.
+     * @postcondition None.
+     * 
+     * @return The search text property.
+     */
+    public StringProperty searchTextProperty() {
+        return this.searchTextProperty;
+    }
+
+    /**
+     * The habits in the habit list that match the search text, in the order of the habit list.
+     * The habits are only tested again when the search text changes other than in spacing, or when habits
+     * are added; removed and updated habits leave the other results as they are.
+     * 
+     * @precondition None.
+     * @postcondition None.
+     * 
+     * @return The search results property.
+     */
+    public ListProperty<Habit> searchResultsProperty() {
+        return this.searchResultsProperty;
+    }
+
     /**
      * The habit name property.
      * 
@@ -439,7 +736,7 @@ public class HabitViewModel {
     }
 
     /**
-     * Send the completed habit to the server.
+     * Send the completed habit to the server, recording the completion in the habit's history and statistics.
      * 
      * @precondition habit != null;
      * @postcondition this.coinsLabelProperty.getValue == "Coins: " +
@@ -453,6 +750,11 @@ public class HabitViewModel {
         }
         
         if (this.serverCommunicator.completeHabit(habit) == SuccessCode.OKAY) {
+            if (habit.getFrequency() != null) {
+                LocalDate today = this.getToday();
+                this.statistics.recordCompletion(habit, today);
+                this.heatmap.invalidate(today);
+            }
             this.updateCoins();
         }
     }
@@ -468,6 +770,42 @@ public class HabitViewModel {
         this.coinsLabelProperty.setValue("Coins: " + this.serverCommunicator.getCoins());
     }
 
+    /**
+     * Gets the streaks and completion rates of the habits completed through this view model.
+     * 
+     * @precondition none
+     * @postcondition none
+     * 
+     * @return The habit statistics.
+     */
+    public HabitStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Gets the current date on the clock of the view model, the day completions are recorded on.
+     * 
+     * @precondition none
+     * @postcondition none
+     * 
+     * @return The current date.
+     */
+    public LocalDate getToday() {
+        return LocalDate.now(this.clock);
+    }
+
+    /**
+     * Gets the heatmap of the completions of the habits in both habit lists.
+     * 
+     * @precondition none
+     * @postcondition none
+     * 
+     * @return The completion heatmap.
+     */
+    public CompletionHeatmap getHeatmap() {
+        return this.heatmap;
+    }
+
     /**
      * Simple getter for the completed habits list
      * 
@@ -480,4 +818,98 @@ public class HabitViewModel {
         return this.completedHabitListProperty;
     }
 
-}
\ No newline at end of file
+    private void habitListChanged(ListChangeListener.Change<? extends Habit> change) {
+        boolean added = false;
+        while (change.next()) {
+            for (Habit habit : change.getRemoved()) {
+                this.searchIndex.remove(habit);
+                this.tagIndex.remove(habit);
+            }
+            for (Habit habit : change.getAddedSubList()) {
+                this.searchIndex.add(habit);
+                this.tagIndex.add(habit);
+            }
+            added |= change.wasAdded();
+        }
+        if (added) {
+            this.refreshSearchResults();
+        }
+    }
+
+    private void searchTextChanged(String searchText) {
+        String query = searchText == null ? "" : String.join(WORD_SEPARATOR, searchText.trim().split(WHITESPACE));
+        if (!query.equals(this.searchQuery)) {
+            this.searchQuery = query;
+            this.refreshSearchResults();
+        }
+    }
+
+    private void refreshSearchResults() {
+        if (this.searchQuery.isEmpty()) {
+            if (this.searchResults.getPredicate() != null) {
+                this.searchResults.setPredicate(null);
+            }
+            return;
+        }
+        List<String> allOf = new ArrayList<String>();
+        List<String> anyOf = new ArrayList<String>();
+        List<String> noneOf = new ArrayList<String>();
+        List<String> words = new ArrayList<String>();
+        for (String word : this.searchQuery.split(WORD_SEPARATOR)) {
+            if (word.startsWith(EXCLUDED_TAG_PREFIX)) {
+                this.addTags(word.substring(EXCLUDED_TAG_PREFIX.length()), noneOf);
+            } else if (word.startsWith(TAG_PREFIX)) {
+                this.addTags(word.substring(TAG_PREFIX.length()), word.contains(TAG_SEPARATOR) ? anyOf : allOf);
+            } else {
+                words.add(word);
+            }
+        }
+        Predicate<Habit> matches = allOf.isEmpty() && anyOf.isEmpty() && noneOf.isEmpty()
+            ? habit -> true
+            : this.tagIndex.matcher(allOf, anyOf, noneOf);
+        if (!words.isEmpty()) {
+            matches = matches.and(this.searchIndex.search(String.join(WORD_SEPARATOR, words))::contains);
+        }
+        this.searchResults.setPredicate(matches);
+    }
+
+    private String takeTags(String text, List<String> tags) {
+        List<String> words = new ArrayList<String>();
+        for (String word : text.trim().split(WHITESPACE)) {
+            if (word.startsWith(TAG_PREFIX)) {
+                this.addTags(word.substring(TAG_PREFIX.length()), tags);
+            } else if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return tags.isEmpty() ? text : String.join(WORD_SEPARATOR, words);
+    }
+
+    private void addTags(String tagList, List<String> tags) {
+        for (String tag : tagList.split(TAG_SEPARATOR)) {
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+    }
+
+    private void showHabits(List<Habit> habits) {
+        List<Habit> completed = new ArrayList<Habit>();
+        List<Habit> incomplete = new ArrayList<Habit>();
+        for (Habit habit : habits) {
+            if (habit.isComplete()) {
+                completed.add(habit);
+            } else {
+                incomplete.add(habit);
+            }
+        }
+        this.completedHabitListProperty.setAll(completed);
+        this.habitListProperty.setAll(incomplete);
+    }
+
+    private List<Habit> getAllHabits() {
+        List<Habit> habits = new ArrayList<Habit>(this.habitListProperty);
+        habits.addAll(this.completedHabitListProperty);
+        return habits;
+    }
+}
@@ -1,8 +1,11 @@
 package habit_mode.view_model;
 
+import java.util.concurrent.Executor;
+
 import habit_mode.model.ServerCommunicator;
 import habit_mode.model.ServerServerCommunicator;
 import habit_mode.model.SuccessCode;
+import habit_mode.model.connection.ConnectionStateModel;
 import habit_mode.model.local_implementation.LocalServerCommunicator;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -15,11 +18,13 @@ import javafx.beans.property.StringProperty;
  */
 public class LoginScreenViewModel {
     private static final String NULL_SERVER_COMMUNICATOR_ERROR = "serverCommunicator must not be null";
+    private static final String NULL_EXECUTOR_ERROR = "notificationExecutor must not be null";
 
     private ServerCommunicator serverCommunicator;
     private StringProperty usernameProperty;
     private StringProperty passwordProperty;
     private StringProperty emailProperty;
+    private ConnectionStateModel connectionStateModel;
 
     /** 
      * Creates a new LoginScreenViewModel.
@@ -143,4 +148,50 @@ public class LoginScreenViewModel {
     public SuccessCode registerUser() {
         return this.serverCommunicator.registerCredentials(this.usernameProperty.getValue(), this.passwordProperty.getValue(), this.emailProperty.getValue());
     }
+
+    /**
+     * Starts reporting the state of the connection to the server. Does nothing if the server
+     * communicator does not talk to a server.
+     * 
+     * @precondition notificationExecutor != null
+     * @postcondition this.getConnectionStateModel() != null iff the server communicator is a ServerServerCommunicator
+     * 
+     * @param notificationExecutor The executor updating the connection state property, such as Platform::runLater.
+     */
+    public void startConnectionMonitor(Executor notificationExecutor) {
+        if (notificationExecutor == null) {
+            throw new IllegalArgumentException(NULL_EXECUTOR_ERROR);
+        }
+        if (!(this.serverCommunicator instanceof ServerServerCommunicator)) {
+            return;
+        }
+
+        this.connectionStateModel = new ConnectionStateModel(notificationExecutor);
+        ((ServerServerCommunicator) this.serverCommunicator).monitorConnection(this.connectionStateModel);
+    }
+
+    /**
+     * Stops reporting the state of the connection to the server.
+     * 
+     * @precondition None
+     * @postcondition this.getConnectionStateModel() == null
+     */
+    public void stopConnectionMonitor() {
+        if (this.serverCommunicator instanceof ServerServerCommunicator) {
+            ((ServerServerCommunicator) this.serverCommunicator).stopMonitoringConnection();
+        }
+        this.connectionStateModel = null;
+    }
+
+    /**
+     * Gets the model reporting the state of the connection to the server.
+     * 
+     * @precondition None
+     * @postcondition None
+     * 
+     * @return The connection state model, or null if the connection is not monitored.
+     */
+    public ConnectionStateModel getConnectionStateModel() {
+        return this.connectionStateModel;
+    }
 }
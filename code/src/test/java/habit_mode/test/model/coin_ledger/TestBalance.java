@@ -0,0 +1,126 @@
+package habit_mode.test.model.coin_ledger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CoinLedger;
+import habit_mode.model.CoinTransactionType;
+import habit_mode.test.model.reset_scheduler.MutableClock;
+
+class TestBalance {
+    private static final Instant START = Instant.parse("2022-03-09T12:00:00Z");
+
+    @Test
+    void testBalanceAtMatchesTheTransactions() {
+        Random random = new Random(49);
+        MutableClock clock = new MutableClock(START, ZoneId.of("UTC"));
+        CoinLedger ledger = new CoinLedger(clock);
+        List<Instant> times = new ArrayList<Instant>();
+        List<Integer> balances = new ArrayList<Integer>();
+        long[] totals = new long[CoinTransactionType.values().length];
+        int balance = 0;
+
+        for (int step = 0; step < 1000; step++) {
+            clock.advance(Duration.ofSeconds(random.nextInt(4)));
+            CoinTransactionType type = CoinTransactionType.values()[random.nextInt(CoinTransactionType.values().length)];
+            int amount = random.nextInt(100) - 40;
+            balance += amount;
+            totals[type.ordinal()] += amount;
+            assertEquals(balance, ledger.record(amount, type));
+            times.add(clock.instant());
+            balances.add(balance);
+        }
+
+        for (int index = 0; index < times.size(); index++) {
+            int last = times.lastIndexOf(times.get(index));
+            assertEquals(balances.get(last), ledger.getBalanceAt(times.get(index)));
+        }
+        for (CoinTransactionType type : CoinTransactionType.values()) {
+            assertEquals(totals[type.ordinal()], ledger.getTotal(type));
+        }
+        int finalBalance = balance;
+        assertAll(
+            () -> assertEquals(finalBalance, ledger.getBalance()),
+            () -> assertEquals(0, ledger.getBalanceAt(START.minusMillis(1))),
+            () -> assertEquals(finalBalance, ledger.getBalanceAt(Instant.MAX)),
+            () -> assertEquals(1000, ledger.size())
+        );
+    }
+
+    @Test
+    void testSetBalanceRecordsTheDifference() {
+        CoinLedger ledger = new CoinLedger();
+        ledger.record(20, CoinTransactionType.REWARD);
+
+        assertAll(
+            () -> assertEquals(70, ledger.setBalance(70, CoinTransactionType.SYNC)),
+            () -> assertEquals(70, ledger.setBalance(70, CoinTransactionType.ADJUSTMENT)),
+            () -> assertEquals(2, ledger.size()),
+            () -> assertEquals(50, ledger.getAmount(1)),
+            () -> assertEquals(CoinTransactionType.SYNC, ledger.getType(1)),
+            () -> assertEquals(CoinTransactionType.REWARD, ledger.getType(0))
+        );
+    }
+
+    @Test
+    void testTimesNeverGoBack() {
+        MutableClock clock = new MutableClock(START, ZoneId.of("UTC"));
+        CoinLedger ledger = new CoinLedger(clock);
+
+        ledger.record(10, CoinTransactionType.REWARD);
+        clock.advance(Duration.ofHours(-1));
+        ledger.record(5, CoinTransactionType.BONUS);
+
+        assertAll(
+            () -> assertEquals(START, ledger.getTime(1)),
+            () -> assertEquals(15, ledger.getBalanceAt(START)),
+            () -> assertEquals(0, ledger.getBalanceAt(clock.instant()))
+        );
+    }
+
+    @Test
+    void testClear() {
+        CoinLedger ledger = new CoinLedger();
+        for (int index = 0; index < 100; index++) {
+            ledger.record(1, CoinTransactionType.REWARD);
+        }
+
+        ledger.clear();
+
+        assertAll(
+            () -> assertEquals(0, ledger.size()),
+            () -> assertEquals(0, ledger.getBalance()),
+            () -> assertEquals(0, ledger.getTotal(CoinTransactionType.REWARD)),
+            () -> assertEquals(0, ledger.getBalanceAt(Instant.MAX))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        CoinLedger ledger = new CoinLedger();
+        ledger.record(Integer.MAX_VALUE, CoinTransactionType.ADJUSTMENT);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new CoinLedger(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.record(1, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.setBalance(1, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.getBalanceAt(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.getTotal(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.getAmount(1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.getType(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> ledger.getTime(1)),
+            () -> assertThrows(ArithmeticException.class, () -> ledger.record(1, CoinTransactionType.REWARD)),
+            () -> assertEquals(1, ledger.size())
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package habit_mode.test.model.completion_heatmap;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHeatmap;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HeatmapTile;
+
+public class TestTiles {
+    @Test
+    void testCountsMatchCheckingEveryHabitOnEveryDay() {
+        Random random = new Random(43);
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < 300; index++) {
+            Habit habit = new Habit("habit " + index, Frequency.values()[index % 3]);
+            for (LocalDate date = LocalDate.of(2021, 11, 1); date.isBefore(LocalDate.of(2022, 3, 1)); date = date.plusDays(1)) {
+                habit.getHistory().setCompleted(date, random.nextInt(4) != 0);
+            }
+            habits.add(habit);
+        }
+        habits.add(new Habit("no history", null));
+        CompletionHeatmap heatmap = new CompletionHeatmap(() -> habits);
+
+        for (YearMonth month = YearMonth.of(2021, 10); month.isBefore(YearMonth.of(2022, 4)); month = month.plusMonths(1)) {
+            HeatmapTile tile = heatmap.getTile(month);
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                int expected = 0;
+                for (Habit habit : habits) {
+                    if (habit.getFrequency() == Frequency.DAILY && habit.getHistory().isCompleted(month.atDay(day))) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, tile.getCount(day), month.atDay(day).toString());
+            }
+        }
+    }
+
+    @Test
+    void testTilesAreCachedUntilTheirMonthChanges() {
+        Habit habit = new Habit("read", Frequency.DAILY);
+        CompletionHeatmap heatmap = new CompletionHeatmap(() -> List.of(habit));
+        HeatmapTile march = heatmap.getTile(YearMonth.of(2022, 3));
+        HeatmapTile april = heatmap.getTile(YearMonth.of(2022, 4));
+
+        habit.getHistory().setCompleted(LocalDate.of(2022, 4, 2), true);
+        heatmap.invalidate(LocalDate.of(2022, 4, 2));
+
+        assertAll(
+            () -> assertSame(march, heatmap.getTile(YearMonth.of(2022, 3))),
+            () -> assertNotSame(april, heatmap.getTile(YearMonth.of(2022, 4))),
+            () -> assertEquals(0, april.getCount(2)),
+            () -> assertEquals(1, heatmap.getTile(YearMonth.of(2022, 4)).getCount(2)),
+            () -> assertEquals(1, heatmap.getTile(YearMonth.of(2022, 4)).getMaxCount()),
+            () -> assertEquals(2, heatmap.getCachedTileCount())
+        );
+        heatmap.invalidateAll();
+        assertEquals(0, heatmap.getCachedTileCount());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        CompletionHeatmap heatmap = new CompletionHeatmap(List::of);
+        HeatmapTile tile = heatmap.getTile(YearMonth.of(2022, 2));
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new CompletionHeatmap(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> heatmap.getTile(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> heatmap.invalidate(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> tile.getCount(29)),
+            () -> assertThrows(IllegalArgumentException.class, () -> tile.getCount(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new HeatmapTile(null, new int[0])),
+            () -> assertThrows(IllegalArgumentException.class, () -> new HeatmapTile(YearMonth.of(2022, 2), new int[30])),
+            () -> assertEquals(YearMonth.of(2022, 2), tile.getMonth())
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package habit_mode.test.model.completion_history;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHistory;
+import habit_mode.model.Frequency;
+
+public class TestPeriods {
+    @Test
+    void testPeriodsOfEachFrequency() {
+        LocalDate saturday = LocalDate.of(2022, 4, 16);
+        LocalDate sunday = LocalDate.of(2022, 4, 17);
+
+        assertAll(
+            () -> assertEquals(0, CompletionHistory.periodOf(Frequency.DAILY, LocalDate.of(1970, 1, 1))),
+            () -> assertEquals(saturday.toEpochDay(), CompletionHistory.periodOf(Frequency.DAILY, saturday)),
+            () -> assertEquals(CompletionHistory.periodOf(Frequency.WEEKLY, saturday) + 1, CompletionHistory.periodOf(Frequency.WEEKLY, sunday)),
+            () -> assertEquals(DayOfWeek.SUNDAY, CompletionHistory.startOf(Frequency.WEEKLY, CompletionHistory.periodOf(Frequency.WEEKLY, saturday)).getDayOfWeek()),
+            () -> assertEquals(52 * 12 + 3, CompletionHistory.periodOf(Frequency.MONTHLY, saturday)),
+            () -> assertEquals(LocalDate.of(2022, 4, 1), CompletionHistory.startOf(Frequency.MONTHLY, 52 * 12 + 3))
+        );
+    }
+
+    @Test
+    void testEveryDayMapsBackToItsPeriod() {
+        for (Frequency frequency : Frequency.values()) {
+            for (LocalDate date = LocalDate.of(2019, 12, 20); date.isBefore(LocalDate.of(2020, 3, 10)); date = date.plusDays(1)) {
+                int period = CompletionHistory.periodOf(frequency, date);
+                LocalDate start = CompletionHistory.startOf(frequency, period);
+
+                assertFalse(start.isAfter(date), frequency + " " + date);
+                assertEquals(period, CompletionHistory.periodOf(frequency, start), frequency + " " + date);
+            }
+        }
+    }
+
+    @Test
+    void testDatesAreRecordedInTheirPeriod() {
+        CompletionHistory history = new CompletionHistory(Frequency.WEEKLY);
+        history.setCompleted(LocalDate.of(2022, 4, 12), true);
+
+        assertAll(
+            () -> assertTrue(history.isCompleted(LocalDate.of(2022, 4, 16))),
+            () -> assertFalse(history.isCompleted(LocalDate.of(2022, 4, 17))),
+            () -> assertEquals(Frequency.WEEKLY, history.getFrequency())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        CompletionHistory history = new CompletionHistory(Frequency.DAILY);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new CompletionHistory(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.periodOf(null, LocalDate.now())),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.periodOf(Frequency.DAILY, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.periodOf(Frequency.DAILY, LocalDate.of(1969, 12, 31))),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.startOf(null, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.startOf(Frequency.DAILY, -1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> history.setCompleted(-1, true)),
+            () -> assertThrows(IllegalArgumentException.class, () -> history.countCompleted(5, 4)),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.fromBytes(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> CompletionHistory.fromBytes(new byte[] {1, 2, 3}))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package habit_mode.test.model.completion_history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHistory;
+import habit_mode.model.Frequency;
+
+public class TestRangeQueries {
+    private static final int PERIODS = 5000;
+
+    @Test
+    void testQueriesMatchABooleanArray() {
+        Random random = new Random(41);
+        CompletionHistory history = new CompletionHistory(Frequency.DAILY);
+        boolean[] expected = new boolean[PERIODS];
+
+        for (int step = 0; step < 4000; step++) {
+            int period = 1000 + random.nextInt(3000);
+            boolean completed = random.nextInt(3) != 0;
+            history.setCompleted(period, completed);
+            expected[period] = completed;
+
+            int from = random.nextInt(PERIODS);
+            int to = from + random.nextInt(PERIODS - from);
+            assertEquals(count(expected, from, to), history.countCompleted(from, to), "count of [" + from + ", " + to + ")");
+            assertEquals(next(expected, from), history.nextCompleted(from), "next from " + from);
+            assertEquals(previous(expected, from), history.previousCompleted(from), "previous from " + from);
+        }
+        assertEquals(count(expected, 0, PERIODS), history.getCompletedCount());
+        assertEquals(previous(expected, PERIODS - 1), history.getLastCompleted());
+    }
+
+    @Test
+    void testEmptyHistory() {
+        CompletionHistory history = new CompletionHistory(Frequency.MONTHLY);
+
+        assertEquals(0, history.countCompleted(0, Integer.MAX_VALUE));
+        assertEquals(CompletionHistory.NO_PERIOD, history.nextCompleted(0));
+        assertEquals(CompletionHistory.NO_PERIOD, history.getLastCompleted());
+        assertEquals(0, history.getAllocatedWords());
+    }
+
+    private static int count(boolean[] completed, int from, int to) {
+        int count = 0;
+        for (int period = from; period < to; period++) {
+            count += completed[period] ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static int next(boolean[] completed, int from) {
+        for (int period = from; period < completed.length; period++) {
+            if (completed[period]) {
+                return period;
+            }
+        }
+        return CompletionHistory.NO_PERIOD;
+    }
+
+    private static int previous(boolean[] completed, int from) {
+        for (int period = from; period >= 0; period--) {
+            if (completed[period]) {
+                return period;
+            }
+        }
+        return CompletionHistory.NO_PERIOD;
+    }
+}
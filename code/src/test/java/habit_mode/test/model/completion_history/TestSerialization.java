@@ -0,0 +1,74 @@
+package habit_mode.test.model.completion_history;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHistory;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+
+public class TestSerialization {
+    @Test
+    void testRoundTrip() {
+        CompletionHistory history = new CompletionHistory(Frequency.WEEKLY);
+        history.setCompleted(2700, true);
+        history.setCompleted(2701, true);
+        history.setCompleted(4000, true);
+
+        CompletionHistory read = CompletionHistory.fromBytes(history.toBytes());
+
+        assertAll(
+            () -> assertEquals(Frequency.WEEKLY, read.getFrequency()),
+            () -> assertEquals(3, read.getCompletedCount()),
+            () -> assertTrue(read.isCompleted(2701)),
+            () -> assertTrue(read.isCompleted(4000)),
+            () -> assertArrayEquals(history.toBytes(), read.toBytes())
+        );
+    }
+
+    @Test
+    void testEmptyHistoryIsOnlyAHeader() {
+        CompletionHistory history = new CompletionHistory(Frequency.DAILY);
+
+        assertEquals(14, history.toBytes().length);
+        assertEquals(0, CompletionHistory.fromBytes(history.toBytes()).getCompletedCount());
+    }
+
+    @Test
+    void testCorruptBytesAreRejected() {
+        byte[] bytes = new CompletionHistory(Frequency.DAILY).toBytes();
+        bytes[5] = 7;
+
+        assertThrows(IllegalArgumentException.class, () -> CompletionHistory.fromBytes(bytes));
+    }
+
+    @Test
+    void testTenThousandHabitsOverFiveYears() {
+        Random random = new Random(5);
+        LocalDate start = LocalDate.of(2017, 1, 1);
+        LocalDate end = start.plusYears(5);
+        long totalBytes = 0;
+
+        for (int index = 0; index < 10000; index++) {
+            Habit habit = new Habit("habit " + index, Frequency.DAILY);
+            for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                habit.getHistory().setCompleted(date, random.nextBoolean());
+            }
+            byte[] bytes = habit.getHistory().toBytes();
+            totalBytes += bytes.length;
+
+            CompletionHistory read = CompletionHistory.fromBytes(bytes);
+            assertEquals(habit.getHistory().getCompletedCount(), read.getCompletedCount());
+            assertTrue(habit.getHistory().getAllocatedWords() * Long.BYTES <= 320, "allocated bytes of habit " + index);
+        }
+        assertTrue(totalBytes / 10000 <= 250, "average serialized size " + totalBytes / 10000);
+    }
+}
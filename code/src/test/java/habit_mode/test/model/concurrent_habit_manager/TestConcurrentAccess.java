@@ -0,0 +1,96 @@
+package habit_mode.test.model.concurrent_habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.ConcurrentHabitManager;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitSnapshot;
+
+class TestConcurrentAccess {
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int HABITS_PER_WRITER = 2000;
+
+    @Test
+    void testReadersAlwaysSeeConsistentSnapshots() throws InterruptedException {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(WRITERS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> problems = new ConcurrentLinkedQueue<String>();
+
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            executor.execute(() -> {
+                awaitQuietly(start);
+                for (int number = 0; number < HABITS_PER_WRITER; number++) {
+                    Habit habit = new Habit("writer " + writerId, Frequency.DAILY);
+                    habit.setId(writerId * HABITS_PER_WRITER + number);
+                    manager.add(habit);
+                    if (number % 10 == 0) {
+                        manager.removeIf(existing -> existing.getId() < 0);
+                    }
+                }
+                writersDone.countDown();
+            });
+        }
+        for (int reader = 0; reader < READERS; reader++) {
+            executor.execute(() -> {
+                awaitQuietly(start);
+                while (running.get()) {
+                    checkSnapshot(manager.snapshot(), problems);
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(writersDone.await(60, TimeUnit.SECONDS), "writers did not finish");
+        running.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "readers did not finish");
+
+        assertEquals(List.of(), List.copyOf(problems));
+        assertEquals(WRITERS * HABITS_PER_WRITER, manager.size());
+        checkSnapshot(manager.snapshot(), problems);
+        assertEquals(List.of(), List.copyOf(problems));
+    }
+
+    private static void checkSnapshot(HabitSnapshot snapshot, ConcurrentLinkedQueue<String> problems) {
+        int[] nextNumber = new int[WRITERS];
+        int count = 0;
+        for (Habit habit : snapshot) {
+            int writer = habit.getId() / HABITS_PER_WRITER;
+            int number = habit.getId() % HABITS_PER_WRITER;
+            if (number != nextNumber[writer]) {
+                problems.add("writer " + writer + " expected " + nextNumber[writer] + " but found " + number);
+                return;
+            }
+            nextNumber[writer]++;
+            count++;
+        }
+        if (count != snapshot.size()) {
+            problems.add("iterated " + count + " habits from a snapshot of size " + snapshot.size());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package habit_mode.test.model.concurrent_habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.ConcurrentHabitManager;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitSnapshot;
+
+class TestSnapshots {
+    private static Habit habit(int number) {
+        Habit habit = new Habit("habit " + number, Frequency.DAILY);
+        habit.setId(number);
+        return habit;
+    }
+
+    @Test
+    void testSnapshotDoesNotChange() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        manager.add(habit(0));
+        manager.add(habit(1));
+        HabitSnapshot before = manager.snapshot();
+
+        manager.add(habit(2));
+        manager.set(0, habit(10));
+        manager.remove(1);
+
+        assertAll(
+            () -> assertEquals(2, before.size()),
+            () -> assertEquals(0, before.get(0).getId()),
+            () -> assertEquals(1, before.get(1).getId()),
+            () -> assertEquals(List.of(habit(10), habit(2)), manager)
+        );
+    }
+
+    @Test
+    void testIteratorUsesTheSnapshotItStartedOn() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        manager.addAll(List.of(habit(0), habit(1), habit(2)));
+
+        Iterator<Habit> iterator = manager.iterator();
+        manager.clear();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        manager.add(habit(3));
+        Iterator<Habit> removing = manager.iterator();
+        removing.next();
+
+        assertEquals(3, count);
+        assertThrows(UnsupportedOperationException.class, removing::remove);
+    }
+
+    @Test
+    void testUnchangedChunksAreShared() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        for (int number = 0; number < 320; number++) {
+            manager.add(habit(number));
+        }
+        HabitSnapshot before = manager.snapshot();
+
+        manager.set(100, habit(1000));
+        HabitSnapshot afterSet = manager.snapshot();
+        manager.remove(300);
+
+        assertAll(
+            () -> assertEquals(9, before.countSharedChunks(afterSet)),
+            () -> assertEquals(9, afterSet.countSharedChunks(manager.snapshot()))
+        );
+    }
+
+    @Test
+    void testMatchesArrayListUnderRandomEdits() {
+        Random random = new Random(38);
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        List<Habit> expected = new ArrayList<Habit>();
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(5);
+            Habit habit = habit(step);
+            if (operation == 0 || expected.isEmpty()) {
+                manager.add(habit);
+                expected.add(habit);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                manager.add(index, habit);
+                expected.add(index, habit);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                manager.set(index, habit);
+                expected.set(index, habit);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), manager.remove(index));
+            } else {
+                int modulus = 7 + random.nextInt(5);
+                manager.removeIf(element -> element.getId() % modulus == 0);
+                expected.removeIf(element -> element.getId() % modulus == 0);
+            }
+        }
+
+        assertEquals(expected, new ArrayList<Habit>(manager));
+    }
+
+    @Test
+    void testBulkAndInvalidOperations() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        manager.addAll(List.of(habit(0), habit(1), habit(2)));
+        manager.addAll(1, List.of(habit(5)));
+
+        assertAll(
+            () -> assertEquals(5, manager.get(1).getId()),
+            () -> assertTrue(manager.removeAll(List.of(habit(5)))),
+            () -> assertTrue(manager.retainAll(List.of(habit(0), habit(2)))),
+            () -> assertFalse(manager.remove(habit(1))),
+            () -> assertEquals(2, manager.size()),
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.add(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.add(5, habit(9))),
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.get(2)),
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.addAll(null))
+        );
+    }
+
+    @Test
+    void testAddAtTheEndOfAnEmptyList() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        manager.add(manager.size(), habit(0));
+
+        assertEquals(List.of(habit(0)), manager);
+    }
+
+    @Test
+    void testAddAtTheEndOfAFullChunk() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        List<Habit> expected = new ArrayList<Habit>();
+        for (int index = 0; index < 64; index++) {
+            expected.add(habit(index));
+        }
+        manager.addAll(expected.subList(0, 32));
+        manager.add(manager.size(), habit(32));
+        manager.addAll(manager.size(), expected.subList(33, 64));
+        manager.add(manager.size(), habit(64));
+        expected.add(habit(64));
+
+        assertEquals(expected, new ArrayList<Habit>(manager));
+    }
+
+    @Test
+    void testRemoveAllOfManyHabits() {
+        ConcurrentHabitManager manager = new ConcurrentHabitManager();
+        List<Habit> removed = new ArrayList<Habit>();
+        for (int index = 0; index < 2000; index++) {
+            manager.add(habit(index));
+            if (index % 2 == 0) {
+                removed.add(habit(index));
+            }
+        }
+
+        assertAll(
+            () -> assertTrue(manager.removeAll(removed)),
+            () -> assertEquals(1000, manager.size()),
+            () -> assertEquals(1, manager.get(0).getId()),
+            () -> assertTrue(manager.retainAll(List.of(habit(1), "not a habit"))),
+            () -> assertEquals(List.of(habit(1)), manager)
+        );
+    }
+}
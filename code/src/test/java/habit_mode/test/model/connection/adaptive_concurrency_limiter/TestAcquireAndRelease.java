@@ -0,0 +1,153 @@
+package habit_mode.test.model.connection.adaptive_concurrency_limiter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.SuccessCode;
+import habit_mode.model.connection.AdaptiveConcurrencyLimiter;
+import habit_mode.model.connection.RequestPriority;
+
+class TestAcquireAndRelease {
+    @Test
+    void testDefaultConstructor() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+
+        assertAll(
+            () -> {assertEquals(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, limiter.getLimit(), "Checking the initial limit.");},
+            () -> {assertEquals(AdaptiveConcurrencyLimiter.DEFAULT_MIN_LIMIT, limiter.getMinLimit(), "Checking the minimum limit.");},
+            () -> {assertEquals(AdaptiveConcurrencyLimiter.DEFAULT_MAX_LIMIT, limiter.getMaxLimit(), "Checking the maximum limit.");},
+            () -> {assertEquals(0, limiter.getInFlight(), "Checking that nothing is in flight.");}
+        );
+    }
+
+    @Test
+    void testInvalidConstructorArguments() {
+        assertAll(
+            () -> {assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(4, 0, 8, 2));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 2, 8, 2));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(9, 2, 8, 2));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(4, 2, 8, 1));}
+        );
+    }
+
+    @Test
+    void testInvalidCalls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+
+        assertAll(
+            () -> {assertThrows(IllegalArgumentException.class, () -> limiter.acquire(null));},
+            () -> {assertThrows(IllegalStateException.class, () -> limiter.release(1, SuccessCode.OKAY));}
+        );
+    }
+
+    @Test
+    void testFastSuccessfulRequestsRaiseTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 6, 2);
+
+        for (int request = 0; request < 100; request++) {
+            limiter.acquire(RequestPriority.INTERACTIVE);
+            limiter.release(5, SuccessCode.OKAY);
+        }
+
+        assertEquals(6, limiter.getLimit(), "Checking that the limit grew to its maximum.");
+    }
+
+    @Test
+    void testUnknownErrorHalvesTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 16, 2);
+
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        limiter.release(5, SuccessCode.UNKNOWN_ERROR);
+
+        assertEquals(4, limiter.getLimit(), "Checking that the limit was halved.");
+    }
+
+    @Test
+    void testSlowRequestHalvesTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 3, 16, 2);
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        limiter.release(10, SuccessCode.OKAY);
+
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        limiter.release(50, SuccessCode.OKAY);
+        int afterFirstSlow = limiter.getLimit();
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        limiter.release(50, SuccessCode.OKAY);
+
+        assertAll(
+            () -> {assertEquals(4, afterFirstSlow, "Checking that the limit was halved.");},
+            () -> {assertEquals(3, limiter.getLimit(), "Checking that the limit does not drop below the minimum.");}
+        );
+    }
+
+    @Test
+    void testLimitRecoversAfterAFastOutlier() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 8, 2);
+        for (int request = 0; request < 10; request++) {
+            limiter.acquire(RequestPriority.INTERACTIVE);
+            limiter.release(20_000_000, SuccessCode.OKAY);
+        }
+
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        limiter.release(1_000_000, SuccessCode.OKAY);
+        for (int request = 0; request < 5; request++) {
+            limiter.acquire(RequestPriority.INTERACTIVE);
+            limiter.release(20_000_000, SuccessCode.OKAY);
+        }
+        int afterOutlier = limiter.getLimit();
+        for (int request = 0; request < 200; request++) {
+            limiter.acquire(RequestPriority.INTERACTIVE);
+            limiter.release(20_000_000, SuccessCode.OKAY);
+        }
+
+        assertAll(
+            () -> {assertEquals(1, afterOutlier, "Checking that normal requests looked slow next to the outlier.");},
+            () -> {assertEquals(20_000_000, limiter.getBaselineLatency(), "Checking that the outlier left the baseline.");},
+            () -> {assertEquals(8, limiter.getLimit(), "Checking that the limit recovered.");}
+        );
+    }
+
+    @Test
+    void testBackgroundRequestsAreShedFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 2);
+
+        boolean firstBackground = limiter.acquire(RequestPriority.BACKGROUND);
+        boolean secondBackground = limiter.acquire(RequestPriority.BACKGROUND);
+        boolean thirdBackground = limiter.acquire(RequestPriority.BACKGROUND);
+        boolean interactive = limiter.acquire(RequestPriority.INTERACTIVE);
+
+        assertAll(
+            () -> {assertTrue(firstBackground, "Checking that background requests fit in their share.");},
+            () -> {assertTrue(secondBackground, "Checking that background requests fit in their share.");},
+            () -> {assertFalse(thirdBackground, "Checking that background requests beyond their share are shed.");},
+            () -> {assertTrue(interactive, "Checking that interactive requests still get capacity.");},
+            () -> {assertEquals(1, limiter.getShedCount(), "Checking the shed count.");},
+            () -> {assertEquals(3, limiter.getInFlight(), "Checking the number in flight.");},
+            () -> {assertEquals(2, limiter.getBackgroundLimit(), "Checking the background limit.");}
+        );
+    }
+
+    @Test
+    void testInteractiveRequestWaitsForCapacity() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 2);
+        limiter.acquire(RequestPriority.INTERACTIVE);
+        Thread waiting = new Thread(() -> limiter.acquire(RequestPriority.INTERACTIVE));
+
+        waiting.start();
+        Thread.sleep(100);
+        boolean blocked = waiting.isAlive();
+        limiter.release(1, SuccessCode.OKAY);
+        waiting.join(2000);
+
+        assertAll(
+            () -> {assertTrue(blocked, "Checking that the second request waited.");},
+            () -> {assertFalse(waiting.isAlive(), "Checking that the second request was admitted after the release.");},
+            () -> {assertEquals(1, limiter.getInFlight(), "Checking the number in flight.");}
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package habit_mode.test.model.connection.connection_monitor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+
+import habit_mode.model.ServerServerCommunicator;
+import habit_mode.model.connection.ConnectionMonitor;
+import habit_mode.model.connection.ConnectionState;
+import habit_mode.model.connection.ConnectionStateModel;
+
+class TestConnectionMonitor {
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionMonitor(null, null, null));
+    }
+
+    @Test
+    void testMonitorReportsConnection() throws InterruptedException {
+        try (ZContext context = new ZContext()) {
+            ZMQ.Socket server = context.createSocket(SocketType.REP);
+            server.bind("tcp://127.0.0.1:5560");
+            ZMQ.Socket client = context.createSocket(SocketType.REQ);
+            ConnectionStateModel model = new ConnectionStateModel();
+            ConnectionMonitor monitor = new ConnectionMonitor(client, context, model);
+
+            client.connect("tcp://127.0.0.1:5560");
+            for (int attempt = 0; attempt < 50 && model.getState() != ConnectionState.CONNECTED; attempt++) {
+                Thread.sleep(50);
+            }
+            ConnectionState connected = model.getState();
+            monitor.close();
+
+            assertAll(
+                () -> {assertEquals(ConnectionState.CONNECTED, connected, "Checking that the connection was reported.");},
+                () -> {assertEquals(1, model.getMetrics().getConnects(), "Checking the connect count.");},
+                () -> {assertFalse(monitor.isRunning(), "Checking that the monitor stopped.");}
+            );
+        }
+    }
+
+    @Test
+    void testMonitorCommunicatorSocket() {
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://127.0.0.1:5561");
+        ConnectionStateModel model = new ConnectionStateModel();
+
+        ConnectionMonitor monitor = new ConnectionMonitor(communicator, model);
+        boolean running = monitor.isRunning();
+        monitor.close();
+        monitor.close();
+
+        assertAll(
+            () -> {assertTrue(running, "Checking that the monitor started.");},
+            () -> {assertSame(model, monitor.getModel(), "Checking the model.");},
+            () -> {assertFalse(monitor.isRunning(), "Checking that the monitor stopped.");}
+        );
+    }
+
+    @Test
+    void testRequestsShareOneConnection() throws InterruptedException {
+        try (ZContext context = new ZContext()) {
+            ZMQ.Socket server = context.createSocket(SocketType.REP);
+            server.bind("tcp://127.0.0.1:5568");
+            ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://127.0.0.1:5568");
+            ConnectionStateModel model = new ConnectionStateModel();
+            communicator.monitorConnection(model);
+
+            for (int request = 0; request < 3; request++) {
+                Thread responder = new Thread(() -> {
+                    server.recvStr();
+                    server.send("{\"success_code\": 0}");
+                });
+                responder.start();
+                communicator.registerCredentials("user", "password", "email");
+                responder.join();
+            }
+            Thread.sleep(200);
+            ConnectionState state = model.getState();
+            ConnectionMonitor monitor = communicator.getConnectionMonitor();
+            communicator.stopMonitoringConnection();
+
+            assertAll(
+                () -> {assertEquals(ConnectionState.CONNECTED, state, "Checking that the connection stayed up.");},
+                () -> {assertEquals(1, model.getMetrics().getConnects(), "Checking the connect count.");},
+                () -> {assertEquals(0, model.getMetrics().getDisconnects(), "Checking the disconnect count.");},
+                () -> {assertFalse(monitor.isRunning(), "Checking that the monitor stopped.");},
+                () -> {assertEquals(null, communicator.getConnectionMonitor(), "Checking that the monitor was removed.");}
+            );
+        }
+    }
+}
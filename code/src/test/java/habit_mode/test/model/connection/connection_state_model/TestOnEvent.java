@@ -0,0 +1,121 @@
+package habit_mode.test.model.connection.connection_state_model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.zeromq.ZMQ;
+
+import habit_mode.model.connection.ConnectionMetrics;
+import habit_mode.model.connection.ConnectionState;
+import habit_mode.model.connection.ConnectionStateModel;
+
+class TestOnEvent {
+    @Test
+    void testInitialState() {
+        ConnectionStateModel model = new ConnectionStateModel();
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.DISCONNECTED, model.getState(), "Checking the initial state.");},
+            () -> {assertEquals(ConnectionState.DISCONNECTED, model.stateProperty().get(), "Checking the initial property value.");},
+            () -> {assertEquals(0, model.getMetrics().getConnects(), "Checking that no connects are counted.");},
+            () -> {assertEquals(0, model.getMetrics().getAverageHandshakeMillis(), "Checking that no handshakes are counted.");}
+        );
+    }
+
+    @Test
+    void testNullExecutor() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionStateModel(null));
+    }
+
+    @Test
+    void testConnectAndHandshake() {
+        ConnectionStateModel model = new ConnectionStateModel();
+
+        model.onEvent(ZMQ.EVENT_CONNECT_DELAYED, 0);
+        ConnectionState connecting = model.getState();
+        model.onEvent(ZMQ.EVENT_CONNECTED, 100);
+        ConnectionState handshaking = model.getState();
+        model.onEvent(ZMQ.EVENT_HANDSHAKE_PROTOCOL, 130);
+        ConnectionMetrics metrics = model.getMetrics();
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.CONNECTING, connecting, "Checking the state while connecting.");},
+            () -> {assertEquals(ConnectionState.HANDSHAKING, handshaking, "Checking the state during the handshake.");},
+            () -> {assertEquals(ConnectionState.CONNECTED, model.stateProperty().get(), "Checking the property after the handshake.");},
+            () -> {assertEquals(1, metrics.getConnects(), "Checking the connect count.");},
+            () -> {assertEquals(30, metrics.getLastHandshakeMillis(), "Checking the handshake latency.");},
+            () -> {assertEquals(30.0, metrics.getAverageHandshakeMillis(), "Checking the average handshake latency.");}
+        );
+    }
+
+    @Test
+    void testDisconnectRetryAndReconnect() {
+        ConnectionStateModel model = new ConnectionStateModel();
+        model.onEvent(ZMQ.EVENT_CONNECTED, 0);
+        model.onEvent(ZMQ.EVENT_HANDSHAKE_PROTOCOL, 10);
+
+        model.onEvent(ZMQ.EVENT_DISCONNECTED, 1000);
+        model.onEvent(ZMQ.EVENT_CONNECT_RETRIED, 1100);
+        model.onEvent(ZMQ.EVENT_CONNECT_RETRIED, 1300);
+        model.onEvent(ZMQ.EVENT_CONNECTED, 1500);
+        model.onEvent(ZMQ.EVENT_HANDSHAKE_PROTOCOL, 1520);
+        ConnectionMetrics metrics = model.getMetrics();
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.CONNECTED, model.getState(), "Checking the state after reconnecting.");},
+            () -> {assertEquals(1, metrics.getDisconnects(), "Checking the disconnect count.");},
+            () -> {assertEquals(2, metrics.getReconnectAttempts(), "Checking the reconnect count.");},
+            () -> {assertEquals(500, metrics.getTotalDisconnectedMillis(), "Checking the time spent disconnected.");},
+            () -> {assertEquals(15.0, metrics.getAverageHandshakeMillis(), "Checking the average handshake latency.");},
+            () -> {assertEquals(0, metrics.getHandshakeFailures(), "Checking that no handshake failed.");}
+        );
+    }
+
+    @Test
+    void testDisconnectDuringHandshakeCountsAsFailure() {
+        ConnectionStateModel model = new ConnectionStateModel();
+
+        model.onEvent(ZMQ.EVENT_CONNECTED, 0);
+        model.onEvent(ZMQ.EVENT_DISCONNECTED, 5);
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.DISCONNECTED, model.getState(), "Checking the state.");},
+            () -> {assertEquals(1, model.getMetrics().getHandshakeFailures(), "Checking the handshake failure count.");}
+        );
+    }
+
+    @Test
+    void testClosedAndIgnoredEvents() {
+        ConnectionStateModel model = new ConnectionStateModel();
+
+        model.onEvent(ZMQ.EVENT_LISTENING, 0);
+        ConnectionState afterIgnored = model.getState();
+        model.onEvent(ZMQ.EVENT_CLOSED, 10);
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.DISCONNECTED, afterIgnored, "Checking that unrelated events are ignored.");},
+            () -> {assertEquals(ConnectionState.CLOSED, model.getState(), "Checking the state after the socket closed.");}
+        );
+    }
+
+    @Test
+    void testPropertyUpdatesGoThroughTheExecutor() {
+        List<Runnable> pending = new ArrayList<Runnable>();
+        ConnectionStateModel model = new ConnectionStateModel(pending::add);
+
+        model.onEvent(ZMQ.EVENT_CONNECTED, 0);
+        ConnectionState beforeRun = model.stateProperty().get();
+        pending.forEach(Runnable::run);
+
+        assertAll(
+            () -> {assertEquals(ConnectionState.HANDSHAKING, model.getState(), "Checking that the state updates immediately.");},
+            () -> {assertEquals(ConnectionState.DISCONNECTED, beforeRun, "Checking that the property waits for the executor.");},
+            () -> {assertEquals(ConnectionState.HANDSHAKING, model.stateProperty().get(), "Checking the property after the executor ran.");}
+        );
+    }
+}
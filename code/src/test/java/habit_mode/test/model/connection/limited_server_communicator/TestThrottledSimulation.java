@@ -0,0 +1,122 @@
+package habit_mode.test.model.connection.limited_server_communicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.ServerCommunicator;
+import habit_mode.model.connection.AdaptiveConcurrencyLimiter;
+import habit_mode.model.connection.LimitedServerCommunicator;
+import habit_mode.model.connection.RequestPriority;
+
+class TestThrottledSimulation {
+    private static final int INTERACTIVE_CLIENTS = 16;
+    private static final int BACKGROUND_CLIENTS = 4;
+    private static final int REQUESTS_PER_CLIENT = 30;
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LimitedServerCommunicator(null, null, null));
+    }
+
+    @Test
+    void testForPrioritySharesTheLimiter() {
+        LimitedServerCommunicator interactive = new LimitedServerCommunicator(new ThrottledServer(1), new AdaptiveConcurrencyLimiter(), RequestPriority.INTERACTIVE);
+
+        LimitedServerCommunicator background = interactive.forPriority(RequestPriority.BACKGROUND);
+
+        assertAll(
+            () -> {assertEquals(RequestPriority.BACKGROUND, background.getPriority(), "Checking the new priority.");},
+            () -> {assertEquals(interactive.getLimiter(), background.getLimiter(), "Checking that the limiter is shared.");}
+        );
+    }
+
+    @Test
+    void testShedRequestThrows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 2);
+        LimitedServerCommunicator background = new LimitedServerCommunicator(new ThrottledServer(1), limiter, RequestPriority.BACKGROUND);
+        limiter.acquire(RequestPriority.INTERACTIVE);
+
+        assertThrows(IllegalStateException.class, () -> background.getHabits());
+    }
+
+    @Test
+    void testEveryRequestIsForwarded() {
+        ThrottledServer server = new ThrottledServer(1);
+        ServerCommunicator communicator = new LimitedServerCommunicator(server, new AdaptiveConcurrencyLimiter(), RequestPriority.INTERACTIVE);
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        communicator.registerCredentials("user", "password", "email");
+        communicator.validateLogin("user", "password");
+        communicator.getCoins();
+        communicator.getHabits();
+        communicator.addHabit(habit);
+        communicator.modifyHabit(habit);
+        communicator.completeHabit(habit);
+        communicator.removeHabit(habit);
+        communicator.updateSudokuPuzzle(communicator.generateSudokuPuzzle());
+        communicator.getSudokuPuzzle();
+        communicator.buyHint();
+        communicator.setCoins(10);
+
+        assertEquals(12, server.getServed(), "Checking that every request reached the server.");
+    }
+
+    @Test
+    void testLimiterProtectsAThrottledServer() throws InterruptedException {
+        ThrottledServer unprotected = new ThrottledServer(4);
+        this.generateLoad(unprotected, unprotected);
+
+        ThrottledServer protectedServer = new ThrottledServer(4);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 16, 5);
+        LimitedServerCommunicator interactive = new LimitedServerCommunicator(protectedServer, limiter, RequestPriority.INTERACTIVE);
+        AtomicInteger completed = this.generateLoad(interactive, interactive.forPriority(RequestPriority.BACKGROUND));
+
+        assertAll(
+            () -> {assertEquals(INTERACTIVE_CLIENTS * REQUESTS_PER_CLIENT, completed.get(), "Checking that every interactive request finished.");},
+            () -> {assertTrue(protectedServer.getErrors() * 2 < unprotected.getErrors(), "Checking that the limiter avoided most overload errors: " + protectedServer.getErrors() + " vs " + unprotected.getErrors());},
+            () -> {assertTrue(protectedServer.getMaxActive() <= limiter.getMaxLimit(), "Checking that the limit was never exceeded.");},
+            () -> {assertTrue(limiter.getShedCount() > 0, "Checking that background requests were shed.");},
+            () -> {assertEquals(0, limiter.getInFlight(), "Checking that every request released its capacity.");}
+        );
+    }
+
+    private AtomicInteger generateLoad(ServerCommunicator interactive, ServerCommunicator background) throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        List<Thread> clients = new ArrayList<Thread>();
+        for (int client = 0; client < INTERACTIVE_CLIENTS; client++) {
+            clients.add(new Thread(() -> {
+                for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                    interactive.completeHabit(null);
+                    completed.incrementAndGet();
+                }
+            }));
+        }
+        for (int client = 0; client < BACKGROUND_CLIENTS; client++) {
+            clients.add(new Thread(() -> {
+                for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                    try {
+                        background.getHabits();
+                    } catch (IllegalStateException shed) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        clients.forEach(Thread::start);
+        for (Thread client : clients) {
+            client.join();
+        }
+        return completed;
+    }
+}
@@ -0,0 +1,131 @@
+package habit_mode.test.model.connection.limited_server_communicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import habit_mode.model.Habit;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.ServerCommunicator;
+import habit_mode.model.SuccessCode;
+import habit_mode.model.sudoku.SudokuPuzzle;
+
+class ThrottledServer extends ServerCommunicator {
+    private int capacity;
+    private AtomicInteger active = new AtomicInteger();
+    private AtomicInteger maxActive = new AtomicInteger();
+    private AtomicInteger errors = new AtomicInteger();
+    private AtomicInteger served = new AtomicInteger();
+
+    ThrottledServer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    int getMaxActive() {
+        return this.maxActive.get();
+    }
+
+    int getErrors() {
+        return this.errors.get();
+    }
+
+    int getServed() {
+        return this.served.get();
+    }
+
+    private SuccessCode serve() {
+        int current = this.active.incrementAndGet();
+        this.maxActive.accumulateAndGet(current, Math::max);
+        try {
+            if (current > this.capacity) {
+                Thread.sleep(20);
+                this.errors.incrementAndGet();
+                return SuccessCode.UNKNOWN_ERROR;
+            }
+            Thread.sleep(2);
+            this.served.incrementAndGet();
+            return SuccessCode.OKAY;
+        } catch (InterruptedException error) {
+            return SuccessCode.UNKNOWN_ERROR;
+        } finally {
+            this.active.decrementAndGet();
+        }
+    }
+
+    @Override
+    public SuccessCode registerCredentials(String username, String password, String email) {
+        return this.serve();
+    }
+
+    @Override
+    public SuccessCode validateLogin(String username, String password) {
+        return this.serve();
+    }
+
+    @Override
+    public int getCoins() {
+        this.serve();
+        return 0;
+    }
+
+    @Override
+    public List<Habit> getHabits() {
+        this.serve();
+        return new ArrayList<Habit>();
+    }
+
+    @Override
+    public SudokuPuzzle getSudokuPuzzle() {
+        this.serve();
+        return null;
+    }
+
+    @Override
+    public SudokuPuzzle generateSudokuPuzzle() {
+        this.serve();
+        return new SudokuPuzzle();
+    }
+
+    @Override
+    public boolean setCoins(int amount) {
+        return true;
+    }
+
+    @Override
+    public SuccessCode addHabit(Habit habit) {
+        return this.serve();
+    }
+
+    @Override
+    public SuccessCode removeHabit(Habit habit) {
+        return this.serve();
+    }
+
+    @Override
+    public SuccessCode modifyHabit(Habit habit) {
+        return this.serve();
+    }
+
+    @Override
+    public SuccessCode completeHabit(Habit habit) {
+        return this.serve();
+    }
+
+    @Override
+    public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
+        return this.serve();
+    }
+
+    @Override
+    public int[] buyHint() {
+        this.serve();
+        return new int[4];
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        this.serve();
+        return new ArrayList<LeaderboardEntry>();
+    }
+}
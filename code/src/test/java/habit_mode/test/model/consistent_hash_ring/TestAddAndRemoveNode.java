@@ -0,0 +1,74 @@
+package habit_mode.test.model.consistent_hash_ring;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.ConsistentHashRing;
+
+class TestAddAndRemoveNode {
+    @Test
+    void testDefaultConstructor() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>();
+
+        assertAll(
+            () -> {assertEquals(0, ring.size(), "Checking that the ring starts empty.");},
+            () -> {assertEquals(ConsistentHashRing.DEFAULT_VIRTUAL_NODES, ring.getVirtualNodes(), "Checking the virtual node count.");}
+        );
+    }
+
+    @Test
+    void testConstructorWithInvalidVirtualNodes() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConsistentHashRing<String>(0);
+        });
+    }
+
+    @Test
+    void testAddNode() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>(10);
+
+        ring.addNode("a", "node a");
+        ring.addNode("b", "node b");
+
+        assertAll(
+            () -> {assertEquals(2, ring.size(), "Checking that both nodes were added.");},
+            () -> {assertTrue(ring.containsNode("a"), "Checking that node a is on the ring.");},
+            () -> {assertEquals("node a", ring.getNodes().iterator().next(), "Checking that nodes keep insertion order.");}
+        );
+    }
+
+    @Test
+    void testAddInvalidNodes() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>(10);
+        ring.addNode("a", "node a");
+
+        assertAll(
+            () -> {assertThrows(IllegalArgumentException.class, () -> ring.addNode(null, "node"));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> ring.addNode("b", null));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> ring.addNode("a", "other"));}
+        );
+    }
+
+    @Test
+    void testRemoveNode() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>(10);
+        ring.addNode("a", "node a");
+        ring.addNode("b", "node b");
+
+        String removed = ring.removeNode("a");
+
+        assertAll(
+            () -> {assertEquals("node a", removed, "Checking that the removed node is returned.");},
+            () -> {assertFalse(ring.containsNode("a"), "Checking that the node is gone.");},
+            () -> {assertEquals("node b", ring.getNode("anything"), "Checking that every key maps to the remaining node.");},
+            () -> {assertNull(ring.removeNode("missing"), "Checking that removing an unknown node returns null.");},
+            () -> {assertThrows(IllegalArgumentException.class, () -> ring.removeNode(null));}
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package habit_mode.test.model.consistent_hash_ring;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.ConsistentHashRing;
+
+class TestGetNode {
+    private static final int USERS = 20000;
+
+    @Test
+    void testGetNodeFromEmptyRing() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>();
+
+        assertThrows(IllegalStateException.class, () -> ring.getNode("user"));
+    }
+
+    @Test
+    void testGetNodeWithNullKey() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>();
+        ring.addNode("a", "node a");
+
+        assertThrows(IllegalArgumentException.class, () -> ring.getNode(null));
+    }
+
+    @Test
+    void testSameKeyAlwaysMapsToSameNode() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>();
+        ring.addNode("a", "node a");
+        ring.addNode("b", "node b");
+        ring.addNode("c", "node c");
+
+        assertEquals(ring.getNodeName("user42"), ring.getNodeName("user42"));
+    }
+
+    @Test
+    void testLoadIsSpreadEvenlyAcrossNodes() {
+        ConsistentHashRing<String> ring = this.createRing(4);
+        Map<String, Integer> load = new HashMap<String, Integer>();
+
+        for (int user = 0; user < USERS; user++) {
+            load.merge(ring.getNodeName("user" + user), 1, Integer::sum);
+        }
+
+        int expected = USERS / 4;
+        for (int count : load.values()) {
+            assertTrue(Math.abs(count - expected) < expected * 0.2, "Checking that every shard holds close to a quarter of the users: " + load);
+        }
+    }
+
+    @Test
+    void testAddingANodeOnlyMovesKeysToTheNewNode() {
+        ConsistentHashRing<String> ring = this.createRing(4);
+        String[] before = new String[USERS];
+        for (int user = 0; user < USERS; user++) {
+            before[user] = ring.getNodeName("user" + user);
+        }
+
+        ring.addNode("shard4", "shard4");
+        int moved = 0;
+        int movedElsewhere = 0;
+        for (int user = 0; user < USERS; user++) {
+            String after = ring.getNodeName("user" + user);
+            if (!after.equals(before[user])) {
+                moved++;
+                if (!after.equals("shard4")) {
+                    movedElsewhere++;
+                }
+            }
+        }
+
+        int finalMoved = moved;
+        int finalMovedElsewhere = movedElsewhere;
+        assertAll(
+            () -> {assertEquals(0, finalMovedElsewhere, "Checking that keys only move to the new shard.");},
+            () -> {assertTrue(finalMoved < USERS * 0.25, "Checking that only about a fifth of the keys moved: " + finalMoved);},
+            () -> {assertTrue(finalMoved > USERS * 0.15, "Checking that the new shard took its share of keys: " + finalMoved);}
+        );
+    }
+
+    private ConsistentHashRing<String> createRing(int nodes) {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<String>();
+        for (int node = 0; node < nodes; node++) {
+            ring.addNode("shard" + node, "shard" + node);
+        }
+        return ring;
+    }
+}
@@ -0,0 +1,59 @@
+package habit_mode.test.model.fenwick_tree;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.FenwickTree;
+
+public class TestSums {
+    @Test
+    void testRangeSumsMatchAnArray() {
+        Random random = new Random(42);
+        FenwickTree tree = new FenwickTree(1);
+        long[] counts = new long[3000];
+
+        for (int step = 0; step < 3000; step++) {
+            int index = random.nextInt(Math.min(counts.length, 10 + step));
+            long delta = random.nextInt(7) - 2;
+            tree.add(index, delta);
+            counts[index] += delta;
+
+            int from = random.nextInt(counts.length);
+            int to = from + random.nextInt(counts.length - from + 1);
+            long expected = 0;
+            for (int position = from; position < to; position++) {
+                expected += counts[position];
+            }
+            assertEquals(expected, tree.sum(from, to), "sum of [" + from + ", " + to + ")");
+        }
+    }
+
+    @Test
+    void testCapacityIsAPowerOfTwo() {
+        FenwickTree tree = new FenwickTree(100);
+        tree.add(200, 5);
+
+        assertAll(
+            () -> assertEquals(FenwickTree.DEFAULT_CAPACITY, new FenwickTree().getCapacity()),
+            () -> assertEquals(256, tree.getCapacity()),
+            () -> assertEquals(5, tree.prefixSum(Integer.MAX_VALUE))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        FenwickTree tree = new FenwickTree();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new FenwickTree(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> tree.add(-1, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> tree.prefixSum(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> tree.sum(3, 2))
+        );
+    }
+}
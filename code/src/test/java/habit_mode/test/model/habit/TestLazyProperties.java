@@ -0,0 +1,90 @@
+package habit_mode.test.model.habit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+
+class TestLazyProperties {
+    @Test
+    void testPropertiesStartWithTheCurrentState() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        habit.setText("renamed");
+        habit.setComplete(true);
+        habit.setFrequency(Frequency.WEEKLY);
+
+        assertAll(
+            () -> assertEquals("renamed", habit.textProperty().get()),
+            () -> assertTrue(habit.completionProperty().get()),
+            () -> assertEquals(Frequency.WEEKLY, habit.frequencyProperty().get()),
+            () -> assertSame(habit, habit.completionProperty().getBean())
+        );
+    }
+
+    @Test
+    void testPropertyChangesReachTheGetters() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        habit.textProperty().set("renamed");
+        habit.completionProperty().set(true);
+        habit.frequencyProperty().set(Frequency.MONTHLY);
+
+        assertAll(
+            () -> assertEquals("renamed", habit.getText()),
+            () -> assertTrue(habit.isComplete()),
+            () -> assertEquals(Frequency.MONTHLY, habit.getFrequency())
+        );
+    }
+
+    @Test
+    void testSettersUpdateCreatedProperties() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        habit.textProperty();
+        habit.completionProperty();
+
+        habit.setText("renamed");
+        habit.setComplete(true);
+
+        assertAll(
+            () -> assertEquals("renamed", habit.textProperty().get()),
+            () -> assertTrue(habit.completionProperty().get())
+        );
+    }
+
+    @Test
+    void testManagerCountsWithAndWithoutProperties() {
+        HabitManager manager = new HabitManager();
+        Habit plain = new Habit("plain", Frequency.DAILY);
+        Habit observed = new Habit("observed", Frequency.DAILY);
+        manager.add(plain);
+        manager.add(observed);
+
+        plain.setComplete(true);
+        observed.completionProperty().set(true);
+        observed.completionProperty().set(false);
+
+        assertAll(
+            () -> assertEquals(1, manager.getCompletedCount()),
+            () -> assertEquals(1, manager.getIncompleteCount(Frequency.DAILY)),
+            () -> assertFalse(manager.isAllComplete())
+        );
+    }
+
+    @Test
+    void testSetTextRejectsInvalidText() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.setText(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.setText(""))
+        );
+    }
+}
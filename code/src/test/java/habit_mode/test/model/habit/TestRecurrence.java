@@ -0,0 +1,59 @@
+package habit_mode.test.model.habit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.Recurrence;
+
+class TestRecurrence {
+    @Test
+    void testHabitsFollowTheRuleOfTheirFrequency() {
+        Habit habit = new Habit("read", Frequency.WEEKLY);
+
+        assertAll(
+            () -> assertEquals(Recurrence.of(Frequency.WEEKLY), habit.getRecurrence()),
+            () -> assertNull(new Habit("none", null).getRecurrence())
+        );
+    }
+
+    @Test
+    void testSettingARecurrenceSetsItsFrequency() {
+        Habit habit = new Habit("read", Frequency.MONTHLY);
+        Recurrence everyOtherDay = Recurrence.everyDays(2, LocalDate.of(2022, 4, 1));
+
+        habit.setRecurrence(everyOtherDay);
+
+        assertAll(
+            () -> assertEquals(everyOtherDay, habit.getRecurrence()),
+            () -> assertEquals(Frequency.DAILY, habit.getFrequency()),
+            () -> assertEquals(Frequency.DAILY, habit.frequencyProperty().get())
+        );
+    }
+
+    @Test
+    void testChangingTheFrequencyDropsARuleOfAnotherFrequency() {
+        Habit habit = new Habit("read", Frequency.DAILY);
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+
+        habit.setFrequency(Frequency.DAILY);
+        assertEquals(Recurrence.onWeekdays(DayOfWeek.MONDAY, DayOfWeek.THURSDAY), habit.getRecurrence());
+
+        habit.frequencyProperty().set(Frequency.WEEKLY);
+        assertEquals(Recurrence.of(Frequency.WEEKLY), habit.getRecurrence());
+
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.FRIDAY));
+        habit.setRecurrence(null);
+        assertAll(
+            () -> assertEquals(Recurrence.of(Frequency.WEEKLY), habit.getRecurrence()),
+            () -> assertEquals(Frequency.WEEKLY, habit.getFrequency())
+        );
+    }
+}
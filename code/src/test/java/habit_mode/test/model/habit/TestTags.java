@@ -0,0 +1,64 @@
+package habit_mode.test.model.habit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+
+class TestTags {
+    @Test
+    void testTagsAreTrimmedAndLowerCase() {
+        Habit habit = new Habit("run", Frequency.DAILY);
+
+        assertAll(
+            () -> assertTrue(habit.addTag(" Health ")),
+            () -> assertFalse(habit.addTag("health")),
+            () -> assertTrue(habit.hasTag("HEALTH")),
+            () -> assertTrue(habit.addTag("fun")),
+            () -> assertEquals(List.of("fun", "health"), List.copyOf(habit.getTags())),
+            () -> assertTrue(habit.removeTag("Fun")),
+            () -> assertFalse(habit.removeTag("fun")),
+            () -> assertEquals(Set.of("health"), habit.getTags())
+        );
+    }
+
+    @Test
+    void testSetTagsReplacesTheTags() {
+        Habit habit = new Habit("run", Frequency.DAILY);
+        habit.addTag("old");
+
+        habit.setTags(List.of("Work", "family"));
+        assertEquals(Set.of("work", "family"), habit.getTags());
+
+        habit.setTags(List.of());
+        assertAll(
+            () -> assertEquals(Set.of(), habit.getTags()),
+            () -> assertFalse(habit.hasTag("work")),
+            () -> assertFalse(habit.removeTag("work"))
+        );
+    }
+
+    @Test
+    void testInvalidTags() {
+        Habit habit = new Habit("run", Frequency.DAILY);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.addTag(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.addTag("  ")),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.hasTag(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.removeTag(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.setTags(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> habit.setTags(List.of("ok", ""))),
+            () -> assertThrows(UnsupportedOperationException.class, () -> habit.getTags().add("x"))
+        );
+    }
+}
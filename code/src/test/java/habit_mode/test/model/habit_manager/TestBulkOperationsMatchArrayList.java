@@ -0,0 +1,132 @@
+package habit_mode.test.model.habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitListChange;
+import habit_mode.model.HabitManager;
+
+class TestBulkOperationsMatchArrayList {
+    private static final int HABIT_COUNT = 2000;
+
+    private static List<Habit> randomHabits(Random random, int count) {
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < count; index++) {
+            Frequency frequency = Frequency.values()[random.nextInt(Frequency.values().length)];
+            habits.add(new Habit("habit " + random.nextInt(count), frequency));
+        }
+        return habits;
+    }
+
+    private static HabitManager managerOf(List<Habit> habits) {
+        HabitManager manager = new HabitManager();
+        manager.addAll(habits);
+        return manager;
+    }
+
+    @Test
+    void testRemoveAllMatchesArrayList() {
+        Random random = new Random(33);
+        List<Habit> contents = randomHabits(random, HABIT_COUNT);
+        List<Habit> argument = randomHabits(random, HABIT_COUNT);
+        HabitManager manager = managerOf(contents);
+        List<Habit> expected = new ArrayList<Habit>(contents);
+
+        boolean expectedResult = expected.removeAll(argument);
+        boolean result = manager.removeAll(argument);
+
+        assertAll(
+            () -> assertEquals(expectedResult, result),
+            () -> assertEquals(expected, new ArrayList<Habit>(manager)),
+            () -> assertEquals(manager.size(), manager.getIncompleteCount())
+        );
+    }
+
+    @Test
+    void testRetainAllMatchesArrayList() {
+        Random random = new Random(34);
+        List<Habit> contents = randomHabits(random, HABIT_COUNT);
+        List<Habit> argument = randomHabits(random, HABIT_COUNT);
+        HabitManager manager = managerOf(contents);
+        List<Habit> expected = new ArrayList<Habit>(contents);
+
+        boolean expectedResult = expected.retainAll(argument);
+        boolean result = manager.retainAll(argument);
+
+        assertAll(
+            () -> assertEquals(expectedResult, result),
+            () -> assertEquals(expected, new ArrayList<Habit>(manager))
+        );
+    }
+
+    @Test
+    void testAddAllOfItselfMatchesArrayList() {
+        HabitManager manager = new HabitManager();
+        manager.add(new Habit("read", Frequency.DAILY));
+        manager.add(new Habit("run", Frequency.DAILY));
+        List<Habit> expected = new ArrayList<Habit>(manager);
+        expected.addAll(new ArrayList<Habit>(expected));
+        List<HabitListChange> changes = new ArrayList<HabitListChange>();
+        manager.addChangeListener(changes::addAll);
+
+        boolean result = manager.addAll(manager);
+
+        assertAll(
+            () -> assertTrue(result),
+            () -> assertEquals(expected, new ArrayList<Habit>(manager)),
+            () -> assertEquals(4, manager.getCount(Frequency.DAILY)),
+            () -> assertEquals(1, changes.size()),
+            () -> assertEquals(2, changes.get(0).getFrom()),
+            () -> assertEquals(4, changes.get(0).getTo())
+        );
+    }
+
+    @Test
+    void testManagersAreOnlyEqualToThemselves() {
+        HabitManager manager = new HabitManager();
+        HabitManager other = new HabitManager();
+
+        assertAll(
+            () -> assertEquals(manager, manager),
+            () -> assertNotEquals(manager, other),
+            () -> assertNotEquals(manager, new ArrayList<Habit>())
+        );
+    }
+
+    @Test
+    void testContainsAllComparesByTextAndFrequency() {
+        HabitManager manager = new HabitManager();
+        manager.add(new Habit("read", Frequency.DAILY));
+        manager.add(new Habit("run", Frequency.WEEKLY));
+
+        assertAll(
+            () -> assertTrue(manager.containsAll(List.of(new Habit("run", Frequency.WEEKLY)))),
+            () -> assertFalse(manager.containsAll(List.of(new Habit("run", Frequency.DAILY)))),
+            () -> assertFalse(manager.containsAll(List.of("read"))),
+            () -> assertTrue(manager.containsAll(List.of()))
+        );
+    }
+
+    @Test
+    void testNonHabitArgumentsAreNeverRemoved() {
+        HabitManager manager = new HabitManager();
+        manager.add(new Habit("read", Frequency.DAILY));
+
+        assertAll(
+            () -> assertFalse(manager.removeAll(List.of("read"))),
+            () -> assertTrue(manager.retainAll(List.of("read"))),
+            () -> assertTrue(manager.isEmpty())
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package habit_mode.test.model.habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitChangeType;
+import habit_mode.model.HabitListChange;
+import habit_mode.model.HabitManager;
+
+class TestChangeEvents {
+    private static HabitManager managerOf(int count) {
+        HabitManager manager = new HabitManager();
+        for (int index = 0; index < count; index++) {
+            manager.add(new Habit("habit " + index, Frequency.DAILY));
+        }
+        return manager;
+    }
+
+    private static List<List<HabitListChange>> record(HabitManager manager) {
+        List<List<HabitListChange>> batches = new ArrayList<List<HabitListChange>>();
+        manager.addChangeListener(batches::add);
+        return batches;
+    }
+
+    @Test
+    void testSingleChanges() {
+        HabitManager manager = managerOf(3);
+        List<List<HabitListChange>> batches = record(manager);
+        Habit removed = manager.get(1);
+
+        manager.add(new Habit("new", Frequency.WEEKLY));
+        manager.remove(1);
+        manager.set(0, new Habit("replacement", Frequency.DAILY));
+        manager.get(0).setComplete(true);
+
+        assertAll(
+            () -> assertEquals(4, batches.size()),
+            () -> assertEquals(HabitChangeType.ADDED, batches.get(0).get(0).getType()),
+            () -> assertEquals(3, batches.get(0).get(0).getFrom()),
+            () -> assertEquals(HabitChangeType.REMOVED, batches.get(1).get(0).getType()),
+            () -> assertEquals(List.of(removed), batches.get(1).get(0).getRemoved()),
+            () -> assertEquals(HabitChangeType.REPLACED, batches.get(2).get(0).getType()),
+            () -> assertEquals(HabitChangeType.UPDATED, batches.get(3).get(0).getType()),
+            () -> assertEquals(0, batches.get(3).get(0).getFrom())
+        );
+    }
+
+    @Test
+    void testBatchIsDeliveredOnce() {
+        HabitManager manager = managerOf(0);
+        List<List<HabitListChange>> batches = record(manager);
+
+        manager.beginChange();
+        manager.add(new Habit("first", Frequency.DAILY));
+        manager.beginChange();
+        manager.add(new Habit("second", Frequency.DAILY));
+        manager.endChange();
+        assertEquals(0, batches.size());
+        manager.endChange();
+
+        assertAll(
+            () -> assertEquals(1, batches.size()),
+            () -> assertEquals(2, batches.get(0).size())
+        );
+    }
+
+    @Test
+    void testBulkRemovalIndicesFollowEachOther() {
+        HabitManager manager = managerOf(5);
+        List<List<HabitListChange>> batches = record(manager);
+
+        manager.removeAll(List.of(manager.get(1), manager.get(3)));
+
+        List<HabitListChange> changes = batches.get(0);
+        assertAll(
+            () -> assertEquals(1, batches.size()),
+            () -> assertEquals(1, changes.get(0).getFrom()),
+            () -> assertEquals("habit 1", changes.get(0).getRemoved().get(0).getText()),
+            () -> assertEquals(2, changes.get(1).getFrom()),
+            () -> assertEquals("habit 3", changes.get(1).getRemoved().get(0).getText())
+        );
+    }
+
+    @Test
+    void testIteratorAndSubListChanges() {
+        HabitManager manager = managerOf(4);
+        List<List<HabitListChange>> batches = record(manager);
+
+        Iterator<Habit> iterator = manager.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        manager.subList(0, 2).clear();
+        manager.addAll(List.of(new Habit("a", Frequency.DAILY), new Habit("b", Frequency.DAILY)));
+
+        assertAll(
+            () -> assertEquals(1, batches.get(0).get(0).getFrom()),
+            () -> assertEquals(2, batches.get(1).get(0).getRemoved().size()),
+            () -> assertEquals(1, batches.get(2).get(0).getFrom()),
+            () -> assertEquals(3, batches.get(2).get(0).getTo())
+        );
+    }
+
+    @Test
+    void testEndChangeWithoutBeginChange() {
+        HabitManager manager = new HabitManager();
+
+        assertThrows(IllegalStateException.class, manager::endChange);
+    }
+}
@@ -0,0 +1,103 @@
+package habit_mode.test.model.habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+
+class TestCompletionCounts {
+    @Test
+    void testEmptyManagerIsAllComplete() {
+        HabitManager manager = new HabitManager();
+
+        assertAll(
+            () -> assertTrue(manager.isAllComplete()),
+            () -> assertEquals(0, manager.getCompletedCount()),
+            () -> assertEquals(0, manager.getCount(Frequency.DAILY))
+        );
+    }
+
+    @Test
+    void testCountsFollowCompletionChanges() {
+        HabitManager manager = new HabitManager();
+        Habit daily = new Habit("daily", Frequency.DAILY);
+        Habit weekly = new Habit("weekly", Frequency.WEEKLY);
+        manager.add(daily);
+        manager.add(weekly);
+
+        daily.completionProperty().set(true);
+
+        assertAll(
+            () -> assertEquals(1, manager.getCompletedCount()),
+            () -> assertEquals(1, manager.getIncompleteCount()),
+            () -> assertEquals(0, manager.getIncompleteCount(Frequency.DAILY)),
+            () -> assertEquals(1, manager.getIncompleteCount(Frequency.WEEKLY)),
+            () -> assertFalse(manager.isAllComplete())
+        );
+
+        weekly.completionProperty().set(true);
+        assertTrue(manager.isAllComplete());
+    }
+
+    @Test
+    void testCountsFollowFrequencyChanges() {
+        HabitManager manager = new HabitManager();
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        habit.completionProperty().set(true);
+        manager.add(habit);
+
+        habit.setFrequency(Frequency.MONTHLY);
+
+        assertAll(
+            () -> assertEquals(0, manager.getCount(Frequency.DAILY)),
+            () -> assertEquals(1, manager.getCount(Frequency.MONTHLY)),
+            () -> assertEquals(1, manager.getCompletedCount(Frequency.MONTHLY))
+        );
+    }
+
+    @Test
+    void testRemovedHabitsAreNoLongerCounted() {
+        HabitManager manager = new HabitManager();
+        Habit removed = new Habit("removed", Frequency.DAILY);
+        Habit kept = new Habit("kept", Frequency.DAILY);
+        manager.add(removed);
+        manager.add(kept);
+
+        manager.remove(removed);
+        removed.completionProperty().set(true);
+
+        assertAll(
+            () -> assertEquals(0, manager.getCompletedCount()),
+            () -> assertEquals(1, manager.getCount(Frequency.DAILY))
+        );
+    }
+
+    @Test
+    void testClearResetsCounts() {
+        HabitManager manager = new HabitManager();
+        Habit habit = new Habit("habit", Frequency.WEEKLY);
+        manager.add(habit);
+
+        manager.clear();
+        habit.completionProperty().set(true);
+
+        assertAll(
+            () -> assertEquals(0, manager.getCompletedCount()),
+            () -> assertEquals(0, manager.getCount(Frequency.WEEKLY))
+        );
+    }
+
+    @Test
+    void testNullFrequency() {
+        HabitManager manager = new HabitManager();
+
+        assertThrows(IllegalArgumentException.class, () -> manager.getCount(null));
+    }
+}
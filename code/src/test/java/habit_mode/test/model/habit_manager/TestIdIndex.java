@@ -0,0 +1,167 @@
+package habit_mode.test.model.habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+
+class TestIdIndex {
+    private static Habit habitWithId(String text, int id) {
+        Habit habit = new Habit(text, Frequency.DAILY);
+        habit.setId(id);
+        return habit;
+    }
+
+    private static HabitManager managerOf(int count) {
+        HabitManager manager = new HabitManager();
+        for (int id = 0; id < count; id++) {
+            manager.add(habitWithId("habit " + id, id));
+        }
+        return manager;
+    }
+
+    @Test
+    void testGetByIdAfterAdd() {
+        HabitManager manager = managerOf(5);
+
+        assertAll(
+            () -> assertEquals("habit 3", manager.getById(3).getText()),
+            () -> assertTrue(manager.containsId(4)),
+            () -> assertFalse(manager.containsId(5)),
+            () -> assertNull(manager.getById(5))
+        );
+    }
+
+    @Test
+    void testRemoveById() {
+        HabitManager manager = managerOf(5);
+
+        Habit removed = manager.removeById(2);
+
+        assertAll(
+            () -> assertEquals("habit 2", removed.getText()),
+            () -> assertEquals(4, manager.size()),
+            () -> assertFalse(manager.containsId(2)),
+            () -> assertNull(manager.removeById(2))
+        );
+    }
+
+    @Test
+    void testSetReplacesIndexEntry() {
+        HabitManager manager = managerOf(3);
+
+        manager.set(1, habitWithId("replacement", 10));
+
+        assertAll(
+            () -> assertFalse(manager.containsId(1)),
+            () -> assertEquals("replacement", manager.getById(10).getText())
+        );
+    }
+
+    @Test
+    void testIteratorRemoveUpdatesIndex() {
+        HabitManager manager = managerOf(4);
+
+        Iterator<Habit> iterator = manager.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getId() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertAll(
+            () -> assertEquals(2, manager.size()),
+            () -> assertFalse(manager.containsId(0)),
+            () -> assertFalse(manager.containsId(2)),
+            () -> assertTrue(manager.containsId(3))
+        );
+    }
+
+    @Test
+    void testListIteratorSetAndAddUpdateIndex() {
+        HabitManager manager = managerOf(2);
+
+        ListIterator<Habit> iterator = manager.listIterator();
+        iterator.next();
+        iterator.set(habitWithId("set", 20));
+        iterator.add(habitWithId("added", 21));
+
+        assertAll(
+            () -> assertEquals(3, manager.size()),
+            () -> assertFalse(manager.containsId(0)),
+            () -> assertEquals("set", manager.getById(20).getText()),
+            () -> assertEquals(1, manager.indexOf(manager.getById(21)))
+        );
+    }
+
+    @Test
+    void testSubListEditsUpdateIndex() {
+        HabitManager manager = managerOf(6);
+
+        List<Habit> middle = manager.subList(1, 4);
+        middle.remove(0);
+        middle.add(habitWithId("added", 30));
+        middle.subList(0, 1).clear();
+
+        assertAll(
+            () -> assertEquals(5, manager.size()),
+            () -> assertFalse(manager.containsId(1)),
+            () -> assertFalse(manager.containsId(2)),
+            () -> assertTrue(manager.containsId(3)),
+            () -> assertTrue(manager.containsId(30))
+        );
+    }
+
+    @Test
+    void testBulkRemovalUpdatesIndex() {
+        HabitManager manager = managerOf(6);
+        List<Habit> toRemove = List.of(manager.get(0), manager.get(5));
+
+        manager.removeAll(toRemove);
+        manager.retainAll(List.of(manager.get(0), manager.get(1)));
+
+        assertAll(
+            () -> assertEquals(2, manager.size()),
+            () -> assertTrue(manager.containsId(1)),
+            () -> assertTrue(manager.containsId(2)),
+            () -> assertFalse(manager.containsId(3)),
+            () -> assertFalse(manager.containsId(5))
+        );
+    }
+
+    @Test
+    void testDuplicateIdsStayIndexedUntilAllRemoved() {
+        HabitManager manager = new HabitManager();
+        Habit first = habitWithId("first", 7);
+        Habit second = habitWithId("second", 7);
+        manager.add(first);
+        manager.add(second);
+
+        manager.remove(first);
+
+        assertSame(second, manager.getById(7));
+        manager.remove(second);
+        assertFalse(manager.containsId(7));
+    }
+
+    @Test
+    void testClearEmptiesIndex() {
+        HabitManager manager = managerOf(3);
+
+        manager.clear();
+
+        assertFalse(manager.containsId(0));
+    }
+}
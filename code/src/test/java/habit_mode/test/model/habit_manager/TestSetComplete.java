@@ -0,0 +1,84 @@
+package habit_mode.test.model.habit_manager;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitListChange;
+import habit_mode.model.HabitManager;
+
+public class TestSetComplete {
+    @Test
+    void testOnlyHabitsInTheManagerChange() {
+        HabitManager manager = new HabitManager();
+        Habit first = new Habit("first", Frequency.DAILY);
+        Habit second = new Habit("second", Frequency.WEEKLY);
+        Habit outside = new Habit("first", Frequency.DAILY);
+        manager.addAll(List.of(first, second));
+
+        int changed = manager.setComplete(List.of(first, second, outside), true);
+
+        assertAll(
+            () -> assertEquals(2, changed),
+            () -> assertTrue(first.isComplete()),
+            () -> assertTrue(second.isComplete()),
+            () -> assertFalse(outside.isComplete()),
+            () -> assertEquals(2, manager.getCompletedCount()),
+            () -> assertEquals(1, manager.getCompletedCount(Frequency.WEEKLY))
+        );
+    }
+
+    @Test
+    void testChangesArriveAsOneBatch() {
+        HabitManager manager = new HabitManager();
+        Habit first = new Habit("first", Frequency.DAILY);
+        Habit second = new Habit("second", Frequency.DAILY);
+        Habit third = new Habit("third", Frequency.DAILY);
+        manager.addAll(List.of(first, second, third));
+        third.setComplete(true);
+        List<List<HabitListChange>> batches = new ArrayList<List<HabitListChange>>();
+        manager.addChangeListener(batches::add);
+
+        manager.setComplete(List.of(third, first), true);
+
+        assertAll(
+            () -> assertEquals(1, batches.size()),
+            () -> assertEquals(List.of(HabitListChange.updated(0).toString()), Arrays.asList(batches.get(0).get(0).toString())),
+            () -> assertEquals(1, batches.get(0).size())
+        );
+    }
+
+    @Test
+    void testLaterChangesAreStillReported() {
+        HabitManager manager = new HabitManager();
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        manager.add(habit);
+        manager.setComplete(List.of(habit), true);
+        List<List<HabitListChange>> batches = new ArrayList<List<HabitListChange>>();
+        manager.addChangeListener(batches::add);
+
+        habit.setComplete(false);
+
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void testNullArguments() {
+        HabitManager manager = new HabitManager();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.setComplete(null, true)),
+            () -> assertThrows(IllegalArgumentException.class, () -> manager.setComplete(Arrays.asList((Habit) null), true))
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package habit_mode.test.model.habit_search_index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitSearchIndex;
+
+public class TestSearch {
+    private static final String LETTERS = "abcAB ";
+
+    @Test
+    void testMatchesCheckingEveryHabit() {
+        Random random = new Random(45);
+        HabitSearchIndex index = new HabitSearchIndex();
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            if (action < 5 || habits.isEmpty()) {
+                Habit habit = new Habit(randomText(random, 1 + random.nextInt(8)), Frequency.DAILY);
+                habits.add(habit);
+                assertTrue(index.add(habit));
+            } else if (action < 7) {
+                assertTrue(index.remove(habits.remove(random.nextInt(habits.size()))));
+            } else if (action < 8) {
+                Habit habit = habits.get(random.nextInt(habits.size()));
+                habit.setText(randomText(random, 1 + random.nextInt(8)));
+                index.update(habit);
+            } else {
+                String query = randomText(random, random.nextInt(6));
+                String lowerQuery = query.toLowerCase(Locale.ROOT);
+                assertEquals(matching(habits, habit -> habit.getText().toLowerCase(Locale.ROOT).contains(lowerQuery)), index.search(query), query);
+                assertEquals(matching(habits, habit -> habit.getText().toLowerCase(Locale.ROOT).startsWith(lowerQuery)), index.searchPrefix(query), query);
+                assertEquals(matching(habits, habit -> habit.getText().equals(query)), index.findByText(query), query);
+            }
+        }
+        assertEquals(habits.size(), index.size());
+    }
+
+    @Test
+    void testEachHabitIsIndexedOnce() {
+        HabitSearchIndex index = new HabitSearchIndex();
+        Habit habit = new Habit("Drink water", Frequency.DAILY);
+        Habit sameText = new Habit("Drink water", Frequency.DAILY);
+
+        assertAll(
+            () -> assertTrue(index.add(habit)),
+            () -> assertFalse(index.add(habit)),
+            () -> assertTrue(index.add(sameText)),
+            () -> assertEquals(2, index.search("WATER").size()),
+            () -> assertFalse(index.update(habit)),
+            () -> assertFalse(index.update(new Habit("other", Frequency.DAILY))),
+            () -> assertTrue(index.remove(habit)),
+            () -> assertFalse(index.remove(habit)),
+            () -> assertFalse(index.contains(habit)),
+            () -> assertTrue(index.contains(sameText))
+        );
+        index.clear();
+        assertAll(
+            () -> assertEquals(0, index.size()),
+            () -> assertEquals(Set.of(), index.search("w"))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HabitSearchIndex index = new HabitSearchIndex();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> index.add(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.update(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.search(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.searchPrefix(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.findByText(null)),
+            () -> assertFalse(index.remove(null))
+        );
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int index = 0; index < length; index++) {
+            text.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return text.toString();
+    }
+
+    private static Set<Habit> matching(List<Habit> habits, Predicate<Habit> matches) {
+        Set<Habit> matching = Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+        for (Habit habit : habits) {
+            if (matches.test(habit)) {
+                matching.add(habit);
+            }
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,102 @@
+package habit_mode.test.model.habit_statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHistory;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitStatistics;
+
+public class TestMatchesBruteForce {
+    private static final LocalDate START = LocalDate.of(2021, 1, 1);
+    private static final int DAYS = 400;
+
+    @Test
+    void testStatisticsMatchAnOracle() {
+        Random random = new Random(42);
+        HabitStatistics statistics = new HabitStatistics();
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < 6; index++) {
+            habits.add(new Habit("habit " + index, Frequency.values()[index % 3]));
+        }
+
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate today = START.plusDays(day);
+            for (Habit habit : habits) {
+                this.changeRandomly(statistics, habit, today, random);
+                this.checkHabit(statistics, habit, today, random);
+            }
+            for (Frequency frequency : Frequency.values()) {
+                this.checkFrequency(statistics, habits, frequency, today, random);
+            }
+        }
+    }
+
+    private void changeRandomly(HabitStatistics statistics, Habit habit, LocalDate today, Random random) {
+        int choice = random.nextInt(10);
+        if (choice < 6) {
+            statistics.recordCompletion(habit, today);
+        } else if (choice == 6) {
+            statistics.recordCompletion(habit, today.minusDays(random.nextInt(60)));
+        } else if (choice == 7) {
+            statistics.removeCompletion(habit, today.minusDays(random.nextInt(60)));
+        }
+    }
+
+    private void checkHabit(HabitStatistics statistics, Habit habit, LocalDate today, Random random) {
+        CompletionHistory history = habit.getHistory();
+        int present = CompletionHistory.periodOf(history.getFrequency(), today);
+        LocalDate from = today.minusDays(random.nextInt(200));
+        int first = CompletionHistory.periodOf(history.getFrequency(), from);
+        int completed = 0;
+        for (int period = first; period <= present; period++) {
+            completed += history.isCompleted(period) ? 1 : 0;
+        }
+
+        assertEquals(currentStreak(history, present), statistics.getCurrentStreak(habit, today), habit + " current streak on " + today);
+        assertEquals(longestStreak(history, present), statistics.getLongestStreak(habit), habit + " longest streak on " + today);
+        assertEquals((double) completed / (present - first + 1), statistics.getCompletionRate(habit, from, today), 1e-9);
+    }
+
+    private void checkFrequency(HabitStatistics statistics, List<Habit> habits, Frequency frequency, LocalDate today, Random random) {
+        LocalDate from = today.minusDays(random.nextInt(200));
+        int first = CompletionHistory.periodOf(frequency, from);
+        int present = CompletionHistory.periodOf(frequency, today);
+        long completions = 0;
+        for (Habit habit : habits) {
+            for (int period = first; period <= present && habit.getFrequency() == frequency; period++) {
+                completions += habit.getHistory().isCompleted(period) ? 1 : 0;
+            }
+        }
+
+        assertEquals(completions, statistics.getCompletionCount(frequency, from, today), frequency + " completions on " + today);
+        assertEquals((double) completions / ((present - first + 1) * 2), statistics.getCompletionRate(frequency, from, today), 1e-9);
+    }
+
+    private static int currentStreak(CompletionHistory history, int present) {
+        int period = history.isCompleted(present) ? present : present - 1;
+        int streak = 0;
+        while (period >= 0 && history.isCompleted(period)) {
+            streak++;
+            period--;
+        }
+        return streak;
+    }
+
+    private static int longestStreak(CompletionHistory history, int present) {
+        int longest = 0;
+        int run = 0;
+        for (int period = 0; period <= present; period++) {
+            run = history.isCompleted(period) ? run + 1 : 0;
+            longest = Math.max(longest, run);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,80 @@
+package habit_mode.test.model.habit_statistics;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitStatistics;
+
+public class TestStreaks {
+    private static final LocalDate MONDAY = LocalDate.of(2022, 4, 11);
+
+    @Test
+    void testStreakEndsOnceAPeriodIsMissed() {
+        HabitStatistics statistics = new HabitStatistics();
+        Habit habit = new Habit("read", Frequency.DAILY);
+        for (int day = 0; day < 3; day++) {
+            statistics.recordCompletion(habit, MONDAY.plusDays(day));
+        }
+
+        assertAll(
+            () -> assertEquals(3, statistics.getCurrentStreak(habit, MONDAY.plusDays(2))),
+            () -> assertEquals(3, statistics.getCurrentStreak(habit, MONDAY.plusDays(3))),
+            () -> assertEquals(0, statistics.getCurrentStreak(habit, MONDAY.plusDays(4))),
+            () -> assertEquals(3, statistics.getLongestStreak(habit))
+        );
+    }
+
+    @Test
+    void testExistingHistoryIsCounted() {
+        Habit habit = new Habit("run", Frequency.WEEKLY);
+        habit.getHistory().setCompleted(MONDAY, true);
+        habit.getHistory().setCompleted(MONDAY.plusWeeks(1), true);
+        HabitStatistics statistics = new HabitStatistics();
+
+        assertAll(
+            () -> assertEquals(2, statistics.getCurrentStreak(habit, MONDAY.plusWeeks(1))),
+            () -> assertEquals(1, statistics.getHabitCount(Frequency.WEEKLY)),
+            () -> assertEquals(2, statistics.getCompletionCount(Frequency.WEEKLY, MONDAY, MONDAY.plusWeeks(1))),
+            () -> assertFalse(statistics.recordCompletion(habit, MONDAY.plusDays(3)))
+        );
+    }
+
+    @Test
+    void testRemovingAHabitRemovesItsCompletions() {
+        HabitStatistics statistics = new HabitStatistics();
+        Habit habit = new Habit("save", Frequency.MONTHLY);
+        statistics.recordCompletion(habit, MONDAY);
+
+        assertTrue(statistics.remove(habit));
+        assertAll(
+            () -> assertFalse(statistics.remove(habit)),
+            () -> assertEquals(0, statistics.getHabitCount(Frequency.MONTHLY)),
+            () -> assertEquals(0, statistics.getCompletionRate(Frequency.MONTHLY, MONDAY, MONDAY)),
+            () -> assertFalse(new HabitStatistics().removeCompletion(habit, MONDAY.plusMonths(1)))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HabitStatistics statistics = new HabitStatistics();
+        Habit habit = new Habit("read", Frequency.DAILY);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.recordCompletion(null, MONDAY)),
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.recordCompletion(habit, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.getCurrentStreak(habit, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.getCompletionRate(habit, MONDAY, MONDAY.minusDays(1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.getCompletionCount(null, MONDAY, MONDAY)),
+            () -> assertThrows(IllegalArgumentException.class, () -> statistics.getHabitCount(null))
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package habit_mode.test.model.habit_store;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.HabitStore;
+
+class TestAddAndGet {
+    @Test
+    void testAddStoresEveryColumn() {
+        HabitStore store = new HabitStore();
+
+        int row = store.add(42, "stretch", Frequency.WEEKLY, true);
+
+        assertAll(
+            () -> assertEquals(0, row),
+            () -> assertEquals(1, store.size()),
+            () -> assertEquals(42, store.getId(row)),
+            () -> assertEquals("stretch", store.getText(row)),
+            () -> assertEquals(Frequency.WEEKLY, store.getFrequency(row)),
+            () -> assertTrue(store.isComplete(row))
+        );
+    }
+
+    @Test
+    void testTextsAreInterned() {
+        HabitStore store = new HabitStore();
+        for (int index = 0; index < 1000; index++) {
+            store.add(index, "habit " + (index % 10), Frequency.DAILY, false);
+        }
+
+        assertAll(
+            () -> assertEquals(1000, store.size()),
+            () -> assertEquals(10, store.getDistinctTextCount()),
+            () -> assertEquals("habit 7", store.getText(997))
+        );
+    }
+
+    @Test
+    void testManyTextsAreInternedOnce() {
+        HabitStore store = new HabitStore();
+        for (int round = 0; round < 2; round++) {
+            for (int index = 0; index < 5000; index++) {
+                store.add(index, "habit " + index, Frequency.DAILY, false);
+            }
+            store.add(-1, "Aa", Frequency.DAILY, false);
+            store.add(-2, "BB", Frequency.DAILY, false);
+            store.add(-3, "", Frequency.DAILY, false);
+        }
+
+        assertAll(
+            () -> assertEquals(10006, store.size()),
+            () -> assertEquals(5003, store.getDistinctTextCount()),
+            () -> assertEquals("habit 4321", store.getText(5003 + 4321)),
+            () -> assertEquals("Aa", store.getText(10003)),
+            () -> assertEquals("BB", store.getText(10004)),
+            () -> assertEquals("", store.getText(10005))
+        );
+    }
+
+    @Test
+    void testNullFrequencyIsKept() {
+        HabitStore store = new HabitStore();
+
+        int row = store.add(1, "habit", null, false);
+
+        assertNull(store.getFrequency(row));
+    }
+
+    @Test
+    void testSetComplete() {
+        HabitStore store = new HabitStore();
+        for (int index = 0; index < 130; index++) {
+            store.add(index, "habit", Frequency.DAILY, false);
+        }
+
+        store.setComplete(129, true);
+        store.setComplete(64, true);
+        store.setComplete(64, false);
+
+        assertAll(
+            () -> assertTrue(store.isComplete(129)),
+            () -> assertFalse(store.isComplete(64)),
+            () -> assertFalse(store.isComplete(65))
+        );
+    }
+
+    @Test
+    void testRoundTripThroughHabitManager() {
+        Habit daily = new Habit("daily", Frequency.DAILY);
+        daily.setId(3);
+        daily.setComplete(true);
+        Habit monthly = new Habit("monthly", Frequency.MONTHLY);
+        monthly.setId(4);
+
+        HabitManager manager = HabitStore.of(List.of(daily, monthly)).toHabitManager();
+
+        assertAll(
+            () -> assertEquals(List.of(daily, monthly), manager),
+            () -> assertTrue(manager.getById(3).isComplete()),
+            () -> assertFalse(manager.getById(4).isComplete())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HabitStore store = new HabitStore();
+        store.add(1, "habit", Frequency.DAILY, false);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> store.getId(1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> store.getText(-1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> store.add(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> store.add(1, null, Frequency.DAILY, false)),
+            () -> assertThrows(IllegalArgumentException.class, () -> HabitStore.of(null))
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package habit_mode.test.model.habit_store;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitStore;
+
+class TestScans {
+    private static final int ROW_COUNT = 10_000;
+
+    private static List<Habit> randomHabits() {
+        Random random = new Random(35);
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < ROW_COUNT; index++) {
+            Habit habit = new Habit("habit " + random.nextInt(100), Frequency.values()[random.nextInt(3)]);
+            habit.setId(index);
+            habit.setComplete(random.nextBoolean());
+            habits.add(habit);
+        }
+        return habits;
+    }
+
+    @Test
+    void testScansMatchTheObjectList() {
+        List<Habit> habits = randomHabits();
+        HabitStore store = HabitStore.of(habits);
+        int[] expectedCounts = new int[Frequency.values().length];
+        int expectedCompleted = 0;
+        List<Integer> expectedWeeklyOpen = new ArrayList<Integer>();
+        for (int row = 0; row < habits.size(); row++) {
+            Habit habit = habits.get(row);
+            expectedCounts[habit.getFrequency().ordinal()]++;
+            expectedCompleted += habit.isComplete() ? 1 : 0;
+            if (habit.getFrequency() == Frequency.WEEKLY && !habit.isComplete()) {
+                expectedWeeklyOpen.add(row);
+            }
+        }
+        int completed = expectedCompleted;
+
+        assertAll(
+            () -> assertArrayEquals(expectedCounts, store.countByFrequency()),
+            () -> assertEquals(completed, store.countCompleted()),
+            () -> assertEquals((double) completed / ROW_COUNT, store.getCompletedRatio()),
+            () -> assertArrayEquals(expectedWeeklyOpen.stream().mapToInt(Integer::intValue).toArray(),
+                store.filter(Frequency.WEEKLY, false))
+        );
+    }
+
+    @Test
+    void testFilterWithPredicate() {
+        HabitStore store = HabitStore.of(randomHabits());
+
+        int[] rows = store.filter(row -> store.getId(row) % 1000 == 0);
+
+        assertArrayEquals(new int[] {0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000}, rows);
+    }
+
+    @Test
+    void testEmptyStore() {
+        HabitStore store = new HabitStore();
+
+        assertAll(
+            () -> assertEquals(0, store.getCompletedRatio()),
+            () -> assertEquals(0, store.countCompleted()),
+            () -> assertEquals(0, store.filter(Frequency.DAILY, true).length),
+            () -> assertThrows(IllegalArgumentException.class, () -> store.filter((Frequency) null, true))
+        );
+    }
+}
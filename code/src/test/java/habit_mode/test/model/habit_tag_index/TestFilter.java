@@ -0,0 +1,146 @@
+package habit_mode.test.model.habit_tag_index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitTagIndex;
+
+public class TestFilter {
+    private static final List<String> TAGS = List.of("health", "work", "family", "fun", "chores", "study");
+
+    @Test
+    void testMatchesCheckingEveryHabit() {
+        Random random = new Random(46);
+        HabitTagIndex index = new HabitTagIndex();
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int step = 0; step < 5000; step++) {
+            int action = random.nextInt(10);
+            if (action < 5 || habits.isEmpty()) {
+                Habit habit = new Habit("habit " + step, Frequency.DAILY);
+                habit.setTags(randomTags(random));
+                habits.add(habit);
+                assertTrue(index.add(habit));
+            } else if (action < 7) {
+                assertTrue(index.remove(habits.remove(random.nextInt(habits.size()))));
+            } else if (action < 8) {
+                Habit habit = habits.get(random.nextInt(habits.size()));
+                habit.setTags(randomTags(random));
+                index.update(habit);
+            } else {
+                this.assertFilterMatches(index, habits, randomTags(random), randomTags(random), randomTags(random));
+            }
+        }
+        assertEquals(habits.size(), index.size());
+    }
+
+    @Test
+    void testFiltersCombineTags() {
+        HabitTagIndex index = new HabitTagIndex();
+        Habit run = this.tagged("run", "health", "fun");
+        Habit report = this.tagged("report", "work");
+        Habit dinner = this.tagged("dinner", "family", "health");
+        Habit untagged = new Habit("untagged", Frequency.DAILY);
+        for (Habit habit : List.of(run, report, dinner, untagged)) {
+            index.add(habit);
+        }
+
+        assertAll(
+            () -> assertEquals(Set.of(run, dinner), index.filter(List.of("Health"), List.of(), List.of())),
+            () -> assertEquals(Set.of(run), index.filter(List.of("health"), List.of(), List.of("family"))),
+            () -> assertEquals(Set.of(report, dinner), index.filter(List.of(), List.of("work", "family"), List.of())),
+            () -> assertEquals(Set.of(report, untagged), index.filter(List.of(), List.of(), List.of("health"))),
+            () -> assertEquals(Set.of(), index.filter(List.of("unknown"), List.of(), List.of())),
+            () -> assertEquals(4, index.count(List.of(), List.of(), List.of())),
+            () -> assertEquals(2, index.getTagCount(" HEALTH ")),
+            () -> assertEquals(0, index.getTagCount("unknown")),
+            () -> assertTrue(index.matcher(List.of("fun"), List.of(), List.of()).test(run)),
+            () -> assertFalse(index.matcher(List.of(), List.of(), List.of()).test(new Habit("other", Frequency.DAILY)))
+        );
+    }
+
+    @Test
+    void testSlotsAreReused() {
+        HabitTagIndex index = new HabitTagIndex();
+        Habit first = this.tagged("first", "work");
+        Habit second = this.tagged("second", "health");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        Habit third = this.tagged("third", "family");
+        index.add(third);
+
+        assertAll(
+            () -> assertFalse(index.add(third)),
+            () -> assertFalse(index.remove(first)),
+            () -> assertFalse(index.update(first)),
+            () -> assertFalse(index.update(second)),
+            () -> assertFalse(index.contains(first)),
+            () -> assertEquals(Set.of(second, third), index.filter(List.of(), List.of(), List.of())),
+            () -> assertEquals(0, index.getTagCount("work"))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HabitTagIndex index = new HabitTagIndex();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> index.add(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.update(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.filter(null, List.of(), List.of())),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.matcher(List.of(), null, List.of())),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.count(List.of(), List.of(), null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.getTagCount(null)),
+            () -> assertFalse(index.remove(null))
+        );
+    }
+
+    private void assertFilterMatches(HabitTagIndex index, List<Habit> habits, List<String> allOf, List<String> anyOf, List<String> noneOf) {
+        Set<Habit> expected = Collections.newSetFromMap(new IdentityHashMap<Habit, Boolean>());
+        for (Habit habit : habits) {
+            Set<String> tags = habit.getTags();
+            if (tags.containsAll(allOf) && (anyOf.isEmpty() || anyOf.stream().anyMatch(tags::contains))
+                    && noneOf.stream().noneMatch(tags::contains)) {
+                expected.add(habit);
+            }
+        }
+        Predicate<Habit> matcher = index.matcher(allOf, anyOf, noneOf);
+        assertAll(
+            () -> assertEquals(expected, index.filter(allOf, anyOf, noneOf)),
+            () -> assertEquals(expected.size(), index.count(allOf, anyOf, noneOf)),
+            () -> assertEquals(expected.size(), habits.stream().filter(matcher).count())
+        );
+    }
+
+    private static List<String> randomTags(Random random) {
+        List<String> tags = new ArrayList<String>();
+        for (String tag : TAGS) {
+            if (random.nextInt(4) == 0) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    private Habit tagged(String text, String... tags) {
+        Habit habit = new Habit(text, Frequency.DAILY);
+        habit.setTags(List.of(tags));
+        return habit;
+    }
+}
@@ -0,0 +1,89 @@
+package habit_mode.test.model.hierarchical_timing_wheel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.HierarchicalTimingWheel;
+
+public class TestAdvanceTo {
+    @Test
+    void testValueExpiresOnceItsDeadlineHasPassed() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<String>(10, 0);
+        wheel.schedule(25, "a");
+
+        assertAll(
+            () -> assertEquals(List.of(), wheel.advanceTo(24)),
+            () -> assertEquals(1, wheel.size()),
+            () -> assertEquals(List.of("a"), wheel.advanceTo(30)),
+            () -> assertEquals(0, wheel.size()),
+            () -> assertEquals(30, wheel.getCurrentMillis())
+        );
+    }
+
+    @Test
+    void testPastDeadlinesExpireOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<String>(10, 1000);
+        wheel.schedule(500, "late");
+        wheel.schedule(1000, "now");
+
+        List<String> expired = wheel.advanceTo(1000);
+        Collections.sort(expired);
+
+        assertEquals(List.of("late", "now"), expired);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<String>(1, 0);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(0, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> wheel.schedule(1, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> wheel.schedule(HierarchicalTimingWheel.HORIZON_TICKS, "far")),
+            () -> assertEquals(1, wheel.getTickMillis())
+        );
+        wheel.schedule(HierarchicalTimingWheel.HORIZON_TICKS - 1, "edge");
+        assertEquals(List.of("edge"), wheel.advanceTo(HierarchicalTimingWheel.HORIZON_TICKS));
+    }
+
+    @Test
+    void testRandomTimersMatchASortedList() {
+        Random random = new Random(40);
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<Long>(1, 0);
+        List<Long> pending = new ArrayList<Long>();
+        long now = 0;
+
+        for (int round = 0; round < 2000; round++) {
+            for (int timer = random.nextInt(5); timer > 0; timer--) {
+                long deadline = now + (long) Math.pow(2, random.nextInt(22)) + random.nextInt(100);
+                wheel.schedule(deadline, deadline);
+                pending.add(deadline);
+            }
+            now += random.nextInt(3) == 0 ? random.nextInt(1 << 20) : random.nextInt(200);
+
+            List<Long> expected = new ArrayList<Long>();
+            for (Long deadline : pending) {
+                if (deadline <= now) {
+                    expected.add(deadline);
+                }
+            }
+            pending.removeAll(expected);
+            List<Long> expired = wheel.advanceTo(now);
+            Collections.sort(expired);
+            Collections.sort(expected);
+
+            assertEquals(expected, expired, "timers expired at " + now);
+            assertEquals(pending.size(), wheel.size());
+        }
+        assertTrue(wheel.advanceTo(Long.MAX_VALUE / 2).size() == pending.size());
+    }
+}
@@ -0,0 +1,120 @@
+package habit_mode.test.model.idempotency_cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of responses keyed by the idempotency key of the request that produced them.
+ * The mock servers keep one so that a resent mutating request returns the original response instead
+ * of being applied twice. A response is only returned for a request of the same type as the one that
+ * produced it, so a key reused by a different kind of request is treated as new.
+ * Once full, the least recently used response is evicted.
+ *
+ * @author Team 1
+ * @version Spring 2022
+ */
+public class IdempotencyCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final String INVALID_CAPACITY_ERROR = "capacity must be greater than 0";
+    private static final String NULL_KEY_ERROR = "key and requestType cannot be null";
+    private static final String NULL_RESPONSE_ERROR = "response cannot be null";
+
+    private int capacity;
+    private LinkedHashMap<String, String[]> responses;
+
+    /**
+     * Creates a new cache with the default capacity.
+     *
+     * @precondition None
+     * @postcondition this.size() == 0 && this.getCapacity() == DEFAULT_CAPACITY
+     */
+    public IdempotencyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @precondition capacity > 0
+     * @postcondition this.size() == 0 && this.getCapacity() == capacity
+     *
+     * @param capacity The maximum number of responses kept.
+     */
+    public IdempotencyCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_ERROR);
+        }
+        this.capacity = capacity;
+        this.responses = new LinkedHashMap<String, String[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+                return this.size() > IdempotencyCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the response recorded for a key.
+     *
+     * @precondition key != null && requestType != null
+     * @postcondition None
+     *
+     * @param key The idempotency key of the request.
+     * @param requestType The type of the request.
+     * @return The recorded response, or null if the key has not been seen with the request type or was evicted.
+     */
+    public synchronized String get(String key, String requestType) {
+        if (key == null || requestType == null) {
+            throw new IllegalArgumentException(NULL_KEY_ERROR);
+        }
+        String[] entry = this.responses.get(key);
+        return entry != null && entry[0].equals(requestType) ? entry[1] : null;
+    }
+
+    /**
+     * Records the response for a key, evicting the least recently used response if the cache is full.
+     *
+     * @precondition key != null && requestType != null && response != null
+     * @postcondition this.get(key, requestType).equals(response) && this.size() <= this.getCapacity()
+     *
+     * @param key The idempotency key of the request.
+     * @param requestType The type of the request.
+     * @param response The response sent for the request.
+     */
+    public synchronized void put(String key, String requestType, String response) {
+        if (key == null || requestType == null) {
+            throw new IllegalArgumentException(NULL_KEY_ERROR);
+        }
+        if (response == null) {
+            throw new IllegalArgumentException(NULL_RESPONSE_ERROR);
+        }
+        this.responses.put(key, new String[] {requestType, response});
+    }
+
+    /**
+     * Gets the number of recorded responses.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The number of recorded responses.
+     */
+    public synchronized int size() {
+        return this.responses.size();
+    }
+
+    /**
+     * Gets the maximum number of recorded responses.
+     *
+     * @precondition None
+     * @postcondition None
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+}
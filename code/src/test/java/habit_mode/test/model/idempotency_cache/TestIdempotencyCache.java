@@ -0,0 +1,63 @@
+package habit_mode.test.model.idempotency_cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class TestIdempotencyCache {
+    @Test
+    void testDefaultConstructor() {
+        IdempotencyCache cache = new IdempotencyCache();
+
+        assertAll(
+            () -> {assertEquals(0, cache.size(), "Checking that the cache starts empty.");},
+            () -> {assertEquals(IdempotencyCache.DEFAULT_CAPACITY, cache.getCapacity(), "Checking the capacity.");}
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        IdempotencyCache cache = new IdempotencyCache();
+
+        assertAll(
+            () -> {assertThrows(IllegalArgumentException.class, () -> new IdempotencyCache(0));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> cache.get(null, "add_habit"));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> cache.get("key", null));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> cache.put(null, "add_habit", "response"));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> cache.put("key", null, "response"));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> cache.put("key", "add_habit", null));}
+        );
+    }
+
+    @Test
+    void testRepeatedKeyReturnsOriginalResponse() {
+        IdempotencyCache cache = new IdempotencyCache();
+
+        cache.put("key", "add_habit", "original");
+
+        assertAll(
+            () -> {assertEquals("original", cache.get("key", "add_habit"), "Checking that the original response is kept.");},
+            () -> {assertNull(cache.get("key", "remove_habit"), "Checking that another request type has no response.");},
+            () -> {assertNull(cache.get("other", "add_habit"), "Checking that unknown keys have no response.");}
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedResponseIsEvicted() {
+        IdempotencyCache cache = new IdempotencyCache(2);
+        cache.put("first", "add_habit", "1");
+        cache.put("second", "add_habit", "2");
+        cache.get("first", "add_habit");
+
+        cache.put("third", "add_habit", "3");
+
+        assertAll(
+            () -> {assertEquals(2, cache.size(), "Checking that the cache stays bounded.");},
+            () -> {assertEquals("1", cache.get("first", "add_habit"), "Checking that the recently used response is kept.");},
+            () -> {assertNull(cache.get("second", "add_habit"), "Checking that the least recently used response was evicted.");}
+        );
+    }
+}
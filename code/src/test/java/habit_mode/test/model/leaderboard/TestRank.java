@@ -0,0 +1,133 @@
+package habit_mode.test.model.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Leaderboard;
+import habit_mode.model.LeaderboardEntry;
+
+class TestRank {
+    @Test
+    void testEmptyLeaderboard() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        assertAll(
+            () -> assertEquals(0, leaderboard.size()),
+            () -> assertEquals(0, leaderboard.getRank("alice")),
+            () -> assertEquals(0, leaderboard.getScore("alice")),
+            () -> assertTrue(leaderboard.getTop(10).isEmpty()),
+            () -> assertFalse(leaderboard.remove("alice"))
+        );
+    }
+
+    @Test
+    void testTiesAreOrderedByUsername() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.update("carol", 70);
+        leaderboard.update("alice", 120);
+        leaderboard.update("bob", 70);
+
+        assertEquals(List.of(
+            new LeaderboardEntry(1, "alice", 120),
+            new LeaderboardEntry(2, "bob", 70),
+            new LeaderboardEntry(3, "carol", 70)
+        ), leaderboard.getTop(5));
+    }
+
+    @Test
+    void testUpdatesMoveOnlyTheUser() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.update("alice", 120);
+        leaderboard.update("bob", 70);
+
+        assertAll(
+            () -> assertEquals(1, leaderboard.add("bob", 60)),
+            () -> assertEquals(2, leaderboard.getRank("alice")),
+            () -> assertEquals(130, leaderboard.getScore("bob")),
+            () -> assertEquals(1, leaderboard.update("bob", 130)),
+            () -> assertEquals(3, leaderboard.add("carol", -5)),
+            () -> assertTrue(leaderboard.remove("bob")),
+            () -> assertEquals(1, leaderboard.getRank("alice")),
+            () -> assertEquals(List.of(new LeaderboardEntry(2, "carol", -5)), leaderboard.getPage(1, 5))
+        );
+    }
+
+    @Test
+    void testClear() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.update("alice", 120);
+        leaderboard.clear();
+
+        assertAll(
+            () -> assertEquals(0, leaderboard.size()),
+            () -> assertEquals(0, leaderboard.getRank("alice")),
+            () -> assertEquals(1, leaderboard.update("bob", 1))
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new Leaderboard(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> leaderboard.update(null, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> leaderboard.getRank(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> leaderboard.getPage(-1, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> leaderboard.getTop(-1))
+        );
+    }
+
+    @Test
+    void testRanksMatchSortingEveryUser() {
+        Random random = new Random(50);
+        Leaderboard leaderboard = new Leaderboard(new Random(7));
+        Map<String, Long> scores = new HashMap<String, Long>();
+
+        for (int step = 0; step < 3000; step++) {
+            String username = "user" + random.nextInt(200);
+            int action = random.nextInt(10);
+            if (action == 0) {
+                assertEquals(scores.remove(username) != null, leaderboard.remove(username));
+            } else if (action < 4) {
+                long score = scores.getOrDefault(username, 0L) + random.nextInt(50) - 10;
+                scores.put(username, score);
+                leaderboard.add(username, score - leaderboard.getScore(username));
+            } else {
+                long score = random.nextInt(100);
+                scores.put(username, score);
+                leaderboard.update(username, score);
+            }
+        }
+
+        List<LeaderboardEntry> expected = sortedEntries(scores);
+        assertEquals(expected, leaderboard.getTop(expected.size() + 1));
+        assertEquals(expected.subList(40, 65), leaderboard.getPage(40, 25));
+        for (LeaderboardEntry entry : expected) {
+            assertEquals(entry.getRank(), leaderboard.getRank(entry.getUsername()));
+        }
+        assertEquals(scores.size(), leaderboard.size());
+    }
+
+    private static List<LeaderboardEntry> sortedEntries(Map<String, Long> scores) {
+        List<Map.Entry<String, Long>> users = new ArrayList<Map.Entry<String, Long>>(scores.entrySet());
+        users.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+        List<LeaderboardEntry> entries = new ArrayList<LeaderboardEntry>();
+        for (Map.Entry<String, Long> user : users) {
+            entries.add(new LeaderboardEntry(entries.size() + 1, user.getKey(), user.getValue()));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,38 @@
+package habit_mode.test.model.leaderboard_entry;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.LeaderboardEntry;
+
+class TestConstructor {
+    @Test
+    void testValidEntry() {
+        LeaderboardEntry entry = new LeaderboardEntry(2, "alice", 120);
+
+        assertAll(
+            () -> assertEquals(2, entry.getRank()),
+            () -> assertEquals("alice", entry.getUsername()),
+            () -> assertEquals(120, entry.getScore()),
+            () -> assertEquals("2. alice (120)", entry.toString()),
+            () -> assertEquals(new LeaderboardEntry(2, "alice", 120), entry),
+            () -> assertEquals(new LeaderboardEntry(2, "alice", 120).hashCode(), entry.hashCode()),
+            () -> assertNotEquals(new LeaderboardEntry(1, "alice", 120), entry),
+            () -> assertNotEquals(new LeaderboardEntry(2, "bob", 120), entry),
+            () -> assertNotEquals(new LeaderboardEntry(2, "alice", 70), entry),
+            () -> assertNotEquals("alice", entry)
+        );
+    }
+
+    @Test
+    void testInvalidEntries() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new LeaderboardEntry(0, "alice", 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LeaderboardEntry(1, null, 0))
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package habit_mode.test.model.local_implementation.HabitRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.local_implementation.HabitRegistry;
+
+public class TestWithHabits {
+    @Test
+    void testEachUserHasTheirOwnManager() {
+        HabitRegistry registry = new HabitRegistry();
+
+        registry.withHabits("alice", habits -> habits.add(new Habit("read", Frequency.DAILY)));
+
+        assertAll(
+            () -> assertEquals(1, registry.getHabits("alice").size()),
+            () -> assertEquals(0, registry.getHabits("bob").size()),
+            () -> assertSame(registry.getHabits("alice"), registry.getHabits("alice")),
+            () -> assertNotSame(registry.getHabits("alice"), registry.getHabits("bob")),
+            () -> assertEquals(2, registry.getUserCount())
+        );
+    }
+
+    @Test
+    void testRemoveUserAndClear() {
+        HabitRegistry registry = new HabitRegistry(4);
+        registry.getHabits("alice");
+        registry.getHabits("bob");
+
+        assertTrue(registry.removeUser("alice"));
+        assertFalse(registry.removeUser("alice"));
+        registry.clear();
+
+        assertEquals(0, registry.getUserCount());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        HabitRegistry registry = new HabitRegistry();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new HabitRegistry(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new HabitRegistry(12)),
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.withHabits(null, habits -> null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.withHabits("alice", null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> registry.removeUser(null)),
+            () -> assertEquals(HabitRegistry.DEFAULT_STRIPE_COUNT, registry.getStripeCount())
+        );
+    }
+
+    @Test
+    void testConcurrentUsersDoNotLoseUpdates() throws InterruptedException {
+        HabitRegistry registry = new HabitRegistry(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        int users = 500;
+        int habitsPerUser = 20;
+
+        for (int user = 0; user < users; user++) {
+            String username = "user" + user;
+            for (int habit = 0; habit < habitsPerUser; habit++) {
+                int number = habit;
+                executor.execute(() -> registry.withHabits(username, habits -> {
+                    Habit added = new Habit("habit " + number, Frequency.DAILY);
+                    habits.add(added);
+                    added.setComplete(number % 2 == 0);
+                    return null;
+                }));
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        for (int user = 0; user < users; user++) {
+            int userNumber = user;
+            registry.withHabits("user" + user, habits -> {
+                assertEquals(habitsPerUser, habits.size(), "habits of user" + userNumber);
+                assertEquals(habitsPerUser / 2, habits.getCompletedCount(), "completed habits of user" + userNumber);
+                return null;
+            });
+        }
+    }
+}
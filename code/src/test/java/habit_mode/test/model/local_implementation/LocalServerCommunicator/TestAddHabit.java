@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import habit_mode.model.Frequency;
@@ -25,6 +28,19 @@ public class TestAddHabit {
         );
     }
 
+    @Test
+    void testAddHabitKeepsItsTags() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        habit.setTags(List.of("health", "work"));
+
+        communicator.addHabit(habit);
+        habit.removeTag("work");
+
+        assertEquals(Set.of("health", "work"), communicator.getHabits().get(0).getTags());
+    }
+
     @Test
     void testAddManyHabits() {
         LocalServerCommunicator.reset();
@@ -0,0 +1,31 @@
+package habit_mode.test.model.local_implementation.LocalServerCommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CoinLedger;
+import habit_mode.model.CoinTransactionType;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+
+public class TestBuyHint {
+    @Test
+    void testHintsAreCharged() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        communicator.setCoins(30);
+
+        int[] first = communicator.buyHint();
+        int[] second = communicator.buyHint();
+
+        CoinLedger ledger = communicator.getCoinLedger();
+        assertAll(
+            () -> assertEquals(10, first[3]),
+            () -> assertEquals(10, second[3]),
+            () -> assertEquals(10, communicator.getCoins()),
+            () -> assertEquals(-20, ledger.getTotal(CoinTransactionType.PURCHASE)),
+            () -> assertEquals(30, ledger.getTotal(CoinTransactionType.ADJUSTMENT))
+        );
+    }
+}
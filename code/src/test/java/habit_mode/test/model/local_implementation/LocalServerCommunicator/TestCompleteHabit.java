@@ -5,10 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import habit_mode.model.CoinTransactionType;
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
+import habit_mode.model.Milestone;
+import habit_mode.model.MilestoneEngine;
 import habit_mode.model.SuccessCode;
 import habit_mode.model.local_implementation.LocalServerCommunicator;
 
@@ -69,6 +74,41 @@ public class TestCompleteHabit {
         );
     }
 
+    @Test
+    void testMilestonesAwardCoins() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        for (int index = 0; index < 10; index++) {
+            communicator.addHabit(new Habit("habit" + index, Frequency.WEEKLY));
+        }
+
+        for (int index = 0; index < 10; index++) {
+            communicator.completeHabit(new Habit("habit" + index, Frequency.WEEKLY));
+        }
+
+        Milestone milestone = MilestoneEngine.getDefaultMilestones().get(0);
+        assertAll(
+            () -> assertEquals(List.of(milestone), communicator.getReachedMilestones()),
+            () -> assertEquals(10 * 20 + 50 + milestone.getReward(), communicator.getCoins()),
+            () -> assertEquals(10 * 20, communicator.getCoinLedger().getTotal(CoinTransactionType.REWARD)),
+            () -> assertEquals(50, communicator.getCoinLedger().getTotal(CoinTransactionType.BONUS)),
+            () -> assertEquals(milestone.getReward(), communicator.getCoinLedger().getTotal(CoinTransactionType.MILESTONE)),
+            () -> assertEquals(List.of(), new LocalServerCommunicator("other").getReachedMilestones())
+        );
+    }
+
+    @Test
+    void testCompletingEveryDailyHabitCountsTheDay() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        communicator.addHabit(new Habit("daily", Frequency.DAILY));
+        communicator.addHabit(new Habit("weekly", Frequency.WEEKLY));
+
+        communicator.completeHabit(new Habit("daily", Frequency.DAILY));
+
+        assertEquals(List.of(), communicator.getReachedMilestones());
+    }
+
     @Test
     void testCompletingHabitNotAdded() {
         LocalServerCommunicator.reset();
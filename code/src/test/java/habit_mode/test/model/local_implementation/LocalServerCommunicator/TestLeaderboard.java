@@ -0,0 +1,102 @@
+package habit_mode.test.model.local_implementation.LocalServerCommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+
+public class TestLeaderboard {
+    @Test
+    void testCoinsAreCountedForTheUserEarningThem() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator alice = new LocalServerCommunicator("alice");
+        LocalServerCommunicator bob = new LocalServerCommunicator("bob");
+        completeAll(alice, "run", "read");
+        bob.addHabit(new Habit("run", Frequency.DAILY));
+        completeAll(bob, "read");
+        bob.buyHint();
+
+        assertAll(
+            () -> assertEquals(List.of(new LeaderboardEntry(1, "alice", 90), new LeaderboardEntry(2, "bob", 0)),
+                alice.getLeaderboard(LeaderboardType.COINS, 0, 10)),
+            () -> assertEquals(List.of(new LeaderboardEntry(2, "bob", 0)), bob.getLeaderboard(LeaderboardType.COINS, 1, 10)),
+            () -> assertEquals(90, alice.getCoins())
+        );
+    }
+
+    @Test
+    void testSetCoinsPublishesTheBalance() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        communicator.setCoins(40);
+        communicator.setCoins(25);
+
+        assertEquals(List.of(new LeaderboardEntry(1, LocalServerCommunicator.DEFAULT_USER, 25)),
+            communicator.getLeaderboard(LeaderboardType.COINS, 0, 1));
+    }
+
+    @Test
+    void testStreaks() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator bob = new LocalServerCommunicator("bob");
+        LocalServerCommunicator alice = new LocalServerCommunicator("alice");
+        completeAll(bob, "run");
+        completeAll(alice, "read");
+
+        assertEquals(List.of(new LeaderboardEntry(1, "alice", 1), new LeaderboardEntry(2, "bob", 1)),
+            bob.getLeaderboard(LeaderboardType.LONGEST_STREAKS, 0, 2));
+    }
+
+    @Test
+    void testStreaksFollowTheClock() {
+        LocalServerCommunicator.reset();
+        Clock firstDay = Clock.fixed(Instant.parse("2022-03-09T12:00:00Z"), ZoneOffset.UTC);
+        LocalServerCommunicator communicator = new LocalServerCommunicator("carol", firstDay);
+        completeAll(communicator, "run");
+        communicator.getServerSideHabit(new Habit("run", Frequency.DAILY)).setComplete(false);
+        LocalServerCommunicator nextDay = new LocalServerCommunicator("carol", Clock.offset(firstDay, Duration.ofDays(1)));
+        nextDay.completeHabit(new Habit("run", Frequency.DAILY));
+
+        assertAll(
+            () -> assertEquals(List.of(new LeaderboardEntry(1, "carol", 2)), communicator.getLeaderboard(LeaderboardType.LONGEST_STREAKS, 0, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LocalServerCommunicator("carol", null))
+        );
+    }
+
+    @Test
+    void testResetClearsTheLeaderboards() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        completeAll(communicator, "run");
+        LocalServerCommunicator.reset();
+
+        assertAll(
+            () -> assertTrue(communicator.getLeaderboard(LeaderboardType.COINS, 0, 10).isEmpty()),
+            () -> assertTrue(communicator.getLeaderboard(LeaderboardType.LONGEST_STREAKS, 0, 10).isEmpty()),
+            () -> assertThrows(IllegalArgumentException.class, () -> communicator.getLeaderboard(null, 0, 10))
+        );
+    }
+
+    private static void completeAll(LocalServerCommunicator communicator, String... texts) {
+        for (String text : texts) {
+            communicator.addHabit(new Habit(text, Frequency.DAILY));
+        }
+        for (String text : texts) {
+            communicator.completeHabit(new Habit(text, Frequency.DAILY));
+        }
+    }
+}
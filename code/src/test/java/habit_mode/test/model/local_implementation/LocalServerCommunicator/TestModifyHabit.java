@@ -3,10 +3,13 @@ package habit_mode.test.model.local_implementation.LocalServerCommunicator;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.time.DayOfWeek;
+
 import org.junit.jupiter.api.Test;
 
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
+import habit_mode.model.Recurrence;
 import habit_mode.model.SuccessCode;
 import habit_mode.model.local_implementation.LocalServerCommunicator;
 
@@ -28,6 +31,22 @@ public class TestModifyHabit {
         );
     }
 
+    @Test
+    void testModifyHabitRecurrence() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator communicator = new LocalServerCommunicator();
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        communicator.addHabit(habit);
+        habit.setRecurrence(Recurrence.onWeekdayOfMonth(Recurrence.LAST, DayOfWeek.FRIDAY));
+
+        assertAll(
+            () -> assertEquals(SuccessCode.OKAY, communicator.modifyHabit(habit)),
+            () -> assertEquals(habit.getRecurrence(), communicator.getHabits().get(0).getRecurrence()),
+            () -> assertEquals(Frequency.MONTHLY, communicator.getHabits().get(0).getFrequency())
+        );
+    }
+
     @Test
     void testModifyNullHabit() {
         LocalServerCommunicator.reset();
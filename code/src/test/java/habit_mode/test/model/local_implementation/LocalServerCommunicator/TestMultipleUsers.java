@@ -0,0 +1,67 @@
+package habit_mode.test.model.local_implementation.LocalServerCommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.SuccessCode;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+
+public class TestMultipleUsers {
+    @Test
+    void testUsersHaveSeparateHabits() {
+        LocalServerCommunicator.reset();
+        LocalServerCommunicator alice = new LocalServerCommunicator("alice");
+        LocalServerCommunicator bob = new LocalServerCommunicator("bob");
+
+        alice.addHabit(new Habit("read", Frequency.DAILY));
+
+        assertAll(
+            () -> assertEquals(1, alice.getHabits().size()),
+            () -> assertEquals(0, bob.getHabits().size()),
+            () -> assertEquals(SuccessCode.NO_HABIT_FOUND, bob.completeHabit(new Habit("read", Frequency.DAILY))),
+            () -> assertEquals(LocalServerCommunicator.DEFAULT_USER, new LocalServerCommunicator().getUsername()),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LocalServerCommunicator(null))
+        );
+    }
+
+    @Test
+    void testConcurrentCompletesAwardEveryUser() throws InterruptedException {
+        LocalServerCommunicator.reset();
+        int users = 200;
+        int habitsPerUser = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int user = 0; user < users; user++) {
+            LocalServerCommunicator communicator = new LocalServerCommunicator("user" + user);
+            executor.execute(() -> {
+                for (int habit = 0; habit < habitsPerUser; habit++) {
+                    communicator.addHabit(new Habit("habit " + habit, Frequency.DAILY));
+                }
+                for (int habit = 0; habit < habitsPerUser; habit++) {
+                    communicator.completeHabit(new Habit("habit " + habit, Frequency.DAILY));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        for (int user = 0; user < users; user++) {
+            assertEquals(habitsPerUser * 20 + 50, new LocalServerCommunicator("user" + user).getCoins());
+        }
+        assertAll(
+            () -> assertEquals(0, new LocalServerCommunicator().getCoins()),
+            () -> assertEquals(users + 0, LocalServerCommunicator.getHabitRegistry().getUserCount())
+        );
+        LocalServerCommunicator.reset();
+    }
+}
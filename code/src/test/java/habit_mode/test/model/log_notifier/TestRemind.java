@@ -0,0 +1,62 @@
+package habit_mode.test.model.log_notifier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.LogNotifier;
+
+class TestRemind {
+    @Test
+    void testRemindersAreLogged() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        List<LogRecord> records = new ArrayList<LogRecord>();
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        LogNotifier notifier = new LogNotifier(logger);
+
+        notifier.remind(new Habit("read", Frequency.DAILY), Instant.parse("2022-03-10T00:00:00Z"));
+
+        assertAll(
+            () -> assertEquals(1, records.size()),
+            () -> assertEquals(Level.INFO, records.get(0).getLevel()),
+            () -> assertEquals("Reminder: \"read\" is not complete yet and resets at 2022-03-10T00:00:00Z", records.get(0).getMessage())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        LogNotifier notifier = new LogNotifier();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new LogNotifier(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> notifier.remind(null, Instant.EPOCH)),
+            () -> assertThrows(IllegalArgumentException.class, () -> notifier.remind(new Habit("read", Frequency.DAILY), null))
+        );
+    }
+}
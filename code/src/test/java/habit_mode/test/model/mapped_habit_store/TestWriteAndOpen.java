@@ -0,0 +1,205 @@
+package habit_mode.test.model.mapped_habit_store;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.MappedHabitStore;
+import habit_mode.model.Recurrence;
+
+class TestWriteAndOpen {
+    @TempDir
+    Path directory;
+
+    private static List<Habit> habits() {
+        Habit daily = new Habit("drink water", Frequency.DAILY);
+        daily.setId(7);
+        daily.setComplete(true);
+        Habit weekly = new Habit("café visit ☕", Frequency.WEEKLY);
+        weekly.setId(8);
+        Habit none = new Habit("no frequency", null);
+        none.setId(9);
+        return List.of(daily, weekly, none);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Path file = this.directory.resolve("habits.bin");
+        MappedHabitStore.write(file, habits());
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            assertAll(
+                () -> assertEquals(3, store.size()),
+                () -> assertEquals(7, store.getId(0)),
+                () -> assertEquals("drink water", store.getText(0)),
+                () -> assertTrue(store.isComplete(0)),
+                () -> assertEquals("café visit ☕", store.getText(1)),
+                () -> assertEquals(Frequency.WEEKLY, store.getFrequency(1)),
+                () -> assertFalse(store.isComplete(1)),
+                () -> assertNull(store.getFrequency(2)),
+                () -> assertEquals(habits(), List.of(store.toHabit(0), store.toHabit(1), store.toHabit(2)))
+            );
+        }
+    }
+
+    @Test
+    void testTagsAndRecurrence() throws IOException {
+        Habit habit = new Habit("gym", Frequency.WEEKLY);
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+        habit.setTags(List.of("health", "morning ☀"));
+        Path file = this.directory.resolve("details.bin");
+        MappedHabitStore.write(file, List.of(habit, habits().get(2)));
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            Habit stored = store.toHabit(0);
+            assertAll(
+                () -> assertEquals(List.of("health", "morning ☀"), store.getTags(0)),
+                () -> assertEquals(habit.getRecurrence(), stored.getRecurrence()),
+                () -> assertTrue(stored.hasTag("health")),
+                () -> assertEquals(List.of(), store.getTags(1)),
+                () -> assertNull(store.getRecurrence(1))
+            );
+        }
+    }
+
+    @Test
+    void testManyHabits() throws IOException {
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < 5000; index++) {
+            Habit habit = new Habit("habit " + index, Frequency.values()[index % 3]);
+            habit.setId(index);
+            habits.add(habit);
+        }
+        Path file = this.directory.resolve("many.bin");
+        MappedHabitStore.write(file, habits);
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            assertAll(
+                () -> assertEquals(5000, store.size()),
+                () -> assertEquals(4321, store.getId(4321)),
+                () -> assertEquals("habit 4999", store.getText(4999))
+            );
+        }
+    }
+
+    @Test
+    void testMappedView() throws IOException {
+        Path file = this.directory.resolve("view.bin");
+        MappedHabitStore.write(file, habits());
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            List<Habit> view = HabitManager.mappedView(store);
+            Habit first = view.get(0);
+            first.setComplete(false);
+            Habit replacement = new Habit("replacement", Frequency.MONTHLY);
+
+            view.set(2, replacement);
+
+            assertAll(
+                () -> assertEquals(3, view.size()),
+                () -> assertSame(first, view.get(0)),
+                () -> assertFalse(view.get(0).isComplete()),
+                () -> assertSame(replacement, view.get(2)),
+                () -> assertThrows(UnsupportedOperationException.class, () -> view.add(replacement)),
+                () -> assertThrows(IllegalArgumentException.class, () -> view.get(3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> view.set(0, null))
+            );
+        }
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path file = this.directory.resolve("invalid.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        assertAll(
+            () -> assertThrows(IOException.class, () -> MappedHabitStore.open(file)),
+            () -> assertThrows(IllegalArgumentException.class, () -> MappedHabitStore.open(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> MappedHabitStore.write(file, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> HabitManager.mappedView(null))
+        );
+    }
+
+    @Test
+    void testInvalidIndex() throws IOException {
+        Path file = this.directory.resolve("index.bin");
+        MappedHabitStore.write(file, habits());
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> store.getId(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.getText(3))
+            );
+        }
+    }
+
+    @Test
+    void testCorruptSizeDoesNotOverflow() throws IOException {
+        Path file = this.directory.resolve("size.bin");
+        MappedHabitStore.write(file, List.of(habits().get(0)));
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(8, 0x10000001);
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> MappedHabitStore.open(file));
+    }
+
+    @Test
+    void testCorruptRecords() throws IOException {
+        Path file = this.directory.resolve("corrupt.bin");
+        MappedHabitStore.write(file, habits());
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.putInt(MappedHabitStore.HEADER_SIZE + 12, Integer.MAX_VALUE);
+        buffer.putInt(MappedHabitStore.HEADER_SIZE + MappedHabitStore.RECORD_SIZE + 8, 0);
+        buffer.put(MappedHabitStore.HEADER_SIZE + 2 * MappedHabitStore.RECORD_SIZE + 4, (byte) 9);
+        Files.write(file, bytes);
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> store.getText(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.getText(1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.getFrequency(2))
+            );
+        }
+    }
+
+    @Test
+    void testWriteReplacesTheFileWithoutLeavingTemporaryFiles() throws IOException {
+        Path file = this.directory.resolve("replaced.bin");
+        MappedHabitStore.write(file, habits());
+        MappedHabitStore.write(file, List.of(habits().get(1)));
+        List<Path> files;
+        try (Stream<Path> listed = Files.list(this.directory)) {
+            files = listed.collect(Collectors.toList());
+        }
+
+        try (MappedHabitStore store = MappedHabitStore.open(file)) {
+            assertAll(
+                () -> assertEquals(1, store.size()),
+                () -> assertEquals("café visit ☕", store.getText(0)),
+                () -> assertEquals(List.of(file), files)
+            );
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package habit_mode.test.model.milestone;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Milestone;
+import habit_mode.model.MilestoneKind;
+
+class TestConstructor {
+    @Test
+    void testValidMilestone() {
+        Milestone milestone = new Milestone("7 in a row", MilestoneKind.STREAK, 7, 50);
+
+        assertAll(
+            () -> assertEquals("7 in a row", milestone.getName()),
+            () -> assertEquals(MilestoneKind.STREAK, milestone.getKind()),
+            () -> assertEquals(7, milestone.getThreshold()),
+            () -> assertEquals(50, milestone.getReward()),
+            () -> assertEquals("7 in a row", milestone.toString()),
+            () -> assertEquals(new Milestone("7 in a row", MilestoneKind.STREAK, 7, 50), milestone),
+            () -> assertEquals(new Milestone("7 in a row", MilestoneKind.STREAK, 7, 50).hashCode(), milestone.hashCode()),
+            () -> assertNotEquals(new Milestone("7 in a row", MilestoneKind.STREAK, 7, 0), milestone),
+            () -> assertNotEquals(new Milestone("7 in a row", MilestoneKind.DAILY_HABITS_DAYS, 7, 50), milestone),
+            () -> assertNotEquals("7 in a row", milestone)
+        );
+    }
+
+    @Test
+    void testInvalidMilestones() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new Milestone(null, MilestoneKind.STREAK, 1, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new Milestone(" ", MilestoneKind.STREAK, 1, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new Milestone("name", null, 1, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new Milestone("name", MilestoneKind.STREAK, 0, 0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new Milestone("name", MilestoneKind.STREAK, 1, -1))
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package habit_mode.test.model.milestone_engine;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.CompletionHistory;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.Milestone;
+import habit_mode.model.MilestoneEngine;
+import habit_mode.model.MilestoneKind;
+
+class TestRecordCompletion {
+    private static final LocalDate START = LocalDate.of(2022, 3, 1);
+    private static final Milestone TEN_COMPLETIONS = new Milestone("ten", MilestoneKind.TOTAL_COMPLETIONS, 10, 30);
+    private static final Milestone TWO_COMPLETIONS = new Milestone("two", MilestoneKind.TOTAL_COMPLETIONS, 2, 5);
+    private static final Milestone THREE_IN_A_ROW = new Milestone("three", MilestoneKind.STREAK, 3, 20);
+    private static final Milestone TWO_FULL_DAYS = new Milestone("full", MilestoneKind.DAILY_HABITS_DAYS, 2, 40);
+
+    @Test
+    void testMilestonesAreReachedOnce() {
+        MilestoneEngine engine = new MilestoneEngine(List.of(TEN_COMPLETIONS, THREE_IN_A_ROW, TWO_COMPLETIONS));
+        Habit read = new Habit("read", Frequency.DAILY);
+        Habit run = new Habit("run", Frequency.DAILY);
+
+        assertEquals(List.of(), engine.recordCompletion(read, START));
+        assertEquals(List.of(), engine.recordCompletion(read, START));
+        assertEquals(List.of(TWO_COMPLETIONS), engine.recordCompletion(run, START));
+        assertEquals(List.of(), engine.recordCompletion(read, START.plusDays(1)));
+        assertEquals(List.of(THREE_IN_A_ROW), engine.recordCompletion(read, START.plusDays(2)));
+        assertEquals(List.of(), engine.recordCompletion(run, START.plusDays(2)));
+        assertEquals(List.of(), engine.recordCompletion(run, START.plusDays(1)));
+
+        assertAll(
+            () -> assertEquals(6, engine.getProgress(MilestoneKind.TOTAL_COMPLETIONS)),
+            () -> assertEquals(3, engine.getProgress(MilestoneKind.STREAK)),
+            () -> assertEquals(TEN_COMPLETIONS, engine.getNext(MilestoneKind.TOTAL_COMPLETIONS)),
+            () -> assertNull(engine.getNext(MilestoneKind.STREAK)),
+            () -> assertEquals(List.of(TWO_COMPLETIONS, THREE_IN_A_ROW), engine.getReached())
+        );
+    }
+
+    @Test
+    void testDailyHabitsDoneDaysRunning() {
+        MilestoneEngine engine = new MilestoneEngine(List.of(TWO_FULL_DAYS));
+
+        assertEquals(List.of(), engine.recordDailyHabitsDone(START));
+        assertEquals(List.of(), engine.recordDailyHabitsDone(START.plusDays(2)));
+        assertEquals(List.of(), engine.recordDailyHabitsDone(START.plusDays(2)));
+        assertEquals(List.of(), engine.recordDailyHabitsDone(START.plusDays(1)));
+        assertEquals(List.of(TWO_FULL_DAYS), engine.recordDailyHabitsDone(START.plusDays(3)));
+        assertEquals(List.of(), engine.recordDailyHabitsDone(START.plusDays(4)));
+
+        assertEquals(3, engine.getProgress(MilestoneKind.DAILY_HABITS_DAYS));
+    }
+
+    @Test
+    void testReachedMilestonesMatchTheHistory() {
+        Random random = new Random(48);
+        List<Milestone> milestones = new ArrayList<Milestone>();
+        for (int threshold = 1; threshold <= 40; threshold += 1 + random.nextInt(3)) {
+            milestones.add(new Milestone("total " + threshold, MilestoneKind.TOTAL_COMPLETIONS, threshold, threshold));
+            milestones.add(new Milestone("streak " + threshold, MilestoneKind.STREAK, Math.max(1, threshold / 4), threshold));
+        }
+        MilestoneEngine engine = new MilestoneEngine(milestones);
+        List<Habit> habits = List.of(new Habit("a", Frequency.DAILY), new Habit("b", Frequency.WEEKLY), new Habit("c", Frequency.DAILY));
+        List<Set<Integer>> periods = List.of(new TreeSet<Integer>(), new TreeSet<Integer>(), new TreeSet<Integer>());
+        Set<Milestone> reached = new HashSet<Milestone>();
+
+        for (int step = 0; step < 300; step++) {
+            int index = random.nextInt(habits.size());
+            LocalDate date = START.plusDays(random.nextInt(60));
+            reached.addAll(engine.recordCompletion(habits.get(index), date));
+            periods.get(index).add(CompletionHistory.periodOf(habits.get(index).getFrequency(), date));
+
+            int total = periods.stream().mapToInt(Set::size).sum();
+            int streak = periods.stream().mapToInt(TestRecordCompletion::longestRun).max().getAsInt();
+            Set<Milestone> expected = new HashSet<Milestone>();
+            for (Milestone milestone : milestones) {
+                int progress = milestone.getKind() == MilestoneKind.STREAK ? streak : total;
+                if (milestone.getThreshold() <= progress) {
+                    expected.add(milestone);
+                }
+            }
+            assertEquals(expected, reached);
+            assertEquals(reached.size(), engine.getReached().size());
+        }
+    }
+
+    @Test
+    void testDefaultMilestones() {
+        MilestoneEngine engine = new MilestoneEngine();
+
+        assertAll(
+            () -> assertEquals(MilestoneEngine.getDefaultMilestones().get(0), engine.getNext(MilestoneKind.TOTAL_COMPLETIONS)),
+            () -> assertEquals(0, engine.getProgress(MilestoneKind.STREAK)),
+            () -> assertEquals(List.of(), engine.getReached())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        MilestoneEngine engine = new MilestoneEngine();
+        List<Milestone> withNull = new ArrayList<Milestone>();
+        withNull.add(null);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new MilestoneEngine(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new MilestoneEngine(withNull)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.recordCompletion(null, START)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.recordCompletion(new Habit("a", Frequency.DAILY), null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.recordDailyHabitsDone(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.getProgress(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.getNext(null))
+        );
+    }
+
+    private static int longestRun(Set<Integer> periods) {
+        int longest = 0;
+        int current = 0;
+        int previous = Integer.MIN_VALUE;
+        for (int period : periods) {
+            current = period == previous + 1 ? current + 1 : 1;
+            previous = period;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+
+    @Test
+    void testRemovedHabitsAreForgottenButProgressIsKept() {
+        MilestoneEngine engine = new MilestoneEngine(List.of(TWO_COMPLETIONS));
+        Habit read = new Habit("read", Frequency.DAILY);
+        engine.recordCompletion(read, START);
+        engine.recordCompletion(read, START.plusDays(1));
+
+        assertAll(
+            () -> assertTrue(engine.removeHabit(read)),
+            () -> assertFalse(engine.removeHabit(read)),
+            () -> assertFalse(engine.removeHabit(new Habit("run", Frequency.DAILY))),
+            () -> assertEquals(2, engine.getProgress(MilestoneKind.STREAK)),
+            () -> assertEquals(List.of(TWO_COMPLETIONS), engine.getReached())
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package habit_mode.test.model.observable_habit_list;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.ObservableHabitList;
+import javafx.collections.ListChangeListener;
+
+class TestObservableHabitList {
+    private static List<Habit> habits(int count) {
+        List<Habit> habits = new ArrayList<Habit>();
+        for (int index = 0; index < count; index++) {
+            habits.add(new Habit("habit " + index, Frequency.DAILY));
+        }
+        return habits;
+    }
+
+    @Test
+    void testAddAllIsOneNotification() {
+        ObservableHabitList list = new ObservableHabitList(new HabitManager());
+        List<String> changes = new ArrayList<String>();
+        list.addListener((ListChangeListener<Habit>) change -> changes.add(change.toString()));
+
+        list.addAll(habits(100));
+
+        assertAll(
+            () -> assertEquals(1, changes.size()),
+            () -> assertEquals(100, list.size()),
+            () -> assertEquals(100, list.getManager().size())
+        );
+    }
+
+    @Test
+    void testSetAllIsOneNotification() {
+        ObservableHabitList list = new ObservableHabitList(new HabitManager());
+        list.addAll(habits(3));
+        List<Integer> added = new ArrayList<Integer>();
+        List<Integer> removed = new ArrayList<Integer>();
+        list.addListener((ListChangeListener<Habit>) change -> {
+            while (change.next()) {
+                added.add(change.getAddedSize());
+                removed.add(change.getRemovedSize());
+            }
+        });
+
+        list.setAll(habits(5));
+
+        assertAll(
+            () -> assertEquals(5, list.size()),
+            () -> assertEquals(5, added.stream().mapToInt(Integer::intValue).sum()),
+            () -> assertEquals(3, removed.stream().mapToInt(Integer::intValue).sum())
+        );
+    }
+
+    @Test
+    void testUpdatesAreForwarded() {
+        ObservableHabitList list = new ObservableHabitList(new HabitManager());
+        list.addAll(habits(2));
+        List<Integer> updated = new ArrayList<Integer>();
+        list.addListener((ListChangeListener<Habit>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updated.add(change.getFrom());
+                }
+            }
+        });
+
+        list.get(1).setComplete(true);
+
+        assertEquals(List.of(1), updated);
+    }
+
+    @Test
+    void testSingleElementOperations() {
+        ObservableHabitList list = new ObservableHabitList(new HabitManager());
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        list.add(habit);
+        list.set(0, new Habit("other", Frequency.DAILY));
+        list.add(0, habit);
+
+        assertAll(
+            () -> assertEquals(2, list.size()),
+            () -> assertTrue(list.contains(habit)),
+            () -> assertFalse(list.contains(null)),
+            () -> assertEquals(-1, list.indexOf(null)),
+            () -> assertEquals(habit, list.remove(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ObservableHabitList(null))
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package habit_mode.test.model.recurrence;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Recurrence;
+
+public class TestNextAndPrevious {
+    private static final LocalDate FIRST = LocalDate.of(2019, 12, 1);
+    private static final LocalDate LAST = LocalDate.of(2024, 3, 31);
+
+    @Test
+    void testMatchesSteppingThroughTheDays() {
+        Random random = new Random(44);
+        List<Recurrence> rules = new ArrayList<Recurrence>();
+        List<Predicate<LocalDate>> occurs = new ArrayList<Predicate<LocalDate>>();
+        for (int index = 0; index < 40; index++) {
+            int interval = 1 + random.nextInt(60);
+            LocalDate start = LocalDate.of(2018, 1, 1).plusDays(random.nextInt(3000));
+            rules.add(Recurrence.everyDays(interval, start));
+            occurs.add(date -> Math.floorMod(date.toEpochDay() - start.toEpochDay(), interval) == 0);
+
+            DayOfWeek first = DayOfWeek.of(1 + random.nextInt(7));
+            DayOfWeek second = DayOfWeek.of(1 + random.nextInt(7));
+            rules.add(Recurrence.onWeekdays(first, second));
+            occurs.add(date -> date.getDayOfWeek() == first || date.getDayOfWeek() == second);
+
+            int ordinal = random.nextInt(5) == 0 ? Recurrence.LAST : 1 + random.nextInt(Recurrence.MAX_ORDINAL);
+            rules.add(Recurrence.onWeekdayOfMonth(ordinal, first));
+            occurs.add(date -> date.equals(ordinal == Recurrence.LAST
+                ? date.with(TemporalAdjusters.lastInMonth(first))
+                : date.with(TemporalAdjusters.dayOfWeekInMonth(ordinal, first))));
+
+            int dayOfMonth = 1 + random.nextInt(31);
+            rules.add(Recurrence.onDayOfMonth(dayOfMonth));
+            occurs.add(date -> date.getDayOfMonth() == Math.min(dayOfMonth, date.lengthOfMonth()));
+        }
+
+        for (int index = 0; index < rules.size(); index++) {
+            this.assertMatches(rules.get(index), occurs.get(index));
+        }
+    }
+
+    @Test
+    void testRulesOfTheFrequenciesMatchTheServer() {
+        LocalDate wednesday = LocalDate.of(2022, 3, 9);
+        LocalDate sunday = LocalDate.of(2022, 3, 13);
+        LocalDate first = LocalDate.of(2022, 4, 1);
+
+        assertAll(
+            () -> assertEquals(wednesday.plusDays(1), Recurrence.of(Frequency.DAILY).next(wednesday)),
+            () -> assertEquals(sunday, Recurrence.of(Frequency.WEEKLY).next(wednesday)),
+            () -> assertEquals(sunday.plusWeeks(1), Recurrence.of(Frequency.WEEKLY).next(sunday)),
+            () -> assertEquals(first, Recurrence.of(Frequency.MONTHLY).next(wednesday)),
+            () -> assertEquals(first.plusMonths(1), Recurrence.of(Frequency.MONTHLY).next(first)),
+            () -> assertEquals(Recurrence.of(Frequency.DAILY), Recurrence.everyDays(1, wednesday))
+        );
+    }
+
+    @Test
+    void testShortMonthsUseTheirLastDay() {
+        Recurrence thirtyFirst = Recurrence.onDayOfMonth(31);
+
+        assertAll(
+            () -> assertEquals(LocalDate.of(2024, 2, 29), thirtyFirst.next(LocalDate.of(2024, 1, 31))),
+            () -> assertEquals(LocalDate.of(2023, 2, 28), thirtyFirst.previous(LocalDate.of(2023, 3, 31))),
+            () -> assertTrue(thirtyFirst.occursOn(LocalDate.of(2022, 4, 30))),
+            () -> assertFalse(thirtyFirst.occursOn(LocalDate.of(2022, 5, 30)))
+        );
+    }
+
+    private void assertMatches(Recurrence rule, Predicate<LocalDate> occurs) {
+        LocalDate next = null;
+        for (LocalDate date = LAST; !date.isBefore(FIRST); date = date.minusDays(1)) {
+            if (next != null) {
+                assertEquals(next, rule.next(date), rule + " after " + date);
+            }
+            assertEquals(occurs.test(date), rule.occursOn(date), rule + " on " + date);
+            if (occurs.test(date)) {
+                next = date;
+            }
+        }
+        LocalDate previous = null;
+        for (LocalDate date = FIRST; !date.isAfter(LAST); date = date.plusDays(1)) {
+            if (previous != null) {
+                assertEquals(previous, rule.previous(date), rule + " before " + date);
+            }
+            if (occurs.test(date)) {
+                previous = date;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package habit_mode.test.model.recurrence;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Recurrence;
+
+public class TestRules {
+    @Test
+    void testRulesAreWrittenAndReadBack() {
+        List<Recurrence> rules = List.of(
+            Recurrence.of(Frequency.DAILY),
+            Recurrence.of(Frequency.WEEKLY),
+            Recurrence.of(Frequency.MONTHLY),
+            Recurrence.everyDays(3, LocalDate.of(2022, 4, 1)),
+            Recurrence.onWeekdays(DayOfWeek.FRIDAY, DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+            Recurrence.onWeekdayOfMonth(2, DayOfWeek.TUESDAY),
+            Recurrence.onWeekdayOfMonth(Recurrence.LAST, DayOfWeek.FRIDAY),
+            Recurrence.onDayOfMonth(15)
+        );
+
+        assertAll(
+            () -> assertEquals("FREQ=DAILY", rules.get(0).toRule()),
+            () -> assertEquals("FREQ=WEEKLY;BYDAY=SU", rules.get(1).toRule()),
+            () -> assertEquals("FREQ=MONTHLY;BYMONTHDAY=1", rules.get(2).toRule()),
+            () -> assertEquals("FREQ=DAILY;INTERVAL=3;DTSTART=1970-01-01", rules.get(3).toRule()),
+            () -> assertEquals("FREQ=WEEKLY;BYDAY=MO,WE,FR", rules.get(4).toRule()),
+            () -> assertEquals("FREQ=MONTHLY;BYDAY=2TU", rules.get(5).toRule()),
+            () -> assertEquals("FREQ=MONTHLY;BYDAY=-1FR", rules.get(6).toString())
+        );
+        for (Recurrence rule : rules) {
+            assertEquals(rule, Recurrence.parse(rule.toRule()));
+            assertEquals(rule.hashCode(), Recurrence.parse(rule.toRule()).hashCode());
+        }
+    }
+
+    @Test
+    void testFrequencies() {
+        assertAll(
+            () -> assertEquals(Frequency.DAILY, Recurrence.everyDays(5, LocalDate.of(2022, 1, 1)).getFrequency()),
+            () -> assertEquals(Frequency.DAILY, Recurrence.onWeekdays(DayOfWeek.MONDAY, DayOfWeek.TUESDAY).getFrequency()),
+            () -> assertEquals(Frequency.WEEKLY, Recurrence.onWeekdays(DayOfWeek.MONDAY).getFrequency()),
+            () -> assertEquals(Frequency.MONTHLY, Recurrence.onWeekdayOfMonth(1, DayOfWeek.MONDAY).getFrequency()),
+            () -> assertEquals(Frequency.MONTHLY, Recurrence.onDayOfMonth(28).getFrequency()),
+            () -> assertNotEquals(Recurrence.onDayOfMonth(1), Recurrence.onWeekdayOfMonth(1, DayOfWeek.MONDAY)),
+            () -> assertNotEquals(Recurrence.onDayOfMonth(1), "FREQ=MONTHLY;BYMONTHDAY=1")
+        );
+    }
+
+    @Test
+    void testNextOccurrencesOfManyRules() {
+        LocalDate today = LocalDate.of(2022, 3, 9);
+        Recurrence weekly = Recurrence.of(Frequency.WEEKLY);
+        LocalDate[] next = Recurrence.nextOccurrences(Arrays.asList(weekly, null, Recurrence.onDayOfMonth(10), weekly), today);
+
+        assertArrayEquals(new LocalDate[] {LocalDate.of(2022, 3, 13), null, LocalDate.of(2022, 3, 10), LocalDate.of(2022, 3, 13)}, next);
+    }
+
+    @Test
+    void testInvalidRules() {
+        for (String rule : List.of("", "FREQ=YEARLY", "FREQ=DAILY;INTERVAL=x;DTSTART=2022-01-01", "FREQ=DAILY;INTERVAL=2",
+                "FREQ=DAILY;INTERVAL=2;DTSTART=yesterday", "FREQ=WEEKLY", "FREQ=WEEKLY;BYDAY=XX", "FREQ=WEEKLY;BYDAY=MO;COUNT=3",
+                "FREQ=MONTHLY;BYDAY=5MO", "FREQ=MONTHLY;BYDAY=MO", "FREQ=MONTHLY;BYMONTHDAY=32", "FREQ=DAILY;FREQ=DAILY")) {
+            assertThrows(IllegalArgumentException.class, () -> Recurrence.parse(rule), rule);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Recurrence daily = Recurrence.of(Frequency.DAILY);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.of(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.parse(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.everyDays(0, LocalDate.of(2022, 1, 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.everyDays(Recurrence.MAX_INTERVAL + 1, LocalDate.of(2022, 1, 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.everyDays(2, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.onWeekdays()),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.onWeekdays((DayOfWeek) null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.onWeekdayOfMonth(0, DayOfWeek.MONDAY)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.onWeekdayOfMonth(1, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.onDayOfMonth(0)),
+            () -> assertThrows(IllegalArgumentException.class, () -> daily.next(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> daily.previous(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> daily.occursOn(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.nextOccurrences(null, LocalDate.of(2022, 1, 1))),
+            () -> assertThrows(IllegalArgumentException.class, () -> Recurrence.nextOccurrences(List.of(), null))
+        );
+    }
+}
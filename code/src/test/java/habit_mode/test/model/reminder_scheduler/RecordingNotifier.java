@@ -0,0 +1,40 @@
+package habit_mode.test.model.reminder_scheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import habit_mode.model.Habit;
+import habit_mode.model.Notifier;
+
+public class RecordingNotifier implements Notifier {
+    private List<Habit> habits;
+    private List<Instant> deadlines;
+    private CountDownLatch reminded;
+
+    public RecordingNotifier() {
+        this.habits = new ArrayList<Habit>();
+        this.deadlines = new ArrayList<Instant>();
+        this.reminded = new CountDownLatch(1);
+    }
+
+    @Override
+    public synchronized void remind(Habit habit, Instant deadline) {
+        this.habits.add(habit);
+        this.deadlines.add(deadline);
+        this.reminded.countDown();
+    }
+
+    public synchronized List<Habit> getHabits() {
+        return new ArrayList<Habit>(this.habits);
+    }
+
+    public synchronized List<Instant> getDeadlines() {
+        return new ArrayList<Instant>(this.deadlines);
+    }
+
+    public CountDownLatch getReminded() {
+        return this.reminded;
+    }
+}
@@ -0,0 +1,211 @@
+package habit_mode.test.model.reminder_scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.Recurrence;
+import habit_mode.model.ReminderScheduler;
+import habit_mode.test.model.reset_scheduler.MutableClock;
+
+public class TestAdvance {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private MutableClock clock;
+    private HabitManager habits;
+    private RecordingNotifier notifier;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock(at(2022, 3, 9, 12), ZONE);
+        this.habits = new HabitManager();
+        this.notifier = new RecordingNotifier();
+        this.scheduler = new ReminderScheduler(this.habits, this.notifier, Duration.ofHours(2), this.clock);
+    }
+
+    @Test
+    void testIncompleteHabitsAreRemindedBeforeTheyReset() {
+        Habit daily = new Habit("daily", Frequency.DAILY);
+        Habit weekly = new Habit("weekly", Frequency.WEEKLY);
+        Habit monthly = new Habit("monthly", Frequency.MONTHLY);
+        Habit complete = new Habit("complete", Frequency.DAILY);
+        complete.setComplete(true);
+        this.habits.addAll(List.of(daily, weekly, monthly, complete));
+
+        assertAll(
+            () -> assertEquals(3, this.scheduler.getPendingCount()),
+            () -> assertEquals(at(2022, 3, 9, 22), this.scheduler.getReminderTime(daily)),
+            () -> assertEquals(at(2022, 3, 12, 22), this.scheduler.getReminderTime(weekly)),
+            () -> assertEquals(at(2022, 3, 31, 22), this.scheduler.getReminderTime(monthly)),
+            () -> assertNull(this.scheduler.getReminderTime(complete))
+        );
+
+        this.clock.advance(Duration.ofHours(9).plusMinutes(59));
+        assertEquals(List.of(), this.scheduler.advance());
+        this.clock.advance(Duration.ofMinutes(1));
+        assertEquals(List.of(daily), this.scheduler.advance());
+
+        assertAll(
+            () -> assertEquals(List.of(daily), this.notifier.getHabits()),
+            () -> assertEquals(List.of(at(2022, 3, 10, 0)), this.notifier.getDeadlines()),
+            () -> assertEquals(at(2022, 3, 10, 22), this.scheduler.getReminderTime(daily)),
+            () -> assertEquals(3, this.scheduler.getPendingCount())
+        );
+    }
+
+    @Test
+    void testBatchReschedulesOnlyTheChangedHabits() {
+        Habit untouched = new Habit("untouched", Frequency.DAILY);
+        Habit removed = new Habit("removed", Frequency.DAILY);
+        Habit completed = new Habit("completed", Frequency.DAILY);
+        this.habits.addAll(List.of(untouched, removed, completed));
+        this.scheduler.cancel(untouched);
+        Habit added = new Habit("added", Frequency.WEEKLY);
+        Habit inserted = new Habit("inserted", Frequency.MONTHLY);
+
+        this.habits.beginChange();
+        this.habits.add(added);
+        this.habits.remove(removed);
+        completed.setComplete(true);
+        this.habits.add(0, inserted);
+        this.habits.endChange();
+
+        assertAll(
+            () -> assertNull(this.scheduler.getReminderTime(untouched)),
+            () -> assertNull(this.scheduler.getReminderTime(removed)),
+            () -> assertNull(this.scheduler.getReminderTime(completed)),
+            () -> assertEquals(at(2022, 3, 12, 22), this.scheduler.getReminderTime(added)),
+            () -> assertEquals(at(2022, 3, 31, 22), this.scheduler.getReminderTime(inserted)),
+            () -> assertEquals(2, this.scheduler.getPendingCount())
+        );
+    }
+
+    @Test
+    void testCompletedAndRemovedHabitsAreNotReminded() {
+        Habit completed = new Habit("completed", Frequency.DAILY);
+        Habit removed = new Habit("removed", Frequency.DAILY);
+        Habit kept = new Habit("kept", Frequency.DAILY);
+        this.habits.addAll(List.of(completed, removed, kept));
+
+        completed.setComplete(true);
+        this.habits.remove(removed);
+        assertEquals(1, this.scheduler.getPendingCount());
+
+        this.clock.advance(Duration.ofHours(11));
+        assertEquals(List.of(kept), this.scheduler.advance());
+
+        completed.setComplete(false);
+        assertEquals(at(2022, 3, 10, 22), this.scheduler.getReminderTime(completed));
+    }
+
+    @Test
+    void testChangedRecurrenceMovesTheReminder() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        this.habits.add(habit);
+
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.FRIDAY));
+        assertEquals(at(2022, 3, 10, 22), this.scheduler.getReminderTime(habit));
+
+        this.clock.advance(Duration.ofHours(10));
+        assertEquals(List.of(), this.scheduler.advance());
+        this.clock.advance(Duration.ofDays(1));
+        assertEquals(List.of(habit), this.scheduler.advance());
+        assertEquals(List.of(at(2022, 3, 11, 0)), this.notifier.getDeadlines());
+    }
+
+    @Test
+    void testLeadTimeLongerThanThePeriodRemindsAtTheStartOfThePeriod() {
+        HabitManager manager = new HabitManager();
+        RecordingNotifier longNotifier = new RecordingNotifier();
+        ReminderScheduler longScheduler = new ReminderScheduler(manager, longNotifier, Duration.ofHours(30), this.clock);
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        manager.add(habit);
+
+        assertEquals(at(2022, 3, 10, 0), longScheduler.getReminderTime(habit));
+        this.clock.advance(Duration.ofHours(12));
+        assertEquals(List.of(habit), longScheduler.advance());
+
+        assertAll(
+            () -> assertEquals(List.of(at(2022, 3, 11, 0)), longNotifier.getDeadlines()),
+            () -> assertEquals(at(2022, 3, 11, 0), longScheduler.getReminderTime(habit))
+        );
+    }
+
+    @Test
+    void testMissedPeriodsAreRemindedOnce() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        this.habits.add(habit);
+
+        this.clock.advance(Duration.ofDays(5));
+        assertEquals(List.of(habit), this.scheduler.advance());
+        assertEquals(List.of(), this.scheduler.advance());
+
+        assertAll(
+            () -> assertEquals(1, this.notifier.getHabits().size()),
+            () -> assertEquals(at(2022, 3, 14, 22), this.scheduler.getReminderTime(habit))
+        );
+    }
+
+    @Test
+    void testManyHabitsShareTheirReminderTime() {
+        for (int index = 0; index < 1000; index++) {
+            this.habits.add(new Habit("habit " + index, index % 2 == 0 ? Frequency.DAILY : Frequency.WEEKLY));
+        }
+
+        this.clock.advance(Duration.ofHours(10));
+        assertEquals(500, this.scheduler.advance().size());
+        this.clock.advance(Duration.ofDays(3));
+        assertAll(
+            () -> assertEquals(1000, this.scheduler.advance().size()),
+            () -> assertEquals(1000, this.scheduler.getPendingCount())
+        );
+    }
+
+    @Test
+    void testCancelAndSchedule() {
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        this.habits.add(habit);
+
+        assertAll(
+            () -> assertTrue(this.scheduler.cancel(habit)),
+            () -> assertFalse(this.scheduler.cancel(habit)),
+            () -> assertEquals(at(2022, 3, 9, 22), this.scheduler.schedule(habit)),
+            () -> assertEquals(1, this.scheduler.getPendingCount())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(null, this.notifier)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(this.habits, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(this.habits, this.notifier, null, this.clock)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(this.habits, this.notifier, Duration.ZERO, this.clock)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(this.habits, this.notifier, Duration.ofHours(-1), this.clock)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ReminderScheduler(this.habits, this.notifier, Duration.ofHours(1), null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> this.scheduler.schedule(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> this.scheduler.schedule(new Habit("habit", null)))
+        );
+    }
+
+    private static Instant at(int year, int month, int day, int hour) {
+        return ZonedDateTime.of(year, month, day, hour, 0, 0, 0, ZONE).toInstant();
+    }
+}
@@ -0,0 +1,57 @@
+package habit_mode.test.model.reminder_scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitManager;
+import habit_mode.model.ReminderScheduler;
+import habit_mode.test.model.reset_scheduler.MutableClock;
+
+public class TestStart {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    @Test
+    void testTheThreadFiresDueReminders() throws InterruptedException {
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2022, 3, 9, 12, 0, 0, 0, ZONE).toInstant(), ZONE);
+        HabitManager habits = new HabitManager();
+        RecordingNotifier notifier = new RecordingNotifier();
+        ReminderScheduler scheduler = new ReminderScheduler(habits, notifier, Duration.ofHours(2), clock);
+        Habit habit = new Habit("habit", Frequency.DAILY);
+        habits.add(habit);
+        clock.advance(Duration.ofHours(11));
+
+        scheduler.start();
+        scheduler.start();
+        boolean reminded = notifier.getReminded().await(5, TimeUnit.SECONDS);
+        assertTrue(scheduler.isRunning());
+        scheduler.close();
+        scheduler.close();
+
+        assertAll(
+            () -> assertTrue(reminded),
+            () -> assertEquals(List.of(habit), notifier.getHabits()),
+            () -> assertFalse(scheduler.isRunning())
+        );
+    }
+
+    @Test
+    void testCloseWithoutStart() {
+        ReminderScheduler scheduler = new ReminderScheduler(new HabitManager(), new RecordingNotifier());
+
+        scheduler.close();
+
+        assertFalse(scheduler.isRunning());
+    }
+}
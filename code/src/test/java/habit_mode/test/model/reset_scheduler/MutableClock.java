@@ -0,0 +1,35 @@
+package habit_mode.test.model.reset_scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class MutableClock extends Clock {
+    private Instant now;
+    private ZoneId zone;
+
+    public MutableClock(Instant now, ZoneId zone) {
+        this.now = now;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        this.now = this.now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(this.now, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return this.now;
+    }
+}
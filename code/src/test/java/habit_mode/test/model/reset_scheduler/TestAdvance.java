@@ -0,0 +1,175 @@
+package habit_mode.test.model.reset_scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.HabitListChange;
+import habit_mode.model.HabitManager;
+import habit_mode.model.Recurrence;
+import habit_mode.model.ResetScheduler;
+
+public class TestAdvance {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private MutableClock clock;
+    private HabitManager habits;
+    private ResetScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock(ZonedDateTime.of(2022, 3, 9, 12, 0, 0, 0, ZONE).toInstant(), ZONE);
+        this.habits = new HabitManager();
+        this.scheduler = new ResetScheduler(this.habits, this.clock);
+    }
+
+    @Test
+    void testCompletedHabitsResetWhenTheirFrequencyComesAround() {
+        Habit daily = this.completed("daily", Frequency.DAILY);
+        Habit weekly = this.completed("weekly", Frequency.WEEKLY);
+        Habit monthly = this.completed("monthly", Frequency.MONTHLY);
+        this.habits.addAll(List.of(daily, weekly, monthly, new Habit("incomplete", Frequency.DAILY)));
+
+        assertEquals(3, this.scheduler.getPendingCount());
+        this.clock.advance(Duration.ofHours(11));
+        assertEquals(List.of(), this.scheduler.advance());
+        this.clock.advance(Duration.ofHours(1));
+        assertEquals(List.of(daily), this.scheduler.advance());
+        this.clock.advance(Duration.ofDays(3));
+        assertEquals(List.of(weekly), this.scheduler.advance());
+        this.clock.advance(Duration.ofDays(20));
+        assertEquals(List.of(monthly), this.scheduler.advance());
+
+        assertAll(
+            () -> assertEquals(0, this.habits.getCompletedCount()),
+            () -> assertEquals(0, this.scheduler.getPendingCount())
+        );
+    }
+
+    @Test
+    void testHabitsThatBecomeCompleteAreScheduled() {
+        Habit habit = new Habit("read", Frequency.DAILY);
+        this.habits.add(habit);
+        assertNull(this.scheduler.getResetTime(habit));
+
+        habit.setComplete(true);
+        assertEquals(ZonedDateTime.of(2022, 3, 10, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(habit));
+
+        habit.setFrequency(Frequency.WEEKLY);
+        assertEquals(ZonedDateTime.of(2022, 3, 13, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(habit));
+
+        this.clock.advance(Duration.ofDays(1));
+        assertEquals(List.of(), this.scheduler.advance());
+        assertTrue(habit.isComplete());
+    }
+
+    @Test
+    void testHabitsWithARecurrenceResetWhenItComesAround() {
+        Habit habit = this.completed("stretch", Frequency.DAILY);
+        habit.setRecurrence(Recurrence.everyDays(3, LocalDate.of(2022, 3, 7)));
+        this.habits.add(habit);
+        assertEquals(ZonedDateTime.of(2022, 3, 10, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(habit));
+
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+        assertEquals(ZonedDateTime.of(2022, 3, 11, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(habit));
+
+        this.clock.advance(Duration.ofDays(1));
+        assertEquals(List.of(), this.scheduler.advance());
+        this.clock.advance(Duration.ofDays(1));
+        assertEquals(List.of(habit), this.scheduler.advance());
+    }
+
+    @Test
+    void testRemovedOrUncompletedHabitsAreNotReset() {
+        Habit removed = this.completed("removed", Frequency.DAILY);
+        Habit uncompleted = this.completed("uncompleted", Frequency.DAILY);
+        this.habits.addAll(List.of(removed, uncompleted));
+
+        this.habits.remove(0);
+        uncompleted.setComplete(false);
+        this.clock.advance(Duration.ofDays(1));
+
+        assertAll(
+            () -> assertEquals(List.of(), this.scheduler.advance()),
+            () -> assertTrue(removed.isComplete()),
+            () -> assertFalse(this.scheduler.cancel(removed))
+        );
+    }
+
+    @Test
+    void testManyResetsAreOneBulkChange() {
+        List<Habit> completed = new ArrayList<Habit>();
+        for (int index = 0; index < 10000; index++) {
+            completed.add(this.completed("habit " + index, Frequency.values()[index % 3]));
+        }
+        this.habits.addAll(completed);
+        List<List<HabitListChange>> batches = new ArrayList<List<HabitListChange>>();
+        this.habits.addChangeListener(batches::add);
+
+        this.clock.advance(Duration.ofDays(31));
+        List<Habit> reset = this.scheduler.advance();
+
+        assertAll(
+            () -> assertEquals(10000, reset.size()),
+            () -> assertEquals(1, batches.size()),
+            () -> assertEquals(10000, batches.get(0).size()),
+            () -> assertEquals(0, this.habits.getCompletedCount())
+        );
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new ResetScheduler(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new ResetScheduler(new HabitManager(), null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> this.scheduler.schedule(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> this.scheduler.schedule(new Habit("none", null)))
+        );
+    }
+
+    @Test
+    void testChangesInOneBatchFollowTheShiftedIndices() {
+        Habit incomplete = new Habit("incomplete", Frequency.DAILY);
+        Habit removed = this.completed("removed", Frequency.WEEKLY);
+        this.habits.addAll(List.of(incomplete, removed));
+        Habit first = this.completed("first", Frequency.DAILY);
+        Habit second = this.completed("second", Frequency.MONTHLY);
+
+        this.habits.beginChange();
+        this.habits.add(0, first);
+        incomplete.setComplete(true);
+        this.habits.remove(removed);
+        this.habits.add(0, second);
+        this.habits.endChange();
+
+        assertAll(
+            () -> assertEquals(3, this.scheduler.getPendingCount()),
+            () -> assertEquals(ZonedDateTime.of(2022, 3, 10, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(first)),
+            () -> assertEquals(ZonedDateTime.of(2022, 3, 10, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(incomplete)),
+            () -> assertEquals(ZonedDateTime.of(2022, 4, 1, 0, 0, 0, 0, ZONE).toInstant(), this.scheduler.getResetTime(second)),
+            () -> assertNull(this.scheduler.getResetTime(removed))
+        );
+    }
+
+    private Habit completed(String text, Frequency frequency) {
+        Habit habit = new Habit(text, frequency);
+        habit.setComplete(true);
+        return habit;
+    }
+}
@@ -0,0 +1,50 @@
+package habit_mode.test.model.reset_scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.ResetScheduler;
+
+public class TestNextReset {
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+    @Test
+    void testDailyResetsAtTheStartOfTomorrow() {
+        ZonedDateTime now = ZonedDateTime.of(2022, 3, 12, 23, 59, 0, 0, ZONE);
+
+        assertEquals(ZonedDateTime.of(2022, 3, 13, 0, 0, 0, 0, ZONE).toInstant(), ResetScheduler.nextReset(Frequency.DAILY, now));
+    }
+
+    @Test
+    void testWeeklyResetsOnTheNextSunday() {
+        ZonedDateTime saturday = ZonedDateTime.of(2022, 3, 12, 8, 0, 0, 0, ZONE);
+        ZonedDateTime sunday = ZonedDateTime.of(2022, 3, 13, 8, 0, 0, 0, ZONE);
+
+        assertAll(
+            () -> assertEquals(ZonedDateTime.of(2022, 3, 13, 0, 0, 0, 0, ZONE).toInstant(), ResetScheduler.nextReset(Frequency.WEEKLY, saturday)),
+            () -> assertEquals(ZonedDateTime.of(2022, 3, 20, 0, 0, 0, 0, ZONE).toInstant(), ResetScheduler.nextReset(Frequency.WEEKLY, sunday))
+        );
+    }
+
+    @Test
+    void testMonthlyResetsOnTheFirstOfNextMonth() {
+        ZonedDateTime now = ZonedDateTime.of(2022, 12, 1, 0, 0, 0, 0, ZONE);
+
+        assertEquals(ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZONE).toInstant(), ResetScheduler.nextReset(Frequency.MONTHLY, now));
+    }
+
+    @Test
+    void testNullArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> ResetScheduler.nextReset(null, ZonedDateTime.now())),
+            () -> assertThrows(IllegalArgumentException.class, () -> ResetScheduler.nextReset(Frequency.DAILY, null))
+        );
+    }
+}
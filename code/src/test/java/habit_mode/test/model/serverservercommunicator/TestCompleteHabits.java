@@ -7,6 +7,8 @@ import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import habit_mode.model.CoinLedger;
+import habit_mode.model.CoinTransactionType;
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
 import habit_mode.model.ServerCommunicator;
@@ -32,4 +34,25 @@ public class TestCompleteHabits {
         assertEquals(true, habits.get(0).isComplete());
         assertEquals(70, coins);
     }
+
+    @Test
+    void testCompletionRewardIsRecorded() {
+        TrueMockServer server = new TrueMockServer(5566);
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5566");
+        String username = new Random().nextInt() + "";
+        server.start();
+        communicator.registerCredentials(username, "password", "email");
+
+        communicator.validateLogin(username, "password");
+        Habit habit = new Habit("text", Frequency.DAILY);
+        communicator.addHabit(habit);
+        communicator.completeHabit(habit);
+        communicator.getCoins();
+        server.interrupt();
+
+        CoinLedger ledger = communicator.getCoinLedger();
+        assertEquals(1, ledger.size());
+        assertEquals(70, ledger.getTotal(CoinTransactionType.REWARD));
+        assertEquals(70, communicator.getCachedCoins());
+    }
 }
@@ -2,6 +2,7 @@ package habit_mode.test.model.serverservercommunicator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.time.DayOfWeek;
 import java.util.List;
 import java.util.Random;
 
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import habit_mode.model.Frequency;
 import habit_mode.model.Habit;
+import habit_mode.model.Recurrence;
 import habit_mode.model.ServerCommunicator;
 import habit_mode.model.ServerServerCommunicator;
 
@@ -70,4 +72,40 @@ public class TestGetHabits {
         assertEquals(habit1.getFrequency(), habits.get(0).getFrequency());
         assertEquals(habit2.getFrequency(), habits.get(1).getFrequency());
     }
+
+    @Test
+    void testHabitRecurrence(){
+        ServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5564");
+        TrueMockServer server = new TrueMockServer(5564);
+        server.start();
+        String username = new Random().nextInt() + "";
+        communicator.registerCredentials(username, "password", "email");
+
+        communicator.validateLogin(username, "password");
+        Habit habit = new Habit("stretch", Frequency.DAILY);
+        habit.setRecurrence(Recurrence.onWeekdays(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+        communicator.addHabit(habit);
+
+        List<Habit> habits = communicator.getHabits();
+        server.interrupt();
+        assertEquals(habit.getRecurrence(), habits.get(0).getRecurrence());
+    }
+
+    @Test
+    void testHabitTags(){
+        ServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5565");
+        TrueMockServer server = new TrueMockServer(5565);
+        server.start();
+        String username = new Random().nextInt() + "";
+        communicator.registerCredentials(username, "password", "email");
+
+        communicator.validateLogin(username, "password");
+        Habit habit = new Habit("stretch", Frequency.DAILY);
+        habit.setTags(List.of("health", "morning"));
+        communicator.addHabit(habit);
+
+        List<Habit> habits = communicator.getHabits();
+        server.interrupt();
+        assertEquals(habit.getTags(), habits.get(0).getTags());
+    }
 }
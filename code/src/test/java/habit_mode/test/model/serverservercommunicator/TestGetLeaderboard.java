@@ -0,0 +1,32 @@
+package habit_mode.test.model.serverservercommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.ServerCommunicator;
+import habit_mode.model.ServerServerCommunicator;
+
+public class TestGetLeaderboard {
+    @Test
+    void testPages() {
+        TrueMockServer server = new TrueMockServer(5567);
+        ServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5567");
+        String username = new Random().nextInt() + "";
+        server.start();
+        communicator.registerCredentials(username, "password", "email");
+
+        communicator.validateLogin(username, "password");
+        List<LeaderboardEntry> coins = communicator.getLeaderboard(LeaderboardType.COINS, 0, 2);
+        List<LeaderboardEntry> streaks = communicator.getLeaderboard(LeaderboardType.LONGEST_STREAKS, 1, 5);
+        server.interrupt();
+
+        assertEquals(List.of(new LeaderboardEntry(1, "alice", 120), new LeaderboardEntry(2, "bob", 70)), coins);
+        assertEquals(List.of(new LeaderboardEntry(2, "bob", 4), new LeaderboardEntry(3, "carol", 1)), streaks);
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import habit_mode.model.CoinTransactionType;
 import habit_mode.model.ServerServerCommunicator;
 
 public class TestGetterSetter {
@@ -38,4 +39,14 @@ public class TestGetterSetter {
         communicator.setToken("token");
         assertEquals("token", communicator.getToken());
     }
+
+    @Test
+    void testSetCoinsIsRecorded() {
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5551");
+        assertTrue(communicator.setCoins(40));
+        assertTrue(communicator.setCoins(40));
+        assertEquals(40, communicator.getCachedCoins());
+        assertEquals(1, communicator.getCoinLedger().size());
+        assertEquals(CoinTransactionType.ADJUSTMENT, communicator.getCoinLedger().getType(0));
+    }
 }
@@ -0,0 +1,143 @@
+package habit_mode.test.model.serverservercommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.jupiter.api.Test;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.ServerServerCommunicator;
+import habit_mode.model.SuccessCode;
+import habit_mode.test.model.idempotency_cache.IdempotencyCache;
+
+public class TestIdempotencyKeys {
+    private static final Type TYPE = new TypeToken<HashMap<String, Object>>() { } .getType();
+    private static final String KEY = "idempotency_key";
+
+    @Test
+    void testMutatingRequestsCarryUniqueKeys() {
+        TrueMockServer server = new TrueMockServer(5562);
+        server.start();
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5562");
+        Gson gson = new Gson();
+
+        communicator.addHabit(new Habit("first", Frequency.DAILY));
+        HashMap<String, Object> first = gson.fromJson(communicator.getJsonMessage(), TYPE);
+        communicator.addHabit(new Habit("second", Frequency.DAILY));
+        HashMap<String, Object> second = gson.fromJson(communicator.getJsonMessage(), TYPE);
+        communicator.getHabits();
+        HashMap<String, Object> read = gson.fromJson(communicator.getJsonMessage(), TYPE);
+        server.interrupt();
+
+        assertAll(
+            () -> {assertNotNull(first.get(KEY), "Checking that add_habit carries a key.");},
+            () -> {assertNotEquals(first.get(KEY), second.get(KEY), "Checking that every request gets its own key.");},
+            () -> {assertNull(read.get(KEY), "Checking that reads do not carry a key.");}
+        );
+    }
+
+    @Test
+    void testResentRequestIsNotAppliedTwice() {
+        TrueMockServer server = new TrueMockServer(5563);
+        server.start();
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://*:5563");
+        communicator.addHabit(new Habit("habit", Frequency.DAILY));
+        String original = communicator.getJsonMessage();
+
+        String resentResponse;
+        try (ZContext context = new ZContext()) {
+            ZMQ.Socket socket = context.createSocket(SocketType.REQ);
+            socket.connect("tcp://*:5563");
+            socket.send(original);
+            resentResponse = socket.recvStr();
+        }
+        List<Habit> habits = communicator.getHabits();
+        server.interrupt();
+
+        assertAll(
+            () -> {assertEquals("{\"success_code\":0}", resentResponse, "Checking that the original response was returned.");},
+            () -> {assertEquals(1, habits.size(), "Checking that the habit was only added once.");}
+        );
+    }
+
+    @Test
+    void testLostReplyIsResentWithTheSameKey() throws InterruptedException {
+        List<String> keys = new ArrayList<String>();
+        AtomicInteger effects = new AtomicInteger();
+        SuccessCode code;
+        try (ZContext context = new ZContext()) {
+            ZMQ.Socket router = context.createSocket(SocketType.ROUTER);
+            router.bind("tcp://127.0.0.1:5570");
+            Thread server = new Thread(() -> {
+                IdempotencyCache cache = new IdempotencyCache();
+                Gson gson = new Gson();
+                for (int received = 0; received < 2; received++) {
+                    byte[] identity = router.recv();
+                    router.recv();
+                    HashMap<String, Object> request = gson.fromJson(router.recvStr(), TYPE);
+                    String key = (String) request.get(KEY);
+                    String requestType = (String) request.get("request_type");
+                    keys.add(key);
+                    if (cache.get(key, requestType) == null) {
+                        effects.incrementAndGet();
+                        cache.put(key, requestType, "{\"success_code\":0}");
+                    }
+                    if (received > 0) {
+                        router.sendMore(identity);
+                        router.sendMore("");
+                        router.send(cache.get(key, requestType));
+                    }
+                }
+            });
+            server.start();
+            ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://127.0.0.1:5570", 300);
+            communicator.setMaxAttempts(2);
+
+            code = communicator.addHabit(new Habit("habit", Frequency.DAILY));
+            server.join();
+        }
+
+        SuccessCode result = code;
+        assertAll(
+            () -> {assertEquals(SuccessCode.OKAY, result, "Checking that the resent request succeeded.");},
+            () -> {assertEquals(2, keys.size(), "Checking that the request was sent twice.");},
+            () -> {assertEquals(keys.get(0), keys.get(1), "Checking that the resent request kept its key.");},
+            () -> {assertEquals(1, effects.get(), "Checking that the request was applied once.");}
+        );
+    }
+
+    @Test
+    void testServerThatNeverRepliesFails() {
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://127.0.0.1:5571", 100);
+
+        assertAll(
+            () -> {assertEquals(100, communicator.getReplyTimeoutMillis(), "Checking the reply timeout.");},
+            () -> {assertEquals(1, communicator.getMaxAttempts(), "Checking that requests are not resent by default.");},
+            () -> {assertEquals(SuccessCode.UNKNOWN_ERROR, communicator.addHabit(new Habit("habit", Frequency.DAILY)));},
+            () -> {assertEquals(SuccessCode.UNKNOWN_ERROR, communicator.completeHabit(new Habit("habit", Frequency.DAILY)));},
+            () -> {assertEquals(0, communicator.getHabits().size(), "Checking that no habits are returned.");},
+            () -> {assertEquals(0, communicator.getCoins(), "Checking that the last known coins are returned.");},
+            () -> {assertNull(communicator.buyHint(), "Checking that no hint is returned.");},
+            () -> {assertNull(communicator.generateSudokuPuzzle(), "Checking that no puzzle is returned.");},
+            () -> {assertThrows(IllegalArgumentException.class, () -> communicator.setMaxAttempts(0));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new ServerServerCommunicator("tcp://127.0.0.1:5571", 0));}
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package habit_mode.test.model.serverservercommunicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.AccountSession;
+import habit_mode.model.CoinTransactionType;
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.ServerServerCommunicator;
+import habit_mode.model.SessionManager;
+import habit_mode.model.SuccessCode;
+
+public class TestSessionManager {
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertAll(
+            () -> {assertThrows(IllegalArgumentException.class, () -> new SessionManager(null, 2));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new SessionManager("tcp://*:5559", 0));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new SessionManager(null));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> new SessionManager(new ArrayList<ServerServerCommunicator>()));}
+        );
+    }
+
+    @Test
+    void testManySessionsShareTheConnectionPool() {
+        SessionManager manager = new SessionManager("tcp://*:5559", 2);
+
+        for (int account = 0; account < 500; account++) {
+            manager.openSession();
+        }
+
+        assertAll(
+            () -> {assertEquals(500, manager.getSessions().size(), "Checking that every session is open.");},
+            () -> {assertEquals(2, manager.getConnectionCount(), "Checking that the pool did not grow.");},
+            () -> {assertEquals(2, manager.getIdleConnectionCount(), "Checking that no connection is in use.");}
+        );
+    }
+
+    @Test
+    void testNewSessionIsUnauthenticated() {
+        SessionManager manager = new SessionManager("tcp://*:5559", 1);
+
+        AccountSession session = manager.openSession();
+
+        assertAll(
+            () -> {assertEquals("", session.getToken(), "Checking that the session has no token.");},
+            () -> {assertEquals(0, session.getCachedCoins(), "Checking that no coins are cached.");},
+            () -> {assertNull(session.getCachedHabits(), "Checking that no habits are cached.");}
+        );
+    }
+
+    @Test
+    void testCloseSession() {
+        SessionManager manager = new SessionManager("tcp://*:5559", 1);
+        AccountSession session = manager.openSession();
+
+        boolean closed = manager.closeSession(session);
+
+        assertAll(
+            () -> {assertTrue(closed, "Checking that the session was closed.");},
+            () -> {assertFalse(manager.closeSession(session), "Checking that closing twice returns false.");},
+            () -> {assertTrue(manager.getSessions().isEmpty(), "Checking that no sessions remain.");}
+        );
+    }
+
+    @Test
+    void testSessionsKeepTheirOwnStateOverOneConnection() {
+        TrueMockServer server = new TrueMockServer(5559);
+        server.start();
+        SessionManager manager = new SessionManager("tcp://*:5559", 1);
+        AccountSession first = manager.openSession();
+        AccountSession second = manager.openSession();
+
+        first.registerCredentials("first", "password", "email");
+        SuccessCode firstLogin = first.validateLogin("first", "password");
+        first.addHabit(new Habit("habit", Frequency.DAILY));
+        List<Habit> habits = first.getHabits();
+        first.completeHabit(habits.get(0));
+        SuccessCode secondLogin = second.validateLogin("second", "password");
+        server.interrupt();
+
+        assertAll(
+            () -> {assertEquals(SuccessCode.OKAY, firstLogin, "Checking that the first account logged in.");},
+            () -> {assertEquals("1", first.getToken(), "Checking that the first session kept its token.");},
+            () -> {assertEquals(70, first.getCachedCoins(), "Checking that the first session cached its coins.");},
+            () -> {assertEquals(CoinTransactionType.REWARD, first.getCoinLedger().getType(first.getCoinLedger().size() - 1),
+                "Checking that the reward was recorded in the first account's ledger.");},
+            () -> {assertEquals(0, second.getCachedCoins(), "Checking that the second session has its own ledger.");},
+            () -> {assertEquals(1, first.getCachedHabits().size(), "Checking that the first session cached its habits.");},
+            () -> {assertEquals(SuccessCode.UNKNOWN_ERROR, secondLogin, "Checking that the second account was rejected.");},
+            () -> {assertEquals("", second.getToken(), "Checking that the second session did not take the first token.");},
+            () -> {assertNull(second.getCachedHabits(), "Checking that the second session has its own cache.");},
+            () -> {assertEquals(1, manager.getIdleConnectionCount(), "Checking that the connection was returned to the pool.");}
+        );
+    }
+
+    @Test
+    void testReleasedConnectionsDoNotKeepTheAccountLedger() {
+        ServerServerCommunicator connection = new ServerServerCommunicator("tcp://*:5559");
+        SessionManager manager = new SessionManager(List.of(connection));
+        AccountSession session = manager.openSession();
+
+        session.setCoins(30);
+        assertThrows(IllegalArgumentException.class, () -> session.getLeaderboard(null, 0, 0));
+
+        assertAll(
+            () -> {assertEquals(30, session.getCachedCoins(), "Checking that the session kept its coins.");},
+            () -> {assertNotSame(session.getCoinLedger(), connection.getCoinLedger(), "Checking that the connection let go of the ledger.");},
+            () -> {assertEquals(0, connection.getCachedCoins(), "Checking that the connection holds no coins.");},
+            () -> {assertEquals(1, manager.getIdleConnectionCount(), "Checking that the connection was returned to the pool.");}
+        );
+    }
+}
@@ -14,11 +14,15 @@ import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 
 import habit_mode.model.Habit;
+import habit_mode.test.model.idempotency_cache.IdempotencyCache;
 
 class TrueMockServer extends Thread {
     private final Type TYPE = new TypeToken<HashMap<String, Object>>() { } .getType();
     private final String succ = "success_code";
 
+    private final String idempotencyKey = "idempotency_key";
+    private final IdempotencyCache sentResponses = new IdempotencyCache(64);
+
     private int port;
 
     TrueMockServer(int port) {
@@ -43,24 +47,31 @@ class TrueMockServer extends Thread {
             while (responses < 100) {
                 // Block until a message is received
                 HashMap<String, Object> reply = gson.fromJson(socket.recvStr(), TYPE);
+                String key = (String) reply.get(idempotencyKey);
+                String requestType = (String) reply.get("request_type");
+                if (key != null && sentResponses.get(key, requestType) != null) {
+                    socket.send(sentResponses.get(key, requestType));
+                    responses++;
+                    continue;
+                }
 
                 switch ((String) reply.get("request_type")) {
                     case "register_user":
                         map1 = reply;
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "login":
                         if (map1.containsValue(reply.get("username")) && map1.containsValue(reply.get("password"))) {
                             response.put(succ, 00);
                             response.put("authentication_token", "1");
-                            socket.send(gson.toJson(response));
+                            this.reply(socket, reply, gson.toJson(response));
                             response.clear();
                             break;
                         } else {
                             response.put(succ, 15);
-                            socket.send(gson.toJson(response));
+                            this.reply(socket, reply, gson.toJson(response));
                             response.clear();
                             break;
                         }
@@ -70,23 +81,29 @@ class TrueMockServer extends Thread {
                         habit1.put("id", 1);
                         habit1.put("name", reply.get("habit_name"));
                         habit1.put("is_complete", false);
+                        if (reply.get("habit_tags") != null) {
+                            habit1.put("tags", reply.get("habit_tags"));
+                        }
+                        if (reply.get("habit_recurrence") != null) {
+                            habit1.put("recurrence", reply.get("habit_recurrence"));
+                        }
                         map.add(habit1);
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "modify_habit":
                         map.get(0).put("name", reply.get("habit_name"));
                         map.get(0).put("frequency", reply.get("frequency"));
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "complete_habits":
                         map.get(0).replace("is_complete", true);
                         response.put(succ, 00);
                         response.put("coins", 70);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "retrieve_data":
@@ -94,7 +111,7 @@ class TrueMockServer extends Thread {
                         response.put("habits", map);
                         response.put("coins", 70);
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "generate_sudoku_puzzle" :
@@ -125,7 +142,7 @@ class TrueMockServer extends Thread {
                         puzzle.put("number_locks", numberLocks);
                         response.put("sudoku_puzzle", puzzle);
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "update_sudoku_puzzle" :
@@ -141,12 +158,12 @@ class TrueMockServer extends Thread {
             
                         puzzle.replace("numbers", numbers);
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         break;
                     case "remove_habit":
                         map.clear();
                         response.put(succ, 00);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
                     case "buy_hint":
@@ -154,7 +171,25 @@ class TrueMockServer extends Thread {
                         response.put("row", 0);
                         response.put("col", 0);
                         response.put("coins", 0);
-                        socket.send(gson.toJson(response));
+                        this.reply(socket, reply, gson.toJson(response));
+                        response.clear();
+                        break;
+                    case "get_leaderboard":
+                        String[] usernames = {"alice", "bob", "carol"};
+                        int[] scores = "longest_streaks".equals(reply.get("leaderboard_type")) ? new int[] {9, 4, 1} : new int[] {120, 70, 30};
+                        int offset = ((Double) reply.get("offset")).intValue();
+                        int count = ((Double) reply.get("count")).intValue();
+                        ArrayList<LinkedTreeMap<String, Object>> leaderboard = new ArrayList<LinkedTreeMap<String, Object>>();
+                        for (int rank = offset + 1; rank <= Math.min(offset + count, usernames.length); rank++) {
+                            LinkedTreeMap<String, Object> entry = new LinkedTreeMap<String, Object>();
+                            entry.put("rank", rank);
+                            entry.put("username", usernames[rank - 1]);
+                            entry.put("score", scores[rank - 1]);
+                            leaderboard.add(entry);
+                        }
+                        response.put("leaderboard", leaderboard);
+                        response.put(succ, 00);
+                        this.reply(socket, reply, gson.toJson(response));
                         response.clear();
                         break;
 
@@ -166,5 +201,13 @@ class TrueMockServer extends Thread {
 
             this.interrupt();
         }
-    } 
+    }
+
+    private void reply(ZMQ.Socket socket, HashMap<String, Object> request, String response) {
+        String key = (String) request.get(idempotencyKey);
+        if (key != null) {
+            sentResponses.put(key, (String) request.get("request_type"), response);
+        }
+        socket.send(response);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package habit_mode.test.model.sharded_server_communicator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import habit_mode.model.Habit;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.ServerCommunicator;
+import habit_mode.model.SuccessCode;
+import habit_mode.model.sudoku.SudokuPuzzle;
+
+class StubShard extends ServerCommunicator {
+    private Map<String, String> passwords = new HashMap<String, String>();
+    private List<Habit> habits = new ArrayList<Habit>();
+    private int coins;
+    private int requests;
+    private List<LeaderboardEntry> leaderboard = new ArrayList<LeaderboardEntry>();
+
+    void setLeaderboard(List<LeaderboardEntry> leaderboard) {
+        this.leaderboard = leaderboard;
+    }
+
+    int getRequests() {
+        return this.requests;
+    }
+
+    boolean hasUser(String username) {
+        return this.passwords.containsKey(username);
+    }
+
+    @Override
+    public SuccessCode registerCredentials(String username, String password, String email) {
+        this.requests++;
+        if (this.passwords.containsKey(username)) {
+            return SuccessCode.USERNAME_ALREADY_EXISTS;
+        }
+        this.passwords.put(username, password);
+        return SuccessCode.OKAY;
+    }
+
+    @Override
+    public SuccessCode validateLogin(String username, String password) {
+        this.requests++;
+        if (password != null && password.equals(this.passwords.get(username))) {
+            return SuccessCode.OKAY;
+        }
+        return SuccessCode.INVALID_LOGIN_CREDENTIALS;
+    }
+
+    @Override
+    public int getCoins() {
+        this.requests++;
+        return this.coins;
+    }
+
+    @Override
+    public List<Habit> getHabits() {
+        this.requests++;
+        return this.habits;
+    }
+
+    @Override
+    public SudokuPuzzle getSudokuPuzzle() {
+        this.requests++;
+        return null;
+    }
+
+    @Override
+    public SudokuPuzzle generateSudokuPuzzle() {
+        this.requests++;
+        return new SudokuPuzzle();
+    }
+
+    @Override
+    public boolean setCoins(int amount) {
+        this.requests++;
+        this.coins = amount;
+        return true;
+    }
+
+    @Override
+    public SuccessCode addHabit(Habit habit) {
+        this.requests++;
+        this.habits.add(habit);
+        return SuccessCode.OKAY;
+    }
+
+    @Override
+    public SuccessCode removeHabit(Habit habit) {
+        this.requests++;
+        return this.habits.remove(habit) ? SuccessCode.OKAY : SuccessCode.NO_HABIT_FOUND;
+    }
+
+    @Override
+    public SuccessCode modifyHabit(Habit habit) {
+        this.requests++;
+        return SuccessCode.OKAY;
+    }
+
+    @Override
+    public SuccessCode completeHabit(Habit habit) {
+        this.requests++;
+        habit.completionProperty().set(true);
+        return SuccessCode.OKAY;
+    }
+
+    @Override
+    public SuccessCode updateSudokuPuzzle(SudokuPuzzle puzzle) {
+        this.requests++;
+        return SuccessCode.OKAY;
+    }
+
+    @Override
+    public int[] buyHint() {
+        this.requests++;
+        return new int[4];
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(LeaderboardType type, int offset, int count) {
+        this.requests++;
+        int from = Math.min(offset, this.leaderboard.size());
+        return new ArrayList<LeaderboardEntry>(this.leaderboard.subList(from, Math.min(from + count, this.leaderboard.size())));
+    }
+}
@@ -0,0 +1,166 @@
+package habit_mode.test.model.sharded_server_communicator;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.LeaderboardEntry;
+import habit_mode.model.LeaderboardType;
+import habit_mode.model.ShardedServerCommunicator;
+import habit_mode.model.SuccessCode;
+
+class TestRouting {
+    @Test
+    void testRegisterGoesToOwningShard() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        StubShard[] shards = this.addShards(communicator, 3);
+
+        for (int user = 0; user < 30; user++) {
+            communicator.registerCredentials("user" + user, "password", "email");
+        }
+
+        for (int user = 0; user < 30; user++) {
+            StubShard owner = (StubShard) communicator.getShardFor("user" + user);
+            for (StubShard shard : shards) {
+                assertEquals(shard == owner, shard.hasUser("user" + user), "Checking that only the owning shard has the user.");
+            }
+        }
+    }
+
+    @Test
+    void testRequestsAfterLoginGoToTheSessionShard() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 3);
+        communicator.registerCredentials("alice", "password", "email");
+        StubShard owner = (StubShard) communicator.getShardFor("alice");
+
+        SuccessCode code = communicator.validateLogin("alice", "password");
+        communicator.addHabit(new Habit("habit", Frequency.DAILY));
+        communicator.setCoins(40);
+
+        assertAll(
+            () -> {assertEquals(SuccessCode.OKAY, code, "Checking that the login succeeded.");},
+            () -> {assertEquals("alice", communicator.getActiveUsername(), "Checking the active username.");},
+            () -> {assertSame(owner.getHabits(), communicator.getHabits(), "Checking that habits come from the owning shard.");},
+            () -> {assertEquals(40, communicator.getCoins(), "Checking that coins come from the owning shard.");}
+        );
+    }
+
+    @Test
+    void testSessionStaysPinnedWhenAShardIsAdded() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 2);
+        communicator.registerCredentials("alice", "password", "email");
+        communicator.validateLogin("alice", "password");
+        StubShard owner = (StubShard) communicator.getShardFor("alice");
+        int before = owner.getRequests();
+
+        communicator.addShard("extra", new StubShard());
+        communicator.getCoins();
+
+        assertEquals(before + 1, owner.getRequests(), "Checking that the session keeps using the shard that authenticated it.");
+    }
+
+    @Test
+    void testFailedLoginDoesNotStartASession() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 2);
+
+        SuccessCode code = communicator.validateLogin("nobody", "password");
+
+        assertAll(
+            () -> {assertEquals(SuccessCode.INVALID_LOGIN_CREDENTIALS, code, "Checking the login result.");},
+            () -> {assertNull(communicator.getActiveUsername(), "Checking that no session was started.");},
+            () -> {assertThrows(IllegalStateException.class, () -> communicator.getHabits());}
+        );
+    }
+
+    @Test
+    void testRemovingTheSessionShardEndsTheSession() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 1);
+        communicator.registerCredentials("alice", "password", "email");
+        communicator.validateLogin("alice", "password");
+
+        communicator.removeShard("shard0");
+
+        assertAll(
+            () -> {assertEquals(0, communicator.getShardCount(), "Checking that the shard was removed.");},
+            () -> {assertNull(communicator.getActiveUsername(), "Checking that the session ended.");},
+            () -> {assertNull(communicator.removeShard("shard0"), "Checking that removing twice returns null.");}
+        );
+    }
+
+    @Test
+    void testNullArguments() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 1);
+
+        assertAll(
+            () -> {assertEquals(SuccessCode.INVALID_USERNAME, communicator.registerCredentials(null, "password", "email"));},
+            () -> {assertEquals(SuccessCode.INVALID_LOGIN_CREDENTIALS, communicator.validateLogin(null, "password"));},
+            () -> {assertThrows(IllegalArgumentException.class, () -> communicator.addShard("other", null));}
+        );
+    }
+
+    @Test
+    void testEveryRequestIsForwarded() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        this.addShards(communicator, 1);
+        StubShard shard = (StubShard) communicator.getShardFor("alice");
+        communicator.registerCredentials("alice", "password", "email");
+        communicator.validateLogin("alice", "password");
+        Habit habit = new Habit("habit", Frequency.DAILY);
+
+        communicator.addHabit(habit);
+        communicator.modifyHabit(habit);
+        communicator.completeHabit(habit);
+        communicator.removeHabit(habit);
+        communicator.generateSudokuPuzzle();
+        communicator.updateSudokuPuzzle(communicator.getSudokuPuzzle());
+        communicator.buyHint();
+
+        assertAll(
+            () -> {assertEquals(10, shard.getRequests(), "Checking that every request reached the shard.");},
+            () -> {assertTrue(habit.isComplete(), "Checking that the habit was completed on the shard.");},
+            () -> {assertFalse(communicator.getHabits().contains(habit), "Checking that the habit was removed on the shard.");}
+        );
+    }
+
+    @Test
+    void testLeaderboardPagesAreMergedFromEveryShard() {
+        ShardedServerCommunicator communicator = new ShardedServerCommunicator();
+        StubShard[] shards = this.addShards(communicator, 2);
+        shards[0].setLeaderboard(List.of(new LeaderboardEntry(1, "alice", 90), new LeaderboardEntry(2, "carol", 40)));
+        shards[1].setLeaderboard(List.of(new LeaderboardEntry(1, "bob", 60), new LeaderboardEntry(2, "dave", 40),
+            new LeaderboardEntry(3, "erin", 10)));
+
+        assertAll(
+            () -> {assertEquals(List.of(new LeaderboardEntry(2, "bob", 60), new LeaderboardEntry(3, "carol", 40),
+                new LeaderboardEntry(4, "dave", 40)), communicator.getLeaderboard(LeaderboardType.COINS, 1, 3),
+                "Checking that the page is ranked across the shards.");},
+            () -> {assertEquals(List.of(new LeaderboardEntry(5, "erin", 10)), communicator.getLeaderboard(LeaderboardType.COINS, 4, 10),
+                "Checking that the last page holds the remaining users.");},
+            () -> {assertThrows(IllegalArgumentException.class, () -> communicator.getLeaderboard(LeaderboardType.COINS, -1, 1));}
+        );
+    }
+
+    private StubShard[] addShards(ShardedServerCommunicator communicator, int count) {
+        StubShard[] shards = new StubShard[count];
+        for (int shard = 0; shard < count; shard++) {
+            shards[shard] = new StubShard();
+            communicator.addShard("shard" + shard, shards[shard]);
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,95 @@
+package habit_mode.test.view_model.HabitViewModel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+import habit_mode.view_model.HabitViewModel;
+
+class TestHabitCache {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCachedHabitsAreShownUntilTheServerAnswers() {
+        LocalServerCommunicator.reset();
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator());
+        viewModel.habitNameProperty().set("drink water");
+        viewModel.addHabit();
+        viewModel.habitNameProperty().set("stretch");
+        viewModel.addHabit();
+        viewModel.selectedHabitProperty().set(viewModel.habitListProperty().get(1));
+        viewModel.setHabitCompletion(true);
+        Path file = this.directory.resolve("habits.bin");
+        assertTrue(viewModel.saveHabitCache(file));
+
+        HabitViewModel restarted = new HabitViewModel(new LocalServerCommunicator());
+        assertTrue(restarted.loadHabitCache(file));
+        assertAll(
+            () -> assertEquals(1, restarted.habitListProperty().size()),
+            () -> assertEquals("drink water", restarted.habitListProperty().get(0).getText()),
+            () -> assertEquals(1, restarted.completedHabitListProperty().size())
+        );
+
+        restarted.getHabitsFromServer();
+        assertAll(
+            () -> assertEquals(1, restarted.habitListProperty().size()),
+            () -> assertEquals(1, restarted.completedHabitListProperty().size())
+        );
+    }
+
+    @Test
+    void testEachAccountHasItsOwnCache() throws IOException {
+        Path alice = HabitViewModel.habitCacheFile(this.directory, "alice");
+        Path bob = HabitViewModel.habitCacheFile(this.directory, "bob");
+        Path other = this.directory.resolve("other.bin");
+        Files.write(alice, new byte[] {1});
+        Files.write(bob, new byte[] {1});
+        Files.write(other, new byte[] {1});
+
+        assertTrue(HabitViewModel.deleteHabitCaches(this.directory, bob));
+        assertAll(
+            () -> assertNotEquals(alice, bob),
+            () -> assertEquals(alice, HabitViewModel.habitCacheFile(this.directory, "alice")),
+            () -> assertFalse(alice.getFileName().toString().contains("alice")),
+            () -> assertFalse(Files.exists(alice)),
+            () -> assertTrue(Files.exists(bob)),
+            () -> assertTrue(Files.exists(other))
+        );
+
+        assertTrue(HabitViewModel.deleteHabitCaches(this.directory, null));
+        assertAll(
+            () -> assertFalse(Files.exists(bob)),
+            () -> assertThrows(IllegalArgumentException.class, () -> HabitViewModel.habitCacheFile(this.directory, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> HabitViewModel.deleteHabitCaches(null, null))
+        );
+    }
+
+    @Test
+    void testMissingOrInvalidCacheIsIgnored() throws IOException {
+        LocalServerCommunicator.reset();
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator());
+        Path invalid = this.directory.resolve("invalid.bin");
+        Files.write(invalid, new byte[] {1, 2, 3});
+
+        assertAll(
+            () -> assertFalse(viewModel.loadHabitCache(this.directory.resolve("missing.bin"))),
+            () -> assertFalse(viewModel.loadHabitCache(invalid)),
+            () -> assertFalse(viewModel.saveHabitCache(this.directory.resolve("missing").resolve("habits.bin"))),
+            () -> assertEquals(0, viewModel.habitListProperty().size()),
+            () -> assertThrows(IllegalArgumentException.class, () -> viewModel.loadHabitCache(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> viewModel.saveHabitCache(null))
+        );
+    }
+}
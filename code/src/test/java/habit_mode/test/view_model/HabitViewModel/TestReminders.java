@@ -0,0 +1,60 @@
+package habit_mode.test.view_model.HabitViewModel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+import habit_mode.test.model.reminder_scheduler.RecordingNotifier;
+import habit_mode.test.model.reset_scheduler.MutableClock;
+import habit_mode.view_model.HabitViewModel;
+
+class TestReminders {
+    @Test
+    void testHabitsInTheHabitListAreReminded() throws InterruptedException {
+        ZoneId zone = ZoneId.of("UTC");
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2022, 3, 9, 12, 0, 0, 0, zone).toInstant(), zone);
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator(), clock);
+        RecordingNotifier notifier = new RecordingNotifier();
+        Habit daily = new Habit("daily", Frequency.DAILY);
+        Habit completed = new Habit("completed", Frequency.DAILY);
+        completed.setComplete(true);
+        viewModel.habitListProperty().add(daily);
+        viewModel.completedHabitListProperty().add(completed);
+        assertNull(viewModel.getReminderScheduler());
+
+        viewModel.startReminders(notifier);
+        clock.advance(Duration.ofHours(10));
+        viewModel.getReminderScheduler().advance();
+        boolean reminded = notifier.getReminded().await(5, TimeUnit.SECONDS);
+        assertTrue(viewModel.getReminderScheduler().isRunning());
+        viewModel.stopReminders();
+
+        assertAll(
+            () -> assertTrue(reminded),
+            () -> assertEquals(List.of(daily), notifier.getHabits()),
+            () -> assertFalse(viewModel.getReminderScheduler().isRunning())
+        );
+    }
+
+    @Test
+    void testStopWithoutStart() {
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator());
+
+        viewModel.stopReminders();
+
+        assertNull(viewModel.getReminderScheduler());
+    }
+}
@@ -0,0 +1,43 @@
+package habit_mode.test.view_model.HabitViewModel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+import habit_mode.test.model.reset_scheduler.MutableClock;
+import habit_mode.view_model.HabitViewModel;
+
+class TestResetDueHabits {
+    @Test
+    void testDueHabitsMoveBackToTheHabitList() {
+        ZoneId zone = ZoneId.of("UTC");
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2022, 3, 9, 12, 0, 0, 0, zone).toInstant(), zone);
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator(), clock);
+        Habit daily = new Habit("daily", Frequency.DAILY);
+        Habit weekly = new Habit("weekly", Frequency.WEEKLY);
+        daily.setComplete(true);
+        weekly.setComplete(true);
+        viewModel.completedHabitListProperty().addAll(daily, weekly);
+
+        assertEquals(List.of(), viewModel.resetDueHabits());
+        clock.advance(Duration.ofDays(1));
+        List<Habit> reset = viewModel.resetDueHabits();
+
+        assertAll(
+            () -> assertEquals(List.of(daily), reset),
+            () -> assertFalse(daily.isComplete()),
+            () -> assertEquals(List.of(weekly), viewModel.completedHabitListProperty()),
+            () -> assertEquals(List.of(daily), viewModel.habitListProperty())
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package habit_mode.test.view_model.HabitViewModel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.Frequency;
+import habit_mode.model.Habit;
+import habit_mode.model.local_implementation.LocalServerCommunicator;
+import habit_mode.view_model.HabitViewModel;
+import javafx.collections.ListChangeListener;
+
+class TestSearch {
+    @Test
+    void testSearchResultsFollowTheSearchText() {
+        HabitViewModel viewModel = this.viewModelWith("Read a book", "Drink water", "Read the news");
+
+        viewModel.searchTextProperty().set("read");
+        assertEquals(List.of("Read a book", "Read the news"), this.textsOf(viewModel.searchResultsProperty()));
+
+        viewModel.searchTextProperty().set("READ A");
+        assertEquals(List.of("Read a book"), this.textsOf(viewModel.searchResultsProperty()));
+
+        viewModel.searchTextProperty().set("");
+        assertEquals(3, viewModel.searchResultsProperty().size());
+    }
+
+    @Test
+    void testSearchResultsFollowTheHabitList() {
+        HabitViewModel viewModel = this.viewModelWith("Read a book", "Drink water");
+        viewModel.searchTextProperty().set("water");
+
+        viewModel.habitNameProperty().set("Water the plants");
+        viewModel.addHabit();
+        assertEquals(List.of("Drink water", "Water the plants"), this.textsOf(viewModel.searchResultsProperty()));
+
+        viewModel.removeHabit(viewModel.habitListProperty().get(1));
+        assertEquals(List.of("Water the plants"), this.textsOf(viewModel.searchResultsProperty()));
+
+        viewModel.removeHabitNameProperty().set("Read more water");
+        viewModel.removeDailySelectedProperty().set(true);
+        viewModel.updateHabit(0);
+        assertAll(
+            () -> assertEquals(List.of("Read more water", "Water the plants"), this.textsOf(viewModel.searchResultsProperty())),
+            () -> assertSame(viewModel.habitListProperty().get(1), viewModel.searchResultsProperty().get(1)),
+            () -> assertEquals(1, viewModel.getHabitListIndex(1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> viewModel.getHabitListIndex(2)),
+            () -> assertThrows(IllegalArgumentException.class, () -> viewModel.getHabitListIndex(-1))
+        );
+    }
+
+    @Test
+    void testRemoveHabitFindsTheHabitByEqualText() {
+        HabitViewModel viewModel = this.viewModelWith("Read a book");
+        viewModel.removeHabitNameProperty().set(new String("Read a book"));
+        viewModel.removeDailySelectedProperty().set(true);
+
+        viewModel.removeHabit();
+
+        assertAll(
+            () -> assertEquals(0, viewModel.habitListProperty().size()),
+            () -> assertEquals(0, viewModel.searchResultsProperty().size())
+        );
+    }
+
+    @Test
+    void testTagsInTheHabitNameAndTheSearchText() {
+        HabitViewModel viewModel = this.viewModelWith("Run #health #fun", "Write report #work", "Family dinner #family,health", "Read");
+
+        assertEquals(List.of("Run", "Write report", "Family dinner", "Read"), this.textsOf(viewModel.habitListProperty()));
+        assertEquals(Set.of("family", "health"), viewModel.habitListProperty().get(2).getTags());
+
+        viewModel.searchTextProperty().set("#health");
+        assertEquals(List.of("Run", "Family dinner"), this.textsOf(viewModel.searchResultsProperty()));
+        viewModel.searchTextProperty().set("#health -#fun");
+        assertEquals(List.of("Family dinner"), this.textsOf(viewModel.searchResultsProperty()));
+        viewModel.searchTextProperty().set("#work,fun");
+        assertEquals(List.of("Run", "Write report"), this.textsOf(viewModel.searchResultsProperty()));
+        viewModel.searchTextProperty().set("-#health r");
+        assertEquals(List.of("Write report", "Read"), this.textsOf(viewModel.searchResultsProperty()));
+
+        viewModel.habitNameProperty().set("#health");
+        assertThrows(IllegalArgumentException.class, () -> viewModel.addHabit());
+    }
+
+    @Test
+    void testResultsAreOnlyFilteredAgainWhenTheQueryOrTheAddedHabitsChange() {
+        HabitViewModel viewModel = this.viewModelWith("Read a book", "Drink water", "Read the news");
+        int[] changes = new int[1];
+        viewModel.searchResultsProperty().addListener((ListChangeListener<Habit>) change -> changes[0]++);
+
+        viewModel.searchTextProperty().set("read");
+        int afterQuery = changes[0];
+        viewModel.searchTextProperty().set("  read ");
+        viewModel.selectedHabitProperty().set(viewModel.habitListProperty().get(1));
+        viewModel.setHabitCompletion(true);
+
+        assertAll(
+            () -> assertEquals(1, afterQuery),
+            () -> assertEquals(afterQuery, changes[0]),
+            () -> assertEquals(List.of("Read a book", "Read the news"), this.textsOf(viewModel.searchResultsProperty()))
+        );
+    }
+
+    private HabitViewModel viewModelWith(String... texts) {
+        LocalServerCommunicator.reset();
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator());
+        for (String text : texts) {
+            viewModel.habitNameProperty().set(text);
+            viewModel.dailySelectedProperty().set(true);
+            viewModel.addHabit();
+        }
+        return viewModel;
+    }
+
+    private List<String> textsOf(List<Habit> habits) {
+        return habits.stream().map(Habit::getText).collect(Collectors.toList());
+    }
+}
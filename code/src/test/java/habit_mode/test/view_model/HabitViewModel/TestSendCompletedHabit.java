@@ -1,7 +1,14 @@
 package habit_mode.test.view_model.HabitViewModel;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +35,33 @@ public class TestSendCompletedHabit {
                 "Checking that the string is matched");
     }
 
+    @Test
+    void testSendCompletedHabitRecordsTheCompletionInTheHistory() {
+        LocalServerCommunicator.reset();
+        ZoneId zone = ZoneId.of("UTC");
+        LocalDate today = LocalDate.of(2022, 4, 12);
+        HabitViewModel viewModel = new HabitViewModel(new LocalServerCommunicator(), Clock.fixed(today.atStartOfDay(zone).toInstant(), zone));
+        Habit habit = new Habit("text", Frequency.WEEKLY);
+        viewModel.habitNameProperty().set("text");
+        viewModel.weeklySelectedProperty().set(true);
+        viewModel.addHabit();
+        viewModel.sendCompletedHabit(habit);
+        viewModel.habitNameProperty().set("daily");
+        viewModel.dailySelectedProperty().set(true);
+        viewModel.addHabit();
+        Habit daily = viewModel.habitListProperty().get(1);
+        assertEquals(0, viewModel.getHeatmap().getTile(YearMonth.from(today)).getCount(12));
+        viewModel.sendCompletedHabit(daily);
+
+        assertAll(
+            () -> assertEquals(today, viewModel.getToday()),
+            () -> assertTrue(habit.getHistory().isCompleted(today)),
+            () -> assertEquals(1, habit.getHistory().getCompletedCount()),
+            () -> assertEquals(1, viewModel.getStatistics().getCurrentStreak(habit, today)),
+            () -> assertEquals(1, viewModel.getHeatmap().getTile(YearMonth.from(today)).getCount(12))
+        );
+    }
+
     @Test
     void testSendCompletedHabitWithNullHabit() {
         LocalServerCommunicator.reset();
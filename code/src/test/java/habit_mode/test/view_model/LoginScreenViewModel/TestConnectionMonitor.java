@@ -0,0 +1,47 @@
+package habit_mode.test.view_model.LoginScreenViewModel;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import habit_mode.model.ServerServerCommunicator;
+import habit_mode.model.connection.ConnectionMonitor;
+import habit_mode.view_model.LoginScreenViewModel;
+
+public class TestConnectionMonitor {
+
+    @Test
+    void testMonitorServerConnection() {
+        LoginScreenViewModel vm = new LoginScreenViewModel();
+        ServerServerCommunicator communicator = new ServerServerCommunicator("tcp://127.0.0.1:5569");
+        vm.setServerCommunicator(communicator);
+
+        vm.startConnectionMonitor(Runnable::run);
+        ConnectionMonitor monitor = communicator.getConnectionMonitor();
+        boolean hadModel = vm.getConnectionStateModel() != null;
+        vm.stopConnectionMonitor();
+
+        assertAll(
+            () -> assertNotNull(monitor),
+            () -> assertEquals(true, hadModel),
+            () -> assertNull(vm.getConnectionStateModel()),
+            () -> assertNull(communicator.getConnectionMonitor())
+        );
+    }
+
+    @Test
+    void testLocalServerIsNotMonitored() {
+        LoginScreenViewModel vm = new LoginScreenViewModel(true);
+
+        vm.startConnectionMonitor(Runnable::run);
+
+        assertAll(
+            () -> assertNull(vm.getConnectionStateModel()),
+            () -> assertThrows(IllegalArgumentException.class, () -> vm.startConnectionMonitor(null))
+        );
+    }
+}